@@ -0,0 +1,13 @@
+#!/bin/sh
+# Builds the game and the benchmark suite into benchmarks/build and runs it headless.
+# Run from the repository root:
+#   benchmarks/run.sh                                   full run, report only
+#   benchmarks/run.sh --compare benchmarks/baselines/baseline.csv
+#   benchmarks/run.sh --save benchmarks/baselines/baseline.csv
+#   benchmarks/run.sh Champion --quick                  only matching benchmarks, short run
+set -e
+OUT=benchmarks/build
+rm -rf "$OUT"
+mkdir -p "$OUT"
+javac -encoding UTF-8 -d "$OUT" $(find src benchmarks/src -name '*.java' ! -name module-info.java)
+java -Djava.awt.headless=true -cp "$OUT:res" bench.BenchmarkRunner "$@"
@@ -0,0 +1,62 @@
+package bench;
+
+import java.util.List;
+import java.util.Random;
+
+import Champions.Champion;
+import Champions.ChampionFactory;
+import Champions.Move;
+import battle.BattleEngine;
+
+/**
+ * Battle benchmarks: the damage formula, and whole AI vs AI battles resolved by the engine.
+ */
+public class BattleBenchmarks {
+
+	public static void register(BenchmarkRunner runner) {
+		BattleEngine engine = new BattleEngine(new Random(42));
+
+		List<Champion> champions = ChampionFactory.createAllChampions();
+		Champion attacker = champions.get(0);
+		Champion defender = champions.get(1);
+		attacker.setLevel(18);
+		defender.setLevel(15);
+
+		// One physical and one magic damaging move, so both resistance paths are measured
+		Move physical = findMove(champions, "Physical");
+		Move magic = findMove(champions, "Magic");
+
+		runner.add("BattleEngine.calculateDamage.physical", bh -> bh.consume(engine.calculateDamage(physical, attacker, defender)));
+		runner.add("BattleEngine.calculateDamage.magic", bh -> bh.consume(engine.calculateDamage(magic, attacker, defender)));
+		runner.add("BattleEngine.calculateDamageWithCrit", bh -> bh.consume(engine.calculateDamageWithCrit(physical, attacker, defender).damage));
+
+		// Full battles between two fresh champions each time (healing them back up is part of the op)
+		Champion blue = champions.get(2);
+		Champion red = champions.get(3);
+		blue.setLevel(20);
+		red.setLevel(20);
+		runner.add("BattleEngine.simulate", bh -> {
+			reset(blue);
+			reset(red);
+			bh.consume(engine.simulate(blue, red, 200));
+		});
+	}
+
+	// Back to full health and resource with no stat stages (passives are reset by the engine)
+	private static void reset(Champion champion) {
+		champion.setCurrentHp(champion.getCurrentMaxHP());
+		champion.setCurrentResource(champion.getResourceType().isConsumable() ? champion.getMaxResource() : 0);
+		champion.resetStatStages();
+	}
+
+	private static Move findMove(List<Champion> champions, String type) {
+		for (Champion champion : champions) {
+			for (Move move : champion.getMoves()) {
+				if (move.getPower() > 0 && type.equals(move.getType())) {
+					return move;
+				}
+			}
+		}
+		throw new IllegalStateException("No damaging " + type + " move in the champion data");
+	}
+}
@@ -0,0 +1,306 @@
+package bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Small JMH-style microbenchmark harness for the game's hot paths.
+ * Every benchmark is run in a fresh round of warmup iterations followed by timed measurement
+ * iterations; each op hands its result to a {@link Blackhole} so the JIT cannot drop the
+ * work. Results are printed as ns/op and can be written to / compared against a
+ * committed baseline file to catch regressions.
+ *
+ * Startup benchmarks (addStartup) measure work the game does once per process, like loading its
+ * data: every run starts a fresh JVM, so the score is the cold, mostly interpreted cost the
+ * player waits for, not the cost after the JIT has compiled it.
+ *
+ * Usage: java -Djava.awt.headless=true bench.BenchmarkRunner [filter] [--quick]
+ *        [--save file] [--compare file] [--threshold percent]
+ */
+public class BenchmarkRunner {
+
+	/** One benchmarked operation, hands its results to the blackhole */
+	public interface Op {
+		void run(Blackhole bh);
+	}
+
+	// ==================== CONFIGURATION ====================
+
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int MEASUREMENT_ITERATIONS = 10;
+	private static final long ITERATION_NANOS = 200_000_000L; // 200 ms per iteration
+	private static final int STARTUP_WARMUP_RUNS = 1; // Only warms the OS file cache
+	private static final int STARTUP_RUNS = 10;
+
+	/** Line a startup run prints to hand its time to the runner */
+	private static final String STARTUP_RESULT = "startupNanos=";
+
+	/** Slowdown (in percent) reported as a regression when comparing against a baseline */
+	private static final double DEFAULT_THRESHOLD = 15.0;
+
+	private final Map<String, Op> benchmarks = new LinkedHashMap<>();
+	private final Map<String, List<String>> startupCommands = new HashMap<>();
+	private final Blackhole blackhole = new Blackhole();
+	private int warmupIterations = WARMUP_ITERATIONS;
+	private int measurementIterations = MEASUREMENT_ITERATIONS;
+	private int startupWarmupRuns = STARTUP_WARMUP_RUNS;
+	private int startupRuns = STARTUP_RUNS;
+
+	public void add(String name, Op op) {
+		benchmarks.put(name, op);
+	}
+
+	/**
+	 * Add a benchmark run in a fresh JVM: mainClass is started with the argument, does its work
+	 * once and reports the time with reportStartup().
+	 */
+	public void addStartup(String name, Class<?> mainClass, String argument) {
+		benchmarks.put(name, null);
+		startupCommands.put(name, List.of(
+				new File(System.getProperty("java.home"), "bin" + File.separator + "java").getPath(),
+				"-Djava.awt.headless=true", "-cp", System.getProperty("java.class.path"),
+				mainClass.getName(), argument));
+	}
+
+	/** Called by a startup run's main once its work is done */
+	public static void reportStartup(long nanos) {
+		System.out.println(STARTUP_RESULT + nanos);
+	}
+
+	/** Measured score of one benchmark */
+	public static class Result {
+		public final String name;
+		public final double nsPerOp;
+		public final double error; // standard deviation over the measurement iterations
+
+		Result(String name, double nsPerOp, double error) {
+			this.name = name;
+			this.nsPerOp = nsPerOp;
+			this.error = error;
+		}
+	}
+
+	public List<Result> runAll(String filter) {
+		List<Result> results = new ArrayList<>();
+		PrintStream out = System.out;
+		for (Map.Entry<String, Op> entry : benchmarks.entrySet()) {
+			if (filter != null && !entry.getKey().contains(filter)) {
+				continue;
+			}
+			out.print(entry.getKey() + " ... ");
+			out.flush();
+			// The game logs heavily to stdout; keep that out of the measurement and the report
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+			Result result;
+			try {
+				List<String> command = startupCommands.get(entry.getKey());
+				result = command != null ? measureStartup(entry.getKey(), command) : measure(entry.getKey(), entry.getValue());
+			} finally {
+				System.setOut(out);
+			}
+			out.println(format(result.nsPerOp) + " +- " + format(result.error) + " ns/op");
+			results.add(result);
+		}
+		return results;
+	}
+
+	private Result measure(String name, Op op) {
+		for (int i = 0; i < warmupIterations; i++) {
+			iteration(op);
+		}
+		double[] scores = new double[measurementIterations];
+		for (int i = 0; i < measurementIterations; i++) {
+			scores[i] = iteration(op);
+		}
+		return result(name, scores);
+	}
+
+	private Result measureStartup(String name, List<String> command) {
+		for (int i = 0; i < startupWarmupRuns; i++) {
+			startupRun(command);
+		}
+		double[] scores = new double[startupRuns];
+		for (int i = 0; i < startupRuns; i++) {
+			scores[i] = startupRun(command);
+		}
+		return result(name, scores);
+	}
+
+	private static Result result(String name, double[] scores) {
+		double mean = 0;
+		for (double score : scores) {
+			mean += score;
+		}
+		mean /= scores.length;
+		double variance = 0;
+		for (double score : scores) {
+			variance += (score - mean) * (score - mean);
+		}
+		double error = scores.length > 1 ? Math.sqrt(variance / (scores.length - 1)) : 0;
+		return new Result(name, mean, error);
+	}
+
+	// Run the op for one iteration time slice and return the average ns/op
+	private double iteration(Op op) {
+		long ops = 0;
+		long batch = 1;
+		long start = System.nanoTime();
+		long elapsed;
+		do {
+			for (long i = 0; i < batch; i++) {
+				op.run(blackhole);
+			}
+			ops += batch;
+			elapsed = System.nanoTime() - start;
+			// Grow the batch so the clock is not read around every tiny op
+			if (batch < 1024 && elapsed < ITERATION_NANOS / 100) {
+				batch *= 2;
+			}
+		} while (elapsed < ITERATION_NANOS);
+		return (double) elapsed / ops;
+	}
+
+	// Start one fresh JVM and return the nanoseconds it reported
+	private static double startupRun(List<String> command) {
+		try {
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+			String nanos = null;
+			try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+				String line;
+				while ((line = in.readLine()) != null) {
+					if (line.startsWith(STARTUP_RESULT)) {
+						nanos = line.substring(STARTUP_RESULT.length());
+					}
+				}
+			}
+			int exitCode = process.waitFor();
+			if (exitCode != 0 || nanos == null) {
+				throw new IllegalStateException("Startup run failed (exit code " + exitCode + "): " + command);
+			}
+			return Double.parseDouble(nanos);
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not start " + command, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted", e);
+		}
+	}
+
+	// ==================== BASELINES ====================
+
+	public static void save(List<Result> results, String path) throws IOException {
+		File file = new File(path);
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+			out.println("# benchmark,nsPerOp,error");
+			out.println("# java " + System.getProperty("java.version") + ", " + System.getProperty("os.name")
+					+ " " + System.getProperty("os.arch") + ", " + Runtime.getRuntime().availableProcessors() + " cpus");
+			for (Result result : results) {
+				out.println(result.name + "," + format(result.nsPerOp) + "," + format(result.error));
+			}
+		}
+		System.out.println("Baseline written to: " + file.getPath());
+	}
+
+	public static Map<String, Double> load(String path) throws IOException {
+		Map<String, Double> baseline = new LinkedHashMap<>();
+		try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+			String line;
+			while ((line = br.readLine()) != null) {
+				if (line.startsWith("#") || line.isBlank()) {
+					continue;
+				}
+				String[] parts = line.split(",");
+				baseline.put(parts[0], Double.parseDouble(parts[1]));
+			}
+		}
+		return baseline;
+	}
+
+	/** @return number of benchmarks slower than the baseline by more than the threshold */
+	public static int compare(List<Result> results, Map<String, Double> baseline, double thresholdPercent) {
+		int regressions = 0;
+		System.out.println();
+		System.out.println(String.format(Locale.ROOT, "%-40s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change"));
+		for (Result result : results) {
+			Double before = baseline.get(result.name);
+			if (before == null) {
+				System.out.println(String.format(Locale.ROOT, "%-40s %14s %14s %9s", result.name, "-", format(result.nsPerOp), "new"));
+				continue;
+			}
+			double change = (result.nsPerOp - before) / before * 100.0;
+			boolean regression = change > thresholdPercent;
+			if (regression) {
+				regressions++;
+			}
+			System.out.println(String.format(Locale.ROOT, "%-40s %14s %14s %+8.1f%%%s", result.name, format(before),
+					format(result.nsPerOp), change, regression ? "  REGRESSION" : ""));
+		}
+		return regressions;
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	public static void main(String[] args) throws Exception {
+		System.setProperty("java.awt.headless", "true");
+
+		String filter = null;
+		String savePath = null;
+		String comparePath = null;
+		double threshold = DEFAULT_THRESHOLD;
+		boolean quick = false;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--save": savePath = args[++i]; break;
+				case "--compare": comparePath = args[++i]; break;
+				case "--threshold": threshold = Double.parseDouble(args[++i]); break;
+				case "--quick": quick = true; break;
+				default: filter = args[i];
+			}
+		}
+
+		BenchmarkRunner runner = new BenchmarkRunner();
+		if (quick) {
+			runner.warmupIterations = 2;
+			runner.measurementIterations = 3;
+			runner.startupWarmupRuns = 0;
+			runner.startupRuns = 3;
+		}
+		// Setup logs a lot (champion creation, map loading), keep the report readable
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			GameBenchmarks.registerAll(runner);
+		} finally {
+			System.setOut(out);
+		}
+
+		List<Result> results = runner.runAll(filter);
+		if (savePath != null) {
+			save(results, savePath);
+		}
+		int regressions = 0;
+		if (comparePath != null) {
+			regressions = compare(results, load(comparePath), threshold);
+			System.out.println(regressions == 0 ? "No regressions" : regressions + " regression(s) over " + threshold + "%");
+		}
+		System.exit(regressions == 0 ? 0 : 1);
+	}
+}
@@ -0,0 +1,29 @@
+package bench;
+
+/**
+ * Consumes benchmark results so the JIT cannot treat the measured work as dead code.
+ * The comparisons against volatile fields are cheap and never true in practice, but the
+ * compiler cannot prove that, so the consumed values have to be computed.
+ */
+public final class Blackhole {
+
+	private volatile Object objectSink = new Object();
+	private volatile int intSink1 = 1;
+	private volatile int intSink2 = 2;
+
+	public void consume(Object value) {
+		if (value == objectSink) {
+			objectSink = new Object();
+		}
+	}
+
+	public void consume(int value) {
+		if (value == intSink1 && value == intSink2) {
+			intSink1 = value + 1; // intSink1 != intSink2 always, so this is never reached
+		}
+	}
+
+	public void consume(boolean value) {
+		consume(value ? 1 : 0);
+	}
+}
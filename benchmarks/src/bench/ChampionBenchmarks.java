@@ -0,0 +1,39 @@
+package bench;
+
+import java.util.List;
+
+import Champions.Champion;
+import Champions.ChampionFactory;
+import Champions.ChampionRoster;
+import Champions.StatusEffect;
+
+/**
+ * Champion stat lookups used by the battle UI and damage formulas every frame,
+ * plus building the full champion roster from data.
+ */
+public class ChampionBenchmarks {
+
+	public static void register(BenchmarkRunner runner) {
+		List<Champion> champions = ChampionFactory.createAllChampions();
+
+		// A mid-battle champion: levelled, with a few stat effects active
+		Champion champion = champions.get(0);
+		champion.setLevel(18);
+		champion.addStatusEffect(StatusEffect.createAttackBoost(1, 3));
+		champion.addStatusEffect(StatusEffect.createSpeedBoost(1, 3));
+		champion.addStatusEffect(StatusEffect.createBurn(10, 3));
+
+		runner.add("Champion.getEffectiveAD", bh -> bh.consume(champion.getEffectiveAD()));
+		runner.add("Champion.getEffectiveAP", bh -> bh.consume(champion.getEffectiveAP()));
+		runner.add("Champion.getEffectiveSpeed", bh -> bh.consume(champion.getEffectiveSpeed()));
+		runner.add("Champion.getStatusSummary", bh -> bh.consume(champion.getStatusSummary()));
+
+		// The roster is lazy, so create every champion in it to time building the whole roster
+		runner.add("ChampionFactory.createAllChampions", bh -> {
+			ChampionRoster roster = ChampionFactory.createRoster();
+			for (int i = 0; i < roster.size(); i++) {
+				bh.consume(roster.get(i));
+			}
+		});
+	}
+}
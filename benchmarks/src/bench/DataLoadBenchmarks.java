@@ -0,0 +1,96 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import Champions.Champion;
+import Champions.ChampionFactory;
+import Champions.ChampionRoster;
+import data.ChampionTemplate;
+import factories.ItemDataLoader;
+import factories.JsonDataLoader;
+
+/**
+ * Loading the champion roster and the item list at startup, each in a fresh JVM (the game loads
+ * its data once, so the cold cost is what the player waits for):
+ * - roster.hardcoded: the construction path the game used before the data files, every
+ *   template built in code (LegacyChampionData), every Champion created up front and a line
+ *   printed per champion, like ChampionFactory.createAllChampions() did
+ * - roster.json: data/champions.json read into templates and handed to a roster, champions are
+ *   created when first used, as the game does when it has no up to date catalog
+ * - roster.json.all: the same, then every champion created, so no work is left for later
+ * - roster.catalog: the compiled binary catalog the game normally starts from
+ * - items.json / items.hardcoded: data/items.json against ItemDataLoader's templates
+ *
+ * Repeated loads in one warmed-up JVM are not measured, the game never does that. There the
+ * hardcoded templates win: they only allocate, JSON also has to be decoded and tokenized.
+ *
+ * Run from the repository root so the data files are found.
+ */
+public class DataLoadBenchmarks {
+
+	public static void register(BenchmarkRunner runner) {
+		for (String load : new String[] {"roster.hardcoded", "roster.json", "roster.json.all", "roster.catalog",
+				"items.hardcoded", "items.json"}) {
+			runner.addStartup("DataLoad.startup." + load, DataLoadBenchmarks.class, load);
+		}
+	}
+
+	// One startup run: load once in this fresh JVM and report the time to the runner
+	public static void main(String[] args) throws IOException {
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream())); // Keep the loaders' logging out of the result
+		// By the time the game loads its data it has already logged, so the JVM's one-time string
+		// concatenation bootstrap (tens of ms) is paid before the clock starts, not by whichever load logs first
+		System.out.println("Startup run " + args[0] + " at " + System.nanoTime());
+		long start = System.nanoTime();
+		Object loaded = load(args[0]);
+		long elapsed = System.nanoTime() - start;
+		System.setOut(out);
+		if (loaded == null) {
+			throw new IllegalStateException("Nothing loaded for " + args[0]);
+		}
+		BenchmarkRunner.reportStartup(elapsed);
+	}
+
+	private static Object load(String load) throws IOException {
+		switch (load) {
+			case "roster.hardcoded":
+				return loadHardcodedRoster();
+			case "roster.json":
+				return ChampionFactory.createRoster(JsonDataLoader.readChampions(new File(JsonDataLoader.CHAMPIONS_FILE)));
+			case "roster.json.all":
+				ChampionRoster roster = ChampionFactory.createRoster(JsonDataLoader.readChampions(new File(JsonDataLoader.CHAMPIONS_FILE)));
+				for (int i = 0; i < roster.size(); i++) {
+					roster.get(i);
+				}
+				return roster;
+			case "roster.catalog":
+				return ChampionFactory.createRoster();
+			case "items.hardcoded":
+				return ItemDataLoader.createHardcodedItemData();
+			case "items.json":
+				return JsonDataLoader.readItems(new File(JsonDataLoader.ITEMS_FILE));
+			default:
+				throw new IllegalArgumentException("Unknown load " + load);
+		}
+	}
+
+	private static List<Champion> loadHardcodedRoster() {
+		List<ChampionTemplate> templates = LegacyChampionData.createHardcodedChampionData().champions;
+		ChampionRoster roster = ChampionFactory.createRoster(templates);
+		List<Champion> champions = new ArrayList<>(roster.size());
+		System.out.println("Creating champions from JSON data...");
+		for (int i = 0; i < roster.size(); i++) {
+			Champion champion = roster.get(i);
+			champions.add(champion);
+			System.out.println("✓ Created " + champion.getName() + " (" + champion.getChampionClass() + ")");
+		}
+		System.out.println("Successfully created " + champions.size() + " champions from data-driven system");
+		return champions;
+	}
+}
@@ -0,0 +1,22 @@
+package bench;
+
+import main.GamePanel;
+import main.HeadlessGame;
+
+/**
+ * Registers every benchmark of the suite. The game is set up once, headless and muted,
+ * and shared by all benchmarks that need a GamePanel (collision, tile drawing).
+ */
+public class GameBenchmarks {
+
+	public static void registerAll(BenchmarkRunner runner) {
+		HeadlessGame game = new HeadlessGame(new HeadlessGame.ScriptedInput());
+		game.startInPlayState();
+		GamePanel gp = game.getGamePanel();
+
+		BattleBenchmarks.register(runner);
+		ChampionBenchmarks.register(runner);
+		DataLoadBenchmarks.register(runner);
+		WorldBenchmarks.register(runner, gp);
+	}
+}
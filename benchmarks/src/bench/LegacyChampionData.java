@@ -1,39 +1,21 @@
-package factories;
+package bench;
 
 import data.ChampionData;
 import data.ChampionTemplate;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 
 /**
- * Handles loading and parsing champion data from hardcoded templates.
- * This eliminates the need for external JSON parsing libraries.
+ * The champion templates the game used to build in code before data/champions.json became the
+ * only champion source. Kept for the startup benchmark of the old construction path
+ * (DataLoadBenchmarks, roster.hardcoded), the game does not use it.
  */
-public class ChampionDataLoader {
-    
-    private static ChampionData cachedData = null;
+public class LegacyChampionData {
     
     /**
-     * Load champion data from hardcoded templates
-     * @return ChampionData object containing all champion templates
-     */
-    public static ChampionData loadChampionData() {
-        if (cachedData != null) {
-            return cachedData; // Return cached data if already loaded
-        }
-        
-        cachedData = createHardcodedChampionData();
-        System.out.println("Successfully loaded " + cachedData.champions.size() + " champions from hardcoded data");
-        return cachedData;
-    }
-    
-    /**
-     * Create champion data using hardcoded templates (replaces JSON parsing)
+     * Build every champion template in code
      * @return ChampionData with all League of Legends champions
      */
-    private static ChampionData createHardcodedChampionData() {
+    public static ChampionData createHardcodedChampionData() {
         ChampionData data = new ChampionData();
         data.champions = new ArrayList<>();
         
@@ -2803,60 +2785,4 @@ public class ChampionDataLoader {
         effect.appliesTo = appliesTo;
         return effect;
     }
-    
-    /**
-     * Create minimal fallback data if JSON loading fails
-     * @return Basic ChampionData with at least one champion
-     */
-    private static ChampionData createFallbackData() {
-        System.out.println("Using fallback champion data");
-        
-        ChampionData fallback = new ChampionData();
-        fallback.champions = new java.util.ArrayList<>();
-        
-        // Create a basic Ahri as fallback
-        ChampionTemplate ahri = new ChampionTemplate();
-        ahri.name = "Ahri";
-        ahri.imageName = "Ahri1";
-        ahri.region = "Ionia";
-        ahri.role = "Mid";
-        ahri.role2 = null;
-        ahri.championClass = "MAGE";
-        ahri.resourceType = "MANA";
-        
-        ahri.stats = new ChampionTemplate.ChampionStats();
-        ahri.stats.health = 526;
-        ahri.stats.attackDamage = 53;
-        ahri.stats.abilityPower = 0;
-        ahri.stats.armor = 21;
-        ahri.stats.magicResist = 30;
-        ahri.stats.moveSpeed = 330;
-        ahri.stats.mana = 418;
-        ahri.stats.critChance = 0;
-        ahri.stats.lifesteal = 0;
-        
-        ahri.moves = new java.util.ArrayList<>();
-        ahri.passive = null; // Simple fallback without passive
-        
-        fallback.champions.add(ahri);
-        return fallback;
-    }
-    
-    /**
-     * Reload champion data from file (useful for development/testing)
-     */
-    public static void reloadChampionData() {
-        cachedData = null;
-        loadChampionData();
-    }
-    
-    /**
-     * Get a specific champion template by name
-     * @param championName The name to search for
-     * @return ChampionTemplate or null if not found
-     */
-    public static ChampionTemplate getChampionTemplate(String championName) {
-        ChampionData data = loadChampionData();
-        return data.getChampionByName(championName);
-    }
-}
\ No newline at end of file
+}
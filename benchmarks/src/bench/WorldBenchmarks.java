@@ -0,0 +1,40 @@
+package bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import entity.Direction;
+import main.GamePanel;
+
+/**
+ * Overworld hot paths: collision checks run for every moving entity each update,
+ * and the tile layer is drawn every rendered frame.
+ */
+public class WorldBenchmarks {
+
+	public static void register(BenchmarkRunner runner, GamePanel gp) {
+		gp.player.direction = Direction.LEFT;
+
+		runner.add("CollisionChecker.checkTile", bh -> {
+			gp.player.collisionOn = false;
+			gp.cChecker.checkTile(gp.player);
+			bh.consume(gp.player.collisionOn);
+		});
+		runner.add("CollisionChecker.checkEntity", bh -> bh.consume(gp.cChecker.checkEntity(gp.player, gp.npc)));
+
+		// Offscreen frame the size of the window, drawn like a real frame
+		BufferedImage frame = new BufferedImage(gp.screenWidth, gp.screenHeight, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2 = frame.createGraphics();
+
+		runner.add("TileManager.draw", bh -> {
+			gp.tileM.draw(g2);
+			bh.consume(frame);
+		});
+		// Worst case: every visible chunk rebuilt, as after a map change
+		runner.add("TileManager.draw.rebuildChunks", bh -> {
+			gp.tileM.invalidateAllChunks();
+			gp.tileM.draw(g2);
+			bh.consume(frame);
+		});
+	}
+}
@@ -1,5 +1,7 @@
 package Champions;
 
+import java.util.random.RandomGenerator;
+
 public class AutoAttack {
     
     private String name;
@@ -11,12 +13,13 @@ public class AutoAttack {
     }
     
     // Calculate auto attack damage based on champion's AD or AP
-    public int calculateDamage(Champion champion) {
-        return calculateDamage(champion, false);
+    // (random is the battle's stream, crits are rolled from it)
+    public int calculateDamage(Champion champion, RandomGenerator random) {
+        return calculateDamage(champion, false, random);
     }
     
     // Calculate auto attack damage with option for bonus auto (reduced damage)
-    public int calculateDamage(Champion champion, boolean isBonusAuto) {
+    public int calculateDamage(Champion champion, boolean isBonusAuto, RandomGenerator random) {
         int baseDamage;
         
         // Most champions use AD for auto attacks, some exceptions use AP
@@ -44,7 +47,7 @@ public class AutoAttack {
         }
         
         // Apply critical hit chance (full crit chance even for bonus autos)
-        boolean isCrit = Math.random() * 100 < champion.getCritChance();
+        boolean isCrit = random.nextInt(100) < champion.getCritChance();
         if (isCrit) {
             baseDamage = (int) (baseDamage * 2.0); // 200% damage on crit
         }
@@ -72,7 +75,7 @@ public class AutoAttack {
     }
     
     // Check if champion gets a bonus auto attack based on attack speed
-    public boolean shouldGetBonusAuto(Champion champion) {
+    public boolean shouldGetBonusAuto(Champion champion, RandomGenerator random) {
         double attackSpeed = champion.getTotalAttackSpeed();
         
         // Only champions with AS > 1.0 can get bonus autos
@@ -87,11 +90,11 @@ public class AutoAttack {
         bonusChance = Math.min(bonusChance, 100.0);
         
         // Roll for bonus auto
-        return Math.random() * 100 < bonusChance;
+        return random.nextDouble() * 100 < bonusChance;
     }
     
     // Check if auto attack hits based on accuracy
-    public boolean doesHit(Champion attacker, Champion defender) {
+    public boolean doesHit(Champion attacker, Champion defender, RandomGenerator random) {
         // Base accuracy is 100% for auto attacks
         int accuracy = 100;
         
@@ -106,7 +109,7 @@ public class AutoAttack {
         }
         
         // Random accuracy check
-        return Math.random() * 100 < accuracy;
+        return random.nextInt(100) < accuracy;
     }
     
     // Getters
@@ -73,9 +73,19 @@ public class Champion {
     private java.util.Set<String> enemiesAttacked; // Track which enemies were attacked
     
     // Status Effects System
-    private java.util.List<StatusEffect> statusEffects; // Active status effects
+    // Active status effects, at most one per type: stored by type ordinal, with a bitmask of the
+    // types present and the order they were added in (start of turn processing follows that order)
+    private static final int STATUS_TYPE_COUNT = StatusEffect.StatusType.values().length;
+    private final StatusEffect[] statusEffects = new StatusEffect[STATUS_TYPE_COUNT];
+    private final int[] statusOrder = new int[STATUS_TYPE_COUNT];
+    private int statusCount;
+    private long statusMask;
     private int shieldAmount; // Current shield value
     
+    // Bumped whenever something the damage math reads changes (level, base stats, stat stages,
+    // items, status effects), so battle previews can tell when they are stale
+    private int statVersion;
+    
     // Last used move for cooldown tracking - REMOVED
 
     // Evolution
@@ -89,6 +99,12 @@ public class Champion {
     // Image
     private String imageName;
     
+    // Level scaled stats for every level, see getStatTable()
+    private ChampionStatTable statTable;
+    
+    // Species this champion was created from, null for champions built field by field
+    private ChampionSpecies species;
+    
  
     // Constructor with passive
     public Champion(String name, String imgName, String region, String role, String role2, int level, int maxHp, int AD, int AP, int armor,
@@ -137,14 +153,7 @@ public class Champion {
         this.magicPenetration = 0;
         this.tenacity = 0;
         
-        // Create auto attack - most champions use physical, some exceptions use magic
-        if ("Azir".equals(name) || "Corki".equals(name) || "Diana".equals(name) || 
-            "Fizz".equals(name) || "Kassadin".equals(name) || "Katarina".equals(name) ||
-            "Kayle".equals(name) || "Teemo".equals(name)) {
-            this.autoAttack = AutoAttack.createMagic(name);
-        } else {
-            this.autoAttack = AutoAttack.createPhysical(name);
-        }
+        this.autoAttack = createAutoAttack(name);
         
         // Initialize items list
         this.items = new java.util.ArrayList<>();
@@ -160,7 +169,6 @@ public class Champion {
         this.enemiesAttacked = new java.util.HashSet<>();
         
         // Initialize status effects system
-        this.statusEffects = new java.util.ArrayList<>();
         this.shieldAmount = 0;
         
         // Initialize stat stages to 0 (neutral)
@@ -174,6 +182,141 @@ public class Champion {
         this.currentHp = getCurrentMaxHP();
     }
     
+    // Instance of a species (ChampionSpecies.createInstance): shares the species' strings, auto
+    // attack and stat table, and gets its own copies of the moves and passive
+    Champion(ChampionSpecies species, int level) {
+        this.species = species;
+        this.name = species.getName();
+        this.imageName = species.getImageName();
+        this.region = species.getRegion();
+        this.role = species.getRole();
+        this.role2 = species.getRole2();
+        this.level = Math.max(constants.GameConstants.MIN_CHAMPION_LEVEL, Math.min(constants.GameConstants.MAX_CHAMPION_LEVEL, level));
+        this.maxHp = species.getMaxHp();
+        this.AD = species.getAD();
+        this.AP = species.getAP();
+        this.armor = species.getArmor();
+        this.magicResist = species.getMagicResist();
+        this.speed = species.getSpeed();
+        this.critChance = species.getCritChance();
+        this.lifesteal = species.getLifesteal();
+        this.evolveAt = species.getEvolveAt();
+        this.nextEvolution = species.getNextEvolution();
+        this.championClass = species.getChampionClass();
+        
+        List<Move> prototypes = species.getMoves();
+        this.moves = new java.util.ArrayList<>(prototypes.size());
+        for (Move move : prototypes) {
+            this.moves.add(move.copy());
+        }
+        this.passive = species.getPassive() != null ? species.getPassive().copy() : null;
+        
+        this.resourceType = species.getResourceType();
+        this.maxResource = species.getMaxResource();
+        this.currentResource = resourceType.isConsumable() ? maxResource : 0;
+        this.resourceRegen = resourceType.getBaseRegen();
+        
+        this.baseAttackSpeed = getDefaultBaseAttackSpeed(championClass);
+        this.attackSpeedRatio = getDefaultAttackSpeedRatio(championClass);
+        this.attackSpeedPerLevel = getDefaultAttackSpeedPerLevel(championClass);
+        this.autoAttack = species.getAutoAttack();
+        
+        this.items = new java.util.ArrayList<>();
+        this.currentForm = "Normal";
+        this.firstAttackOnEnemy = true;
+        this.enemiesAttacked = new java.util.HashSet<>();
+        
+        this.statTable = species.getStatTable(); // Dropped like any other once base stats change
+        this.currentHp = getCurrentMaxHP();
+    }
+    
+    // Copy constructor, see copyForSimulation()
+    private Champion(Champion other) {
+        this.species = other.species;
+        this.name = other.name;
+        this.imageName = other.imageName;
+        this.region = other.region;
+        this.role = other.role;
+        this.role2 = other.role2;
+        this.currentAssignedRole = other.currentAssignedRole;
+        this.level = other.level;
+        this.exp = other.exp;
+        this.championClass = other.championClass;
+        this.resourceType = other.resourceType;
+        this.currentResource = other.currentResource;
+        this.maxResource = other.maxResource;
+        this.resourceRegen = other.resourceRegen;
+        this.maxHp = other.maxHp;
+        this.AD = other.AD;
+        this.AP = other.AP;
+        this.armor = other.armor;
+        this.magicResist = other.magicResist;
+        this.speed = other.speed;
+        this.currentHp = other.currentHp;
+        this.critChance = other.critChance;
+        this.lifesteal = other.lifesteal;
+        this.baseAttackSpeed = other.baseAttackSpeed;
+        this.attackSpeedRatio = other.attackSpeedRatio;
+        this.attackSpeedPerLevel = other.attackSpeedPerLevel;
+        this.bonusAttackSpeedPercent = other.bonusAttackSpeedPercent;
+        this.spellVamp = other.spellVamp;
+        this.armorPenetration = other.armorPenetration;
+        this.magicPenetration = other.magicPenetration;
+        this.tenacity = other.tenacity;
+        this.autoAttack = other.autoAttack; // Stateless
+        this.items = new java.util.ArrayList<>(other.items);
+        this.speedStage = other.speedStage;
+        this.attackStage = other.attackStage;
+        this.armorStage = other.armorStage;
+        this.apStage = other.apStage;
+        this.magicResistStage = other.magicResistStage;
+        this.moves = new java.util.ArrayList<>(other.moves.size());
+        for (Move move : other.moves) {
+            this.moves.add(move.copy());
+        }
+        this.passive = other.passive != null ? other.passive.copy() : null;
+        this.isTransformed = other.isTransformed;
+        this.transformationTurns = other.transformationTurns;
+        this.currentForm = other.currentForm;
+        this.hasUsedPassiveThisTurn = other.hasUsedPassiveThisTurn;
+        this.consecutiveAttacks = other.consecutiveAttacks;
+        this.firstAttackOnEnemy = other.firstAttackOnEnemy;
+        this.turnsInBattle = other.turnsInBattle;
+        this.enemiesAttacked = new java.util.HashSet<>(other.enemiesAttacked);
+        for (int i = 0; i < other.statusCount; i++) {
+            int ordinal = other.statusOrder[i];
+            this.statusEffects[ordinal] = other.statusEffects[ordinal].copy();
+            this.statusOrder[i] = ordinal;
+        }
+        this.statusCount = other.statusCount;
+        this.statusMask = other.statusMask;
+        this.shieldAmount = other.shieldAmount;
+        this.evolveAt = other.evolveAt;
+        this.nextEvolution = other.nextEvolution;
+        this.abilityUpgradeTokens = other.abilityUpgradeTokens;
+        this.ultimateUpgradeTokens = other.ultimateUpgradeTokens;
+        this.statTable = other.statTable; // Never modified once built
+        this.statVersion = other.statVersion;
+    }
+    
+    // Most champions use physical auto attacks, some exceptions use magic
+    static AutoAttack createAutoAttack(String name) {
+        if ("Azir".equals(name) || "Corki".equals(name) || "Diana".equals(name) || 
+            "Fizz".equals(name) || "Kassadin".equals(name) || "Katarina".equals(name) ||
+            "Kayle".equals(name) || "Teemo".equals(name)) {
+            return AutoAttack.createMagic(name);
+        }
+        return AutoAttack.createPhysical(name);
+    }
+    
+    /**
+     * Independent deep copy of the champion in its current battle state (HP, resource, stat stages,
+     * status effects, cooldowns, passive state), for simulating battles without touching the original.
+     */
+    public Champion copyForSimulation() {
+        return new Champion(this);
+    }
+    
     // Constructor without passive (for backward compatibility)
     public Champion(String name, String imgName, String region, String role, String role2, int level, int maxHp, int AD, int AP, int armor,
                     int magicResist, int speed, int critChance, int lifesteal, int evolveAt, String nextEvolution, List<Move> moves) {
@@ -219,7 +362,6 @@ public class Champion {
         this.resourceRegen = resourceType.getBaseRegen();
         
         // Initialize status effects list
-        this.statusEffects = new java.util.ArrayList<>();
         
         // League of Legends attack speed system with defaults
         this.baseAttackSpeed = getDefaultBaseAttackSpeed(championClass);
@@ -231,14 +373,7 @@ public class Champion {
         this.magicPenetration = 0;
         this.tenacity = 0;
         
-        // Create auto attack - most champions use physical, some exceptions use magic
-        if ("Azir".equals(name) || "Corki".equals(name) || "Diana".equals(name) || 
-            "Fizz".equals(name) || "Kassadin".equals(name) || "Katarina".equals(name) ||
-            "Kayle".equals(name) || "Teemo".equals(name)) {
-            this.autoAttack = AutoAttack.createMagic(name);
-        } else {
-            this.autoAttack = AutoAttack.createPhysical(name);
-        }
+        this.autoAttack = createAutoAttack(name);
         
         // Initialize items list
         this.items = new java.util.ArrayList<>();
@@ -254,7 +389,6 @@ public class Champion {
         this.enemiesAttacked = new java.util.HashSet<>();
         
         // Initialize status effects system
-        this.statusEffects = new java.util.ArrayList<>();
         this.shieldAmount = 0;
         
         // Initialize stat stages to 0 (neutral)
@@ -283,6 +417,7 @@ public class Champion {
         level = Math.max(constants.GameConstants.MIN_CHAMPION_LEVEL, Math.min(constants.GameConstants.MAX_CHAMPION_LEVEL, level));
         int oldMaxHP = getCurrentMaxHP(); // Get current max HP before level change
         this.level = level;
+        statVersion++;
         int newMaxHP = getCurrentMaxHP(); // Get new max HP after level change
         
         // Scale current HP proportionally to maintain HP percentage
@@ -341,104 +476,43 @@ public class Champion {
      * Get current max HP based on exponential level scaling
      */
     public int getCurrentMaxHP() {
-        double hpGrowthRate = getHPGrowthRate();
-        return (int)(maxHp * (1.0 + hpGrowthRate * (level - 1)));
+        return getStatTable().maxHp[level];
     }
     
     /**
-     * Get current AD based on exponential level scaling
+     * Get current AD based on exponential level scaling (League reference base AD when available)
      */
     public int getCurrentAD() {
-        int baseAD = getLeagueReferenceAD();
-        double adGrowthRate = getADGrowthRate();
-        return (int)(baseAD * (1.0 + adGrowthRate * (level - 1)));
-    }
-    
-    /**
-     * Get base AD from League of Legends reference data
-     */
-    private int getLeagueReferenceAD() {
-        for (LeagueStatsReference.ChampionStats stats : LeagueStatsReference.CHAMPION_STATS) {
-            if (stats.name.equals(this.name)) {
-                return stats.attackDamage;
-            }
-        }
-        return AD; // Fallback to JSON value if not found in reference
+        return getStatTable().ad[level];
     }
     
     /**
      * Get current AP based on exponential level scaling using League reference stats
      */
     public int getCurrentAP() {
-        // Get base AP from League reference stats
-        int baseAP = getLeagueReferenceAP();
-        
-        // Apply exponential AP scaling like AD for AP-based classes
-        if (championClass == ChampionClass.MAGE) {
-            double apGrowthRate = 0.17; // 17% per level - stronger than MARKSMAN AD
-            return (int)(baseAP * (1.0 + apGrowthRate * (level - 1)));
-        } else if (championClass == ChampionClass.ASSASSIN && (name.equals("Akali") || name.equals("Katarina") || name.equals("Diana"))) {
-            double apGrowthRate = 0.13; // 13% per level like ASSASSIN AD
-            return (int)(baseAP * (1.0 + apGrowthRate * (level - 1)));
-        } else if (championClass == ChampionClass.SUPPORT) {
-            double apGrowthRate = 0.04; // 4% per level like SUPPORT AD
-            return (int)(baseAP * (1.0 + apGrowthRate * (level - 1)));
-        }
-        return baseAP; // Other classes stay at base AP
-    }
-    
-    /**
-     * Get base AP from League of Legends reference data
-     */
-    private int getLeagueReferenceAP() {
-        for (LeagueStatsReference.ChampionStats stats : LeagueStatsReference.CHAMPION_STATS) {
-            if (stats.name.equals(this.name)) {
-                return stats.abilityPower; // This is 0 for all champions in League
-            }
-        }
-        return AP; // Fallback to JSON value if not found in reference
+        return getStatTable().ap[level];
     }
     
     /**
      * Get current armor based on exponential level scaling using League reference stats
      */
     public int getCurrentArmor() {
-        int baseArmor = getLeagueReferenceArmor();
-        double armorGrowthRate = getArmorGrowthRate();
-        return (int)(baseArmor * (1.0 + armorGrowthRate * (level - 1)));
+        return getStatTable().armor[level];
     }
     
     /**
      * Get current magic resist based on exponential level scaling using League reference stats
      */
     public int getCurrentMagicResist() {
-        int baseMR = getLeagueReferenceMagicResist();
-        double mrGrowthRate = getMRGrowthRate();
-        return (int)(baseMR * (1.0 + mrGrowthRate * (level - 1)));
+        return getStatTable().magicResist[level];
     }
     
-    /**
-     * Get base Armor from League of Legends reference data
-     */
-    private int getLeagueReferenceArmor() {
-        for (LeagueStatsReference.ChampionStats stats : LeagueStatsReference.CHAMPION_STATS) {
-            if (stats.name.equals(this.name)) {
-                return stats.armor;
-            }
-        }
-        return armor; // Fallback to JSON value if not found in reference
-    }
-    
-    /**
-     * Get base Magic Resist from League of Legends reference data
-     */
-    private int getLeagueReferenceMagicResist() {
-        for (LeagueStatsReference.ChampionStats stats : LeagueStatsReference.CHAMPION_STATS) {
-            if (stats.name.equals(this.name)) {
-                return stats.magicResist;
-            }
+    // Level tables are built on first use and dropped whenever a base stat changes
+    private ChampionStatTable getStatTable() {
+        if (statTable == null) {
+            statTable = ChampionStatTable.build(name, championClass, maxHp, AD, AP, armor, magicResist);
         }
-        return magicResist; // Fallback to JSON value if not found in reference
+        return statTable;
     }
     
     /**
@@ -462,48 +536,6 @@ public class Champion {
         return ChampionGrowthRates.getGrowthRates(name, championClass);
     }
     
-    /**
-     * HP exponential growth rate per level based on champion class
-     */
-    private double getHPGrowthRate() {
-        switch (championClass) {
-            case TANK:
-                return 0.08;      // 8% per level - becomes fortress
-            case FIGHTER:
-                return 0.06;   // 6% per level - beefy bruiser
-            case ASSASSIN:
-                return 0.05;  // 5% per level - mobile glass
-            case MAGE:
-                return 0.05;      // 5% per level - burst glass
-            case SUPPORT:
-                return 0.06;   // 6% per level - utility
-            case MARKSMAN:
-                return 0.04;  // 4% per level - ultimate glass
-        }
-        return 0.05; // Default fallback
-    }
-    
-    /**
-     * AD exponential growth rate per level based on champion class - BALANCED EXTREME SCALING
-     */
-    private double getADGrowthRate() {
-        switch (championClass) {
-            case MARKSMAN:
-                return 0.15;  // 15% per level - DPS king
-            case ASSASSIN:
-                return 0.13;  // 13% per level - burst assassin  
-            case FIGHTER:
-                return 0.10;   // 10% per level - sustained damage
-            case TANK:
-                return 0.07;      // 7% per level - moderate damage
-            case SUPPORT:
-                return 0.04;   // 4% per level - minimal damage
-            case MAGE:
-                return 0.03;      // 3% per level - focus on AP instead
-        }
-        return 0.05; // Default fallback
-    }
-    
     /**
      * AP exponential growth rate per level based on champion class - BALANCED EXTREME SCALING
      */
@@ -516,26 +548,6 @@ public class Champion {
         };
     }
     
-    /**
-     * Armor exponential growth rate per level based on champion class
-     */
-    private double getArmorGrowthRate() {
-        return switch (championClass) {
-            case TANK -> 0.08;      // 8% per level - fortress
-            default -> 0.03;        // 3% per level - moderate defense
-        };
-    }
-    
-    /**
-     * Magic Resist exponential growth rate per level based on champion class
-     */
-    private double getMRGrowthRate() {
-        return switch (championClass) {
-            case TANK -> 0.08;      // 8% per level - magic fortress
-            default -> 0.03;        // 3% per level - moderate defense
-        };
-    }
-    
     /**
      * Armor growth per level based on champion class
      */
@@ -566,6 +578,11 @@ public class Champion {
         return imageName;
     }
     
+    /** Species this champion is an instance of, null if it was not created from one */
+    public ChampionSpecies getSpecies() {
+        return species;
+    }
+    
     public int getExp() {
         return exp;
     }
@@ -633,6 +650,7 @@ public class Champion {
         boolean changed = newStage != currentStage;
         
         if (changed) {
+            statVersion++;
             switch (stat.toLowerCase()) {
                 case "speed": speedStage = newStage; break;
                 case "attack": attackStage = newStage; break;
@@ -651,6 +669,7 @@ public class Champion {
         armorStage = 0;
         apStage = 0;
         magicResistStage = 0;
+        statVersion++;
     }
     
     public int getSpeedStage() { return speedStage; }
@@ -674,12 +693,13 @@ public class Champion {
     public double getAttackSpeedRatio() { return attackSpeedRatio; }
     public double getAttackSpeedPerLevel() { return attackSpeedPerLevel; }
     public double getBonusAttackSpeedPercent() { return bonusAttackSpeedPercent; }
-    public void setBonusAttackSpeedPercent(double bonusAS) { this.bonusAttackSpeedPercent = bonusAS; }
-    public void addBonusAttackSpeedPercent(double bonusAS) { this.bonusAttackSpeedPercent += bonusAS; }
+    public void setBonusAttackSpeedPercent(double bonusAS) { this.bonusAttackSpeedPercent = bonusAS; statVersion++; }
+    public void addBonusAttackSpeedPercent(double bonusAS) { this.bonusAttackSpeedPercent += bonusAS; statVersion++; }
     
     // Testing method to override base attack speed
     public void setBaseAttackSpeedForTesting(double newBaseAS) { 
         this.baseAttackSpeed = newBaseAS; 
+        statVersion++;
     }
     public int getSpellVamp() { return spellVamp; }
     public int getArmorPenetration() { return armorPenetration; }
@@ -809,6 +829,8 @@ public class Champion {
         speed += speedInc;
         // critChance and lifesteal remain unchanged - will be modified by items only
         currentHp += hpInc; // Add HP increase instead of full heal
+        statTable = null; // Base stats changed
+        statVersion++;
 
         checkEvolution();
         
@@ -826,10 +848,19 @@ public class Champion {
     private void evolve() {
         System.out.println(name + " is evolving into " + nextEvolution + "!");
         name = nextEvolution;
+        species = ChampionFactory.findSpecies(nextEvolution); // Null if the evolution is not in the roster
+        statTable = null; // New species, new reference stats
+        statVersion++;
         evolveAt = -1; // Prevent further evolution
         nextEvolution = null;
     }
 
+    // Wild spawns never evolve, they only keep an evolution level for display
+    void disableEvolution(int evolveAt) {
+        this.evolveAt = evolveAt;
+        this.nextEvolution = null;
+    }
+
 	public String getRegion() {
 		
 		return  region;
@@ -937,6 +968,8 @@ public class Champion {
 	        // Small champion stat bonus for ultimates
 	        maxHp += 10;
 	        currentHp += 10;
+	        statTable = null;
+	        statVersion++;
 	        
 	    } else {
 	        // Basic ability upgrades give smaller damage bonuses
@@ -956,6 +989,8 @@ public class Champion {
 	        // Small champion stat bonus for basic abilities
 	        maxHp += 5;
 	        currentHp += 5;
+	        statTable = null;
+	        statVersion++;
 	    }
 	}
 
@@ -1110,40 +1145,80 @@ public class Champion {
                 }
             }
         } else {
-            statusEffects.add(effect);
+            int ordinal = effect.getType().ordinal();
+            statusEffects[ordinal] = effect.copy(); // Own copy, effects usually come from a move that applies them again later
+            statusOrder[statusCount++] = ordinal;
+            statusMask |= 1L << ordinal;
         }
         statusSummaryValid = false; // Invalidate cached summary
+        statVersion++;
     }
     
     // Remove a status effect by type
     public void removeStatusEffect(StatusEffect.StatusType type) {
-        statusEffects.removeIf(effect -> effect.getType() == type);
+        int ordinal = type.ordinal();
+        if ((statusMask & (1L << ordinal)) == 0) {
+            return;
+        }
+        for (int i = 0; i < statusCount; i++) {
+            if (statusOrder[i] == ordinal) {
+                removeStatusAt(i);
+                break;
+            }
+        }
         statusSummaryValid = false; // Invalidate cached summary
     }
     
+    // Remove the i-th effect in insertion order, keeping the order of the others
+    private void removeStatusAt(int index) {
+        int ordinal = statusOrder[index];
+        statusEffects[ordinal] = null;
+        statusMask &= ~(1L << ordinal);
+        statusCount--;
+        System.arraycopy(statusOrder, index + 1, statusOrder, index, statusCount - index);
+        statVersion++;
+    }
+    
     // Get a specific status effect
     public StatusEffect getStatusEffect(StatusEffect.StatusType type) {
-        return statusEffects.stream()
-            .filter(effect -> effect.getType() == type)
-            .findFirst()
-            .orElse(null);
+        return statusEffects[type.ordinal()];
     }
     
     // Check if champion has a specific status effect
     public boolean hasStatusEffect(StatusEffect.StatusType type) {
-        return getStatusEffect(type) != null;
+        return (statusMask & (1L << type.ordinal())) != 0;
     }
     
-    // Get all active status effects
+    // Check if champion has any status effect at all
+    public boolean hasAnyStatusEffect() {
+        return statusMask != 0;
+    }
+    
+    // Bit per active status effect, indexed by StatusType ordinal
+    public long getStatusMask() {
+        return statusMask;
+    }
+    
+    // Changes whenever the champion's damage relevant stats change
+    public int getStatVersion() {
+        return statVersion;
+    }
+    
+    // Get all active status effects (a copy, in the order they were applied)
     public java.util.List<StatusEffect> getStatusEffects() {
-        return new java.util.ArrayList<>(statusEffects);
+        java.util.List<StatusEffect> effects = new java.util.ArrayList<>(statusCount);
+        for (int i = 0; i < statusCount; i++) {
+            effects.add(statusEffects[statusOrder[i]]);
+        }
+        return effects;
     }
     
     // Get cached status summary for efficient batch lookups
     public StatusSummary getStatusSummary() {
         if (!statusSummaryValid) {
             statusSummary.clear();
-            for (StatusEffect effect : statusEffects) {
+            for (int i = 0; i < statusCount; i++) {
+                StatusEffect effect = statusEffects[statusOrder[i]];
                 switch (effect.getType()) {
                     case STUN -> statusSummary.isStunned = true;
                     case BLIND -> statusSummary.isBlind = true;
@@ -1173,10 +1248,9 @@ public class Champion {
     // Process status effects at start of turn
     public StringBuilder processStatusEffectsStartOfTurn() {
         StringBuilder message = new StringBuilder();
-        java.util.Iterator<StatusEffect> iterator = statusEffects.iterator();
         
-        while (iterator.hasNext()) {
-            StatusEffect effect = iterator.next();
+        for (int i = 0; i < statusCount; i++) {
+            StatusEffect effect = statusEffects[statusOrder[i]];
             
             // Apply effect
             switch (effect.getType()) {
@@ -1216,13 +1290,18 @@ public class Champion {
                     break;
             }
             
+            // Damage may have broken a shield applied earlier, find our slot again
+            if (i >= statusCount || statusOrder[i] != effect.getType().ordinal()) {
+                i--;
+            }
+            
             // Reduce duration
             effect.reduceDuration();
             
             // Remove expired effects
             if (effect.isExpired()) {
                 message.append("\n").append(effect.getName()).append(" wore off from ").append(name).append("!");
-                iterator.remove();
+                removeStatusAt(i--);
                 statusSummaryValid = false; // Invalidate cache when effects are removed
             }
         }
@@ -1428,9 +1507,12 @@ public class Champion {
     
     // Clear all status effects (for battle reset)
     public void clearAllStatusEffects() {
-        statusEffects.clear();
+        java.util.Arrays.fill(statusEffects, null);
+        statusCount = 0;
+        statusMask = 0;
         shieldAmount = 0;
         statusSummaryValid = false; // Invalidate cache
+        statVersion++;
     }
     
     // Reset for new battle including status effects
@@ -1501,6 +1583,7 @@ public class Champion {
         if (bonusResourceRegen > 0) {
             resourceRegen = resourceType.getBaseRegen() + bonusResourceRegen;
         }
+        statVersion++;
     }
     
     // Get effective stats including items
@@ -1660,25 +1743,31 @@ public class Champion {
     
     public void setSpeedStage(int speedStage) {
         this.speedStage = speedStage;
+        statVersion++;
     }
     
     public void setAttackStage(int attackStage) {
         this.attackStage = attackStage;
+        statVersion++;
     }
     
     public void setArmorStage(int armorStage) {
         this.armorStage = armorStage;
+        statVersion++;
     }
     
     public void setApStage(int apStage) {
         this.apStage = apStage;
+        statVersion++;
     }
     
     public void setMagicResistStage(int magicResistStage) {
         this.magicResistStage = magicResistStage;
+        statVersion++;
     }
     
     public void setItems(java.util.List<Item> items) {
         this.items = new java.util.ArrayList<>(items);
+        statVersion++;
     }
 }
\ No newline at end of file
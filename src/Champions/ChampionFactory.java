@@ -1,11 +1,14 @@
 package Champions;
 
-import data.ChampionData;
+import data.ChampionCatalog;
 import data.ChampionTemplate;
-import factories.ChampionDataLoader;
+import factories.JsonDataLoader;
 import mappers.ResourceTypeMapper;
 import builders.MoveBuilder;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,52 +18,126 @@ import java.util.List;
  */
 public class ChampionFactory {
 	
-	private static List<Champion> allChampions = null;
+	private static ChampionRoster allChampions = null;
+	
+	// Compiled champion data (res/data/champions.catalog), read once and shared by every roster
+	private static ChampionCatalog catalog = null;
+	private static boolean catalogLoaded = false;
+	// Templates used when there is no catalog
+	private static List<ChampionTemplate> fallbackTemplates = null;
+	// Species by roster index, created on first use and shared by every roster (they never change)
+	private static ChampionSpecies[] species = null;
 	
 	public ChampionFactory() {
 		// Load champions on first creation
 		if (allChampions == null) {
-			allChampions = createAllChampions();
+			allChampions = createRoster();
 		}
 	}
 	
 	
 	
 	/**
-	 * Creates all champions using data-driven approach from JSON files.
-	 * This replaces the old 1000+ line method with a clean, maintainable system.
+	 * Creates a new set of all champions. Each call returns its own Champion objects, which are
+	 * only built when first used (see ChampionRoster).
 	 * @return List of all available champions
 	 */
 	public static List<Champion> createAllChampions() {
-		List<Champion> champions = new ArrayList<>();
-		
-		// Load champion data from JSON
-		ChampionData championData = ChampionDataLoader.loadChampionData();
-		
-		System.out.println("Creating champions from JSON data...");
-		
-		// Convert each JSON template to Champion object
-		for (ChampionTemplate template : championData.champions) {
+		return createRoster();
+	}
+	
+	/**
+	 * New roster of all champion species, read from the compiled champion catalog
+	 * (falls back to data/champions.json if the game has no catalog, or the file changed since it was compiled)
+	 */
+	public static ChampionRoster createRoster() {
+		ChampionCatalog catalog = getCatalog();
+		if (catalog != null) {
+			return new ChampionRoster(catalog, getSpeciesArray(catalog.size()));
+		}
+		List<ChampionTemplate> templates = getFallbackTemplates();
+		return new ChampionRoster(templates, getSpeciesArray(templates.size()));
+	}
+	
+	/**
+	 * New roster over the given templates (a data file read by the caller), with its own species:
+	 * nothing is shared with the game's roster
+	 */
+	public static ChampionRoster createRoster(List<ChampionTemplate> templates) {
+		return new ChampionRoster(templates, new ChampionSpecies[templates.size()]);
+	}
+	
+	private static synchronized ChampionSpecies[] getSpeciesArray(int size) {
+		if (species == null) {
+			species = new ChampionSpecies[size];
+		}
+		return species;
+	}
+	
+	/**
+	 * Species with this name, without creating any champion
+	 * @return the species, null if no champion has this name
+	 */
+	public static ChampionSpecies findSpecies(String name) {
+		return getRoster().findSpecies(name);
+	}
+	
+	private static synchronized List<ChampionTemplate> getFallbackTemplates() {
+		if (fallbackTemplates == null) {
+			File file = new File(JsonDataLoader.CHAMPIONS_FILE);
 			try {
-				Champion champion = createChampionFromTemplate(template);
-				champions.add(champion);
-				System.out.println("✓ Created " + champion.getName() + " (" + champion.getChampionClass() + ")");
-			} catch (Exception e) {
-				System.err.println("✗ Failed to create champion " + template.name + ": " + e.getMessage());
-				e.printStackTrace();
+				fallbackTemplates = JsonDataLoader.readChampions(file);
+				System.out.println("Loaded " + fallbackTemplates.size() + " champions from " + file.getPath());
+			} catch (IOException e) {
+				System.err.println("Could not read champion data, no champions available: " + e.getMessage());
+				fallbackTemplates = new ArrayList<>();
 			}
 		}
-		
-		System.out.println("Successfully created " + champions.size() + " champions from data-driven system");
-		return champions;
+		return fallbackTemplates;
+	}
+	
+	private static synchronized ChampionCatalog getCatalog() {
+		if (!catalogLoaded) {
+			long start = System.nanoTime();
+			catalog = ChampionCatalog.load();
+			catalogLoaded = true;
+			if (catalog != null && !isUpToDate(catalog)) {
+				catalog = null;
+			} else if (catalog != null) {
+				System.out.println("Loaded " + catalog.size() + " champions from the champion catalog in "
+						+ (System.nanoTime() - start) / 1000 + " us");
+			} else {
+				System.out.println("No champion catalog found, reading " + JsonDataLoader.CHAMPIONS_FILE);
+			}
+		}
+		return catalog;
+	}
+	
+	// The catalog is compiled from data/champions.json, so an edited file wins over it
+	private static boolean isUpToDate(ChampionCatalog catalog) {
+		File file = new File(JsonDataLoader.CHAMPIONS_FILE);
+		if (!file.exists()) {
+			return true; // Shipped without the data files
+		}
+		try {
+			if (catalog.isCompiledFrom(Files.readAllBytes(file.toPath()))) {
+				return true;
+			}
+			System.out.println("Champion catalog is out of date with " + file.getPath()
+					+ ", reading that instead (recompile with factories.ChampionCatalogCompiler)");
+		} catch (IOException e) {
+			System.err.println("Could not check the champion catalog against " + file.getPath() + ": " + e.getMessage());
+			return true;
+		}
+		return false;
 	}
 	
 	/**
-	 * Convert a ChampionTemplate from JSON into a Champion object
+	 * Convert a ChampionTemplate from JSON into a ChampionSpecies
 	 * @param template The JSON template data
-	 * @return Fully constructed Champion
+	 * @return Species with its move and passive prototypes
 	 */
-	private static Champion createChampionFromTemplate(ChampionTemplate template) {
+	static ChampionSpecies createSpeciesFromTemplate(ChampionTemplate template) {
 		// Create moves from template data
 		List<Move> moves = new ArrayList<>();
 		for (ChampionTemplate.MoveTemplate moveTemplate : template.moves) {
@@ -77,14 +154,15 @@ public class ChampionFactory {
 		ChampionClass championClass = ChampionClass.valueOf(template.championClass.toUpperCase());
 		ResourceType resourceType = ResourceType.valueOf(template.resourceType.toUpperCase());
 		
-		// Create champion with all data from JSON
-		Champion champion = new Champion(
-			template.name, 
+		return new ChampionSpecies(
+			template.name,
 			template.imageName,
 			template.region,
 			template.role,
 			template.role2 != null ? template.role2 : "None",
-			1, // level (always start at 1)
+			championClass,
+			resourceType,
+			template.stats.mana,
 			template.stats.health,
 			template.stats.attackDamage,
 			template.stats.abilityPower,
@@ -96,13 +174,8 @@ public class ChampionFactory {
 			template.evolveAt,
 			template.nextEvolution,
 			moves,
-			passive,
-			championClass,
-			resourceType,
-			template.stats.mana
+			passive
 		);
-		
-		return champion;
 	}
 	
 	/**
@@ -211,65 +284,19 @@ public class ChampionFactory {
 	
 	/**
 	 * Get all champions (lazy loaded)
-	 * @return List of all champions
+	 * @return List of all champions, shared and read-only
 	 */
 	public static List<Champion> getAllChampions() {
-		if (allChampions == null) {
-			allChampions = createAllChampions();
-		}
-		return new ArrayList<>(allChampions); // Return copy to prevent external modification
+		return getRoster();
 	}
 	
 	/**
-	 * Create a copy of an existing champion (for save/load system)
-	 * @param template The champion to copy
-	 * @return New champion instance with same base stats
+	 * The shared roster behind getAllChampions(), for species lookups
 	 */
-	public static Champion createChampionCopy(Champion template) {
-		if (template == null) return null;
-		
-		// Create moves list copy
-		List<Move> movesCopy = new ArrayList<>();
-		for (Move move : template.getMoves()) {
-			// Create a new move with same stats - moves don't have copy constructor
-			// For now, we'll recreate them from the original data
-			movesCopy.add(new Move(
-				move.getName(),
-				move.getType(),
-				move.getPower(),
-				move.getAccuracy(),
-				move.getManaCost(),
-				null, // effect
-				0,    // effectChance
-				move.isUltimate()
-			));
+	public static ChampionRoster getRoster() {
+		if (allChampions == null) {
+			allChampions = createRoster();
 		}
-		
-		// Create new champion with same base stats
-		Champion copy = new Champion(
-			template.getName(),
-			template.getImageName(),
-			template.getRegion(),
-			template.getRole(),
-			template.getRole2(),
-			template.getLevel(),
-			template.getMaxHp(),
-			template.getAD(),
-			template.getAP(),
-			template.getArmor(),
-			template.getMagicResist(),
-			template.getSpeed(),
-			template.getCritChance(),
-			template.getLifesteal(),
-			template.getEvolveAt(),
-			template.getNextEvolution(),
-			movesCopy,
-			template.getPassive(),
-			template.getChampionClass(),
-			template.getResourceType(),
-			template.getMaxResource()
-		);
-		
-		return copy;
+		return allChampions;
 	}
-}
\ No newline at end of file
+}
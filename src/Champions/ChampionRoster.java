@@ -0,0 +1,126 @@
+package Champions;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import data.ChampionCatalog;
+import data.ChampionTemplate;
+
+/**
+ * Every champion species in the game, as a read-only list whose Champion objects are only
+ * created when they are first asked for (get, iteration). Names and image names can be looked
+ * up without creating the champion, and species (getSpecies) without creating a Champion.
+ * The species are shared with every other roster of the game's data (ChampionFactory.createRoster()),
+ * the Champion objects are this roster's own.
+ *
+ * Backed by the compiled champion catalog, or by the templates read from data/champions.json when
+ * the game runs without one.
+ */
+public class ChampionRoster extends AbstractList<Champion> {
+
+	private final ChampionCatalog catalog;
+	private final List<ChampionTemplate> templates;
+	private final ChampionSpecies[] species;
+	private final Champion[] champions;
+
+	ChampionRoster(ChampionCatalog catalog, ChampionSpecies[] species) {
+		this.catalog = catalog;
+		this.templates = null;
+		this.species = species;
+		this.champions = new Champion[catalog.size()];
+	}
+
+	ChampionRoster(List<ChampionTemplate> templates, ChampionSpecies[] species) {
+		this.catalog = null;
+		this.templates = templates;
+		this.species = species;
+		this.champions = new Champion[templates.size()];
+	}
+
+	@Override
+	public int size() {
+		return champions.length;
+	}
+
+	@Override
+	public Champion get(int index) {
+		Champion champion = champions[index];
+		if (champion == null) {
+			champion = getSpecies(index).createInstance(1);
+			champions[index] = champion;
+		}
+		return champion;
+	}
+
+	public ChampionSpecies getSpecies(int index) {
+		ChampionSpecies result = species[index];
+		if (result == null) {
+			// Immutable, so a race between rosters at worst creates the same species twice
+			result = ChampionFactory.createSpeciesFromTemplate(getTemplate(index));
+			species[index] = result;
+		}
+		return result;
+	}
+
+	public ChampionTemplate getTemplate(int index) {
+		return catalog != null ? catalog.getTemplate(index) : templates.get(index);
+	}
+
+	public String getName(int index) {
+		return catalog != null ? catalog.getName(index) : templates.get(index).name;
+	}
+
+	public String getImageName(int index) {
+		return catalog != null ? catalog.getImageName(index) : templates.get(index).imageName;
+	}
+
+	/** @return the champion with this name (created if needed), null if there is none */
+	public Champion getByName(String name) {
+		for (int i = 0; i < champions.length; i++) {
+			if (getName(i).equals(name)) {
+				return get(i);
+			}
+		}
+		return null;
+	}
+
+	/** @return the species with this name, null if there is none */
+	public ChampionSpecies findSpecies(String name) {
+		for (int i = 0; i < champions.length; i++) {
+			if (getName(i).equals(name)) {
+				return getSpecies(i);
+			}
+		}
+		return null;
+	}
+
+	public boolean isCreated(int index) {
+		return champions[index] != null;
+	}
+
+	// A champion that was never created cannot be in the list, so only look at the created ones
+	@Override
+	public int indexOf(Object object) {
+		for (int i = 0; i < champions.length; i++) {
+			if (champions[i] != null && champions[i].equals(object)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object object) {
+		for (int i = champions.length - 1; i >= 0; i--) {
+			if (champions[i] != null && champions[i].equals(object)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object object) {
+		return indexOf(object) >= 0;
+	}
+}
@@ -0,0 +1,178 @@
+package Champions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The part of a champion every champion of the same species shares and nothing changes after
+ * loading: name, images, roles, class, base stats, evolution, the level stat table and the
+ * move and passive prototypes.
+ *
+ * A Champion is one instance of a species and only owns what changes in play (level, exp, HP,
+ * resource, stat stages, status effects, items). It gets its own copies of the moves and
+ * passive, since those carry per champion state (ultimate cooldown, upgrade level, passive
+ * cooldowns). The prototypes here are never used in battle.
+ */
+public final class ChampionSpecies {
+
+	private final String name;
+	private final String imageName;
+	private final String region;
+	private final String role;
+	private final String role2;
+	private final ChampionClass championClass;
+	private final ResourceType resourceType;
+	private final int maxResource;
+
+	private final int maxHp;
+	private final int AD;
+	private final int AP;
+	private final int armor;
+	private final int magicResist;
+	private final int speed;
+	private final int critChance;
+	private final int lifesteal;
+
+	private final int evolveAt;
+	private final String nextEvolution;
+
+	private final List<Move> moves;
+	private final Passive passive;
+	private final AutoAttack autoAttack; // Stateless, shared by every instance
+
+	// Level tables at the species base stats, shared until an instance's own base stats change
+	private volatile ChampionStatTable statTable;
+
+	public ChampionSpecies(String name, String imageName, String region, String role, String role2,
+			ChampionClass championClass, ResourceType resourceType, int maxResource,
+			int maxHp, int AD, int AP, int armor, int magicResist, int speed, int critChance, int lifesteal,
+			int evolveAt, String nextEvolution, List<Move> moves, Passive passive) {
+		this.name = name;
+		this.imageName = imageName;
+		this.region = region;
+		this.role = role;
+		this.role2 = role2;
+		this.championClass = championClass;
+		this.resourceType = resourceType;
+		this.maxResource = maxResource;
+		this.maxHp = maxHp;
+		this.AD = AD;
+		this.AP = AP;
+		this.armor = armor;
+		this.magicResist = magicResist;
+		this.speed = speed;
+		this.critChance = critChance;
+		this.lifesteal = lifesteal;
+		this.evolveAt = evolveAt;
+		this.nextEvolution = nextEvolution;
+		this.moves = Collections.unmodifiableList(new ArrayList<>(moves));
+		this.passive = passive;
+		this.autoAttack = Champion.createAutoAttack(name);
+	}
+
+	/** New champion of this species at the given level, with full HP and fresh moves */
+	public Champion createInstance(int level) {
+		return new Champion(this, level);
+	}
+
+	ChampionStatTable getStatTable() {
+		ChampionStatTable table = statTable;
+		if (table == null) {
+			table = ChampionStatTable.build(name, championClass, maxHp, AD, AP, armor, magicResist);
+			statTable = table; // Same result on every thread, a lost race only builds it twice
+		}
+		return table;
+	}
+
+	/** Max HP of an instance at the given level, before items and stat stages */
+	public int getMaxHpAtLevel(int level) {
+		return getStatTable().maxHp[level];
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getImageName() {
+		return imageName;
+	}
+
+	public String getRegion() {
+		return region;
+	}
+
+	public String getRole() {
+		return role;
+	}
+
+	public String getRole2() {
+		return role2;
+	}
+
+	public ChampionClass getChampionClass() {
+		return championClass;
+	}
+
+	public ResourceType getResourceType() {
+		return resourceType;
+	}
+
+	public int getMaxResource() {
+		return maxResource;
+	}
+
+	public int getMaxHp() {
+		return maxHp;
+	}
+
+	public int getAD() {
+		return AD;
+	}
+
+	public int getAP() {
+		return AP;
+	}
+
+	public int getArmor() {
+		return armor;
+	}
+
+	public int getMagicResist() {
+		return magicResist;
+	}
+
+	public int getSpeed() {
+		return speed;
+	}
+
+	public int getCritChance() {
+		return critChance;
+	}
+
+	public int getLifesteal() {
+		return lifesteal;
+	}
+
+	public int getEvolveAt() {
+		return evolveAt;
+	}
+
+	public String getNextEvolution() {
+		return nextEvolution;
+	}
+
+	/** Move prototypes, read-only. Every instance holds its own copies. */
+	public List<Move> getMoves() {
+		return moves;
+	}
+
+	/** Passive prototype, null if the species has none */
+	public Passive getPassive() {
+		return passive;
+	}
+
+	public AutoAttack getAutoAttack() {
+		return autoAttack;
+	}
+}
@@ -0,0 +1,158 @@
+package Champions;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import constants.GameConstants;
+
+/**
+ * Level scaled stats of one champion, precomputed for every level so the getCurrent* stats
+ * are a plain array lookup.
+ *
+ * Everything that only depends on the species (League reference stats, class growth rates)
+ * is resolved once per species and shared; the per-level tables are built from the champion's
+ * own base stats and have to be rebuilt when those change (level up bonuses, upgrades, evolution).
+ */
+public class ChampionStatTable {
+
+	/** Tables are indexed directly by level, index 0 is unused */
+	private static final int LEVELS = GameConstants.MAX_CHAMPION_LEVEL + 1;
+
+	public final int[] maxHp = new int[LEVELS];
+	public final int[] ad = new int[LEVELS];
+	public final int[] ap = new int[LEVELS];
+	public final int[] armor = new int[LEVELS];
+	public final int[] magicResist = new int[LEVELS];
+
+	/**
+	 * Species data: League reference base stats (if the champion is in LeagueStatsReference)
+	 * and the level multipliers of each stat, 1.0 + growthRate * (level - 1).
+	 */
+	private static class Species {
+		final LeagueStatsReference.ChampionStats reference;
+		final double[] hpScale = new double[LEVELS];
+		final double[] adScale = new double[LEVELS];
+		final double[] apScale = new double[LEVELS];
+		final double[] armorScale = new double[LEVELS];
+		final double[] mrScale = new double[LEVELS];
+
+		Species(String name, ChampionClass championClass) {
+			reference = findReference(name);
+			double hpRate = hpGrowthRate(championClass);
+			double adRate = adGrowthRate(championClass);
+			double apRate = apGrowthRate(name, championClass);
+			double armorRate = defenseGrowthRate(championClass);
+			for (int level = 1; level < LEVELS; level++) {
+				hpScale[level] = 1.0 + hpRate * (level - 1);
+				adScale[level] = 1.0 + adRate * (level - 1);
+				apScale[level] = 1.0 + apRate * (level - 1);
+				armorScale[level] = 1.0 + armorRate * (level - 1);
+				mrScale[level] = 1.0 + armorRate * (level - 1);
+			}
+		}
+	}
+
+	private static final ConcurrentHashMap<String, Species> SPECIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Build the tables for a champion from its own base stats.
+	 * Reference stats from LeagueStatsReference take precedence over AD, AP, armor and magic resist.
+	 */
+	public static ChampionStatTable build(String name, ChampionClass championClass, int baseHp, int baseAD, int baseAP,
+			int baseArmor, int baseMagicResist) {
+		Species species = SPECIES.computeIfAbsent(name + "|" + championClass, key -> new Species(name, championClass));
+		LeagueStatsReference.ChampionStats reference = species.reference;
+		if (reference != null) {
+			baseAD = reference.attackDamage;
+			baseAP = reference.abilityPower;
+			baseArmor = reference.armor;
+			baseMagicResist = reference.magicResist;
+		}
+
+		ChampionStatTable table = new ChampionStatTable();
+		for (int level = 1; level < LEVELS; level++) {
+			table.maxHp[level] = (int)(baseHp * species.hpScale[level]);
+			table.ad[level] = (int)(baseAD * species.adScale[level]);
+			table.ap[level] = (int)(baseAP * species.apScale[level]);
+			table.armor[level] = (int)(baseArmor * species.armorScale[level]);
+			table.magicResist[level] = (int)(baseMagicResist * species.mrScale[level]);
+		}
+		return table;
+	}
+
+	private static LeagueStatsReference.ChampionStats findReference(String name) {
+		for (LeagueStatsReference.ChampionStats stats : LeagueStatsReference.CHAMPION_STATS) {
+			if (stats.name.equals(name)) {
+				return stats;
+			}
+		}
+		return null; // Use the champion's JSON values
+	}
+
+	// ==================== GROWTH RATES ====================
+
+	/**
+	 * HP exponential growth rate per level based on champion class
+	 */
+	private static double hpGrowthRate(ChampionClass championClass) {
+		switch (championClass) {
+			case TANK:
+				return 0.08;      // 8% per level - becomes fortress
+			case FIGHTER:
+				return 0.06;   // 6% per level - beefy bruiser
+			case ASSASSIN:
+				return 0.05;  // 5% per level - mobile glass
+			case MAGE:
+				return 0.05;      // 5% per level - burst glass
+			case SUPPORT:
+				return 0.06;   // 6% per level - utility
+			case MARKSMAN:
+				return 0.04;  // 4% per level - ultimate glass
+		}
+		return 0.05; // Default fallback
+	}
+
+	/**
+	 * AD exponential growth rate per level based on champion class - BALANCED EXTREME SCALING
+	 */
+	private static double adGrowthRate(ChampionClass championClass) {
+		switch (championClass) {
+			case MARKSMAN:
+				return 0.15;  // 15% per level - DPS king
+			case ASSASSIN:
+				return 0.13;  // 13% per level - burst assassin
+			case FIGHTER:
+				return 0.10;   // 10% per level - sustained damage
+			case TANK:
+				return 0.07;      // 7% per level - moderate damage
+			case SUPPORT:
+				return 0.04;   // 4% per level - minimal damage
+			case MAGE:
+				return 0.03;      // 3% per level - focus on AP instead
+		}
+		return 0.05; // Default fallback
+	}
+
+	/**
+	 * AP growth rate per level, only AP-based classes scale their AP
+	 */
+	private static double apGrowthRate(String name, ChampionClass championClass) {
+		if (championClass == ChampionClass.MAGE) {
+			return 0.17; // 17% per level - stronger than MARKSMAN AD
+		} else if (championClass == ChampionClass.ASSASSIN && (name.equals("Akali") || name.equals("Katarina") || name.equals("Diana"))) {
+			return 0.13; // 13% per level like ASSASSIN AD
+		} else if (championClass == ChampionClass.SUPPORT) {
+			return 0.04; // 4% per level like SUPPORT AD
+		}
+		return 0.0; // Other classes stay at base AP
+	}
+
+	/**
+	 * Armor and magic resist exponential growth rate per level based on champion class
+	 */
+	private static double defenseGrowthRate(ChampionClass championClass) {
+		return switch (championClass) {
+			case TANK -> 0.08;      // 8% per level - fortress
+			default -> 0.03;        // 3% per level - moderate defense
+		};
+	}
+}
@@ -1,6 +1,7 @@
 package Champions;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Move {
 
@@ -122,6 +123,44 @@ public class Move {
         this.upgradeLevel = 0;
     }
     
+    // Copy constructor, see copy()
+    private Move(Move other) {
+        this.name = other.name;
+        this.type = other.type;
+        this.power = other.power;
+        this.accuracy = other.accuracy;
+        this.manaCost = other.manaCost;
+        this.resourceGeneration = other.resourceGeneration;
+        this.baseDamages = other.baseDamages;
+        this.adRatio = other.adRatio;
+        this.apRatio = other.apRatio;
+        this.currentLevel = other.currentLevel;
+        this.effect = other.effect;
+        this.effectChance = other.effectChance;
+        this.statusEffects = new java.util.ArrayList<>(other.statusEffects.size());
+        for (StatusEffect statusEffect : other.statusEffects) {
+            this.statusEffects.add(statusEffect.copy());
+        }
+        this.appliesStatusToSelf = other.appliesStatusToSelf;
+        this.speedStageChange = other.speedStageChange;
+        this.attackStageChange = other.attackStageChange;
+        this.armorStageChange = other.armorStageChange;
+        this.apStageChange = other.apStageChange;
+        this.magicResistStageChange = other.magicResistStageChange;
+        this.targetsSelf = other.targetsSelf;
+        this.isUltimate = other.isUltimate;
+        this.ultimateCooldown = other.ultimateCooldown;
+        this.upgradeDamageBonus = other.upgradeDamageBonus;
+        this.upgradeAdRatioBonus = other.upgradeAdRatioBonus;
+        this.upgradeApRatioBonus = other.upgradeApRatioBonus;
+        this.upgradeLevel = other.upgradeLevel;
+    }
+    
+    // Independent copy with the same cooldown and upgrades (status effects are copied too)
+    public Move copy() {
+        return new Move(this);
+    }
+    
     // Constructor with stat stage changes
     public Move(String name, String type, int power, int accuracy, int manaCost, String effect, int effectChance,
                 int speedChange, int attackChange, int armorChange, int apChange, int magicResistChange, boolean targetsSelf) {
@@ -157,36 +196,39 @@ public class Move {
     
     // Convenience constructor with difficulty-based accuracy
     public Move(String name, String type, int power, String difficulty, int manaCost, String effect, int effectChance, boolean isUltimate) {
-        this(name, type, power, getDifficultyAccuracy(difficulty), manaCost, effect, effectChance, isUltimate);
+        this(name, type, power, getDifficultyAccuracy(name, difficulty), manaCost, effect, effectChance, isUltimate);
     }
     
     // Convenience constructor with difficulty-based accuracy (non-ultimate)
     public Move(String name, String type, int power, String difficulty, int manaCost, String effect, int effectChance) {
-        this(name, type, power, getDifficultyAccuracy(difficulty), manaCost, effect, effectChance, false);
+        this(name, type, power, getDifficultyAccuracy(name, difficulty), manaCost, effect, effectChance, false);
     }
     
     // Helper method to convert difficulty to accuracy percentage
-    private static int getDifficultyAccuracy(String difficulty) {
+    // The roll is seeded by the move name, so a move has the same accuracy in every session
+    // (battles replayed from a seed depend on it)
+    private static int getDifficultyAccuracy(String name, String difficulty) {
+        SplittableRandom random = new SplittableRandom(name.hashCode());
         switch (difficulty.toLowerCase()) {
             case "easy":
             case "guaranteed": 
-                return 98 + (int)(Math.random() * 3); // 98-100%
+                return 98 + random.nextInt(3); // 98-100%
             case "medium":
             case "normal":
-                return 93 + (int)(Math.random() * 8); // 93-100%
+                return 93 + random.nextInt(8); // 93-100%
             case "hard":
-                return 90 + (int)(Math.random() * 11); // 90-100%
+                return 90 + random.nextInt(11); // 90-100%
             case "very hard":
             case "veryhard":
-                return 90 + (int)(Math.random() * 6); // 90-95%
+                return 90 + random.nextInt(6); // 90-95%
             case "ult_easy":
-                return 85 + (int)(Math.random() * 16); // 85-100% for easy ultimates
+                return 85 + random.nextInt(16); // 85-100% for easy ultimates
             case "ult_medium":
-                return 75 + (int)(Math.random() * 16); // 75-90% for medium ultimates
+                return 75 + random.nextInt(16); // 75-90% for medium ultimates
             case "ult_hard":
-                return 60 + (int)(Math.random() * 21); // 60-80% for hard ultimates
+                return 60 + random.nextInt(21); // 60-80% for hard ultimates
             case "ult_very_hard":
-                return 45 + (int)(Math.random() * 21); // 45-65% for very hard ultimates
+                return 45 + random.nextInt(21); // 45-65% for very hard ultimates
             default:
                 return 95; // Default high accuracy
         }
@@ -315,9 +357,8 @@ public class Move {
         ultimateCooldown = 0;
     }
 
-    public boolean applyEffect() {
+    public boolean applyEffect(RandomGenerator random) {
         if (effect != null && effectChance > 0) {
-            Random random = new Random();
             int chance = random.nextInt(100) + 1;
             return chance <= effectChance;
         }
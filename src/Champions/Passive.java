@@ -1,5 +1,7 @@
 package Champions;
 
+import java.util.random.RandomGenerator;
+
 public class Passive {
     
     private String name;
@@ -82,6 +84,16 @@ public class Passive {
         this.turnCounter = 0;
     }
     
+    // Independent copy with the same cooldown, stacks and turn counter
+    public Passive copy() {
+        Passive copy = new Passive(name, description, type, value, value2, triggerChance, maxCooldown, maxStacks, 0);
+        copy.cooldown = cooldown;
+        copy.stacks = stacks;
+        copy.usedThisBattle = usedThisBattle;
+        copy.turnCounter = turnCounter;
+        return copy;
+    }
+    
     // Getters
     public String getName() { return name; }
     public String getDescription() { return description; }
@@ -145,8 +157,8 @@ public class Passive {
         turnCounter = 0;
     }
     
-    // Check if passive should trigger
-    public boolean shouldTrigger() {
+    // Check if passive should trigger (chance passives roll on the battle's random stream)
+    public boolean shouldTrigger(RandomGenerator random) {
         // Check cooldown
         if (isOnCooldown()) return false;
         
@@ -161,7 +173,7 @@ public class Passive {
         // Check trigger chance
         if (triggerChance >= 100) return true;
         if (triggerChance <= 0) return false;
-        return Math.random() * 100 < triggerChance;
+        return random.nextInt(100) < triggerChance;
     }
     
     // Reset passive state for new battle
@@ -41,6 +41,13 @@ public class StatusEffect {
         this.description = description;
     }
     
+    // Independent copy with the same remaining duration
+    public StatusEffect copy() {
+        StatusEffect copy = new StatusEffect(type, value, duration, name, description);
+        copy.maxDuration = maxDuration;
+        return copy;
+    }
+    
     // Reduce duration by 1 turn
     public void reduceDuration() {
         if (duration > 0) {
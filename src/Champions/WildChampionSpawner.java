@@ -3,14 +3,14 @@ package Champions;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import main.GamePanel;
 
 public class WildChampionSpawner {
 
     private GamePanel gamePanel;
-    private Random random = new Random();
+    private SplittableRandom random = battle.BattleRandom.create("Wild champion spawner");
     
     private int previousTileX = -1;
     private int previousTileY = -1;
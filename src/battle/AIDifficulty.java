@@ -0,0 +1,23 @@
+package battle;
+
+/**
+ * How hard wild champions fight back: the time the search AI may think per turn.
+ * EASY keeps the engine's quick built in AI (random moves, auto attacks when they pay off).
+ */
+public enum AIDifficulty {
+	EASY(0),
+	NORMAL(40),
+	HARD(150),
+	EXPERT(400);
+
+	/** Search budget per turn, well below the 2 seconds a turn's messages stay on screen */
+	public final int budgetMillis;
+
+	AIDifficulty(int budgetMillis) {
+		this.budgetMillis = budgetMillis;
+	}
+
+	public boolean usesSearch() {
+		return budgetMillis > 0;
+	}
+}
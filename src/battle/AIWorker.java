@@ -0,0 +1,77 @@
+package battle;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import Champions.Champion;
+
+/**
+ * Runs a BattleAI on its own background thread so the game loop never waits for a decision.
+ *
+ * request() copies the champions on the calling thread (the AI never sees the live objects)
+ * and starts the search with a deadline; poll() returns the answer once it is there and
+ * NO_ACTION otherwise, it never blocks.
+ */
+public class AIWorker {
+
+	/** poll() result while no decision is ready */
+	public static final int NO_ACTION = Integer.MIN_VALUE;
+
+	private final BattleAI ai;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "battle-ai");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private Future<Integer> pending = null;
+
+	public AIWorker(BattleAI ai) {
+		this.ai = ai;
+	}
+
+	/** Start deciding for self against opponent, replacing any unfinished request */
+	public void request(Champion self, Champion opponent, int turnCount, int budgetMillis) {
+		cancel();
+		Champion selfCopy = self.copyForSimulation();
+		Champion opponentCopy = opponent.copyForSimulation();
+		long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+		pending = executor.submit(() -> ai.chooseAction(selfCopy, opponentCopy, turnCount, deadline));
+	}
+
+	public boolean hasRequest() {
+		return pending != null;
+	}
+
+	/** @return the decided action (and forget the request), or NO_ACTION if it is not ready yet */
+	public int poll() {
+		if (pending == null || !pending.isDone()) {
+			return NO_ACTION;
+		}
+		try {
+			return pending.get();
+		} catch (ExecutionException e) {
+			System.out.println("AI search failed: " + e.getCause());
+			return NO_ACTION;
+		} catch (InterruptedException | CancellationException e) {
+			return NO_ACTION;
+		} finally {
+			pending = null;
+		}
+	}
+
+	/** Drop the current request, the search stops on its own at its deadline */
+	public void cancel() {
+		if (pending != null) {
+			pending.cancel(false);
+			pending = null;
+		}
+	}
+
+	public void shutdown() {
+		cancel();
+		executor.shutdownNow();
+	}
+}
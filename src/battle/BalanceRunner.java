@@ -0,0 +1,340 @@
+package battle;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import Champions.Champion;
+import Champions.ChampionFactory;
+
+/**
+ * Batch balance tool: fights N seeded AI vs AI battles for every ordered pair of champions
+ * in the roster and writes the results as CSV.
+ *
+ * Rows of the matrix (one player champion against every enemy) are spread over a ForkJoinPool.
+ * Every worker thread builds its own roster once and reuses it, together with one engine that
+ * is reseeded per battle, so the battle loop itself allocates very little and a battle's outcome
+ * only depends on the seed, champion pair and battle number.
+ *
+ * Output per level, in the output directory:
+ *   winrate_L{level}.csv  win rate of the row champion (player side) against the column champion
+ *   pairs_L{level}.csv    wins, losses, draws, average turns and damage for every ordered pair
+ *   damage_L{level}.csv   distribution of the damage each champion dealt per battle
+ *
+ * Usage: java -cp bin:res battle.BalanceRunner [--battles N] [--levels 10,20,30] [--seed S]
+ *        [--max-turns T] [--threads P] [--out dir]
+ */
+public class BalanceRunner {
+
+	// ==================== CONFIGURATION ====================
+
+	private static final int DEFAULT_BATTLES = 100;
+	private static final int DEFAULT_LEVEL = 20;
+	private static final int DEFAULT_MAX_TURNS = 200;
+	private static final long DEFAULT_SEED = 20240101L;
+
+	/** Width of one damage histogram bucket; the last bucket holds everything above the range */
+	private static final int DAMAGE_BUCKET_SIZE = 250;
+	private static final int DAMAGE_BUCKETS = 25;
+
+	private int battlesPerPair = DEFAULT_BATTLES;
+	private int[] levels = {DEFAULT_LEVEL};
+	private int maxTurns = DEFAULT_MAX_TURNS;
+	private long seed = DEFAULT_SEED;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private String outDir = "balance";
+
+	private PrintStream log = System.out;
+
+	/** Everything one worker thread needs to fight battles without allocating */
+	private static class Worker {
+		final List<Champion> roster = ChampionFactory.createAllChampions();
+		final BattleEngine engine = new BattleEngine(0);
+		int level = -1;
+
+		void setLevel(int level) {
+			if (this.level != level) {
+				for (Champion champion : roster) {
+					champion.setLevel(level);
+				}
+				this.level = level;
+			}
+		}
+	}
+
+	private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+	/**
+	 * Results of one level. Per pair arrays are indexed [player * n + enemy]; a row is only ever
+	 * written by the task that fights it, so no locking is needed.
+	 */
+	public static class Results {
+		public final int level;
+		public final int n;
+		public final String[] names;
+		public final int[] wins;
+		public final int[] losses;
+		public final int[] draws;
+		public final long[] turns;
+		public final long[] damageDealt;
+		public final long[] damageTaken;
+		/** Per champion (as the player side), battles per damage bucket */
+		public final int[][] damageHistogram;
+
+		Results(int level, List<Champion> roster) {
+			this.level = level;
+			this.n = roster.size();
+			this.names = new String[n];
+			for (int i = 0; i < n; i++) {
+				names[i] = roster.get(i).getName();
+			}
+			wins = new int[n * n];
+			losses = new int[n * n];
+			draws = new int[n * n];
+			turns = new long[n * n];
+			damageDealt = new long[n * n];
+			damageTaken = new long[n * n];
+			damageHistogram = new int[n][DAMAGE_BUCKETS];
+		}
+
+		public int battles(int pair) {
+			return wins[pair] + losses[pair] + draws[pair];
+		}
+	}
+
+	// ==================== RUNNING ====================
+
+	/** Fight every ordered pair at the given level */
+	public Results run(int level) {
+		Worker main = workers.get();
+		Results results = new Results(level, main.roster);
+		AtomicInteger rowsDone = new AtomicInteger();
+
+		long start = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			pool.invoke(new RowTask(results, 0, results.n, rowsDone));
+		} finally {
+			pool.shutdown();
+		}
+		long battles = (long) results.n * (results.n - 1) * battlesPerPair;
+		double seconds = (System.nanoTime() - start) / 1e9;
+		log.println(String.format(Locale.ROOT, "Level %d: %d battles in %.1f s (%.0f battles/s, %d threads)",
+				level, battles, seconds, battles / seconds, threads));
+		return results;
+	}
+
+	// Splits the player rows in half until one row is left
+	private class RowTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Results results;
+		private final int from;
+		private final int to;
+		private final AtomicInteger rowsDone;
+
+		RowTask(Results results, int from, int to, AtomicInteger rowsDone) {
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.rowsDone = rowsDone;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new RowTask(results, from, mid, rowsDone), new RowTask(results, mid, to, rowsDone));
+				return;
+			}
+			runRow(results, from);
+			int done = rowsDone.incrementAndGet();
+			if (done % Math.max(1, results.n / 10) == 0 || done == results.n) {
+				log.println("  " + done + "/" + results.n + " champions done");
+			}
+		}
+	}
+
+	private void runRow(Results results, int player) {
+		Worker worker = workers.get();
+		worker.setLevel(results.level);
+		int n = results.n;
+		Champion blue = worker.roster.get(player);
+		int[] histogram = results.damageHistogram[player];
+
+		for (int enemy = 0; enemy < n; enemy++) {
+			if (enemy == player) {
+				continue; // A roster holds one copy of each champion, so no mirror matches
+			}
+			Champion red = worker.roster.get(enemy);
+			int pair = player * n + enemy;
+			for (int battle = 0; battle < battlesPerPair; battle++) {
+				worker.engine.setSeed(battleSeed(player, enemy, battle));
+				restore(blue);
+				restore(red);
+
+				int winner = worker.engine.simulate(blue, red, maxTurns);
+				if (winner == BattleEngine.PLAYER) {
+					results.wins[pair]++;
+				} else if (winner == BattleEngine.ENEMY) {
+					results.losses[pair]++;
+				} else {
+					results.draws[pair]++;
+				}
+				results.turns[pair] += worker.engine.getTurnCount();
+				int dealt = worker.engine.getDamageDealt(BattleEngine.PLAYER);
+				results.damageDealt[pair] += dealt;
+				results.damageTaken[pair] += worker.engine.getDamageDealt(BattleEngine.ENEMY);
+				histogram[Math.min(DAMAGE_BUCKETS - 1, dealt / DAMAGE_BUCKET_SIZE)]++;
+			}
+		}
+	}
+
+	// Every battle gets its own seed, so results do not depend on which thread fought it
+	private long battleSeed(int player, int enemy, int battle) {
+		long h = seed;
+		h = h * 0x9E3779B97F4A7C15L + player;
+		h = h * 0x9E3779B97F4A7C15L + enemy;
+		h = h * 0x9E3779B97F4A7C15L + battle;
+		return h ^ (h >>> 31);
+	}
+
+	// Full HP and resource, no stat stages or shield (passives and status effects are reset by the engine)
+	private static void restore(Champion champion) {
+		champion.setCurrentHp(champion.getCurrentMaxHP());
+		champion.setCurrentResource(champion.getResourceType().isConsumable() ? champion.getMaxResource() : 0);
+		champion.resetStatStages();
+		champion.setShieldAmount(0);
+	}
+
+	// ==================== CSV OUTPUT ====================
+
+	public void write(Results results) throws IOException {
+		File dir = new File(outDir);
+		dir.mkdirs();
+		int n = results.n;
+
+		try (PrintWriter out = new PrintWriter(new FileWriter(new File(dir, "winrate_L" + results.level + ".csv")))) {
+			StringBuilder line = new StringBuilder("player\\enemy");
+			for (int j = 0; j < n; j++) {
+				line.append(',').append(csv(results.names[j]));
+			}
+			out.println(line);
+			for (int i = 0; i < n; i++) {
+				line.setLength(0);
+				line.append(csv(results.names[i]));
+				for (int j = 0; j < n; j++) {
+					line.append(',');
+					int pair = i * n + j;
+					if (i != j) {
+						line.append(format(results.wins[pair] / (double) results.battles(pair)));
+					}
+				}
+				out.println(line);
+			}
+		}
+
+		try (PrintWriter out = new PrintWriter(new FileWriter(new File(dir, "pairs_L" + results.level + ".csv")))) {
+			out.println("player,enemy,battles,wins,losses,draws,winRate,avgTurns,avgDamageDealt,avgDamageTaken");
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					if (i == j) {
+						continue;
+					}
+					int pair = i * n + j;
+					double battles = results.battles(pair);
+					out.println(csv(results.names[i]) + "," + csv(results.names[j]) + "," + results.battles(pair) + ","
+							+ results.wins[pair] + "," + results.losses[pair] + "," + results.draws[pair] + ","
+							+ format(results.wins[pair] / battles) + "," + format(results.turns[pair] / battles) + ","
+							+ format(results.damageDealt[pair] / battles) + "," + format(results.damageTaken[pair] / battles));
+				}
+			}
+		}
+
+		try (PrintWriter out = new PrintWriter(new FileWriter(new File(dir, "damage_L" + results.level + ".csv")))) {
+			StringBuilder line = new StringBuilder("champion,battles,avgDamageDealt,winRate");
+			for (int b = 0; b < DAMAGE_BUCKETS; b++) {
+				int low = b * DAMAGE_BUCKET_SIZE;
+				line.append(',').append(b == DAMAGE_BUCKETS - 1 ? low + "+" : low + "-" + (low + DAMAGE_BUCKET_SIZE - 1));
+			}
+			out.println(line);
+			for (int i = 0; i < n; i++) {
+				long battles = 0;
+				long wins = 0;
+				long damage = 0;
+				for (int j = 0; j < n; j++) {
+					int pair = i * n + j;
+					battles += results.battles(pair);
+					wins += results.wins[pair];
+					damage += results.damageDealt[pair];
+				}
+				line.setLength(0);
+				line.append(csv(results.names[i])).append(',').append(battles).append(',')
+						.append(format(battles == 0 ? 0 : damage / (double) battles)).append(',')
+						.append(format(battles == 0 ? 0 : wins / (double) battles));
+				for (int count : results.damageHistogram[i]) {
+					line.append(',').append(count);
+				}
+				out.println(line);
+			}
+		}
+		log.println("Results written to: " + dir.getPath());
+	}
+
+	private static String csv(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.4f", value);
+	}
+
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+
+		BalanceRunner runner = new BalanceRunner();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--battles": runner.battlesPerPair = Integer.parseInt(args[++i]); break;
+				case "--max-turns": runner.maxTurns = Integer.parseInt(args[++i]); break;
+				case "--seed": runner.seed = Long.parseLong(args[++i]); break;
+				case "--threads": runner.threads = Integer.parseInt(args[++i]); break;
+				case "--out": runner.outDir = args[++i]; break;
+				case "--levels":
+					String[] parts = args[++i].split(",");
+					runner.levels = new int[parts.length];
+					for (int p = 0; p < parts.length; p++) {
+						runner.levels[p] = Integer.parseInt(parts[p].trim());
+					}
+					break;
+				default:
+					System.err.println("Unknown option: " + args[i]);
+					System.exit(2);
+			}
+		}
+
+		// Champion creation and level changes log a lot, keep the report readable
+		runner.log = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			runner.log.println("Balance run: " + runner.battlesPerPair + " battles per pair, max " + runner.maxTurns
+					+ " turns, seed " + runner.seed);
+			for (int level : runner.levels) {
+				runner.write(runner.run(level));
+			}
+		} finally {
+			System.setOut(runner.log);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package battle;
+
+import Champions.Champion;
+
+/**
+ * Decision maker for an AI controlled champion. Implementations are run on the AIWorker thread
+ * and only get copies of the battle state, so they are free to modify them.
+ */
+public interface BattleAI {
+
+	/** Action value for the basic attack; any other action is the index of a move */
+	int AUTO_ATTACK = -1;
+
+	/**
+	 * Pick the next action of self against opponent.
+	 * @param turnCount turns played in the battle so far
+	 * @param deadline System.nanoTime() by which the answer is needed
+	 * @return {@link #AUTO_ATTACK} or an index into self.getMoves()
+	 */
+	int chooseAction(Champion self, Champion opponent, int turnCount, long deadline);
+}
@@ -0,0 +1,1832 @@
+package battle;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import Champions.Champion;
+import Champions.Move;
+import Champions.Passive;
+import Champions.Passive.PassiveType;
+import Champions.StatusEffect;
+
+/**
+ * Turn rules of a 1v1 champion battle, with no rendering, input or frame timing.
+ * The engine owns the two fighters and a seedable random stream (every roll of the battle,
+ * auto attacks and passives included, comes from it); every action resolves immediately
+ * and returns a {@link TurnResult} with the battle log lines it produced. BattleManager feeds
+ * it the player's choices and paces the results on screen, while simulations can run whole
+ * battles in a loop with {@link #simulate(Champion, Champion, int)}.
+ */
+public class BattleEngine {
+
+	// ==================== SIDES ====================
+
+	public static final int PLAYER = 0;
+	public static final int ENEMY = 1;
+	/** Message side for lines not said by either fighter */
+	public static final int NEUTRAL = -1;
+
+	/** Winner value of {@link #simulate} when neither side fainted within the turn limit */
+	public static final int DRAW = -1;
+
+	// Reusable damage result to avoid allocations
+	public static class DamageResult {
+		public int damage = 0;
+		public boolean isCrit = false;
+		public boolean isMiss = false;
+
+		void setMiss() {
+			damage = 0;
+			isCrit = false;
+			isMiss = true;
+		}
+
+		void setHit(int dmg, boolean crit) {
+			damage = dmg;
+			isCrit = crit;
+			isMiss = false;
+		}
+	}
+
+	private final Champion[] fighters = new Champion[2];
+	private RandomGenerator random;
+	// Seed of the current stream when it was set with setSeed, recorded with BATTLE_START
+	private long seed;
+
+	/** Print the detailed damage breakdown of every move to the console */
+	private boolean verbose = false;
+
+	private final TurnResult result = new TurnResult();
+	private final DamageResult damageResult = new DamageResult();
+	// Last damage preview of each move, see previewDamage
+	private final IdentityHashMap<Move, DamagePreview> previews = new IdentityHashMap<>();
+	private final StringBuilder mainMessage = new StringBuilder(256);
+	private final StringBuilder tempMessage = new StringBuilder(128);
+	private final StringBuilder passiveMessage = new StringBuilder(128);
+
+	// Sides (bit 1 << side) whose passive listens to each trigger, indexed by PassiveType ordinal.
+	// Rebuilt whenever a champion enters the battle.
+	private final int[] passiveListeners = new int[PassiveType.values().length];
+	// HP each side had when its HP threshold passive was last checked
+	private final int[] thresholdHp = new int[2];
+
+	// AI move caching to avoid rebuilding the usable move list every turn
+	private final List<List<Move>> cachedAIMoves = List.of(new ArrayList<>(4), new ArrayList<>(4));
+	private final boolean[] aiMovesCacheValid = new boolean[2];
+	private final int[] lastAIResource = {-1, -1};
+
+	// Run away attempt tracking
+	private int runAttempts = 0;
+
+	// Turn priority caching system
+	private enum TurnOrder { PLAYER_FIRST, ENEMY_FIRST, SPEED_CHECK_NEEDED }
+	private TurnOrder baseTurnOrder = TurnOrder.SPEED_CHECK_NEEDED;
+	private int lastPlayerSpeed = -1;
+	private int lastEnemySpeed = -1;
+
+	private int turnCount = 0;
+	// Damage each side dealt with moves and auto attacks this battle
+	private final int[] damageDealt = new int[2];
+
+	// Event log of the current battle, null when the caller does not record events
+	private BattleEventLog eventLog;
+	private final int[] loggedHp = new int[2];
+	private final boolean[] loggedFaint = new boolean[2];
+
+	public BattleEngine(RandomGenerator random) {
+		this.random = random;
+	}
+
+	public BattleEngine(long seed) {
+		setSeed(seed);
+	}
+
+	public void setRandom(RandomGenerator random) {
+		this.random = random;
+	}
+
+	/** Roll the following battles from a new stream, the same seed gives the same rolls */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public RandomGenerator getRandom() {
+		return random;
+	}
+
+	public void setVerbose(boolean verbose) {
+		this.verbose = verbose;
+	}
+
+	/** Record every action of the following battles into the log (cleared on start), null to stop */
+	public void setEventLog(BattleEventLog eventLog) {
+		this.eventLog = eventLog;
+	}
+
+	public BattleEventLog getEventLog() {
+		return eventLog;
+	}
+
+	// ==================== BATTLE SETUP ====================
+
+	/**
+	 * Start a battle between two champions (levels must already be set).
+	 * Resets passive states and triggers start of battle passives.
+	 */
+	public TurnResult start(Champion player, Champion enemy) {
+		fighters[PLAYER] = player;
+		fighters[ENEMY] = enemy;
+		runAttempts = 0;
+		turnCount = 0;
+		damageDealt[PLAYER] = 0;
+		damageDealt[ENEMY] = 0;
+		invalidateSpeedCache();
+		invalidateAIMoveCache(PLAYER);
+		invalidateAIMoveCache(ENEMY);
+		previews.clear();
+
+		result.clear(NEUTRAL);
+
+		if (eventLog != null) {
+			eventLog.clear();
+			event(BattleEventLog.BATTLE_START, NEUTRAL, (int) (seed >>> 32), (int) seed);
+			logSendOut(PLAYER);
+			logSendOut(ENEMY);
+		}
+
+		// Reset passive states for new battle
+		player.resetPassiveStates();
+		enemy.resetPassiveStates();
+
+		registerPassives();
+		thresholdHp[PLAYER] = -1;
+		thresholdHp[ENEMY] = -1;
+
+		// Trigger start of battle passives
+		firePassives(PassiveType.START_OF_BATTLE);
+		afterAction();
+		return result;
+	}
+
+	/**
+	 * Take over a battle that is already in progress (champion state, passives and status effects
+	 * are kept as they are). Used by the search AI to play on from copies of the current state.
+	 */
+	public void continueFrom(Champion player, Champion enemy, int turnCount) {
+		fighters[PLAYER] = player;
+		fighters[ENEMY] = enemy;
+		runAttempts = 0;
+		this.turnCount = turnCount;
+		damageDealt[PLAYER] = 0;
+		damageDealt[ENEMY] = 0;
+		invalidateSpeedCache();
+		invalidateAIMoveCache(PLAYER);
+		invalidateAIMoveCache(ENEMY);
+		loggedHp[PLAYER] = -1;
+		loggedHp[ENEMY] = -1;
+		registerPassives();
+		thresholdHp[PLAYER] = player.getCurrentHp();
+		thresholdHp[ENEMY] = enemy.getCurrentHp();
+	}
+
+	public Champion getChampion(int side) {
+		return fighters[side];
+	}
+
+	public int getTurnCount() {
+		return turnCount;
+	}
+
+	/** @return damage the side dealt with moves and auto attacks since the battle started */
+	public int getDamageDealt(int side) {
+		return damageDealt[side];
+	}
+
+	/** Name used in battle messages, wild champions are prefixed with "Wild" */
+	public String displayName(int side) {
+		return side == ENEMY ? "Wild " + fighters[side].getName() : fighters[side].getName();
+	}
+
+	private static int opponent(int side) {
+		return 1 - side;
+	}
+
+	// ==================== ACTIONS ====================
+
+	/**
+	 * Use one of the champion's moves. If the move cannot be used (resource, cooldown) the
+	 * turn is not consumed and the result explains why.
+	 */
+	public TurnResult useMove(int side, Move move) {
+		result.clear(side);
+		Champion self = fighters[side];
+		if (!self.canUseMove(move)) {
+			if (move.getManaCost() > self.getCurrentResource()) {
+				result.add(side, "Not enough " + self.getResourceName() + "! (" +
+						move.getManaCost() + " needed, " +
+						self.getCurrentResource() + " available)");
+			} else if (move.isUltimateOnCooldown()) {
+				result.add(side, move.getName() + " is on cooldown! (" + move.getUltimateCooldown() + " turns left)");
+			}
+			return result;
+		}
+
+		StringBuilder statusMessage = beginTurn(side);
+		if (statusMessage != null) {
+			executeMove(side, move, statusMessage, startOfTurnPassives(side));
+		}
+		afterAction();
+		return result;
+	}
+
+	/** Basic attack, with a bonus attack for fast attackers */
+	public TurnResult autoAttack(int side) {
+		result.clear(side);
+		StringBuilder statusMessage = beginTurn(side);
+		if (statusMessage != null) {
+			executeAutoAttack(side, statusMessage, startOfTurnPassives(side));
+		}
+		afterAction();
+		return result;
+	}
+
+	/** Let the AI pick between its auto attack and a random usable move */
+	public TurnResult aiTurn(int side) {
+		result.clear(side);
+		StringBuilder statusMessage = beginTurn(side);
+		if (statusMessage == null) {
+			afterAction();
+			return result;
+		}
+		StringBuilder startTurnMessage = startOfTurnPassives(side);
+
+		// Enhanced AI: choose between moves and auto attacks
+		List<Move> availableMoves = getAIAvailableMoves(side);
+
+		if (decideAIAutoAttack(side, availableMoves)) {
+			executeAutoAttack(side, statusMessage, startTurnMessage);
+		} else if (!availableMoves.isEmpty()) {
+			Move aiMove = availableMoves.get(random.nextInt(availableMoves.size()));
+			executeMove(side, aiMove, statusMessage, startTurnMessage);
+		} else {
+			result.add(side, displayName(side) + " has no moves left!");
+		}
+		afterAction();
+		return result;
+	}
+
+	/**
+	 * Perform an action picked by a BattleAI: {@link BattleAI#AUTO_ATTACK} or a move index.
+	 * Falls back to the built in AI if the move cannot be used (anymore).
+	 */
+	public TurnResult act(int side, int action) {
+		Champion self = fighters[side];
+		if (action == BattleAI.AUTO_ATTACK) {
+			return autoAttack(side);
+		}
+		if (action >= 0 && action < self.getMoves().size() && self.canUseMove(self.getMoves().get(action))) {
+			return useMove(side, self.getMoves().get(action));
+		}
+		return aiTurn(side);
+	}
+
+	/** Try to flee from the wild champion, every failed attempt makes the next one easier */
+	public TurnResult attemptRun() {
+		result.clear(PLAYER);
+		if (rollRun()) {
+			result.escaped = true;
+			result.add(NEUTRAL, "Got away safely!");
+			event(BattleEventLog.RUN, NEUTRAL, 1, 0);
+		} else {
+			event(BattleEventLog.RUN, NEUTRAL, 0, 0);
+			runAttempts++; // Increment failed attempts
+			result.add(NEUTRAL, "Couldn't escape!");
+			// Failed escape counts as player's turn
+			result.acted = true;
+			turnCount++;
+		}
+		return result;
+	}
+
+	/** Replace the player's active champion, this uses up the turn */
+	public TurnResult swap(Champion newChampion) {
+		result.clear(PLAYER);
+		Champion oldChampion = fighters[PLAYER];
+		fighters[PLAYER] = newChampion;
+		invalidateSpeedCache();
+		invalidateAIMoveCache(PLAYER);
+
+		result.add(NEUTRAL, oldChampion.getName() + " was swapped out!");
+		result.add(NEUTRAL, "Go, " + newChampion.getName() + "!");
+		result.acted = true;
+		turnCount++;
+		registerPassives();
+		thresholdHp[PLAYER] = -1;
+		logSendOut(PLAYER);
+		afterAction();
+		return result;
+	}
+
+	/**
+	 * Apply an item (ItemCatalog id) on the player's champion. The turn is only used up if the
+	 * item had an effect; removing the item from the inventory is up to the caller.
+	 */
+	public TurnResult useItem(int itemId) {
+		result.clear(PLAYER);
+		item.ItemCatalog catalog = item.ItemCatalog.get();
+		if (catalog.isConsumable(itemId)) {
+			result.acted = useConsumable(catalog.getName(itemId));
+		} else if (catalog.isLegendBall(itemId)) {
+			result.acted = useLegendBall(catalog.getName(itemId));
+		}
+		if (result.acted) {
+			turnCount++;
+			afterAction();
+		}
+		return result;
+	}
+
+	// ==================== PASSIVE CHECKS ====================
+
+	/** Trigger the on-kill passive of the side that defeated its opponent, returns its message */
+	public String triggerOnKill(int side) {
+		if (!hasPassive(side, PassiveType.ON_KILL)) {
+			return "";
+		}
+		passiveMessage.setLength(0);
+		handlePassiveTrigger(fighters[side], PassiveType.ON_KILL, 0, passiveMessage);
+		return passiveMessage.toString();
+	}
+
+	private void registerPassives() {
+		java.util.Arrays.fill(passiveListeners, 0);
+		for (int side = PLAYER; side <= ENEMY; side++) {
+			Passive passive = fighters[side].getPassive();
+			if (passive != null) {
+				passiveListeners[passive.getType().ordinal()] |= 1 << side;
+			}
+		}
+	}
+
+	private boolean hasPassive(int side, PassiveType type) {
+		return (passiveListeners[type.ordinal()] & (1 << side)) != 0;
+	}
+
+	// Trigger the passives of both sides that listen to the given type, their messages go into the result
+	private void firePassives(PassiveType type) {
+		for (int side = PLAYER; side <= ENEMY; side++) {
+			if (hasPassive(side, type)) {
+				firePassive(side, type);
+			}
+		}
+	}
+
+	private void firePassive(int side, PassiveType type) {
+		passiveMessage.setLength(0);
+		handlePassiveTrigger(fighters[side], type, 0, passiveMessage);
+		if (passiveMessage.length() > 0) {
+			result.add(NEUTRAL, passiveMessage.toString());
+		}
+	}
+
+	/**
+	 * Passives that react to what an action changed, run once at the end of every action:
+	 * HP threshold passives when a champion's HP changed, death defiance when it fainted.
+	 * Nothing here runs between actions, so idle battle frames do no passive work at all.
+	 */
+	private void afterAction() {
+		for (int side = PLAYER; side <= ENEMY; side++) {
+			Champion champion = fighters[side];
+			if (champion.getCurrentHp() != thresholdHp[side]) {
+				thresholdHp[side] = champion.getCurrentHp();
+				if (hasPassive(side, PassiveType.HP_THRESHOLD)) {
+					firePassive(side, PassiveType.HP_THRESHOLD);
+				}
+			}
+			if (champion.isFainted() && hasPassive(side, PassiveType.DEATH_DEFIANCE)) {
+				firePassive(side, PassiveType.DEATH_DEFIANCE);
+				thresholdHp[side] = champion.getCurrentHp();
+			}
+		}
+		logHp();
+	}
+
+	/** Record the end of the battle in the event log */
+	public void finish(int winner) {
+		logHp();
+		event(BattleEventLog.BATTLE_END, winner, 0, 0);
+	}
+
+	/** @return true if the player's champion acts before the enemy this round */
+	public boolean playerMovesFirst() {
+		return determineFirstTurn();
+	}
+
+	// ==================== SIMULATION ====================
+
+	/**
+	 * Fight a whole battle with the AI controlling both sides.
+	 * Each round the faster champion acts first; a champion that faints (and is not saved
+	 * by a death defiance passive) loses.
+	 * @return the winning side, or {@link #DRAW} if maxTurns was reached
+	 */
+	public int simulate(Champion player, Champion enemy, int maxTurns) {
+		start(player, enemy);
+		while (turnCount < maxTurns) {
+			int first = playerMovesFirst() ? PLAYER : ENEMY;
+			for (int i = 0; i < 2; i++) {
+				int side = i == 0 ? first : opponent(first);
+				aiTurn(side);
+				int winner = checkWinner();
+				if (winner != DRAW) {
+					finish(winner);
+					return winner;
+				}
+			}
+		}
+		finish(DRAW);
+		return DRAW;
+	}
+
+	/**
+	 * Continue the current battle with the built in AI controlling both sides, alternating turns
+	 * starting with the given side, until a champion is defeated or maxTurns more turns were played.
+	 * @return the winning side, or {@link #DRAW} if the turn limit was reached first
+	 */
+	public int playOut(int first, int maxTurns) {
+		int side = first;
+		int lastTurn = turnCount + maxTurns;
+		while (true) {
+			int winner = checkWinner();
+			if (winner != DRAW) {
+				return winner;
+			}
+			if (turnCount >= lastTurn) {
+				return DRAW;
+			}
+			aiTurn(side);
+			side = opponent(side);
+		}
+	}
+
+	// Winner once a champion is down (death defiance already had its chance in afterAction), DRAW while both stand
+	private int checkWinner() {
+		for (int side = PLAYER; side <= ENEMY; side++) {
+			if (fighters[side].isFainted()) {
+				triggerOnKill(opponent(side));
+				return opponent(side);
+			}
+		}
+		return DRAW;
+	}
+
+	// ==================== TURN EXECUTION ====================
+
+	// Start of turn bookkeeping; returns the status effect message, or null if the champion is stunned
+	private StringBuilder beginTurn(int side) {
+		Champion self = fighters[side];
+		turnCount++;
+
+		// Update passive states at start of turn
+		self.updatePassiveStatesStartOfTurn();
+
+		// Process status effects at start of turn
+		long statusBefore = self.getStatusMask();
+		StringBuilder statusMessage = self.processStatusEffectsStartOfTurn();
+		if (eventLog != null) {
+			logExpired(side, statusBefore & ~self.getStatusMask());
+			logHp(); // Damage and healing over time
+		}
+
+		// Check if the champion is stunned
+		if (isChampionStunned(self)) {
+			event(BattleEventLog.STUNNED, side, 0, 0);
+			result.add(side, displayName(side) + " is stunned and cannot act!" + statusMessage.toString());
+			result.acted = true;
+			return null;
+		}
+		return statusMessage;
+	}
+
+	private StringBuilder startOfTurnPassives(int side) {
+		tempMessage.setLength(0);
+		handlePassiveTrigger(fighters[side], PassiveType.START_OF_TURN, 0, tempMessage);
+		return tempMessage;
+	}
+
+	private void executeMove(int side, Move move, StringBuilder statusMessage, StringBuilder startTurnMessage) {
+		Champion attacker = fighters[side];
+		Champion defender = fighters[opponent(side)];
+		result.acted = true;
+
+		StringBuilder message = getCleanMessageBuilder();
+		message.append(displayName(side)).append(" used ").append(move.getName()).append("!");
+		if (eventLog != null) {
+			event(BattleEventLog.MOVE_USED, side, eventLog.string(move.getName()), 0);
+		}
+
+		// Add status effect and start of turn passive messages
+		if (statusMessage.length() > 0) {
+			message.append(statusMessage);
+		}
+		if (startTurnMessage.length() > 0) {
+			message.append(startTurnMessage);
+		}
+
+		// Mark enemy as attacked for first attack tracking
+		if (attacker.isFirstAttackOnEnemy()) {
+			attacker.addAttackedEnemy(defender.getName());
+		}
+
+		// Handle damage
+		DamageResult damageRoll = calculateDamageWithCrit(move, attacker, defender);
+		int damage = damageRoll.damage;
+		boolean isCrit = damageRoll.isCrit;
+		boolean isMiss = damageRoll.isMiss;
+		result.damage = damage;
+		result.crit = isCrit;
+		result.miss = isMiss;
+
+		// DETAILED CONSOLE LOGGING
+		if (verbose) {
+			System.out.println("\n" + "=".repeat(60));
+			System.out.println((side == PLAYER ? "PLAYER TURN: " : "AI TURN: ") + attacker.getName() + " uses " + move.getName());
+			System.out.println("=".repeat(60));
+			logChampionStats("ATTACKER", attacker);
+			logChampionStats("DEFENDER", defender);
+			logDamageCalculation(move, attacker, defender, damageRoll);
+			System.out.println("=".repeat(60));
+		}
+
+		if (isMiss) {
+			event(BattleEventLog.MISS, side, 0, 0);
+			message.append("\n").append(attacker.getName()).append("'s ").append(move.getName()).append(" missed!");
+		} else if (damage > 0) {
+			defender.takeDamage(damage);
+			damageDealt[side] += damage;
+			event(BattleEventLog.DAMAGE, side, damage, isCrit ? 1 : 0);
+			message.append("\nDealt ").append(damage).append(" damage!");
+			if (isCrit) {
+				message.append("\nCritical hit!");
+				// Trigger critical hit passives
+				handlePassiveTrigger(attacker, PassiveType.ON_CRITICAL, damage, message);
+			}
+
+			// Apply lifesteal if damage was dealt
+			int healAmount = (damage * attacker.getLifesteal()) / 100;
+			healAmount = (int)(healAmount * attacker.getHealingMultiplier()); // Apply healing bonus
+			if (healAmount > 0) {
+				int newHp = Math.min(attacker.getCurrentHp() + healAmount, attacker.getMaxHp());
+				attacker.setCurrentHp(newHp);
+			}
+
+			// Trigger retaliation passives on defender
+			handlePassiveTrigger(defender, PassiveType.RETALIATION, damage, message, attacker);
+
+			// Apply status effects from the move
+			applyMoveStatusEffects(move, attacker, defender, message);
+		}
+
+		// Handle stat stage changes
+		if (move.hasStatStageChanges()) {
+			int targetSide = move.targetsSelf() ? side : opponent(side);
+			handleStatStageChanges(move, fighters[targetSide], displayName(targetSide), message);
+		}
+
+		attacker.useMove(move);
+		invalidateAIMoveCache(side); // Invalidate cache after resource change
+
+		// Check for passive triggers after attack
+		if (damage > 0) {
+			handlePassiveTrigger(attacker, PassiveType.ON_ATTACK, damage, message, defender);
+			handlePassiveTrigger(attacker, PassiveType.STACKING_ATTACK, damage, message);
+		}
+
+		// Trigger ability use passives
+		handlePassiveTrigger(attacker, PassiveType.ON_ABILITY_USE, 0, message);
+
+		// Trigger turn-based passives
+		handlePassiveTrigger(attacker, PassiveType.EVERY_N_TURNS, 0, message);
+
+		result.add(side, message.toString());
+
+		// Set first attack flag to false after first attack
+		if (attacker.isFirstAttackOnEnemy()) {
+			attacker.setFirstAttackOnEnemy(false);
+		}
+	}
+
+	// Auto attack with bonus attack logic, followed by end of turn passives and resource regeneration
+	private void executeAutoAttack(int side, StringBuilder statusMessage, StringBuilder startTurnMessage) {
+		Champion attacker = fighters[side];
+		Champion defender = fighters[opponent(side)];
+		result.acted = true;
+
+		StringBuilder message = getCleanMessageBuilder();
+		message.append(displayName(side)).append(" attacks with ").append(attacker.getAutoAttack().getName()).append("!");
+
+		// Add status effect and start of turn passive messages
+		if (statusMessage.length() > 0) {
+			message.append(statusMessage);
+		}
+		if (startTurnMessage.length() > 0) {
+			message.append(startTurnMessage);
+		}
+
+		// Mark enemy as attacked for first attack tracking
+		if (attacker.isFirstAttackOnEnemy()) {
+			attacker.addAttackedEnemy(defender.getName());
+		}
+
+		// Execute primary auto attack
+		Champions.AutoAttack autoAttack = attacker.getAutoAttack();
+		event(BattleEventLog.AUTO_ATTACK, side, 0, 0);
+		executeAutoAttackHit(autoAttack, attacker, defender, message, false);
+
+		// Check for bonus auto attack based on attack speed
+		if (autoAttack.shouldGetBonusAuto(attacker, random)) {
+			event(BattleEventLog.AUTO_ATTACK, side, 1, 0);
+			message.append("\n").append(displayName(side)).append(" attacks again with incredible speed!");
+			executeAutoAttackHit(autoAttack, attacker, defender, message, true);
+		}
+
+		// Remove blind and stealth status effects after attack
+		attacker.removeStatusEffect(StatusEffect.StatusType.BLIND);
+		defender.removeStatusEffect(StatusEffect.StatusType.STEALTH);
+
+		// Mark first attack as used
+		if (attacker.isFirstAttackOnEnemy()) {
+			attacker.setFirstAttackOnEnemy(false);
+		}
+
+		// Trigger end of turn passives
+		handlePassiveTrigger(attacker, PassiveType.END_OF_TURN, 0, message);
+
+		// Trigger turn-based passives
+		handlePassiveTrigger(attacker, PassiveType.EVERY_N_TURNS, 0, message);
+
+		result.add(side, message.toString());
+
+		// Regenerate resources for both champions
+		int[] resourceBefore = {fighters[PLAYER].getCurrentResource(), fighters[ENEMY].getCurrentResource()};
+		fighters[PLAYER].regenerateResource();
+		fighters[ENEMY].regenerateResource();
+
+		// Show resource regeneration messages if any occurred
+		for (int s = PLAYER; s <= ENEMY; s++) {
+			Champion champion = fighters[s];
+			if (champion.getCurrentResource() > resourceBefore[s]) {
+				int regenAmount = champion.getCurrentResource() - resourceBefore[s];
+				result.add(s, champion.getName() + " regenerated " + regenAmount + " " +
+						champion.getResourceType().getDisplayName() + "!");
+				invalidateAIMoveCache(s);
+			}
+		}
+	}
+
+	// Helper method to execute a single auto attack hit (primary or bonus)
+	private void executeAutoAttackHit(Champions.AutoAttack autoAttack, Champion attacker, Champion defender, StringBuilder message, boolean isBonusAuto) {
+		int side = attacker == fighters[PLAYER] ? PLAYER : ENEMY;
+		if (autoAttack.doesHit(attacker, defender, random)) {
+			int damage = autoAttack.calculateDamage(attacker, isBonusAuto, random);
+			result.damage = damage;
+			result.miss = false;
+
+			// Apply damage
+			defender.takeDamage(damage);
+			damageDealt[side] += damage;
+			if (isBonusAuto) {
+				message.append("\nBonus auto dealt ").append(damage).append(" damage!");
+			} else {
+				message.append("\nDealt ").append(damage).append(" damage!");
+			}
+
+			// Apply lifesteal healing (full lifesteal even on bonus autos)
+			int lifestealHeal = autoAttack.calculateLifesteal(damage, attacker);
+			if (lifestealHeal > 0) {
+				int oldHp = attacker.getCurrentHp();
+				attacker.setCurrentHp(oldHp + lifestealHeal);
+				message.append("\n").append(attacker.getName()).append(" healed ").append(lifestealHeal).append(" HP from lifesteal!");
+			}
+
+			// Trigger passives that activate on attack (only on primary auto to prevent double triggers)
+			if (!isBonusAuto) {
+				handlePassiveTrigger(attacker, PassiveType.ON_ATTACK, damage, message);
+
+				// Trigger enemy passives that activate on being damaged
+				handlePassiveTrigger(defender, PassiveType.ON_DAMAGED, damage, message);
+			}
+
+			// Check for critical hit message (both primary and bonus can crit)
+			boolean wasCrit = attacker.getTotalCritChance() > 0 && damage > (isBonusAuto ? attacker.getTotalAD() * 0.4 : attacker.getTotalAD());
+			event(BattleEventLog.DAMAGE, side, damage, wasCrit ? 1 : 0);
+			if (wasCrit) {
+				result.crit = true;
+				message.append("\nCritical hit!");
+				// Trigger critical hit passives (only on primary auto)
+				if (!isBonusAuto) {
+					handlePassiveTrigger(attacker, PassiveType.ON_CRITICAL, damage, message);
+				}
+			}
+		} else {
+			event(BattleEventLog.MISS, side, 0, 0);
+			if (!isBonusAuto) {
+				result.miss = true;
+			}
+			if (isBonusAuto) {
+				message.append("\n").append(attacker.getName()).append("'s bonus attack missed!");
+			} else {
+				message.append("\n").append(attacker.getName()).append("'s attack missed!");
+			}
+		}
+	}
+
+	private StringBuilder getCleanMessageBuilder() {
+		mainMessage.setLength(0);
+		return mainMessage;
+	}
+
+	// ==================== EVENT LOG ====================
+
+	private void event(int type, int side, int a, int b) {
+		if (eventLog != null) {
+			eventLog.add(type, side, a, b);
+		}
+	}
+
+	private void logSendOut(int side) {
+		if (eventLog != null) {
+			Champion champion = fighters[side];
+			event(BattleEventLog.SEND_OUT, side, eventLog.string(champion.getName()), champion.getLevel());
+			loggedHp[side] = -1;
+			loggedFaint[side] = false;
+		}
+	}
+
+	// HP event for every side whose HP changed since it was last logged, covers healing and recoil too
+	private void logHp() {
+		if (eventLog == null) {
+			return;
+		}
+		for (int side = PLAYER; side <= ENEMY; side++) {
+			int hp = fighters[side].getCurrentHp();
+			if (hp != loggedHp[side]) {
+				loggedHp[side] = hp;
+				event(BattleEventLog.HP, side, hp, fighters[side].getCurrentMaxHP());
+				if (hp > 0) {
+					loggedFaint[side] = false; // Revived
+				} else if (!loggedFaint[side]) {
+					loggedFaint[side] = true;
+					event(BattleEventLog.FAINT, side, 0, 0);
+				}
+			}
+		}
+	}
+
+	private void logExpired(int side, long expiredMask) {
+		while (expiredMask != 0) {
+			int ordinal = Long.numberOfTrailingZeros(expiredMask);
+			event(BattleEventLog.STATUS_EXPIRED, side, ordinal, 0);
+			expiredMask &= expiredMask - 1;
+		}
+	}
+
+	private void logItem(String itemName) {
+		if (eventLog != null) {
+			event(BattleEventLog.ITEM_USED, PLAYER, eventLog.string(itemName), 0);
+		}
+	}
+
+	// ==================== AI ====================
+
+	// AI decision logic for auto attack vs moves
+	private boolean decideAIAutoAttack(int side, List<Move> availableMoves) {
+		// AI will auto attack if:
+		// 1. No moves available (out of resources)
+		// 2. Has high attack speed (>= 1.2) for bonus auto potential
+		// 3. Low on resources and auto attack might be better
+		// 4. Random chance for variety
+		Champion self = fighters[side];
+
+		if (availableMoves.isEmpty()) {
+			if (verbose) {
+				// Debug: Show why no moves are available
+				System.out.println("=== AI AUTO ATTACK DEBUG ===");
+				System.out.println(self.getName() + " has " + self.getCurrentResource() + "/" + self.getMaxResource() + " " + self.getResourceName());
+				System.out.println("Available moves: " + availableMoves.size());
+				for (Move move : self.getMoves()) {
+					boolean canUse = self.canUseMove(move);
+					System.out.println("- " + move.getName() + " (Cost: " + move.getManaCost() + ") = " + (canUse ? "USABLE" : "NOT USABLE"));
+				}
+				System.out.println("============================");
+			}
+			return true; // Force auto attack if no moves available
+		}
+
+		double attackSpeed = self.getTotalAttackSpeed();
+		int currentResource = self.getCurrentResource();
+		int maxResource = self.getMaxResource();
+		double resourcePercent = (double) currentResource / maxResource;
+
+		// High attack speed champions (like ADCs) prefer auto attacks
+		if (attackSpeed >= 1.2) {
+			return random.nextDouble() < 0.4; // 40% chance to auto attack
+		}
+
+		// Low resource situation - consider auto attack
+		if (resourcePercent < 0.3) {
+			return random.nextDouble() < 0.6; // 60% chance when low on resources
+		}
+
+		// General random chance for strategic variety
+		return random.nextDouble() < 0.15; // 15% baseline chance
+	}
+
+	private List<Move> getAIAvailableMoves(int side) {
+		Champion self = fighters[side];
+		int currentResource = self.getCurrentResource();
+
+		if (!aiMovesCacheValid[side] || currentResource != lastAIResource[side]) {
+			List<Move> moves = cachedAIMoves.get(side);
+			moves.clear();
+			for (Move move : self.getMoves()) {
+				if (move.isUsable(currentResource)) {
+					moves.add(move);
+				}
+			}
+			aiMovesCacheValid[side] = true;
+			lastAIResource[side] = currentResource;
+		}
+
+		return cachedAIMoves.get(side);
+	}
+
+	private void invalidateAIMoveCache(int side) {
+		aiMovesCacheValid[side] = false;
+	}
+
+	// ==================== TURN ORDER ====================
+
+	private boolean determineFirstTurn() {
+		Champion player = fighters[PLAYER];
+		Champion enemy = fighters[ENEMY];
+		int playerSpeed = player.getEffectiveSpeed();
+		int enemySpeed = enemy.getEffectiveSpeed();
+
+		// Only recalculate if speeds changed
+		if (playerSpeed != lastPlayerSpeed || enemySpeed != lastEnemySpeed || baseTurnOrder == TurnOrder.SPEED_CHECK_NEEDED) {
+			if (playerSpeed > enemySpeed) {
+				baseTurnOrder = TurnOrder.PLAYER_FIRST;
+			} else if (enemySpeed > playerSpeed) {
+				baseTurnOrder = TurnOrder.ENEMY_FIRST;
+			} else {
+				// Tie-break with original speeds (before status effects)
+				baseTurnOrder = player.getSpeed() >= enemy.getSpeed() ?
+							   TurnOrder.PLAYER_FIRST : TurnOrder.ENEMY_FIRST;
+			}
+			lastPlayerSpeed = playerSpeed;
+			lastEnemySpeed = enemySpeed;
+		}
+
+		return baseTurnOrder == TurnOrder.PLAYER_FIRST;
+	}
+
+	private void invalidateSpeedCache() {
+		baseTurnOrder = TurnOrder.SPEED_CHECK_NEEDED;
+	}
+
+	private boolean isSpeedAffectingStatus(StatusEffect.StatusType type) {
+		return type == StatusEffect.StatusType.SPEED_BOOST ||
+			   type == StatusEffect.StatusType.SPEED_REDUCTION ||
+			   type == StatusEffect.StatusType.SLOW;
+	}
+
+	// ==================== ITEMS ====================
+
+	private boolean useConsumable(String itemName) {
+		Champion target = fighters[PLAYER]; // For now, consumables target the player's champion
+
+		switch (itemName.toLowerCase()) {
+			case "potion":
+				int healAmount = 50;
+				int currentHp = target.getCurrentHp();
+				int maxHp = target.getCurrentMaxHP();
+				int actualHeal = Math.min(healAmount, maxHp - currentHp);
+
+				if (actualHeal <= 0) {
+					result.add(NEUTRAL, target.getName() + " is already at full HP!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				target.setCurrentHp(currentHp + actualHeal);
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " recovered " + actualHeal + " HP!");
+				return true;
+
+			case "mana potion":
+				// Check if target has mana/resource and if it's not already full
+				int currentResource = target.getCurrentResource();
+				int maxResource = target.getMaxResource();
+
+				if (currentResource >= maxResource) {
+					result.add(NEUTRAL, target.getName() + " already has full " + target.getResourceType().name() + "!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				target.restoreResource(30);
+				invalidateAIMoveCache(PLAYER);
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " recovered " + target.getResourceType().name() + "!");
+				return true;
+
+			case "full restore":
+				int currentHpBefore = target.getCurrentHp();
+				int maxHpCurrent = target.getCurrentMaxHP();
+				boolean hasStatusEffects = target.hasAnyStatusEffect();
+
+				if (currentHpBefore >= maxHpCurrent && !hasStatusEffects) {
+					result.add(NEUTRAL, target.getName() + " is already at full HP with no status effects!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				target.setCurrentHp(maxHpCurrent); // Full heal
+				if (eventLog != null) {
+					logExpired(PLAYER, target.getStatusMask());
+				}
+				target.clearAllStatusEffects();
+				invalidateSpeedCache();
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " was fully restored!");
+				return true;
+
+			case "revive":
+				if (!target.isFainted()) {
+					result.add(NEUTRAL, target.getName() + " is not fainted!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				int reviveHp = target.getCurrentMaxHP() / 2; // 50% HP
+				target.setCurrentHp(reviveHp);
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " was revived!");
+				return true;
+
+			case "max revive":
+				if (!target.isFainted()) {
+					result.add(NEUTRAL, target.getName() + " is not fainted!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				target.setCurrentHp(target.getCurrentMaxHP()); // Full revive
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " was fully revived!");
+				return true;
+
+			case "refillable potion":
+				int refillHeal = 40;
+				int currentHpRef = target.getCurrentHp();
+				int maxHpRef = target.getCurrentMaxHP();
+				int actualRefillHeal = Math.min(refillHeal, maxHpRef - currentHpRef);
+
+				if (actualRefillHeal <= 0) {
+					result.add(NEUTRAL, target.getName() + " is already at full HP!");
+					return false; // No effect, don't consume item or skip turn
+				}
+
+				target.setCurrentHp(currentHpRef + actualRefillHeal);
+				logItem(itemName);
+				result.add(PLAYER, "Used " + itemName + "!");
+				result.add(NEUTRAL, target.getName() + " recovered " + actualRefillHeal + " HP!");
+				return true;
+
+			default:
+				result.add(NEUTRAL, "Cannot use " + itemName + " in battle!");
+				return false;
+		}
+	}
+
+	private boolean useLegendBall(String itemName) {
+		// Simple legendball usage - just log and consume
+		if (eventLog != null) {
+			event(BattleEventLog.CAPTURE, ENEMY, eventLog.string(itemName), 0);
+		}
+		result.add(PLAYER, "Used " + itemName + "!");
+		result.add(NEUTRAL, "You threw a " + itemName + "!");
+
+		// Always successful for simplicity
+		return true;
+	}
+
+	// ==================== STAT STAGES AND PASSIVES ====================
+
+	private void handleStatStageChanges(Move move, Champion target, String targetName, StringBuilder message) {
+		boolean anyChanged = false;
+
+		if (move.getSpeedStageChange() != 0) {
+			boolean changed = target.modifySpeedStage(move.getSpeedStageChange());
+			if (changed) {
+				anyChanged = true;
+				String direction = move.getSpeedStageChange() > 0 ? "rose" : "fell";
+				message.append("\n").append(targetName).append("'s speed ").append(direction).append("!");
+			}
+		}
+
+		if (move.getAttackStageChange() != 0) {
+			boolean changed = target.modifyAttackStage(move.getAttackStageChange());
+			if (changed) {
+				anyChanged = true;
+				String direction = move.getAttackStageChange() > 0 ? "rose" : "fell";
+				message.append("\n").append(targetName).append("'s attack ").append(direction).append("!");
+			}
+		}
+
+		if (move.getArmorStageChange() != 0) {
+			boolean changed = target.modifyArmorStage(move.getArmorStageChange());
+			if (changed) {
+				anyChanged = true;
+				String direction = move.getArmorStageChange() > 0 ? "rose" : "fell";
+				message.append("\n").append(targetName).append("'s armor ").append(direction).append("!");
+			}
+		}
+
+		if (move.getApStageChange() != 0) {
+			boolean changed = target.modifyApStage(move.getApStageChange());
+			if (changed) {
+				anyChanged = true;
+				String direction = move.getApStageChange() > 0 ? "rose" : "fell";
+				message.append("\n").append(targetName).append("'s ability power ").append(direction).append("!");
+			}
+		}
+
+		if (move.getMagicResistStageChange() != 0) {
+			boolean changed = target.modifyMagicResistStage(move.getMagicResistStageChange());
+			if (changed) {
+				anyChanged = true;
+				String direction = move.getMagicResistStageChange() > 0 ? "rose" : "fell";
+				message.append("\n").append(targetName).append("'s magic resist ").append(direction).append("!");
+			}
+		}
+
+		if (!anyChanged && move.hasStatStageChanges()) {
+			message.append("\nBut ").append(targetName).append("'s stats can't go any higher/lower!");
+		}
+	}
+
+	private void handlePassiveTrigger(Champion champion, PassiveType triggerType, int damageDealt, StringBuilder message) {
+		handlePassiveTrigger(champion, triggerType, damageDealt, message, null);
+	}
+
+	private void handlePassiveTrigger(Champion champion, PassiveType triggerType, int damageDealt, StringBuilder message, Champion target) {
+		Passive passive = champion.getPassive();
+		if (passive == null || passive.getType() != triggerType) return;
+
+		// Check if passive should trigger
+		if (!passive.shouldTrigger(random)) return;
+
+		// Mark passive as used this turn for certain types
+		if (triggerType == PassiveType.ON_ATTACK ||
+			triggerType == PassiveType.ON_ABILITY_USE) {
+			champion.setUsedPassiveThisTurn(true);
+		}
+
+		int messageLength = message.length();
+		switch (passive.getType()) {
+			case ON_ATTACK:
+				handleOnAttackPassives(champion, passive, damageDealt, message, target);
+				break;
+			case ON_KILL:
+				handleOnKillPassives(champion, passive, message);
+				break;
+			case ON_CRITICAL:
+				handleOnCriticalPassives(champion, passive, damageDealt, message);
+				break;
+			case STACKING_ATTACK:
+				handleStackingAttackPassives(champion, passive, message);
+				break;
+			case START_OF_TURN:
+				handleStartOfTurnPassives(champion, passive, message);
+				break;
+			case END_OF_TURN:
+				handleEndOfTurnPassives(champion, passive, message);
+				break;
+			case EVERY_N_TURNS:
+				handleEveryNTurnsPassives(champion, passive, message);
+				break;
+			case HP_THRESHOLD:
+				handleHpThresholdPassives(champion, passive, message);
+				break;
+			case FIRST_ATTACK:
+				handleFirstAttackPassives(champion, passive, damageDealt, message);
+				break;
+			case TRANSFORMATION:
+				handleTransformationPassives(champion, passive, message);
+				break;
+			case RETALIATION:
+				handleRetaliationPassives(champion, passive, damageDealt, message, target);
+				break;
+			case DEATH_DEFIANCE:
+				handleDeathDefiancePassives(champion, passive, message);
+				break;
+			default:
+				break;
+		}
+
+		// Some triggers are polled (HP thresholds every frame), only log passives that did something
+		if (eventLog != null && message.length() > messageLength) {
+			event(BattleEventLog.PASSIVE_TRIGGERED, champion == fighters[PLAYER] ? PLAYER : ENEMY,
+					eventLog.string(passive.getName()), triggerType.ordinal());
+		}
+	}
+
+	private void handleOnAttackPassives(Champion champion, Passive passive, int damageDealt, StringBuilder message, Champion target) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Darkin Blade":
+				// Heal for percentage of damage dealt
+				int healAmount = (damageDealt * passive.getValue()) / 100;
+				healAmount = (int)(healAmount * champion.getHealingMultiplier()); // Apply healing bonus
+				int oldHp = champion.getCurrentHp();
+				int newHp = Math.min(oldHp + healAmount, champion.getMaxHp());
+				champion.setCurrentHp(newHp);
+				int actualHeal = newHp - oldHp;
+				if (actualHeal > 0) {
+					message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+						   .append(" healed ").append(actualHeal).append(" HP!");
+				}
+				break;
+
+			case "Assassin's Mark":
+				// +25% damage when attacking first - handled in damage calculation
+				if (champion.isFirstAttackOnEnemy()) {
+					message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+						   .append(" activated!");
+				}
+				break;
+
+			case "Going Rogue":
+				// 30% chance to act twice - handled in turn system
+				message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+					   .append(" grants a second attack!");
+				break;
+
+			case "Cursed Touch":
+				// Attackers take recoil damage - handled in retaliation
+				break;
+
+			case "Frost Shot":
+				// Reduce enemy speed - handled with passive cooldown system
+				if (target != null && !passive.isOnCooldown()) {
+					target.modifySpeedStage(-1);
+					message.append("\n").append(target.getName()).append("'s speed fell!");
+					passive.resetCooldown(); // 3 turn cooldown
+				}
+				break;
+
+			case "Concussive Blows":
+				// Every 4 turns paralyze enemy
+				passive.addStack();
+				if (passive.getStacks() >= 4) {
+					message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+						   .append(" paralyzed the enemy!");
+					passive.resetStacks();
+				}
+				break;
+
+			case "Moonsilver Blade":
+				// Every 3rd attack deals +30% damage
+				champion.incrementConsecutiveAttacks();
+				if (champion.getConsecutiveAttacks() % 3 == 0) {
+					message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+						   .append(" deals bonus damage!");
+				}
+				break;
+		}
+	}
+
+	private void handleOnKillPassives(Champion champion, Passive passive, StringBuilder message) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Essence Theft":
+				// Heal 10% HP and gain 6pp of last used ability
+				int healAmount = (champion.getMaxHp() * passive.getValue()) / 100;
+				healAmount = (int)(healAmount * champion.getHealingMultiplier()); // Apply healing bonus
+				int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
+				champion.setCurrentHp(newHp);
+				message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+					   .append(" healed ").append(healAmount).append(" HP!");
+				break;
+
+			case "Bel'Veth":
+				// +1 Attack after defeating enemy
+				champion.modifyAttackStage(1);
+				message.append("\n").append(champion.getName()).append("'s attack rose!");
+				break;
+
+			case "Feast":
+				// Gains +10% HP when defeating enemy (until end of battle)
+				int hpBonus = (champion.getMaxHp() * 10) / 100;
+				// This would need to be implemented as a temporary stat boost
+				message.append("\n").append(champion.getName()).append(" grew larger!");
+				break;
+
+			case "League of Draven":
+				// +1 AD boost each kill
+				champion.modifyAttackStage(1);
+				message.append("\n").append(champion.getName()).append("'s attack rose!");
+				break;
+
+			case "Get Excited":
+				// +2 Speed for 2 turns
+				champion.modifySpeedStage(2);
+				message.append("\n").append(champion.getName()).append(" got excited! Speed rose sharply!");
+				break;
+		}
+	}
+
+	private void handleOnCriticalPassives(Champion champion, Passive passive, int damageDealt, StringBuilder message) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Blast Shield":
+				// Gains shield worth 20% max HP after landing critical hit
+				int shieldAmount = (champion.getMaxHp() * 20) / 100;
+				message.append("\n").append(champion.getName()).append(" gained a shield!");
+				break;
+		}
+	}
+
+	private void handleStackingAttackPassives(Champion champion, Passive passive, StringBuilder message) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Hemorrhage":
+				// Each hit applies stack, at 5 stacks gain +3 AD boost
+				passive.addStack();
+				if (passive.getStacks() >= 5) {
+					champion.modifyAttackStage(3);
+					message.append("\n").append(champion.getName()).append(" is bleeding out the enemy!");
+					passive.resetStacks();
+				}
+				break;
+		}
+	}
+
+	private void handleStartOfTurnPassives(Champion champion, Passive passive, StringBuilder message) {
+		// Handle passives that trigger at start of turn
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Salvation":
+				// Heals 10% HP at start of turn when below 30% HP
+				if (champion.getCurrentHp() < (champion.getMaxHp() * 30 / 100)) {
+					int healAmount = (champion.getMaxHp() * 10) / 100;
+					int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
+					champion.setCurrentHp(newHp);
+					message.append("\n").append(champion.getName()).append(" was healed by ").append(passive.getName()).append("!");
+				}
+				break;
+		}
+	}
+
+	private void handleEndOfTurnPassives(Champion champion, Passive passive, StringBuilder message) {
+		// Handle passives that trigger at end of turn
+	}
+
+	private void handleEveryNTurnsPassives(Champion champion, Passive passive, StringBuilder message) {
+		// Handle passives that trigger every N turns
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Triumphant Roar":
+				// Every 3 turns heal all team by 10% max HP
+				if (champion.getTurnsInBattle() % 3 == 0) {
+					int healAmount = (champion.getMaxHp() * 10) / 100;
+					int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
+					champion.setCurrentHp(newHp);
+					message.append("\n").append(champion.getName()).append(" let out a triumphant roar!");
+				}
+				break;
+		}
+	}
+
+	private void handleHpThresholdPassives(Champion champion, Passive passive, StringBuilder message) {
+		String passiveName = passive.getName();
+		int hpPercentage = (champion.getCurrentHp() * 100) / champion.getMaxHp();
+
+		switch (passiveName) {
+			case "Rage Gene":
+				// When below 50% HP transform and get +2 AD and -1 speed
+				if (hpPercentage < 50 && !champion.isTransformed()) {
+					champion.transform("Mega Gnar", -1); // -1 means permanent until end of battle
+					champion.modifyAttackStage(2);
+					champion.modifySpeedStage(-1);
+					message.append("\n").append(champion.getName()).append(" transformed into Mega Gnar!");
+				}
+				break;
+
+			case "Ionian Fervor":
+				// +2 Speed when below 50% HP
+				if (hpPercentage < 50) {
+					champion.modifySpeedStage(2);
+					message.append("\n").append(champion.getName()).append("'s fervor increased their speed!");
+				}
+				break;
+		}
+	}
+
+	private void handleFirstAttackPassives(Champion champion, Passive passive, int damageDealt, StringBuilder message) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Granite Shield":
+				// First attack each battle deals 50% damage
+				if (champion.isFirstAttackOnEnemy()) {
+					message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
+						   .append(" reduced the damage!");
+					champion.setFirstAttackOnEnemy(false);
+				}
+				break;
+		}
+	}
+
+	private void handleTransformationPassives(Champion champion, Passive passive, StringBuilder message) {
+		// Handle transformation-based passives
+	}
+
+	private void handleRetaliationPassives(Champion champion, Passive passive, int damageDealt, StringBuilder message, Champion attacker) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Cursed Touch":
+				// Attackers take 8% recoil damage
+				if (attacker != null) {
+					int recoilDamage = (damageDealt * 8) / 100;
+					attacker.takeDamage(recoilDamage);
+					message.append("\n").append(attacker.getName()).append(" was hurt by ").append(passive.getName()).append("!");
+				}
+				break;
+
+			case "Spiked Shell":
+				// Reflects 20% of AD damage taken
+				if (attacker != null) {
+					int reflectedDamage = (damageDealt * 20) / 100;
+					attacker.takeDamage(reflectedDamage);
+					message.append("\n").append(attacker.getName()).append(" was hurt by spikes!");
+				}
+				break;
+		}
+	}
+
+	private void handleDeathDefiancePassives(Champion champion, Passive passive, StringBuilder message) {
+		String passiveName = passive.getName();
+
+		switch (passiveName) {
+			case "Rebirth":
+				// Survive KO with 1 HP (once per battle)
+				if (!passive.isUsedThisBattle()) {
+					champion.setCurrentHp(1);
+					passive.setUsedThisBattle(true);
+					message.append("\n").append(champion.getName()).append(" was reborn from the ashes!");
+				}
+				break;
+
+			case "Death Defied":
+				// Can use one move after being defeated
+				if (!passive.isUsedThisBattle()) {
+					passive.setUsedThisBattle(true);
+					message.append("\n").append(champion.getName()).append(" refuses to die!");
+				}
+				break;
+		}
+	}
+
+	// ==================== DAMAGE ====================
+
+	public int calculateDamage(Move move, Champion attacker, Champion defender) {
+		if (move.getPower() == 0) return 0; // Non-damaging moves
+
+		// League of Legends damage formula: Base damage + ratio scaling
+		double baseDamage = move.getBaseDamage(attacker.getLevel()); // Level-scaling base damage
+		double adScaling = attacker.getEffectiveAD() * move.getAdRatio();
+		double apScaling = attacker.getEffectiveAP() * move.getApRatio();
+
+		double rawDamage = baseDamage + adScaling + apScaling;
+
+		// Apply LEVEL GAP DAMAGE MULTIPLIER - REDUCED VALUES (OPTION 2)
+		int levelGap = attacker.getLevel() - defender.getLevel();
+		if (levelGap >= 20) {
+			// 20+ level gap: 1.6x damage (was 2.0x)
+			rawDamage *= 1.6;
+		} else if (levelGap >= 15) {
+			// 15-19 level gap: 1.4x damage (was 1.7x)
+			rawDamage *= 1.4;
+		} else if (levelGap >= 10) {
+			// 10-14 level gap: 1.2x damage (was 1.4x)
+			rawDamage *= 1.2;
+		}
+
+		// Apply LEVEL GAP DAMAGE RESISTANCE for defenders (high level takes less damage)
+		int reverseLevelGap = defender.getLevel() - attacker.getLevel();
+		if (reverseLevelGap >= 20) {
+			// 20+ level advantage: 60% damage reduction (take 40% damage)
+			rawDamage *= 0.40;
+		} else if (reverseLevelGap >= 15) {
+			// 15-19 level advantage: 50% damage reduction (take 50% damage)
+			rawDamage *= 0.50;
+		} else if (reverseLevelGap >= 13) {
+			// 13-14 level advantage: 40% damage reduction (take 60% damage)
+			rawDamage *= 0.60;
+		}
+
+		// Apply armor/magic resist reduction with penetration
+		double finalDamage;
+		if (move.getType().equals("Physical")) {
+			finalDamage = applyArmorReduction(rawDamage, attacker, defender);
+		} else { // Magic
+			finalDamage = applyMagicResistReduction(rawDamage, attacker, defender);
+		}
+
+		// Ensure minimum damage of 1 for successful hits
+		return Math.max(1, (int) finalDamage);
+	}
+
+	/**
+	 * Apply armor reduction with proper penetration calculations (League-style)
+	 */
+	private double applyArmorReduction(double damage, Champion attacker, Champion defender) {
+		int armor = defender.getEffectiveArmor();
+		int armorPen = attacker.getTotalArmorPen();
+
+		// Apply armor penetration (flat reduction)
+		int effectiveArmor = Math.max(0, armor - armorPen);
+
+		// League's damage reduction formula: reduction = armor / (armor + 100)
+		double damageReduction = (double)effectiveArmor / (effectiveArmor + 100.0);
+
+		return damage * (1.0 - damageReduction);
+	}
+
+	/**
+	 * Apply magic resist reduction with proper penetration calculations
+	 */
+	private double applyMagicResistReduction(double damage, Champion attacker, Champion defender) {
+		int magicResist = defender.getEffectiveMagicResist();
+		int magicPen = attacker.getTotalMagicPen();
+
+		// Apply magic penetration (flat reduction)
+		int effectiveMR = Math.max(0, magicResist - magicPen);
+
+		// League's damage reduction formula: reduction = MR / (MR + 100)
+		double damageReduction = (double)effectiveMR / (effectiveMR + 100.0);
+
+		return damage * (1.0 - damageReduction);
+	}
+
+	public DamageResult calculateDamageWithCrit(Move move, Champion attacker, Champion defender) {
+		// Check hit chance first
+		if (!doesMoveHit(move, attacker, defender)) {
+			damageResult.setMiss();
+			return damageResult;
+		}
+
+		// Calculate base damage
+		int baseDamage = calculateDamage(move, attacker, defender);
+		boolean isCrit = false;
+
+		// Check for critical hit
+		if (random.nextInt(100) < attacker.getCritChance()) {
+			baseDamage = (int) (baseDamage * attacker.getCritDamageMultiplier()); // Use champion's crit multiplier
+			isCrit = true;
+		}
+
+		damageResult.setHit(baseDamage, isCrit);
+		return damageResult;
+	}
+
+	/**
+	 * Damage, crit damage and hit chance of a move without using it (no random rolls, nothing is
+	 * changed). The result is memoized per move and reused until the move's champions or their
+	 * stat versions change, so calling this every frame is free; do not keep it past the next call.
+	 */
+	public DamagePreview previewDamage(Move move, Champion attacker, Champion defender) {
+		DamagePreview preview = previews.get(move);
+		if (preview != null && preview.isFor(move, attacker, defender)) {
+			return preview;
+		}
+		if (preview == null) {
+			preview = new DamagePreview();
+			previews.put(move, preview);
+		}
+
+		int damage = calculateDamage(move, attacker, defender);
+		int critDamage = (int) (damage * attacker.getCritDamageMultiplier());
+		int hitChance;
+		if (attacker.hasStatusEffect(StatusEffect.StatusType.BLIND)
+				|| defender.hasStatusEffect(StatusEffect.StatusType.STEALTH)) {
+			hitChance = 0;
+		} else {
+			hitChance = baseHitChance(move, attacker, defender);
+			StatusEffect confusion = attacker.getStatusEffect(StatusEffect.StatusType.CONFUSION);
+			if (confusion != null) {
+				hitChance = hitChance * Math.max(0, 100 - confusion.getValue()) / 100;
+			}
+		}
+		preview.set(damage, critDamage, Math.min(100, hitChance), attacker.getCritChance());
+
+		preview.move = move;
+		preview.attacker = attacker;
+		preview.defender = defender;
+		preview.attackerVersion = attacker.getStatVersion();
+		preview.defenderVersion = defender.getStatVersion();
+		return preview;
+	}
+
+	// Enhanced hit chance calculation that considers status effects
+	private boolean doesMoveHit(Move move, Champion attacker, Champion defender) {
+		// Check for blind effect on attacker
+		if (attacker.hasStatusEffect(StatusEffect.StatusType.BLIND)) {
+			return false; // Blind causes automatic miss
+		}
+
+		// Check for stealth effect on defender
+		if (defender.hasStatusEffect(StatusEffect.StatusType.STEALTH)) {
+			defender.removeStatusEffect(StatusEffect.StatusType.STEALTH); // Stealth is consumed
+			return false; // Stealth causes automatic miss
+		}
+
+		// Check for confusion on attacker
+		if (attacker.hasStatusEffect(StatusEffect.StatusType.CONFUSION)) {
+			StatusEffect confusion = attacker.getStatusEffect(StatusEffect.StatusType.CONFUSION);
+			if (random.nextInt(100) < confusion.getValue()) {
+				// Confused champion hits themselves
+				attacker.takeDamage(move.getPower() / 2); // Reduced self-damage
+				return false; // Original attack misses
+			}
+		}
+
+		return random.nextInt(100) < baseHitChance(move, attacker, defender);
+	}
+
+	// Hit chance in percent from accuracy, accuracy reduction and speed difference
+	private int baseHitChance(Move move, Champion attacker, Champion defender) {
+		int hitChance = move.getAccuracy();
+
+		// Apply accuracy reduction
+		StatusEffect accuracyReduction = attacker.getStatusEffect(StatusEffect.StatusType.ACCURACY_REDUCTION);
+		if (accuracyReduction != null) {
+			hitChance -= accuracyReduction.getValue();
+		}
+
+		// Speed difference modifier: faster champions are harder to hit
+		int speedDiff = defender.getEffectiveSpeed() - attacker.getEffectiveSpeed();
+		int evasionBonus = Math.max(0, speedDiff / 20); // +1% evasion per 20 speed difference
+
+		// Apply evasion bonus (up to 15% max)
+		return Math.max(30, hitChance - Math.min(15, evasionBonus));
+	}
+
+	private boolean rollRun() {
+		int playerLevel = fighters[PLAYER].getLevel();
+		int wildLevel = fighters[ENEMY].getLevel();
+		int levelDiff = playerLevel - wildLevel;
+
+		// 10+ level advantage = automatic escape
+		if (levelDiff >= 10) {
+			return true; // 100% escape chance
+		}
+
+		// Calculate base chance from level difference
+		int baseChance;
+		if (levelDiff >= 1 && levelDiff <= 6) {
+			// 1-6 levels higher: 78-85% range
+			baseChance = 78 + levelDiff; // Level 1 = 79%, Level 6 = 84%
+		} else if (levelDiff >= -2 && levelDiff <= 0) {
+			// Similar level (-2 to 0): 70-75% range
+			baseChance = 75 + levelDiff; // Level -2 = 73%, Level 0 = 75%
+		} else {
+			// Lower level (-3 and below): MUCH harsher penalties
+			baseChance = 75 + (levelDiff * 8); // -3 = 51%, -5 = 35%, -7 = 19%, -10 = -5%
+		}
+
+		// Speed modifier (secondary factor)
+		int speedDiff = fighters[PLAYER].getEffectiveSpeed() - fighters[ENEMY].getEffectiveSpeed();
+		int speedBonus = speedDiff / 3; // +/-1% per 3 speed difference
+		speedBonus = Math.max(-10, Math.min(10, speedBonus)); // Cap at ±10%
+
+		// Attempt bonus: +8% per failed attempt for all scenarios
+		int attemptBonus = runAttempts * 8; // 0, 8%, 16%, 24%, etc.
+
+		// Final calculation - apply minimum to base chance first, then add bonuses
+		int protectedBaseChance = Math.max(25, baseChance); // Protect base chance with 25% minimum
+		int runChance = protectedBaseChance + speedBonus + attemptBonus;
+		runChance = Math.min(95, runChance); // Apply 95% maximum only
+
+		// Debug logging for development
+		if (verbose) {
+			System.out.println("=== ESCAPE ATTEMPT DEBUG ===");
+			System.out.println("Player Level: " + playerLevel + " | Wild Level: " + wildLevel + " | Level Diff: " + levelDiff);
+			System.out.println("Attempt Number: " + (runAttempts + 1));
+			System.out.println("Raw Base: " + baseChance + "% | Protected Base: " + protectedBaseChance + "%");
+			System.out.println("Speed Bonus: " + speedBonus + "% | Attempt Bonus: " + attemptBonus + "%");
+			System.out.println("Final Escape Chance: " + runChance + "%");
+			System.out.println("=============================");
+		}
+
+		return random.nextInt(100) < runChance;
+	}
+
+	// ========== STATUS EFFECTS PROCESSING ==========
+
+	private void applyMoveStatusEffects(Move move, Champion attacker, Champion defender, StringBuilder message) {
+		if (!move.hasStatusEffects()) {
+			return;
+		}
+
+		for (StatusEffect effect : move.getStatusEffects()) {
+			Champion target = move.appliesStatusToSelf() ? attacker : defender;
+
+			// Apply the status effect
+			target.addStatusEffect(effect);
+			event(BattleEventLog.STATUS_APPLIED, target == fighters[PLAYER] ? PLAYER : ENEMY, effect.getType().ordinal(), effect.getValue());
+
+			// Invalidate speed cache if speed-affecting status was applied
+			if (isSpeedAffectingStatus(effect.getType())) {
+				invalidateSpeedCache();
+			}
+
+			// Add message
+			String targetName = (target == attacker) ? attacker.getName() : displayName(target == fighters[PLAYER] ? PLAYER : ENEMY);
+
+			message.append("\n").append(targetName).append(" is affected by ").append(effect.getName()).append("!");
+
+			// Special handling for immediate effects
+			switch (effect.getType()) {
+				case SHIELD:
+					target.setShieldAmount(effect.getValue());
+					message.append(" (").append(effect.getValue()).append(" shield)");
+					break;
+
+				case STUN:
+					// Stun effect will be processed at start of next turn
+					break;
+
+				case CLEANSE:
+					// Cleanse removes all debuffs
+					target.getStatusEffects().removeIf(existingEffect ->
+						isDebuffEffect(existingEffect.getType()));
+					message.append(" All debuffs removed!");
+					break;
+
+				case PP_RESTORE:
+					// Restore resources (mana for consumable, reset to 0 for build-up)
+					if (target.getResourceType().isConsumable()) {
+						target.setCurrentResource(target.getMaxResource());
+						message.append(" All mana restored!");
+					} else {
+						target.setCurrentResource(0);
+						message.append(" Build-up resource reset!");
+					}
+					break;
+
+				default:
+					// Most effects are handled during start of turn processing
+					break;
+			}
+		}
+	}
+
+	private boolean isDebuffEffect(StatusEffect.StatusType type) {
+		return type == StatusEffect.StatusType.ATTACK_REDUCTION ||
+			   type == StatusEffect.StatusType.AP_REDUCTION ||
+			   type == StatusEffect.StatusType.SPEED_REDUCTION ||
+			   type == StatusEffect.StatusType.ARMOR_REDUCTION ||
+			   type == StatusEffect.StatusType.MAGIC_RESIST_REDUCTION ||
+			   type == StatusEffect.StatusType.ACCURACY_REDUCTION ||
+			   type == StatusEffect.StatusType.BURN ||
+			   type == StatusEffect.StatusType.POISON ||
+			   type == StatusEffect.StatusType.BLEED ||
+			   type == StatusEffect.StatusType.STUN ||
+			   type == StatusEffect.StatusType.SLOW ||
+			   type == StatusEffect.StatusType.BLIND ||
+			   type == StatusEffect.StatusType.CONFUSION;
+	}
+
+
+	// Check if champion is stunned (cannot act)
+	public boolean isChampionStunned(Champion champion) {
+		return champion.hasStatusEffect(StatusEffect.StatusType.STUN);
+	}
+
+	// ==================== DETAILED CONSOLE LOGGING METHODS ====================
+
+	/**
+	 * Log detailed champion stats for combat analysis
+	 */
+	private void logChampionStats(String role, Champion champion) {
+		System.out.printf("%-9s: %-15s (Lv%2d %s)%n", role, champion.getName(),
+			champion.getLevel(), champion.getChampionClass());
+		System.out.printf("          HP: %4d/%4d | AD: %3d | AP: %3d | Armor: %3d | MR: %3d%n",
+			champion.getCurrentHp(), champion.getMaxHp(),
+			champion.getEffectiveAD(), champion.getEffectiveAP(),
+			champion.getEffectiveArmor(), champion.getEffectiveMagicResist());
+		System.out.printf("          ArmorPen: %2d | MagicPen: %2d | Crit: %2d%% | Speed: %3d%n",
+			champion.getTotalArmorPen(), champion.getTotalMagicPen(),
+			champion.getCritChance(), champion.getEffectiveSpeed());
+	}
+
+	/**
+	 * Log detailed damage calculation breakdown
+	 */
+	private void logDamageCalculation(Move move, Champion attacker, Champion defender, DamageResult result) {
+		System.out.printf("ABILITY: %s (%s) | Power: %d | Accuracy: %d%%%n",
+			move.getName(), move.getType(), move.getPower(), move.getAccuracy());
+
+		if (result.isMiss) {
+			System.out.println("RESULT: MISS!");
+			return;
+		}
+
+		// Calculate raw damage components
+		double baseDamage = move.getBaseDamage(attacker.getLevel());
+		double adScaling = attacker.getEffectiveAD() * move.getAdRatio();
+		double apScaling = attacker.getEffectiveAP() * move.getApRatio();
+		int rawDamage = (int)(baseDamage + adScaling + apScaling);
+
+		System.out.printf("DAMAGE CALC: %.0f base + %.0f AD scaling + %.0f AP scaling = %d raw%n",
+			baseDamage, adScaling, apScaling, rawDamage);
+
+		// Show level gap multiplier if applicable
+		int levelGap = attacker.getLevel() - defender.getLevel();
+		if (levelGap >= 10) {
+			double multiplier = levelGap >= 20 ? 1.6 : (levelGap >= 15 ? 1.4 : 1.2);
+			int boostedDamage = (int)(rawDamage * multiplier);
+			System.out.printf("LEVEL GAP BOOST: %d raw × %.1fx (Lv%d gap) = %d boosted%n",
+				rawDamage, multiplier, levelGap, boostedDamage);
+			rawDamage = boostedDamage; // Update for defense calculation display
+		}
+
+		// Show level gap resistance if applicable
+		int reverseLevelGap = defender.getLevel() - attacker.getLevel();
+		if (reverseLevelGap >= 13) {
+			double resistance = reverseLevelGap >= 20 ? 0.40 : (reverseLevelGap >= 15 ? 0.50 : 0.60);
+			int resistedDamage = (int)(rawDamage * resistance);
+			System.out.printf("LEVEL GAP RESIST: %d damage × %.0f%% (Lv%d defender advantage) = %d resisted%n",
+				rawDamage, resistance * 100, reverseLevelGap, resistedDamage);
+			rawDamage = resistedDamage; // Update for defense calculation display
+		}
+
+		// Calculate defense reduction
+		int defenderDefense;
+		int attackerPen;
+		String defenseType;
+
+		if (move.getType().equals("Physical")) {
+			defenderDefense = defender.getEffectiveArmor();
+			attackerPen = attacker.getTotalArmorPen();
+			defenseType = "Armor";
+		} else {
+			defenderDefense = defender.getEffectiveMagicResist();
+			attackerPen = attacker.getTotalMagicPen();
+			defenseType = "MagicResist";
+		}
+
+		int effectiveDefense = Math.max(0, defenderDefense - attackerPen);
+		double reductionPercent = (double)effectiveDefense / (effectiveDefense + 100.0) * 100;
+		int finalDamage = result.damage;
+
+		System.out.printf("DEFENSE: %d %s - %d Pen = %d effective (%.1f%% reduction)%n",
+			defenderDefense, defenseType, attackerPen, effectiveDefense, reductionPercent);
+
+		String critText = result.isCrit ? " (CRITICAL HIT!)" : "";
+		System.out.printf("FINAL: %d raw → %d final%s%n", rawDamage, finalDamage, critText);
+
+		// Calculate damage as percentage of defender HP
+		double hpPercent = (double)finalDamage / defender.getCurrentHp() * 100;
+		double hitsToKill = (double)defender.getCurrentHp() / finalDamage;
+
+		System.out.printf("IMPACT: %.1f%% of %d HP | %.1f hits to kill%n",
+			hpPercent, defender.getCurrentHp(), hitsToKill);
+
+		// Level difference analysis
+		int levelDiff = attacker.getLevel() - defender.getLevel();
+		if (Math.abs(levelDiff) >= 5) {
+			String dominance = levelDiff > 0 ? "ATTACKER DOMINANCE" : "DEFENDER ADVANTAGE";
+			System.out.printf("LEVEL GAP: %+d levels (%s)%n", levelDiff, dominance);
+		}
+	}
+}
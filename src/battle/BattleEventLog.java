@@ -0,0 +1,294 @@
+package battle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import Champions.Passive;
+import Champions.StatusEffect;
+
+/**
+ * Machine readable record of a battle: every action the engine resolves is appended as a typed
+ * event of four ints (type, side, a, b) to one growable int array. Names (champions, moves,
+ * items, passives) go into a string table and events refer to them by index.
+ *
+ * A log can be saved as a compact binary replay file and loaded back, either to analyze
+ * battles without parsing text or to play the battle back on the battle screen
+ * (see BattleManager.startReplay).
+ */
+public class BattleEventLog {
+
+	// ==================== EVENT TYPES ====================
+	// a and b per type; side is BattleEngine.PLAYER/ENEMY, or NEUTRAL where noted
+
+	/** Battle started (NEUTRAL): a, b = high and low half of the battle's random seed */
+	public static final int BATTLE_START = 1;
+	/** Champion entered the battle: a = name string, b = level */
+	public static final int SEND_OUT = 2;
+	/** a = move name string */
+	public static final int MOVE_USED = 3;
+	/** a = 1 for the bonus attack from attack speed */
+	public static final int AUTO_ATTACK = 4;
+	/** side = attacker, a = damage, b = 1 if it was a critical hit */
+	public static final int DAMAGE = 5;
+	/** side = attacker */
+	public static final int MISS = 6;
+	/** side = target, a = StatusType ordinal, b = value */
+	public static final int STATUS_APPLIED = 7;
+	/** a = StatusType ordinal */
+	public static final int STATUS_EXPIRED = 8;
+	/** a = passive name string, b = PassiveType ordinal */
+	public static final int PASSIVE_TRIGGERED = 9;
+	/** HP changed: a = current HP, b = max HP */
+	public static final int HP = 10;
+	/** Champion could not act */
+	public static final int STUNNED = 11;
+	public static final int FAINT = 12;
+	/** a = item name string */
+	public static final int ITEM_USED = 13;
+	/** Legend ball thrown at the enemy: a = ball name string */
+	public static final int CAPTURE = 14;
+	/** Run attempt (NEUTRAL): a = 1 if it succeeded */
+	public static final int RUN = 15;
+	/** side = winner, NEUTRAL for an escape or a draw */
+	public static final int BATTLE_END = 16;
+
+	private static final int INTS_PER_EVENT = 4;
+
+	// Replay file format
+	private static final int MAGIC = 0x4D50524C; // "MPRL"
+	private static final int VERSION = 1;
+
+	private int[] events = new int[64 * INTS_PER_EVENT];
+	private int count = 0;
+	private final List<String> strings = new ArrayList<>();
+	private final HashMap<String, Integer> stringIndex = new HashMap<>();
+
+	// ==================== RECORDING ====================
+
+	/** Start over for a new battle (the arrays are kept) */
+	public void clear() {
+		count = 0;
+		strings.clear();
+		stringIndex.clear();
+	}
+
+	public void add(int type, int side, int a, int b) {
+		int offset = count * INTS_PER_EVENT;
+		if (offset + INTS_PER_EVENT > events.length) {
+			events = java.util.Arrays.copyOf(events, events.length * 2);
+		}
+		events[offset] = type;
+		events[offset + 1] = side;
+		events[offset + 2] = a;
+		events[offset + 3] = b;
+		count++;
+	}
+
+	/** @return index of the string in the string table, adding it if needed */
+	public int string(String value) {
+		Integer index = stringIndex.get(value);
+		if (index == null) {
+			index = strings.size();
+			strings.add(value);
+			stringIndex.put(value, index);
+		}
+		return index;
+	}
+
+	// ==================== READING ====================
+
+	public int size() {
+		return count;
+	}
+
+	public int getType(int event) {
+		return events[event * INTS_PER_EVENT];
+	}
+
+	public int getSide(int event) {
+		return events[event * INTS_PER_EVENT + 1];
+	}
+
+	public int getA(int event) {
+		return events[event * INTS_PER_EVENT + 2];
+	}
+
+	public int getB(int event) {
+		return events[event * INTS_PER_EVENT + 3];
+	}
+
+	public String getString(int index) {
+		return strings.get(index);
+	}
+
+	/**
+	 * Battle log text for an event, or null for events that are not shown (HP updates).
+	 * @param names current champion name of each side, indexed by side
+	 */
+	public String describe(int event, String[] names) {
+		int side = getSide(event);
+		int a = getA(event);
+		int b = getB(event);
+		String who = side == BattleEngine.ENEMY ? "Wild " + names[side] : side == BattleEngine.PLAYER ? names[side] : "";
+		switch (getType(event)) {
+			case BATTLE_START:
+				return null;
+			case SEND_OUT:
+				return side == BattleEngine.ENEMY ? "A wild " + getString(a) + " appeared! (Lv" + b + ")"
+						: "Go, " + getString(a) + "! (Lv" + b + ")";
+			case MOVE_USED:
+				return who + " used " + getString(a) + "!";
+			case AUTO_ATTACK:
+				return a == 1 ? who + " attacks again with incredible speed!" : who + " attacks!";
+			case DAMAGE:
+				return b == 1 ? "Critical hit! Dealt " + a + " damage!" : "Dealt " + a + " damage!";
+			case MISS:
+				return who + "'s attack missed!";
+			case STATUS_APPLIED:
+				return who + " is affected by " + statusName(a) + "!";
+			case STATUS_EXPIRED:
+				return statusName(a) + " wore off from " + who + "!";
+			case PASSIVE_TRIGGERED:
+				return who + "'s " + getString(a) + " activated!";
+			case HP:
+				return null;
+			case STUNNED:
+				return who + " is stunned and cannot act!";
+			case FAINT:
+				return who + " fainted!";
+			case ITEM_USED:
+				return "Used " + getString(a) + "!";
+			case CAPTURE:
+				return "You threw a " + getString(a) + "!";
+			case RUN:
+				return a == 1 ? "Got away safely!" : "Couldn't escape!";
+			case BATTLE_END:
+				return side == BattleEngine.PLAYER ? "You won!" : side == BattleEngine.ENEMY ? "You lost!" : "The battle is over.";
+			default:
+				return null;
+		}
+	}
+
+	private static String statusName(int ordinal) {
+		String name = StatusEffect.StatusType.values()[ordinal].name().replace('_', ' ').toLowerCase();
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/** @return random seed the battle was fought with (see BattleEngine.setSeed), 0 if unknown */
+	public long getSeed() {
+		for (int i = 0; i < count; i++) {
+			if (getType(i) == BATTLE_START) {
+				return ((long) getA(i) << 32) | (getB(i) & 0xFFFFFFFFL);
+			}
+		}
+		return 0;
+	}
+
+	/** @return the PassiveType of a PASSIVE_TRIGGERED event */
+	public Passive.PassiveType getPassiveType(int event) {
+		return Passive.PassiveType.values()[getB(event)];
+	}
+
+	// ==================== REPLAY FILES ====================
+
+	public void save(File file) throws IOException {
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+			write(out);
+		}
+	}
+
+	public static BattleEventLog load(File file) throws IOException {
+		try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+			return read(in);
+		}
+	}
+
+	/**
+	 * Header (magic, version), the string table, then every event as a type byte, a side byte
+	 * and a and b as zigzag varints, so small values take a single byte.
+	 */
+	public void write(OutputStream stream) throws IOException {
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		writeVarInt(out, strings.size());
+		for (String value : strings) {
+			out.writeUTF(value);
+		}
+		writeVarInt(out, count);
+		for (int i = 0; i < count; i++) {
+			out.writeByte(getType(i));
+			out.writeByte(getSide(i));
+			writeVarInt(out, zigzag(getA(i)));
+			writeVarInt(out, zigzag(getB(i)));
+		}
+		out.flush();
+	}
+
+	public static BattleEventLog read(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(stream);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a battle replay file");
+		}
+		int version = in.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported replay version " + version);
+		}
+		BattleEventLog log = new BattleEventLog();
+		int stringCount = readVarInt(in);
+		for (int i = 0; i < stringCount; i++) {
+			log.string(in.readUTF());
+		}
+		int events = readVarInt(in);
+		for (int i = 0; i < events; i++) {
+			int type = in.readUnsignedByte();
+			int side = in.readByte();
+			int a = unzigzag(readVarInt(in));
+			int b = unzigzag(readVarInt(in));
+			log.add(type, side, a, b);
+		}
+		return log;
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint in replay file");
+	}
+
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
@@ -0,0 +1,47 @@
+package battle;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeds for all battle randomness. Every battle and every wild champion spawner gets its own
+ * SplittableRandom stream, so nothing shares (and contends on) one global generator, and the
+ * seeds are drawn from one root generator, so setting the root seed (--seed) reproduces a whole
+ * session.
+ *
+ * Streams are created from an explicit seed rather than with split(), so the seed can be printed
+ * (--log-seeds) and a reported battle fought again roll for roll (--battle-seed).
+ */
+public final class BattleRandom {
+
+	private static SplittableRandom root = new SplittableRandom();
+	private static boolean logSeeds = false;
+
+	private BattleRandom() {
+	}
+
+	public static synchronized void setRootSeed(long seed) {
+		root = new SplittableRandom(seed);
+	}
+
+	public static void setLogSeeds(boolean logSeeds) {
+		BattleRandom.logSeeds = logSeeds;
+	}
+
+	/** @return a fresh seed for a new stream */
+	public static synchronized long nextSeed() {
+		return root.nextLong();
+	}
+
+	/** New stream with its own seed, which is printed when seed logging is on */
+	public static SplittableRandom create(String owner) {
+		long seed = nextSeed();
+		logSeed(owner, seed);
+		return new SplittableRandom(seed);
+	}
+
+	public static void logSeed(String owner, long seed) {
+		if (logSeeds) {
+			System.out.println("[RNG] " + owner + " seed: " + seed);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package battle;
+
+import Champions.Champion;
+import Champions.Move;
+
+/**
+ * What a move would do if used now: damage of a normal and a critical hit, hit and crit chance
+ * and the damage to expect on average, from the same math BattleEngine uses to resolve the move.
+ *
+ * Previews are memoized by BattleEngine.previewDamage and only recomputed when the move, either
+ * champion or one of their stat versions changed, so the move buttons can show them every frame.
+ */
+public class DamagePreview {
+
+	/** Damage of a normal hit, 0 for status moves */
+	public int damage;
+	public int critDamage;
+	/** Damage averaged over misses and crits */
+	public int expectedDamage;
+	/** Chance to hit in percent, 0 when the move is sure to miss (blind, stealth) */
+	public int hitChance;
+	public int critChance;
+	/** Short text for the move button, e.g. "~120 (95%)" */
+	public String label;
+	public String critLabel;
+
+	// What the preview was computed for
+	Move move;
+	Champion attacker;
+	Champion defender;
+	int attackerVersion;
+	int defenderVersion;
+
+	boolean isFor(Move move, Champion attacker, Champion defender) {
+		return this.move == move && this.attacker == attacker && this.defender == defender
+				&& attackerVersion == attacker.getStatVersion() && defenderVersion == defender.getStatVersion();
+	}
+
+	void set(int damage, int critDamage, int hitChance, int critChance) {
+		this.damage = damage;
+		this.critDamage = critDamage;
+		this.hitChance = hitChance;
+		this.critChance = critChance;
+		this.expectedDamage = (int) Math.round(hitChance / 100.0
+				* (damage * (100 - critChance) / 100.0 + critDamage * critChance / 100.0));
+		if (damage == 0) {
+			label = "Status";
+			critLabel = "";
+		} else {
+			label = "~" + expectedDamage + " (" + hitChance + "%)";
+			critLabel = "Crit " + critDamage;
+		}
+	}
+}
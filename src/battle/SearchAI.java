@@ -0,0 +1,200 @@
+package battle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import Champions.Champion;
+import Champions.Move;
+import Champions.Passive;
+
+/**
+ * Monte Carlo search over the AI champion's next action (auto attack or one of its moves).
+ *
+ * Every iteration picks a root action with UCB1, plays it on fresh copies of both champions
+ * and lets the engine's built in AI finish the battle (up to ROLLOUT_TURNS turns). Wins count 1,
+ * losses 0 and unfinished battles are scored by the HP difference. The search runs until the
+ * deadline and returns the most tried action.
+ *
+ * Root statistics are kept in a small transposition table keyed by the battle state (HP in 5%
+ * steps), so a state seen again (the same matchup at full HP, a repeated stalemate) continues
+ * from what earlier searches found instead of starting over.
+ *
+ * Not thread safe: one instance per AIWorker thread.
+ */
+public class SearchAI implements BattleAI {
+
+	// Auto attack plus up to four moves; slot 0 is the auto attack, slot i + 1 is move i
+	private static final int MAX_ACTIONS = 5;
+	private static final int ROLLOUT_TURNS = 40;
+	private static final double EXPLORATION = 1.4;
+	private static final int TABLE_SIZE = 2048;
+	private static final int HP_STEPS = 20;
+
+	private final BattleEngine engine = new BattleEngine(BattleRandom.create("Search AI"));
+	private final int[] actions = new int[MAX_ACTIONS];
+
+	// Root statistics per action slot
+	private static class Node {
+		final int[] visits = new int[MAX_ACTIONS];
+		final double[] value = new double[MAX_ACTIONS];
+		int total;
+
+		// Older results still guide the search but new rollouts quickly outweigh them
+		void age() {
+			total = 0;
+			for (int i = 0; i < MAX_ACTIONS; i++) {
+				int kept = visits[i] / 2;
+				value[i] = visits[i] == 0 ? 0 : value[i] * kept / visits[i];
+				visits[i] = kept;
+				total += kept;
+			}
+		}
+	}
+
+	// Transposition table, least recently used states are dropped first
+	private final Map<Long, Node> table = new LinkedHashMap<>(TABLE_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Node> eldest) {
+			return size() > TABLE_SIZE;
+		}
+	};
+
+	private int lastIterations = 0;
+	private int tableHits = 0;
+
+	@Override
+	public int chooseAction(Champion self, Champion opponent, int turnCount, long deadline) {
+		int count = legalActions(self);
+		if (count == 1) {
+			lastIterations = 0;
+			return actions[0];
+		}
+
+		Long key = stateKey(self, opponent);
+		Node node = table.get(key);
+		if (node == null) {
+			node = new Node();
+			table.put(key, node);
+		} else {
+			node.age();
+			tableHits++;
+		}
+
+		int iterations = 0;
+		do {
+			int action = select(node, count);
+			int slot = action + 1;
+			node.visits[slot]++;
+			node.value[slot] += rollout(self, opponent, turnCount, action);
+			node.total++;
+			iterations++;
+		} while (System.nanoTime() < deadline);
+		lastIterations = iterations;
+
+		int best = actions[0];
+		for (int i = 1; i < count; i++) {
+			if (node.visits[actions[i] + 1] > node.visits[best + 1]) {
+				best = actions[i];
+			}
+		}
+		return best;
+	}
+
+	/** Rollouts played by the last search */
+	public int getLastIterations() {
+		return lastIterations;
+	}
+
+	/** Searches that continued from a state already in the transposition table */
+	public int getTableHits() {
+		return tableHits;
+	}
+
+	// Fills actions with the auto attack and every move that can be used now
+	private int legalActions(Champion self) {
+		int count = 0;
+		actions[count++] = AUTO_ATTACK;
+		for (int i = 0; i < self.getMoves().size() && count < MAX_ACTIONS; i++) {
+			if (self.canUseMove(self.getMoves().get(i))) {
+				actions[count++] = i;
+			}
+		}
+		return count;
+	}
+
+	// UCB1: untried actions first, then the best mix of average score and uncertainty
+	private int select(Node node, int count) {
+		double logTotal = Math.log(Math.max(1, node.total));
+		int best = actions[0];
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			int slot = actions[i] + 1;
+			if (node.visits[slot] == 0) {
+				return actions[i];
+			}
+			double score = node.value[slot] / node.visits[slot] + EXPLORATION * Math.sqrt(logTotal / node.visits[slot]);
+			if (score > bestScore) {
+				bestScore = score;
+				best = actions[i];
+			}
+		}
+		return best;
+	}
+
+	// Play the action and the rest of the battle on copies, the AI is the engine's enemy side
+	private double rollout(Champion self, Champion opponent, int turnCount, int action) {
+		Champion me = self.copyForSimulation();
+		Champion them = opponent.copyForSimulation();
+		engine.continueFrom(them, me, turnCount);
+		engine.act(BattleEngine.ENEMY, action);
+		int winner = engine.playOut(BattleEngine.PLAYER, ROLLOUT_TURNS);
+		if (winner == BattleEngine.ENEMY) {
+			return 1.0;
+		} else if (winner == BattleEngine.PLAYER) {
+			return 0.0;
+		}
+		return 0.5 + 0.5 * (hpFraction(me) - hpFraction(them));
+	}
+
+	private static double hpFraction(Champion champion) {
+		return Math.max(0, champion.getCurrentHp()) / (double) Math.max(1, champion.getCurrentMaxHP());
+	}
+
+	// ==================== TRANSPOSITION KEY ====================
+
+	private static long stateKey(Champion self, Champion opponent) {
+		return mix(hash(self) * 31 + hash(opponent));
+	}
+
+	private static long hash(Champion champion) {
+		long h = champion.getName().hashCode();
+		h = h * 31 + champion.getLevel();
+		h = h * 31 + champion.getCurrentHp() * HP_STEPS / Math.max(1, champion.getCurrentMaxHP());
+		h = h * 31 + champion.getCurrentResource();
+		h = h * 31 + champion.getStatusMask();
+		h = h * 31 + champion.getSpeedStage();
+		h = h * 31 + champion.getAttackStage();
+		h = h * 31 + champion.getArmorStage();
+		h = h * 31 + champion.getApStage();
+		h = h * 31 + champion.getMagicResistStage();
+		h = h * 31 + (champion.getShieldAmount() > 0 ? 1 : 0);
+		for (Move move : champion.getMoves()) {
+			h = h * 31 + move.getUltimateCooldown();
+		}
+		Passive passive = champion.getPassive();
+		if (passive != null) {
+			h = h * 31 + passive.getCooldown();
+			h = h * 31 + passive.getStacks();
+			h = h * 31 + (passive.isUsedThisBattle() ? 1 : 0);
+		}
+		return h;
+	}
+
+	// Spread the bits so similar states do not collide in the hash map
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		return h;
+	}
+}
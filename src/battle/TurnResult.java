@@ -0,0 +1,56 @@
+package battle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one BattleEngine action: the battle log lines it produced (tagged with the
+ * side that caused them) and a few flags the caller needs to pace the battle.
+ *
+ * The engine reuses one instance; read it before the next engine call.
+ */
+public class TurnResult {
+
+	private final List<String> messages = new ArrayList<>();
+	private final List<Integer> messageSides = new ArrayList<>();
+
+	/** Side that performed the action */
+	public int actor;
+	/** True when the action used up the actor's turn (invalid moves and useless items do not) */
+	public boolean acted;
+	/** True when a run attempt succeeded */
+	public boolean escaped;
+	/** Damage of the last move or auto attack hit, 0 on a miss */
+	public int damage;
+	public boolean crit;
+	public boolean miss;
+
+	void clear(int actor) {
+		messages.clear();
+		messageSides.clear();
+		this.actor = actor;
+		acted = false;
+		escaped = false;
+		damage = 0;
+		crit = false;
+		miss = false;
+	}
+
+	void add(int side, String message) {
+		messages.add(message);
+		messageSides.add(side);
+	}
+
+	public int getMessageCount() {
+		return messages.size();
+	}
+
+	public String getMessage(int index) {
+		return messages.get(index);
+	}
+
+	/** @return BattleEngine.PLAYER, BattleEngine.ENEMY or BattleEngine.NEUTRAL */
+	public int getMessageSide(int index) {
+		return messageSides.get(index);
+	}
+}
@@ -0,0 +1,378 @@
+package data;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Champion data compiled into one binary file (see factories.ChampionCatalogCompiler), so the
+ * game does not have to build all 170 templates at startup.
+ *
+ * The file is read with a single read and kept as is: a string table (UTF-8 blob plus offsets)
+ * and fixed-width int records for champions, moves and status effects. Strings are only decoded
+ * and ChampionTemplates only built when a champion is asked for.
+ *
+ * Layout (big endian ints):
+ *   magic, version, champions, moves, effects, strings, blob length, source length, source CRC32
+ *   string offsets [strings + 1]
+ *   champion records [champions * CHAMPION_INTS], move records, effect records
+ *   string blob
+ * String fields hold a string index, -1 for null. The source is the data/champions.json the
+ * catalog was compiled from (length -1 if there was none), so a stale catalog can be detected.
+ */
+public class ChampionCatalog {
+
+	public static final String RESOURCE = "/data/champions.catalog";
+
+	private static final int MAGIC = 0x4D504343; // "MPCC"
+	private static final int VERSION = 2;
+	private static final int HEADER_INTS = 9;
+
+	// Champion record fields
+	private static final int C_NAME = 0, C_IMAGE = 1, C_REGION = 2, C_ROLE = 3, C_ROLE2 = 4, C_CLASS = 5,
+			C_RESOURCE = 6, C_HEALTH = 7, C_AD = 8, C_AP = 9, C_ARMOR = 10, C_MR = 11, C_MOVE_SPEED = 12,
+			C_MANA = 13, C_CRIT = 14, C_LIFESTEAL = 15, C_EVOLVE_AT = 16, C_NEXT_EVOLUTION = 17,
+			C_FIRST_MOVE = 18, C_MOVE_COUNT = 19, C_PASSIVE_NAME = 20, C_PASSIVE_DESCRIPTION = 21,
+			C_PASSIVE_TYPE = 22, C_PASSIVE_VALUE1 = 23, C_PASSIVE_VALUE2 = 24, C_PASSIVE_CHANCE = 25,
+			C_PASSIVE_COOLDOWN = 26, C_PASSIVE_DURATION = 27, C_PASSIVE_TRIGGER_TURNS = 28;
+	private static final int CHAMPION_INTS = 29;
+
+	// Move record fields
+	private static final int M_NAME = 0, M_TYPE = 1, M_POWER = 2, M_ACCURACY = 3, M_MANA_COST = 4, M_EFFECT = 5,
+			M_EFFECT_CHANCE = 6, M_ULTIMATE = 7, M_FIRST_EFFECT = 8, M_EFFECT_COUNT = 9, M_SPEED_STAGE = 10,
+			M_ATTACK_STAGE = 11, M_ARMOR_STAGE = 12, M_AP_STAGE = 13, M_MR_STAGE = 14, M_TARGETS_SELF = 15;
+	private static final int MOVE_INTS = 16;
+
+	// Status effect record fields
+	private static final int E_TYPE = 0, E_DURATION = 1, E_VALUE = 2, E_SELF = 3;
+	private static final int EFFECT_INTS = 4;
+
+	private final byte[] bytes;
+	private final IntBuffer ints;
+	private final int championCount;
+	private final int stringCount;
+	private final int championStart;
+	private final int moveStart;
+	private final int effectStart;
+	private final int blobStart;
+	private final int sourceLength;
+	private final int sourceChecksum;
+	private final String[] strings; // Decoded on first use
+
+	private ChampionCatalog(byte[] bytes) throws IOException {
+		this.bytes = bytes;
+		this.ints = ByteBuffer.wrap(bytes).asIntBuffer();
+		if (bytes.length < HEADER_INTS * 4 || ints.get(0) != MAGIC) {
+			throw new IOException("Not a champion catalog");
+		}
+		if (ints.get(1) != VERSION) {
+			throw new IOException("Unsupported champion catalog version " + ints.get(1));
+		}
+		championCount = ints.get(2);
+		int moveCount = ints.get(3);
+		int effectCount = ints.get(4);
+		stringCount = ints.get(5);
+		int blobLength = ints.get(6);
+		sourceLength = ints.get(7);
+		sourceChecksum = ints.get(8);
+
+		championStart = HEADER_INTS + stringCount + 1;
+		moveStart = championStart + championCount * CHAMPION_INTS;
+		effectStart = moveStart + moveCount * MOVE_INTS;
+		blobStart = (effectStart + effectCount * EFFECT_INTS) * 4;
+		if (blobStart + blobLength != bytes.length) {
+			throw new IOException("Truncated champion catalog");
+		}
+		strings = new String[stringCount];
+	}
+
+	/** @return the catalog bundled with the game, or null if there is none (or it is unreadable) */
+	public static ChampionCatalog load() {
+		try (InputStream in = ChampionCatalog.class.getResourceAsStream(RESOURCE)) {
+			if (in == null) {
+				return null;
+			}
+			return read(in);
+		} catch (IOException e) {
+			System.err.println("Could not read champion catalog: " + e.getMessage());
+			return null;
+		}
+	}
+
+	public static ChampionCatalog read(InputStream in) throws IOException {
+		return new ChampionCatalog(in.readAllBytes());
+	}
+
+	// ==================== READING ====================
+
+	/** @return true if the catalog was compiled from exactly this source file content */
+	public boolean isCompiledFrom(byte[] source) {
+		return source.length == sourceLength && checksum(source) == sourceChecksum;
+	}
+
+	public int size() {
+		return championCount;
+	}
+
+	public String getName(int champion) {
+		return string(champion(champion, C_NAME));
+	}
+
+	public String getImageName(int champion) {
+		return string(champion(champion, C_IMAGE));
+	}
+
+	/** @return index of the champion with this name, -1 if it is not in the catalog */
+	public int indexOf(String name) {
+		for (int i = 0; i < championCount; i++) {
+			if (getName(i).equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/** Build the template of one champion, same as the one read from data/champions.json */
+	public ChampionTemplate getTemplate(int champion) {
+		ChampionTemplate template = new ChampionTemplate();
+		template.name = string(champion(champion, C_NAME));
+		template.imageName = string(champion(champion, C_IMAGE));
+		template.region = string(champion(champion, C_REGION));
+		template.role = string(champion(champion, C_ROLE));
+		template.role2 = string(champion(champion, C_ROLE2));
+		template.championClass = string(champion(champion, C_CLASS));
+		template.resourceType = string(champion(champion, C_RESOURCE));
+		template.evolveAt = champion(champion, C_EVOLVE_AT);
+		template.nextEvolution = string(champion(champion, C_NEXT_EVOLUTION));
+
+		template.stats = new ChampionTemplate.ChampionStats();
+		template.stats.health = champion(champion, C_HEALTH);
+		template.stats.attackDamage = champion(champion, C_AD);
+		template.stats.abilityPower = champion(champion, C_AP);
+		template.stats.armor = champion(champion, C_ARMOR);
+		template.stats.magicResist = champion(champion, C_MR);
+		template.stats.moveSpeed = champion(champion, C_MOVE_SPEED);
+		template.stats.mana = champion(champion, C_MANA);
+		template.stats.critChance = champion(champion, C_CRIT);
+		template.stats.lifesteal = champion(champion, C_LIFESTEAL);
+
+		int firstMove = champion(champion, C_FIRST_MOVE);
+		int moveCount = champion(champion, C_MOVE_COUNT);
+		template.moves = new ArrayList<>(moveCount);
+		for (int m = firstMove; m < firstMove + moveCount; m++) {
+			template.moves.add(getMove(m));
+		}
+
+		if (champion(champion, C_PASSIVE_TYPE) >= 0) {
+			ChampionTemplate.PassiveTemplate passive = new ChampionTemplate.PassiveTemplate();
+			passive.name = string(champion(champion, C_PASSIVE_NAME));
+			passive.description = string(champion(champion, C_PASSIVE_DESCRIPTION));
+			passive.type = string(champion(champion, C_PASSIVE_TYPE));
+			passive.value1 = champion(champion, C_PASSIVE_VALUE1);
+			passive.value2 = champion(champion, C_PASSIVE_VALUE2);
+			passive.chance = champion(champion, C_PASSIVE_CHANCE);
+			passive.cooldown = champion(champion, C_PASSIVE_COOLDOWN);
+			passive.duration = champion(champion, C_PASSIVE_DURATION);
+			passive.triggerTurns = champion(champion, C_PASSIVE_TRIGGER_TURNS);
+			template.passive = passive;
+		}
+		return template;
+	}
+
+	private ChampionTemplate.MoveTemplate getMove(int move) {
+		int base = moveStart + move * MOVE_INTS;
+		ChampionTemplate.MoveTemplate template = new ChampionTemplate.MoveTemplate();
+		template.name = string(ints.get(base + M_NAME));
+		template.type = string(ints.get(base + M_TYPE));
+		template.power = ints.get(base + M_POWER);
+		template.accuracy = ints.get(base + M_ACCURACY);
+		template.manaCost = ints.get(base + M_MANA_COST);
+		template.effect = string(ints.get(base + M_EFFECT));
+		template.effectChance = ints.get(base + M_EFFECT_CHANCE);
+		template.isUltimate = ints.get(base + M_ULTIMATE) != 0;
+		template.speedStageChange = ints.get(base + M_SPEED_STAGE);
+		template.attackStageChange = ints.get(base + M_ATTACK_STAGE);
+		template.armorStageChange = ints.get(base + M_ARMOR_STAGE);
+		template.apStageChange = ints.get(base + M_AP_STAGE);
+		template.magicResistStageChange = ints.get(base + M_MR_STAGE);
+		template.targetsSelf = ints.get(base + M_TARGETS_SELF) != 0;
+
+		int firstEffect = ints.get(base + M_FIRST_EFFECT);
+		int effectCount = ints.get(base + M_EFFECT_COUNT);
+		template.statusEffects = new ArrayList<>(effectCount);
+		for (int e = firstEffect; e < firstEffect + effectCount; e++) {
+			int effectBase = effectStart + e * EFFECT_INTS;
+			ChampionTemplate.StatusEffectTemplate effect = new ChampionTemplate.StatusEffectTemplate();
+			effect.type = string(ints.get(effectBase + E_TYPE));
+			effect.duration = ints.get(effectBase + E_DURATION);
+			effect.value = ints.get(effectBase + E_VALUE);
+			effect.appliesTo = ints.get(effectBase + E_SELF) != 0;
+			template.statusEffects.add(effect);
+		}
+		return template;
+	}
+
+	private int champion(int champion, int field) {
+		return ints.get(championStart + champion * CHAMPION_INTS + field);
+	}
+
+	private String string(int index) {
+		if (index < 0) {
+			return null;
+		}
+		String value = strings[index];
+		if (value == null) {
+			int start = ints.get(HEADER_INTS + index);
+			int end = ints.get(HEADER_INTS + index + 1);
+			value = new String(bytes, blobStart + start, end - start, StandardCharsets.UTF_8);
+			strings[index] = value;
+		}
+		return value;
+	}
+
+	// ==================== WRITING ====================
+
+	/**
+	 * Compile champion templates into the catalog format
+	 * @param source content of the data/champions.json they were read from, null if none
+	 */
+	public static void write(List<ChampionTemplate> champions, byte[] source, OutputStream stream) throws IOException {
+		List<String> stringList = new ArrayList<>();
+		HashMap<String, Integer> stringIndex = new HashMap<>();
+		List<int[]> championRecords = new ArrayList<>();
+		List<int[]> moveRecords = new ArrayList<>();
+		List<int[]> effectRecords = new ArrayList<>();
+
+		for (ChampionTemplate template : champions) {
+			int[] c = new int[CHAMPION_INTS];
+			c[C_NAME] = intern(template.name, stringList, stringIndex);
+			c[C_IMAGE] = intern(template.imageName, stringList, stringIndex);
+			c[C_REGION] = intern(template.region, stringList, stringIndex);
+			c[C_ROLE] = intern(template.role, stringList, stringIndex);
+			c[C_ROLE2] = intern(template.role2, stringList, stringIndex);
+			c[C_CLASS] = intern(template.championClass, stringList, stringIndex);
+			c[C_RESOURCE] = intern(template.resourceType, stringList, stringIndex);
+			c[C_HEALTH] = template.stats.health;
+			c[C_AD] = template.stats.attackDamage;
+			c[C_AP] = template.stats.abilityPower;
+			c[C_ARMOR] = template.stats.armor;
+			c[C_MR] = template.stats.magicResist;
+			c[C_MOVE_SPEED] = template.stats.moveSpeed;
+			c[C_MANA] = template.stats.mana;
+			c[C_CRIT] = template.stats.critChance;
+			c[C_LIFESTEAL] = template.stats.lifesteal;
+			c[C_EVOLVE_AT] = template.evolveAt;
+			c[C_NEXT_EVOLUTION] = intern(template.nextEvolution, stringList, stringIndex);
+
+			List<ChampionTemplate.MoveTemplate> moves = template.moves != null ? template.moves : List.of();
+			c[C_FIRST_MOVE] = moveRecords.size();
+			c[C_MOVE_COUNT] = moves.size();
+			for (ChampionTemplate.MoveTemplate move : moves) {
+				int[] m = new int[MOVE_INTS];
+				m[M_NAME] = intern(move.name, stringList, stringIndex);
+				m[M_TYPE] = intern(move.type, stringList, stringIndex);
+				m[M_POWER] = move.power;
+				m[M_ACCURACY] = move.accuracy;
+				m[M_MANA_COST] = move.manaCost;
+				m[M_EFFECT] = intern(move.effect, stringList, stringIndex);
+				m[M_EFFECT_CHANCE] = move.effectChance;
+				m[M_ULTIMATE] = move.isUltimate ? 1 : 0;
+				m[M_SPEED_STAGE] = move.speedStageChange;
+				m[M_ATTACK_STAGE] = move.attackStageChange;
+				m[M_ARMOR_STAGE] = move.armorStageChange;
+				m[M_AP_STAGE] = move.apStageChange;
+				m[M_MR_STAGE] = move.magicResistStageChange;
+				m[M_TARGETS_SELF] = move.targetsSelf ? 1 : 0;
+
+				List<ChampionTemplate.StatusEffectTemplate> effects = move.statusEffects != null ? move.statusEffects : List.of();
+				m[M_FIRST_EFFECT] = effectRecords.size();
+				m[M_EFFECT_COUNT] = effects.size();
+				for (ChampionTemplate.StatusEffectTemplate effect : effects) {
+					int[] e = new int[EFFECT_INTS];
+					e[E_TYPE] = intern(effect.type, stringList, stringIndex);
+					e[E_DURATION] = effect.duration;
+					e[E_VALUE] = effect.value;
+					e[E_SELF] = effect.appliesTo ? 1 : 0;
+					effectRecords.add(e);
+				}
+				moveRecords.add(m);
+			}
+
+			ChampionTemplate.PassiveTemplate passive = template.passive;
+			c[C_PASSIVE_TYPE] = -1;
+			c[C_PASSIVE_NAME] = -1;
+			c[C_PASSIVE_DESCRIPTION] = -1;
+			if (passive != null) {
+				c[C_PASSIVE_NAME] = intern(passive.name, stringList, stringIndex);
+				c[C_PASSIVE_DESCRIPTION] = intern(passive.description, stringList, stringIndex);
+				c[C_PASSIVE_TYPE] = intern(passive.type, stringList, stringIndex);
+				c[C_PASSIVE_VALUE1] = passive.value1;
+				c[C_PASSIVE_VALUE2] = passive.value2;
+				c[C_PASSIVE_CHANCE] = passive.chance;
+				c[C_PASSIVE_COOLDOWN] = passive.cooldown;
+				c[C_PASSIVE_DURATION] = passive.duration;
+				c[C_PASSIVE_TRIGGER_TURNS] = passive.triggerTurns;
+			}
+			championRecords.add(c);
+		}
+
+		// String table: offsets into one UTF-8 blob
+		java.io.ByteArrayOutputStream blob = new java.io.ByteArrayOutputStream();
+		int[] offsets = new int[stringList.size() + 1];
+		for (int i = 0; i < stringList.size(); i++) {
+			offsets[i] = blob.size();
+			blob.writeBytes(stringList.get(i).getBytes(StandardCharsets.UTF_8));
+		}
+		offsets[stringList.size()] = blob.size();
+
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(championRecords.size());
+		out.writeInt(moveRecords.size());
+		out.writeInt(effectRecords.size());
+		out.writeInt(stringList.size());
+		out.writeInt(blob.size());
+		out.writeInt(source != null ? source.length : -1);
+		out.writeInt(source != null ? checksum(source) : 0);
+		for (int offset : offsets) {
+			out.writeInt(offset);
+		}
+		for (List<int[]> records : List.of(championRecords, moveRecords, effectRecords)) {
+			for (int[] record : records) {
+				for (int value : record) {
+					out.writeInt(value);
+				}
+			}
+		}
+		blob.writeTo(out);
+		out.flush();
+	}
+
+	private static int checksum(byte[] source) {
+		CRC32 crc = new CRC32();
+		crc.update(source);
+		return (int) crc.getValue();
+	}
+
+	private static int intern(String value, List<String> strings, HashMap<String, Integer> index) {
+		if (value == null) {
+			return -1;
+		}
+		Integer existing = index.get(value);
+		if (existing != null) {
+			return existing;
+		}
+		strings.add(value);
+		index.put(value, strings.size() - 1);
+		return strings.size() - 1;
+	}
+}
@@ -0,0 +1,44 @@
+package entity;
+
+/**
+ * Facing/moving direction of an entity.
+ * The ordinal is used directly as the row index into an entity's animation frame tables.
+ */
+public enum Direction {
+	UP("up"),
+	DOWN("down"),
+	LEFT("left"),
+	RIGHT("right");
+	
+	public static final int COUNT = values().length;
+	
+	private final String name;
+	
+	Direction(String name) {
+		this.name = name;
+	}
+	
+	// Lowercase name, as used in save files and event requirements
+	public String getName() {
+		return name;
+	}
+	
+	public Direction opposite() {
+		switch (this) {
+		case UP: return DOWN;
+		case DOWN: return UP;
+		case LEFT: return RIGHT;
+		default: return LEFT;
+		}
+	}
+	
+	// Parse a lowercase name ("up", "down"...), unknown values face down
+	public static Direction fromName(String name) {
+		for (Direction d : values()) {
+			if (d.name.equalsIgnoreCase(name)) {
+				return d;
+			}
+		}
+		return DOWN;
+	}
+}
@@ -4,31 +4,24 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-
-import javax.imageio.ImageIO;
 
 import main.GamePanel;
-import main.UtilityTool;
 
 public class Entity {
 	
 	GamePanel gp;
 	public int worldX,worldY;
+	public int prevWorldX,prevWorldY; // Position before the last update (render interpolation)
 	public int speed;
 	
 	public Entity(GamePanel gp) {
 		this.gp=gp;
 	}
 	
-	public BufferedImage up1,up2,up3,up4,up5,up6,
-	down1,down2,down3,down4,down5,down6,
-	left1,left2,left3,left4,left5,left6,
-	right1,right2,right3,right4,right5,right6,
-	sup1,sup2,sup3,sup4,sup5,sup6,
-	sdown1,sdown2,sdown3,sdown4,sdown5,sdown6,
-	sleft1,sleft2,sleft3,sleft4,sleft5,sleft6,
-	sright1,sright2,sright3,sright4,sright5,sright6;
+	// SPRITES - one shared atlas per character, animations are frame indices into it
+	public SpriteSheet sprites;
+	public int[][] walkFrames = new int[Direction.COUNT][]; // [direction.ordinal()][spriteNum-1]
+	public int[][] idleFrames = new int[Direction.COUNT][]; // [direction.ordinal()][idleSpriteNum-1]
 	
 	
 	public BufferedImage image, image2, image3;
@@ -46,7 +39,7 @@ public class Entity {
     int idleSpriteCounter = 0;
     int idleSpriteNum = 1;
 	
-	public String direction= "down";
+	public Direction direction= Direction.DOWN;
 	
 	public int spriteCounter =0;
 	public int spriteNum=1;
@@ -67,30 +60,20 @@ public class Entity {
 	
 	public void draw(Graphics2D g2 ) {
 		
-		BufferedImage image = null;
-		int screenX=worldX- gp.player.worldX+gp.player.screenX;
-		int screenY=worldY- gp.player.worldY+gp.player.screenY;
-		if(worldX +gp.tileSize>gp.player.worldX - gp.player.screenX && 
-		   worldX -gp.tileSize< gp.player.worldX + gp.player.screenX &&
-		   worldY +gp.tileSize> gp.player.worldY-gp.player.screenY && 
-		   worldY -gp.tileSize< gp.player.worldY+gp.player.screenY)
+		int renderX = getRenderX();
+		int renderY = getRenderY();
+		int cameraX = gp.player.getRenderX();
+		int cameraY = gp.player.getRenderY();
+		int screenX=renderX- cameraX+gp.player.screenX;
+		int screenY=renderY- cameraY+gp.player.screenY;
+		if(renderX +gp.tileSize>cameraX - gp.player.screenX && 
+		   renderX -gp.tileSize< cameraX + gp.player.screenX &&
+		   renderY +gp.tileSize> cameraY-gp.player.screenY && 
+		   renderY -gp.tileSize< cameraY+gp.player.screenY)
 		{
-			switch (direction) {
-            case "up":
-                image = getMovingImage("up");
-                break;
-            case "down":
-                image = getMovingImage("down");
-                break;
-            case "left":
-                image = getMovingImage("left");
-                break;
-            case "right":
-                image = getMovingImage("right");
-                break;
-        }
-			
-			g2.drawImage(image, screenX,screenY, gp.tileSize, gp.tileSize,null);
+			if (sprites != null) {
+				sprites.drawFrame(g2, getFrame(walkFrames, spriteNum), screenX, screenY, gp.tileSize, gp.tileSize);
+			}
 			// Draw collision box if enabled
 	        if (gp.showCollisionBox) {
 	            g2.setColor(Color.RED);
@@ -103,32 +86,56 @@ public class Entity {
 		
 	}
 	
-	private BufferedImage getMovingImage(String direction) {
-        switch (spriteNum) {
-            case 1: return direction.equals("up") ? up1 : direction.equals("down") ? down1 :
-                        direction.equals("left") ? left1 : right1;
-            case 2: return direction.equals("up") ? up2 : direction.equals("down") ? down2 :
-                        direction.equals("left") ? left2 : right2;
-            case 3: return direction.equals("up") ? up3 : direction.equals("down") ? down3 :
-                        direction.equals("left") ? left3 : right3;
-            
-            default: return null;
-        }
-    }
+	// Called by GamePanel before every update
+	public void storePreviousPosition() {
+		prevWorldX = worldX;
+		prevWorldY = worldY;
+	}
+	
+	// Position to draw at, interpolated between the last two updates.
+	// Jumps of more than a tile (warps, map changes, loading) snap instead of sliding.
+	public int getRenderX() {
+		return interpolate(prevWorldX, worldX);
+	}
+	
+	public int getRenderY() {
+		return interpolate(prevWorldY, worldY);
+	}
+	
+	private int interpolate(int previous, int current) {
+		int distance = current - previous;
+		if (distance == 0 || Math.abs(distance) > gp.tileSize) {
+			return current;
+		}
+		return previous + Math.round(distance * gp.frameScheduler.getInterpolation());
+	}
+	
+	// Frame index for the current direction and 1-based animation step, -1 if there is none
+	protected int getFrame(int[][] frames, int step) {
+		int[] animation = frames[direction.ordinal()];
+		if (animation == null || step < 1 || step > animation.length) {
+			return -1;
+		}
+		return animation[step - 1];
+	}
+	
+	// Shared atlas of tile-sized frames from a resource folder
+	protected SpriteSheet loadSprites(String file, String... imgNames) {
+		return SpriteSheet.load(file, gp.tileSize, imgNames);
+	}
+	
+	// Use the same frames for every direction (objects and other static sprites)
+	protected void setStaticSprite(String imgName, String file) {
+		sprites = loadSprites(file, imgName);
+		int[] frames = sprites.frames(imgName);
+		for (int i = 0; i < Direction.COUNT; i++) {
+			walkFrames[i] = frames;
+		}
+	}
 	
 	public BufferedImage setup(String imgName,String file) {
-    	UtilityTool uTool = new UtilityTool();
-    	BufferedImage image = null;
-    	
-    	try {
-    		image = ImageIO.read(getClass().getResourceAsStream("/"+file+"/"+imgName+".png"));
-    		image = uTool.scaleImage(image, gp.tileSize, gp.tileSize);
-    		
-    	}catch(IOException e) {
-    		e.printStackTrace();
-    	}
-    	return image;
-    }
+		return gp.assets.getScaledImage("/"+file+"/"+imgName+".png", gp.tileSize, gp.tileSize);
+	}
 	
 	public void setAction() {
 		
@@ -155,10 +162,10 @@ public class Entity {
 		
 		if (!collisionOn) {
             switch (direction) {
-                case "up": worldY -= speed; break;
-                case "down": worldY += speed; break;
-                case "left": worldX -= speed; break;
-                case "right": worldX += speed; break;
+                case UP: worldY -= speed; break;
+                case DOWN: worldY += speed; break;
+                case LEFT: worldX -= speed; break;
+                case RIGHT: worldX += speed; break;
             }
         }
 
@@ -180,21 +187,7 @@ public class Entity {
 		gp.ui.currentDialog=dialogs[dialogIndex];
 		dialogIndex+=1;
 		
-		switch(gp.player.direction) {
-		case("up"):
-			direction="down";
-			break;
-		case("down"):
-			direction="up";
-			break;
-		case("left"):
-			direction="right";
-			break;
-		case("right"):
-			direction="left";
-			break;
-		
-		}
+		direction = gp.player.direction.opposite();
 	}
 	
 
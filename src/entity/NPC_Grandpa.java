@@ -11,7 +11,7 @@ public class NPC_Grandpa extends Entity{
 	public NPC_Grandpa(GamePanel gp) {
 		super(gp);
 		
-		direction="down";
+		direction=Direction.DOWN;
 		speed=1;
 		solidArea = new Rectangle();
         solidArea.x = 4;
@@ -30,24 +30,12 @@ public class NPC_Grandpa extends Entity{
 	public void getImage() {
 	    	
 	        
-	        up1 = setup("GPup1","npcGP");
-	        up2 = setup("GPup2","npcGP");
-	        up3 = setup("GPup3","npcGP");
-	        
-	
-	        down1 = setup("GPdown1","npcGP");
-	        down2 = setup("GPdown2","npcGP");
-	        down3 = setup("GPdown3","npcGP");
-	        
-	
-	        left1 = setup("GPleft1","npcGP");
-	        left2 = setup("GPleft2","npcGP");
-	        left3 = setup("GPleft3","npcGP");
-	        
-	
-	        right1 = setup("GPright1","npcGP");
-	        right2 = setup("GPright2","npcGP");
-	        right3 = setup("GPright3","npcGP");
+	        sprites = loadSprites("npcGP",
+	        		"GPup1", "GPup2", "GPup3", "GPdown1", "GPdown2", "GPdown3", "GPleft1", "GPleft2", "GPleft3", "GPright1", "GPright2", "GPright3");
+	        walkFrames[Direction.UP.ordinal()] = sprites.frames("GPup1", "GPup2", "GPup3");
+	        walkFrames[Direction.DOWN.ordinal()] = sprites.frames("GPdown1", "GPdown2", "GPdown3");
+	        walkFrames[Direction.LEFT.ordinal()] = sprites.frames("GPleft1", "GPleft2", "GPleft3");
+	        walkFrames[Direction.RIGHT.ordinal()] = sprites.frames("GPright1", "GPright2", "GPright3");
 	        
 	
 //	        sup1 = setup("Up1","npcGP");
@@ -85,16 +73,16 @@ public class NPC_Grandpa extends Entity{
 			Random random = new Random();
 			int i = random.nextInt(100)+1; // pick number from 1 to 100
 			if(i<=25) {
-				direction="up";
+				direction=Direction.UP;
 			}
 			if(i>25 &&i<=50) {
-				direction="down";
+				direction=Direction.DOWN;
 			}
 			if(i>50 &&i<=75) {
-				direction="left";
+				direction=Direction.LEFT;
 			}
 			if(i>75 &&i<=100) {
-				direction="right";
+				direction=Direction.RIGHT;
 			}
 			actionLockCounter=0;
 		}
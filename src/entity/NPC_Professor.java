@@ -11,7 +11,7 @@ public class NPC_Professor extends Entity{
 	public NPC_Professor(GamePanel gp) {
 		super(gp);
 		
-		direction="down";
+		direction=Direction.DOWN;
 		speed=1;
 		solidArea = new Rectangle();
         solidArea.x = 8;
@@ -29,24 +29,12 @@ public class NPC_Professor extends Entity{
 	public void getImage() {
 	    	
 	        
-	        up1 = setup("Up1","npcProfessor");
-	        up2 = setup("Up2","npcProfessor");
-	        up3 = setup("Up3","npcProfessor");
-	        
-	
-	        down1 = setup("Down1","npcProfessor");
-	        down2 = setup("Down2","npcProfessor");
-	        down3 = setup("Down3","npcProfessor");
-	        
-	
-	        left1 = setup("Left1","npcProfessor");
-	        left2 = setup("Left2","npcProfessor");
-	        left3 = setup("Left3","npcProfessor");
-	        
-	
-	        right1 = setup("Right1","npcProfessor");
-	        right2 = setup("Right2","npcProfessor");
-	        right3 = setup("Right3","npcProfessor");
+	        sprites = loadSprites("npcProfessor",
+	        		"Up1", "Up2", "Up3", "Down1", "Down2", "Down3", "Left1", "Left2", "Left3", "Right1", "Right2", "Right3");
+	        walkFrames[Direction.UP.ordinal()] = sprites.frames("Up1", "Up2", "Up3");
+	        walkFrames[Direction.DOWN.ordinal()] = sprites.frames("Down1", "Down2", "Down3");
+	        walkFrames[Direction.LEFT.ordinal()] = sprites.frames("Left1", "Left2", "Left3");
+	        walkFrames[Direction.RIGHT.ordinal()] = sprites.frames("Right1", "Right2", "Right3");
 	        
 	
 //	        sup1 = setup("Up1","npcGP");
@@ -82,16 +70,16 @@ public class NPC_Professor extends Entity{
 			Random random = new Random();
 			int i = random.nextInt(100)+1; // pick number from 1 to 100
 			if(i<=25) {
-				direction="up";
+				direction=Direction.UP;
 			}
 			if(i>25 &&i<=50) {
-				direction="down";
+				direction=Direction.DOWN;
 			}
 			if(i>50 &&i<=75) {
-				direction="left";
+				direction=Direction.LEFT;
 			}
 			if(i>75 &&i<=100) {
-				direction="right";
+				direction=Direction.RIGHT;
 			}
 			actionLockCounter=0;
 		}
@@ -5,23 +5,22 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.imageio.ImageIO;
-
 import Champions.Champion;
 import Champions.ChampionFactory;
+import Champions.ChampionSpecies;
 import Champions.WildChampionSpawner;
+import item.Inventory;
+import item.ItemCatalog;
 import main.Coordinates;
 import main.EventRect;
 import main.GamePanel;
 import main.KeyHandler;
-import main.UtilityTool;
 
 public class Player extends Entity {
 
@@ -39,6 +38,8 @@ public class Player extends Entity {
     int idleSpriteNum = 1;
     
     int annimcpt=0;
+    
+    SpriteSheet idleSprites; // Standing animation atlas (walking frames use Entity.sprites)
     public int numchamp =0;
     
     WildChampionSpawner spawner;
@@ -56,8 +57,7 @@ public class Player extends Entity {
     private int money; // Player's current money/gold
     
     // INVENTORY SYSTEM
-    private Map<String, Integer> inventory; // Central inventory (item name -> quantity)
-    private Map<String, Long> itemTimestamps; // Track when each item was first added (for chronological order)
+    private Inventory inventory; // Central inventory (count and first acquired time per ItemCatalog id)
 
 
 
@@ -114,7 +114,7 @@ public class Player extends Entity {
         worldX = gp.tileSize * 23;
         worldY = gp.tileSize * 21;
         speed = 4;
-        direction = "down";
+        direction = Direction.DOWN;
         
         // PLAYER STATUS
         maxLife=6;
@@ -124,84 +124,52 @@ public class Player extends Entity {
         money = 10000;
         
         // INVENTORY SYSTEM - Central inventory for items
-        inventory = new HashMap<>();
-        itemTimestamps = new HashMap<>(); // Initialize timestamp tracking
+        inventory = new Inventory(ItemCatalog.get());
         initializeStartingItems();
     }
 
     public void getPlayerImage() {
     	
+        // Walking and standing frames come from two folders, packed into one atlas each
+        String[] walkUp = {"Up1", "Up2", "Up3", "Up4", "Up5", "Up6"};
+        String[] walkDown = {"Down1", "Down2", "Down3", "Down4", "Down5", "Down6"};
+        String[] walkLeft = {"Left1", "Left2", "Left3", "Left4", "Left5", "Left6"};
+        String[] walkRight = {"Right1", "Right2", "Right3", "Right4", "Right5", "Right6"};
+        String[] stillUp = {"Up1", "Up2", "Up3", "Up4", "Up5", "Up6"};
+        String[] stillDown = {"Bas1", "Bas2", "Bas3", "Bas4", "Bas5", "Bas6"};
+        String[] stillLeft = {"Left1", "Left2", "Left3", "Left4", "Left5", "Left6"};
+        String[] stillRight = {"Right1", "Right2", "Right3", "Right4", "Right5", "Right6"};
         
-        up1 = setup("Up1","player");
-        up2 = setup("Up2","player");
-        up3 = setup("Up3","player");
-        up4 = setup("Up4","player");
-        up5 = setup("Up5","player");
-        up6 = setup("Up6","player");
-
-        down1 = setup("Down1","player");
-        down2 = setup("Down2","player");
-        down3 = setup("Down3","player");
-        down4 = setup("Down4","player");
-        down5 = setup("Down5","player");
-        down6 = setup("Down6","player");
-
-        left1 = setup("Left1","player");
-        left2 = setup("Left2","player");
-        left3 = setup("Left3","player");
-        left4 = setup("Left4","player");
-        left5 = setup("Left5","player");
-        left6 = setup("Left6","player");
-
-        right1 = setup("Right1","player");
-        right2 = setup("Right2","player");
-        right3 = setup("Right3","player");
-        right4 = setup("Right4","player");
-        right5 = setup("Right5","player");
-        right6 = setup("Right6","player");
-
-        sup1 = setup("Up1","playerStill");
-        sup2 = setup("Up2","playerStill");
-        sup3 = setup("Up3","playerStill");
-        sup4 = setup("Up4","playerStill");
-        sup5 = setup("Up5","playerStill");
-        sup6 = setup("Up6","playerStill");
-
-        sdown1 = setup("Bas1","playerStill");
-        sdown2 = setup("Bas2","playerStill");
-        sdown3 = setup("Bas3","playerStill");
-        sdown4 = setup("Bas4","playerStill");
-        sdown5 = setup("Bas5","playerStill");
-        sdown6 = setup("Bas6","playerStill");
-
-        sleft1 = setup("Left1","playerStill");
-        sleft2 = setup("Left2","playerStill");
-        sleft3 = setup("Left3","playerStill");
-        sleft4 = setup("Left4","playerStill");
-        sleft5 = setup("Left5","playerStill");
-        sleft6 = setup("Left6","playerStill");
-
-        sright1 = setup("Right1","playerStill");
-        sright2 = setup("Right2","playerStill");
-        sright3 = setup("Right3","playerStill");
-        sright4 = setup("Right4","playerStill");
-        sright5 = setup("Right5","playerStill");
-        sright6 = setup("Right6","playerStill");
+        sprites = loadSprites("player", concat(walkUp, walkDown, walkLeft, walkRight));
+        walkFrames[Direction.UP.ordinal()] = sprites.frames(walkUp);
+        walkFrames[Direction.DOWN.ordinal()] = sprites.frames(walkDown);
+        walkFrames[Direction.LEFT.ordinal()] = sprites.frames(walkLeft);
+        walkFrames[Direction.RIGHT.ordinal()] = sprites.frames(walkRight);
         
+        idleSprites = loadSprites("playerStill", concat(stillUp, stillDown, stillLeft, stillRight));
+        idleFrames[Direction.UP.ordinal()] = idleSprites.frames(stillUp);
+        idleFrames[Direction.DOWN.ordinal()] = idleSprites.frames(stillDown);
+        idleFrames[Direction.LEFT.ordinal()] = idleSprites.frames(stillLeft);
+        idleFrames[Direction.RIGHT.ordinal()] = idleSprites.frames(stillRight);
     }
     
-    public BufferedImage setup(String imgName,String file) {
-    	UtilityTool uTool = new UtilityTool();
-    	BufferedImage image = null;
-    	
-    	try {
-    		image = ImageIO.read(getClass().getResourceAsStream("/"+file+"/"+imgName+".png"));
-    		image = uTool.scaleImage(image, gp.tileSize, gp.tileSize);
-    		
-    	}catch(IOException e) {
-    		e.printStackTrace();
-    	}
-    	return image;
+    private static String[] concat(String[]... parts) {
+        int length = 0;
+        for (String[] part : parts) {
+            length += part.length;
+        }
+        String[] all = new String[length];
+        int i = 0;
+        for (String[] part : parts) {
+            System.arraycopy(part, 0, all, i, part.length);
+            i += part.length;
+        }
+        return all;
+    }
+    
+    // First standing frame facing down (title screen portrait)
+    public BufferedImage getPortraitImage() {
+        return idleSprites.getFrameImage(idleFrames[Direction.DOWN.ordinal()][0]);
     }
     
     public void initializeParty() {
@@ -458,13 +426,20 @@ public class Player extends Entity {
         }
     }
     public boolean isChampionOwned(Champion champion) {
-        int index = gp.champList.indexOf(champion);
-        return index >= 0 && ownedChampions.get(index);
+        return isChampionOwned(gp.champList.indexOf(champion));
     }
     
     public boolean isChampionSeen(Champion champion) {
-        int index = gp.champList.indexOf(champion);
-        return index >= 0 && seenChampions.get(index);
+        return isChampionSeen(gp.champList.indexOf(champion));
+    }
+    
+    // By roster index, so callers scanning the roster don't have to create every champion
+    public boolean isChampionOwned(int index) {
+        return index >= 0 && index < ownedChampions.size() && ownedChampions.get(index);
+    }
+    
+    public boolean isChampionSeen(int index) {
+        return index >= 0 && index < seenChampions.size() && seenChampions.get(index);
     }
     
     public void markChampionAsSeen(Champion champion) {
@@ -549,13 +524,13 @@ public class Player extends Entity {
     		{
     		    // 1. Set direction ONLY if up/down/left/right
     		    if (keyH.upPressed) {
-    		        direction = "up";
+    		        direction = Direction.UP;
     		    } else if (keyH.downPressed) {
-    		        direction = "down";
+    		        direction = Direction.DOWN;
     		    } else if (keyH.rightPressed) {
-    		        direction = "right";
+    		        direction = Direction.RIGHT;
     		    } else if (keyH.leftPressed) {
-    		        direction = "left";
+    		        direction = Direction.LEFT;
     		    }
 
     		    // 2. Check collisions, NPC, events
@@ -577,10 +552,10 @@ public class Player extends Entity {
     		        && (keyH.interctPressed==false))
     		    {
     		        switch (direction) {
-    		            case "up" -> worldY -= speed;
-    		            case "down" -> worldY += speed;
-    		            case "left" -> worldX -= speed;
-    		            case "right"-> worldX += speed;
+    		            case UP -> worldY -= speed;
+    		            case DOWN -> worldY += speed;
+    		            case LEFT -> worldX -= speed;
+    		            case RIGHT -> worldX += speed;
     		        }
     		        
     		        
@@ -672,39 +647,10 @@ public class Player extends Entity {
 
     public void draw(Graphics2D g2) {
 
-        BufferedImage image = null;
-
-        if (keyH.upPressed || keyH.downPressed || keyH.rightPressed || keyH.leftPressed) {
-            switch (direction) {
-                case "up":
-                    image = getMovingImage("up");
-                    break;
-                case "down":
-                    image = getMovingImage("down");
-                    break;
-                case "left":
-                    image = getMovingImage("left");
-                    break;
-                case "right":
-                    image = getMovingImage("right");
-                    break;
-            }
-        } else {
-            switch (direction) {
-                case "up":
-                    image = getIdleImage("sup");
-                    break;
-                case "down":
-                    image = getIdleImage("sdown");
-                    break;
-                case "left":
-                    image = getIdleImage("sleft");
-                    break;
-                case "right":
-                    image = getIdleImage("sright");
-                    break;
-            }
-        }
+        // Walking animation while a direction is held, standing animation otherwise
+        boolean moving = keyH.upPressed || keyH.downPressed || keyH.rightPressed || keyH.leftPressed;
+        SpriteSheet sheet = moving ? sprites : idleSprites;
+        int frame = moving ? getFrame(walkFrames, spriteNum) : getFrame(idleFrames, idleSpriteNum);
 
         
         if(invincible==true) {
@@ -724,7 +670,7 @@ public class Player extends Entity {
         	}
         }
         
-        g2.drawImage(image, screenX, screenY, null);
+        sheet.drawFrame(g2, frame, screenX, screenY, gp.tileSize, gp.tileSize);
         
         //Reset alpha 
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f));
@@ -759,8 +705,8 @@ public class Player extends Entity {
                 
                 // Convert world position to screen position 
                 // (the same way you do for the player)
-                int tileScreenX = tileWorldX - worldX + screenX;
-                int tileScreenY = tileWorldY - worldY + screenY;
+                int tileScreenX = tileWorldX - getRenderX() + screenX;
+                int tileScreenY = tileWorldY - getRenderY() + screenY;
                 
                 // Draw the rectangle on the screen
                 g2.fillRect(tileScreenX, tileScreenY, eRect.width, eRect.height);
@@ -768,42 +714,6 @@ public class Player extends Entity {
         }
     }
  
-    private BufferedImage getMovingImage(String direction) {
-        switch (spriteNum) {
-            case 1: return direction.equals("up") ? up1 : direction.equals("down") ? down1 :
-                        direction.equals("left") ? left1 : right1;
-            case 2: return direction.equals("up") ? up2 : direction.equals("down") ? down2 :
-                        direction.equals("left") ? left2 : right2;
-            case 3: return direction.equals("up") ? up3 : direction.equals("down") ? down3 :
-                        direction.equals("left") ? left3 : right3;
-            case 4: return direction.equals("up") ? up4 : direction.equals("down") ? down4 :
-                        direction.equals("left") ? left4 : right4;
-            case 5: return direction.equals("up") ? up5 : direction.equals("down") ? down5 :
-                        direction.equals("left") ? left5 : right5;
-            case 6: return direction.equals("up") ? up6 : direction.equals("down") ? down6 :
-                        direction.equals("left") ? left6 : right6;
-            default: return null;
-        }
-    }
-
-    private BufferedImage getIdleImage(String idlePrefix) {
-        switch (idleSpriteNum) {
-            case 1: return idlePrefix.equals("sup") ? sup1 : idlePrefix.equals("sdown") ? sdown1 :
-                        idlePrefix.equals("sleft") ? sleft1 : sright1;
-            case 2: return idlePrefix.equals("sup") ? sup2 : idlePrefix.equals("sdown") ? sdown2 :
-                        idlePrefix.equals("sleft") ? sleft2 : sright2;
-            case 3: return idlePrefix.equals("sup") ? sup3 : idlePrefix.equals("sdown") ? sdown3 :
-                        idlePrefix.equals("sleft") ? sleft3 : sright3;
-            case 4: return idlePrefix.equals("sup") ? sup4 : idlePrefix.equals("sdown") ? sdown4 :
-                        idlePrefix.equals("sleft") ? sleft4 : sright4;
-            case 5: return idlePrefix.equals("sup") ? sup5 : idlePrefix.equals("sdown") ? sdown5 :
-                        idlePrefix.equals("sleft") ? sleft5 : sright5;
-            case 6: return idlePrefix.equals("sup") ? sup6 : idlePrefix.equals("sdown") ? sdown6 :
-                        idlePrefix.equals("sleft") ? sleft6 : sright6;
-            default: return null;
-        }
-    }
-    
     // ==================== MONEY SYSTEM METHODS ====================
     
     /**
@@ -880,45 +790,28 @@ public class Player extends Entity {
         long currentTime = System.currentTimeMillis();
         
         // Consumables for testing - add all available types
-        inventory.put("Potion", 15);
-        itemTimestamps.put("Potion", currentTime);
-        
-        inventory.put("Mana Potion", 10);
-        itemTimestamps.put("Mana Potion", currentTime + 1);
-        
-        inventory.put("Full Restore", 5);
-        itemTimestamps.put("Full Restore", currentTime + 2);
-        
-        inventory.put("Revive", 8);
-        itemTimestamps.put("Revive", currentTime + 3);
-        
-        inventory.put("Max Revive", 3);
-        itemTimestamps.put("Max Revive", currentTime + 4);
-        
-        inventory.put("Refillable Potion", 12);
-        itemTimestamps.put("Refillable Potion", currentTime + 5);
-        
-        inventory.put("Corrupting Potion", 6);
-        itemTimestamps.put("Corrupting Potion", currentTime + 6);
-        
-        inventory.put("Elixir of Iron", 4);
-        itemTimestamps.put("Elixir of Iron", currentTime + 7);
-        
-        inventory.put("Elixir of Sorcery", 4);
-        itemTimestamps.put("Elixir of Sorcery", currentTime + 8);
-        
-        inventory.put("Elixir of Wrath", 4);
-        itemTimestamps.put("Elixir of Wrath", currentTime + 9);
+        addStartingItem("Potion", 15, currentTime);
+        addStartingItem("Mana Potion", 10, currentTime + 1);
+        addStartingItem("Full Restore", 5, currentTime + 2);
+        addStartingItem("Revive", 8, currentTime + 3);
+        addStartingItem("Max Revive", 3, currentTime + 4);
+        addStartingItem("Refillable Potion", 12, currentTime + 5);
+        addStartingItem("Corrupting Potion", 6, currentTime + 6);
+        addStartingItem("Elixir of Iron", 4, currentTime + 7);
+        addStartingItem("Elixir of Sorcery", 4, currentTime + 8);
+        addStartingItem("Elixir of Wrath", 4, currentTime + 9);
         
         // Legend balls for testing
-        inventory.put("Poke Ball", 20);
-        itemTimestamps.put("Poke Ball", currentTime + 10);
-        
-        inventory.put("Great Ball", 10);
-        itemTimestamps.put("Great Ball", currentTime + 11);
-        
-        inventory.put("Ultra Ball", 5);
-        itemTimestamps.put("Ultra Ball", currentTime + 12);
+        addStartingItem("Poke Ball", 20, currentTime + 10);
+        addStartingItem("Great Ball", 10, currentTime + 11);
+        addStartingItem("Ultra Ball", 5, currentTime + 12);
+    }
+    
+    private void addStartingItem(String itemName, int quantity, long time) {
+        int id = inventory.getCatalog().getId(itemName);
+        if (id != ItemCatalog.NONE) {
+            inventory.add(id, quantity, time);
+        }
     }
     
     /**
@@ -927,16 +820,24 @@ public class Player extends Entity {
      * @param quantity Quantity to add
      */
     public void addToInventory(String itemName, int quantity) {
+        int id = inventory.getCatalog().getId(itemName);
+        if (id == ItemCatalog.NONE) {
+            System.err.println("Unknown item: " + itemName);
+            return;
+        }
+        addToInventory(id, quantity);
+    }
+    
+    /**
+     * Add item to player's inventory
+     * @param itemId ItemCatalog id of the item
+     * @param quantity Quantity to add
+     */
+    public void addToInventory(int itemId, int quantity) {
         if (quantity > 0) {
-            int currentAmount = inventory.getOrDefault(itemName, 0);
-            
-            // If this is a new item, record the timestamp
-            if (currentAmount == 0) {
-                itemTimestamps.put(itemName, System.currentTimeMillis());
-            }
-            
-            inventory.put(itemName, currentAmount + quantity);
-            System.out.println("Added " + quantity + "x " + itemName + " to inventory. Total: " + (currentAmount + quantity));
+            // If this is a new item, it is recorded as the newest
+            inventory.add(itemId, quantity, System.currentTimeMillis());
+            System.out.println("Added " + quantity + "x " + inventory.getCatalog().getName(itemId) + " to inventory. Total: " + inventory.getCount(itemId));
         }
     }
     
@@ -947,16 +848,19 @@ public class Player extends Entity {
      * @return true if successfully removed, false if not enough items
      */
     public boolean removeFromInventory(String itemName, int quantity) {
-        int currentAmount = inventory.getOrDefault(itemName, 0);
-        if (currentAmount >= quantity) {
-            int newAmount = currentAmount - quantity;
-            if (newAmount == 0) {
-                inventory.remove(itemName);
-                itemTimestamps.remove(itemName); // Remove timestamp when item is completely gone
-            } else {
-                inventory.put(itemName, newAmount);
-            }
-            System.out.println("Removed " + quantity + "x " + itemName + " from inventory.");
+        int id = inventory.getCatalog().getId(itemName);
+        return id != ItemCatalog.NONE && removeFromInventory(id, quantity);
+    }
+    
+    /**
+     * Remove item from player's inventory
+     * @param itemId ItemCatalog id of the item
+     * @param quantity Quantity to remove
+     * @return true if successfully removed, false if not enough items
+     */
+    public boolean removeFromInventory(int itemId, int quantity) {
+        if (inventory.remove(itemId, quantity)) {
+            System.out.println("Removed " + quantity + "x " + inventory.getCatalog().getName(itemId) + " from inventory.");
             return true;
         }
         return false;
@@ -968,15 +872,15 @@ public class Player extends Entity {
      * @return Quantity of the item (0 if not found)
      */
     public int getItemQuantity(String itemName) {
-        return inventory.getOrDefault(itemName, 0);
+        int id = inventory.getCatalog().getId(itemName);
+        return id != ItemCatalog.NONE ? inventory.getCount(id) : 0;
     }
     
     /**
-     * Get the entire inventory map
-     * @return Copy of the inventory map
+     * The player's inventory, read by the bag and battle menus
      */
-    public Map<String, Integer> getInventory() {
-        return new HashMap<>(inventory); // Return a copy to prevent external modification
+    public Inventory getInventory() {
+        return inventory;
     }
     
     /**
@@ -985,7 +889,7 @@ public class Player extends Entity {
      * @return true if player has at least 1 of this item
      */
     public boolean hasItem(String itemName) {
-        return inventory.getOrDefault(itemName, 0) > 0;
+        return getItemQuantity(itemName) > 0;
     }
     
     /**
@@ -993,7 +897,6 @@ public class Player extends Entity {
      */
     public void clearInventory() {
         inventory.clear();
-        itemTimestamps.clear(); // Clear timestamps too
         System.out.println("Player inventory cleared.");
     }
     
@@ -1019,24 +922,6 @@ public class Player extends Entity {
         System.out.println("DEBUG: Money reset to " + this.money);
     }
     
-    /**
-     * Get inventory keys in chronological order (oldest added to newest)
-     * Orders items by actual timestamp when they were first added
-     * @return List of item names in chronological order
-     */
-    public List<String> getInventoryKeysInOrder() {
-        List<String> orderedKeys = new ArrayList<>(inventory.keySet());
-        
-        // Sort by timestamps (oldest first)
-        orderedKeys.sort((item1, item2) -> {
-            long timestamp1 = itemTimestamps.getOrDefault(item1, 0L);
-            long timestamp2 = itemTimestamps.getOrDefault(item2, 0L);
-            return Long.compare(timestamp1, timestamp2);
-        });
-        
-        return orderedKeys;
-    }
-    
     // ============== SAVE/LOAD SYSTEM METHODS ==============
     
     public List<Boolean> getOwnedChampions() {
@@ -1065,16 +950,45 @@ public class Player extends Entity {
         }
     }
     
-    public Map<String, Long> getItemTimestamps() {
-        return itemTimestamps;
+    /**
+     * Inventory by item name, for save files (catalog ids can change with the item data)
+     */
+    public Map<String, Integer> getInventoryCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < inventory.getOwnedSize(); i++) {
+            int id = inventory.getOwned(i);
+            counts.put(inventory.getCatalog().getName(id), inventory.getCount(id));
+        }
+        return counts;
     }
     
-    public void setItemTimestamps(Map<String, Long> itemTimestamps) {
-        this.itemTimestamps = itemTimestamps;
+    public Map<String, Long> getItemTimestamps() {
+        Map<String, Long> timestamps = new HashMap<>();
+        for (int i = 0; i < inventory.getOwnedSize(); i++) {
+            int id = inventory.getOwned(i);
+            timestamps.put(inventory.getCatalog().getName(id), inventory.getFirstAcquired(id));
+        }
+        return timestamps;
     }
     
-    public void setInventory(Map<String, Integer> inventory) {
-        this.inventory = inventory;
+    /**
+     * Replace the inventory with saved counts and first acquired times by item name
+     */
+    public void setInventory(Map<String, Integer> counts, Map<String, Long> timestamps) {
+        inventory.clear();
+        if (counts == null) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            int id = inventory.getCatalog().getId(entry.getKey());
+            if (id == ItemCatalog.NONE) {
+                System.err.println("Dropping unknown saved item: " + entry.getKey());
+                continue;
+            }
+            Long time = timestamps != null ? timestamps.get(entry.getKey()) : null;
+            inventory.set(id, entry.getValue(), time != null ? time : 0L);
+        }
+        inventory.sortOwned();
     }
     
     // ============== STARTER SELECTION METHODS ==============
@@ -1085,14 +999,9 @@ public class Player extends Entity {
      * @param role Role to assign the champion to ("Support", "Mid", "Adc")
      */
     public void addStarterChampion(String championName, String role) {
-        // Find the champion in the global champion list
-        Champion starterChampion = null;
-        for (Champion champ : gp.champList) {
-            if (champ.getName().equals(championName)) {
-                starterChampion = ChampionFactory.createChampionCopy(champ);
-                break;
-            }
-        }
+        // Find the champion's species, without creating the rest of the roster
+        ChampionSpecies species = ChampionFactory.findSpecies(championName);
+        Champion starterChampion = species != null ? species.createInstance(1) : null;
         
         if (starterChampion == null) {
             System.err.println("Could not find starter champion: " + championName);
@@ -1102,7 +1011,7 @@ public class Player extends Entity {
         // Set the champion as owned
         int championIndex = -1;
         for (int i = 0; i < gp.champList.size(); i++) {
-            if (gp.champList.get(i).getName().equals(championName)) {
+            if (gp.champList.getName(i).equals(championName)) {
                 championIndex = i;
                 break;
             }
@@ -0,0 +1,125 @@
+package entity;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import main.AssetRepository;
+import main.UtilityTool;
+
+/**
+ * Packed sprite atlas for one character.
+ * All frames are scaled once and packed into a single image; entities refer to frames by int
+ * index and draw them by sub-rectangle. Sheets are cached by folder and frame list, so every
+ * entity of the same kind shares one atlas instead of holding its own images.
+ */
+public class SpriteSheet {
+	
+	private static final HashMap<String, SpriteSheet> cache = new HashMap<>();
+	
+	private final BufferedImage atlas;
+	private final int frameWidth;
+	private final int frameHeight;
+	private final int columns;
+	private final String[] frameNames;
+	
+	private SpriteSheet(BufferedImage atlas, int frameWidth, int frameHeight, int columns, String[] frameNames) {
+		this.atlas = atlas;
+		this.frameWidth = frameWidth;
+		this.frameHeight = frameHeight;
+		this.columns = columns;
+		this.frameNames = frameNames;
+	}
+	
+	/**
+	 * Load (or reuse) the atlas for a set of frames in a resource folder.
+	 * Duplicate names are packed only once.
+	 * @param folder resource folder, e.g. "player" for /player/Up1.png
+	 * @param frameSize size every frame is scaled to (usually gp.tileSize)
+	 * @param names frame image names without extension
+	 */
+	public static synchronized SpriteSheet load(String folder, int frameSize, String... names) {
+		String key = folder + "@" + frameSize + ":" + String.join(",", names);
+		SpriteSheet sheet = cache.get(key);
+		if (sheet == null) {
+			sheet = pack(folder, frameSize, names);
+			cache.put(key, sheet);
+		}
+		return sheet;
+	}
+	
+	private static SpriteSheet pack(String folder, int frameSize, String[] names) {
+		// Unique frames, in first-seen order
+		LinkedHashMap<String, BufferedImage> frames = new LinkedHashMap<>();
+		UtilityTool uTool = new UtilityTool();
+		for (String name : names) {
+			if (frames.containsKey(name)) {
+				continue;
+			}
+			// Decoded through the shared repository; the atlas copy is what gets drawn
+			frames.put(name, AssetRepository.getInstance().getImage("/" + folder + "/" + name + ".png"));
+		}
+		
+		int count = Math.max(1, frames.size());
+		int columns = (int) Math.ceil(Math.sqrt(count));
+		int rows = (count + columns - 1) / columns;
+		BufferedImage atlas = uTool.createCompatibleImage(columns * frameSize, rows * frameSize, Transparency.TRANSLUCENT);
+		
+		Graphics2D g2 = atlas.createGraphics();
+		String[] frameNames = new String[frames.size()];
+		int index = 0;
+		for (String name : frames.keySet()) {
+			BufferedImage image = frames.get(name);
+			if (image != null) {
+				g2.drawImage(image, (index % columns) * frameSize, (index / columns) * frameSize, frameSize, frameSize, null);
+			}
+			frameNames[index++] = name;
+		}
+		g2.dispose();
+		
+		return new SpriteSheet(atlas, frameSize, frameSize, columns, frameNames);
+	}
+	
+	// Index of a frame in this sheet, -1 if it was not packed
+	public int indexOf(String name) {
+		for (int i = 0; i < frameNames.length; i++) {
+			if (frameNames[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	// Resolve an animation (list of frame names) to frame indices
+	public int[] frames(String... names) {
+		int[] indices = new int[names.length];
+		for (int i = 0; i < names.length; i++) {
+			indices[i] = indexOf(names[i]);
+		}
+		return indices;
+	}
+	
+	public int getFrameCount() {
+		return frameNames.length;
+	}
+	
+	// Draw one frame by blitting its sub-rectangle of the atlas
+	public void drawFrame(Graphics2D g2, int frame, int x, int y, int width, int height) {
+		if (frame < 0 || frame >= frameNames.length) {
+			return;
+		}
+		int sx = (frame % columns) * frameWidth;
+		int sy = (frame / columns) * frameHeight;
+		g2.drawImage(atlas, x, y, x + width, y + height, sx, sy, sx + frameWidth, sy + frameHeight, null);
+	}
+	
+	// Frame as an image sharing the atlas pixels (for UI that needs a plain BufferedImage)
+	public BufferedImage getFrameImage(int frame) {
+		if (frame < 0 || frame >= frameNames.length) {
+			return null;
+		}
+		return atlas.getSubimage((frame % columns) * frameWidth, (frame / columns) * frameHeight, frameWidth, frameHeight);
+	}
+}
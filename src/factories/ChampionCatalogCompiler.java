@@ -0,0 +1,78 @@
+package factories;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import data.ChampionCatalog;
+import data.ChampionTemplate;
+
+/**
+ * Build step that compiles champion data into the binary catalog the game loads at startup
+ * (res/data/champions.catalog, see data.ChampionCatalog). Run it again after editing
+ * data/champions.json, the one source of champion data.
+ *
+ * Sources are read in order and a champion from a later source replaces the one with the same
+ * name, so another JSON file can patch or extend the roster. JSON is read with the streaming
+ * JsonDataLoader, the same reader the game uses for data files. The catalog records the content
+ * of data/champions.json, and the game reads the JSON instead when the file no longer matches.
+ *
+ * Usage: java -cp bin factories.ChampionCatalogCompiler [--json data/champions.json]...
+ *        [--out res/data/champions.catalog]
+ * With no source option data/champions.json is compiled.
+ */
+public class ChampionCatalogCompiler {
+
+	public static void main(String[] args) throws IOException {
+		String out = "res" + ChampionCatalog.RESOURCE;
+		Map<String, ChampionTemplate> champions = new LinkedHashMap<>();
+		boolean sourceGiven = false;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--json":
+					File file = new File(args[++i]);
+					addAll(champions, JsonDataLoader.readChampions(file), file.getPath());
+					sourceGiven = true;
+					break;
+				case "--out":
+					out = args[++i];
+					break;
+				default:
+					System.err.println("Unknown option: " + args[i]);
+					System.exit(2);
+			}
+		}
+		if (!sourceGiven) {
+			File file = new File(JsonDataLoader.CHAMPIONS_FILE);
+			addAll(champions, JsonDataLoader.readChampions(file), file.getPath());
+		}
+
+		File source = new File(JsonDataLoader.CHAMPIONS_FILE);
+		byte[] sourceBytes = source.exists() ? Files.readAllBytes(source.toPath()) : null;
+
+		File outFile = new File(out);
+		if (outFile.getParentFile() != null) {
+			outFile.getParentFile().mkdirs();
+		}
+		try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(outFile))) {
+			ChampionCatalog.write(new ArrayList<>(champions.values()), sourceBytes, stream);
+		}
+		System.out.println("Compiled " + champions.size() + " champions into " + outFile.getPath() + " ("
+				+ outFile.length() + " bytes)");
+	}
+
+	private static void addAll(Map<String, ChampionTemplate> champions, List<ChampionTemplate> source, String name) {
+		for (ChampionTemplate template : source) {
+			champions.put(template.name, template);
+		}
+		System.out.println("Read " + source.size() + " champions from " + name);
+	}
+}
@@ -5,11 +5,13 @@ import data.ItemTemplate;
 import data.ItemTemplate.ItemStats;
 import data.ItemTemplate.ItemEffect;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 
 /**
- * Loads item data using hardcoded templates, similar to ChampionDataLoader.
+ * Loads item data from data/items.json, or from hardcoded templates when there is no such file.
  * This creates a data-driven item system that can be easily modified.
  * Contains ALL items from your original ItemFactory.java
  */
@@ -18,7 +20,8 @@ public class ItemDataLoader {
     private static ItemData cachedItemData = null;
     
     /**
-     * Load all item data from hardcoded templates
+     * Load all item data from data/items.json, or from the hardcoded templates if there is no
+     * such file (or it cannot be read)
      * @return ItemData object containing all items
      */
     public static ItemData loadItems() {
@@ -26,6 +29,17 @@ public class ItemDataLoader {
             return cachedItemData;
         }
         
+        File file = new File(JsonDataLoader.ITEMS_FILE);
+        if (file.exists()) {
+            try {
+                cachedItemData = JsonDataLoader.readItems(file);
+                System.out.println("✓ Loaded " + cachedItemData.getTotalItemCount() + " items from " + file.getPath());
+                return cachedItemData;
+            } catch (IOException e) {
+                System.out.println("Could not read item data: " + e.getMessage());
+            }
+        }
+        
         cachedItemData = createHardcodedItemData();
         System.out.println("✓ Loaded " + cachedItemData.getTotalItemCount() + " items from templates");
         return cachedItemData;
@@ -35,7 +49,7 @@ public class ItemDataLoader {
      * Create item data using hardcoded templates (similar to champion system)
      * @return ItemData with all items organized by category
      */
-    private static ItemData createHardcodedItemData() {
+    public static ItemData createHardcodedItemData() {
         ItemData itemData = new ItemData();
         
         // Load consumables
@@ -982,24 +996,4 @@ public class ItemDataLoader {
     public static void clearCache() {
         cachedItemData = null;
     }
-    
-    /**
-     * Get a specific item by name across all categories
-     * @param itemName The name of the item to find
-     * @return ItemTemplate or null if not found
-     */
-    public static ItemTemplate getItem(String itemName) {
-        ItemData data = loadItems();
-        return data.getItemByName(itemName);
-    }
-    
-    /**
-     * Get all items from a specific category
-     * @param category The category ("consumables", "items", "legendballs")
-     * @return List of items in that category
-     */
-    public static List<ItemTemplate> getItemsByCategory(String category) {
-        ItemData data = loadItems();
-        return data.getItemsByCategory(category);
-    }
 }
\ No newline at end of file
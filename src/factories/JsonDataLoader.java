@@ -0,0 +1,306 @@
+package factories;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import data.ChampionTemplate;
+import data.ItemData;
+import data.ItemTemplate;
+
+/**
+ * Reads the editable data files (data/champions.json, data/items.json) straight into
+ * ChampionTemplate and ItemTemplate with the streaming JsonReader. Keys that are missing keep the
+ * template's default, unknown keys are skipped, so older and newer files both load.
+ *
+ * Formats:
+ *   {"champions": [ {"name": ..., "stats": {...}, "moves": [...], "passive": {...}}, ... ]}
+ *   {"consumables": [...], "items": [...], "legendballs": [...]}
+ */
+public class JsonDataLoader {
+
+	public static final String CHAMPIONS_FILE = "data/champions.json";
+	public static final String ITEMS_FILE = "data/items.json";
+
+	// ==================== CHAMPIONS ====================
+
+	public static List<ChampionTemplate> readChampions(File file) throws IOException {
+		try (Reader reader = open(file)) {
+			return readChampions(reader);
+		} catch (IOException e) {
+			throw new IOException(file.getPath() + ": " + e.getMessage(), e);
+		}
+	}
+
+	public static List<ChampionTemplate> readChampions(Reader reader) throws IOException {
+		JsonReader json = new JsonReader(reader);
+		List<ChampionTemplate> champions = new ArrayList<>();
+		json.beginObject();
+		while (json.hasNext()) {
+			if (json.nextName().equals("champions")) {
+				json.beginArray();
+				while (json.hasNext()) {
+					champions.add(readChampion(json));
+				}
+				json.endArray();
+			} else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		json.endDocument();
+		return champions;
+	}
+
+	private static ChampionTemplate readChampion(JsonReader json) throws IOException {
+		ChampionTemplate template = new ChampionTemplate();
+		template.moves = new ArrayList<>();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "name": template.name = json.nextString(); break;
+				case "imageName": template.imageName = json.nextString(); break;
+				case "region": template.region = json.nextString(); break;
+				case "role": template.role = json.nextString(); break;
+				case "role2": template.role2 = json.nextString(); break;
+				case "championClass": template.championClass = json.nextString(); break;
+				case "resourceType": template.resourceType = json.nextString(); break;
+				case "evolveAt": template.evolveAt = json.nextInt(); break;
+				case "nextEvolution": template.nextEvolution = json.nextString(); break;
+				case "stats": template.stats = readStats(json); break;
+				case "moves":
+					json.beginArray();
+					while (json.hasNext()) {
+						template.moves.add(readMove(json));
+					}
+					json.endArray();
+					break;
+				case "passive":
+					if (json.peek() == JsonReader.Token.NULL) {
+						json.nextNull();
+					} else {
+						template.passive = readPassive(json);
+					}
+					break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		if (template.stats == null) {
+			template.stats = new ChampionTemplate.ChampionStats();
+		}
+		return template;
+	}
+
+	private static ChampionTemplate.ChampionStats readStats(JsonReader json) throws IOException {
+		ChampionTemplate.ChampionStats stats = new ChampionTemplate.ChampionStats();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "health": stats.health = json.nextInt(); break;
+				case "attackDamage": stats.attackDamage = json.nextInt(); break;
+				case "abilityPower": stats.abilityPower = json.nextInt(); break;
+				case "armor": stats.armor = json.nextInt(); break;
+				case "magicResist": stats.magicResist = json.nextInt(); break;
+				case "moveSpeed": stats.moveSpeed = json.nextInt(); break;
+				case "mana": stats.mana = json.nextInt(); break;
+				case "critChance": stats.critChance = json.nextInt(); break;
+				case "lifesteal": stats.lifesteal = json.nextInt(); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return stats;
+	}
+
+	private static ChampionTemplate.MoveTemplate readMove(JsonReader json) throws IOException {
+		ChampionTemplate.MoveTemplate move = new ChampionTemplate.MoveTemplate();
+		move.statusEffects = new ArrayList<>();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "name": move.name = json.nextString(); break;
+				case "type": move.type = json.nextString(); break;
+				case "power": move.power = json.nextInt(); break;
+				case "accuracy": move.accuracy = json.nextInt(); break;
+				case "manaCost": move.manaCost = json.nextInt(); break;
+				case "effect": move.effect = json.nextString(); break;
+				case "effectChance": move.effectChance = json.nextInt(); break;
+				case "isUltimate": move.isUltimate = json.nextBoolean(); break;
+				case "speedStageChange": move.speedStageChange = json.nextInt(); break;
+				case "attackStageChange": move.attackStageChange = json.nextInt(); break;
+				case "armorStageChange": move.armorStageChange = json.nextInt(); break;
+				case "apStageChange": move.apStageChange = json.nextInt(); break;
+				case "magicResistStageChange": move.magicResistStageChange = json.nextInt(); break;
+				case "targetsSelf": move.targetsSelf = json.nextBoolean(); break;
+				case "statusEffects":
+					json.beginArray();
+					while (json.hasNext()) {
+						move.statusEffects.add(readStatusEffect(json));
+					}
+					json.endArray();
+					break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return move;
+	}
+
+	private static ChampionTemplate.StatusEffectTemplate readStatusEffect(JsonReader json) throws IOException {
+		ChampionTemplate.StatusEffectTemplate effect = new ChampionTemplate.StatusEffectTemplate();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "type": effect.type = json.nextString(); break;
+				case "duration": effect.duration = json.nextInt(); break;
+				case "value": effect.value = json.nextInt(); break;
+				case "appliesTo": effect.appliesTo = json.nextBoolean(); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return effect;
+	}
+
+	private static ChampionTemplate.PassiveTemplate readPassive(JsonReader json) throws IOException {
+		ChampionTemplate.PassiveTemplate passive = new ChampionTemplate.PassiveTemplate();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "name": passive.name = json.nextString(); break;
+				case "description": passive.description = json.nextString(); break;
+				case "type": passive.type = json.nextString(); break;
+				case "value1": passive.value1 = json.nextInt(); break;
+				case "value2": passive.value2 = json.nextInt(); break;
+				case "chance": passive.chance = json.nextInt(); break;
+				case "cooldown": passive.cooldown = json.nextInt(); break;
+				case "duration": passive.duration = json.nextInt(); break;
+				case "triggerTurns": passive.triggerTurns = json.nextInt(); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return passive;
+	}
+
+	// ==================== ITEMS ====================
+
+	public static ItemData readItems(File file) throws IOException {
+		try (Reader reader = open(file)) {
+			return readItems(reader);
+		} catch (IOException e) {
+			throw new IOException(file.getPath() + ": " + e.getMessage(), e);
+		}
+	}
+
+	public static ItemData readItems(Reader reader) throws IOException {
+		JsonReader json = new JsonReader(reader);
+		ItemData itemData = new ItemData();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "consumables": readItemList(json, itemData.consumables); break;
+				case "items": readItemList(json, itemData.items); break;
+				case "legendballs": readItemList(json, itemData.legendballs); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		json.endDocument();
+		return itemData;
+	}
+
+	private static void readItemList(JsonReader json, List<ItemTemplate> items) throws IOException {
+		json.beginArray();
+		while (json.hasNext()) {
+			items.add(readItem(json));
+		}
+		json.endArray();
+	}
+
+	private static ItemTemplate readItem(JsonReader json) throws IOException {
+		ItemTemplate item = new ItemTemplate();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "name": item.name = json.nextString(); break;
+				case "description": item.description = json.nextString(); break;
+				case "iconPath": item.iconPath = json.nextString(); break;
+				case "category": item.category = json.nextString(); break;
+				case "cost": item.cost = json.nextInt(); break;
+				case "tier": item.tier = json.nextString(); break;
+				case "stats":
+					if (json.peek() == JsonReader.Token.NULL) {
+						json.nextNull();
+					} else {
+						item.stats = readItemStats(json);
+					}
+					break;
+				case "effect":
+					if (json.peek() == JsonReader.Token.NULL) {
+						json.nextNull();
+					} else {
+						item.effect = readItemEffect(json);
+					}
+					break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return item;
+	}
+
+	private static ItemTemplate.ItemStats readItemStats(JsonReader json) throws IOException {
+		ItemTemplate.ItemStats stats = new ItemTemplate.ItemStats();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "bonusHP": stats.bonusHP = json.nextInt(); break;
+				case "bonusAD": stats.bonusAD = json.nextInt(); break;
+				case "bonusAP": stats.bonusAP = json.nextInt(); break;
+				case "bonusArmor": stats.bonusArmor = json.nextInt(); break;
+				case "bonusMagicResist": stats.bonusMagicResist = json.nextInt(); break;
+				case "bonusAttackSpeed": stats.bonusAttackSpeed = json.nextInt(); break;
+				case "bonusCritChance": stats.bonusCritChance = json.nextInt(); break;
+				case "bonusLifesteal": stats.bonusLifesteal = json.nextInt(); break;
+				case "bonusSpellVamp": stats.bonusSpellVamp = json.nextInt(); break;
+				case "bonusArmorPen": stats.bonusArmorPen = json.nextInt(); break;
+				case "bonusMagicPen": stats.bonusMagicPen = json.nextInt(); break;
+				case "bonusTenacity": stats.bonusTenacity = json.nextInt(); break;
+				case "bonusMana": stats.bonusMana = json.nextInt(); break;
+				case "bonusManaRegen": stats.bonusManaRegen = json.nextInt(); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return stats;
+	}
+
+	private static ItemTemplate.ItemEffect readItemEffect(JsonReader json) throws IOException {
+		ItemTemplate.ItemEffect effect = new ItemTemplate.ItemEffect();
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "type": effect.type = json.nextString(); break;
+				case "power": effect.power = json.nextInt(); break;
+				case "duration": effect.duration = json.nextInt(); break;
+				case "removeAllStatus": effect.removeAllStatus = json.nextBoolean(); break;
+				case "statusEffect": effect.statusEffect = json.nextString(); break;
+				case "catchRate": effect.catchRate = json.nextDouble(); break;
+				default: json.skipValue(); break;
+			}
+		}
+		json.endObject();
+		return effect;
+	}
+
+	private static Reader open(File file) throws IOException {
+		return new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8); // JsonReader buffers itself
+	}
+}
@@ -0,0 +1,504 @@
+package factories;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Small streaming (pull) JSON reader for the game's data files, with no dependencies.
+ * The caller walks the document with beginObject/nextName/nextInt/... and maps it straight into
+ * its own objects, so no tree of maps and lists is ever built.
+ *
+ * Input is read through one reusable char buffer, and string and number tokens are collected in
+ * another, so skipping or reading a number allocates nothing. Object keys are interned: each
+ * distinct key is turned into a String once per reader (and String.intern()ed, so a switch over
+ * the key hits the identity fast path of equals).
+ *
+ * Errors are reported as IOExceptions with the line and column.
+ */
+public class JsonReader implements Closeable {
+
+	public enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+
+	// Nesting states
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int EMPTY_OBJECT = 4;
+	private static final int DANGLING_NAME = 5; // Name read, value not yet
+	private static final int NONEMPTY_OBJECT = 6;
+
+	private final Reader in;
+	private final char[] buffer = new char[8192];
+	private int pos = 0;
+	private int limit = 0;
+	private int line = 1;
+	private int lineStart = 0; // Buffer position of the current line's first char (negative once refilled)
+
+	// Text of the current string, name or number token
+	private char[] text = new char[128];
+	private int textLength = 0;
+	private boolean booleanValue;
+
+	private int[] stack = new int[32];
+	private int depth = 1;
+	private Token peeked = null;
+
+	private String[] keys = new String[128];
+	private int keyCount = 0;
+
+	public JsonReader(Reader in) {
+		this.in = in;
+		stack[0] = EMPTY_DOCUMENT;
+	}
+
+	// ==================== STRUCTURE ====================
+
+	public void beginObject() throws IOException {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	public void endObject() throws IOException {
+		expect(Token.END_OBJECT);
+		depth--;
+	}
+
+	public void beginArray() throws IOException {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	public void endArray() throws IOException {
+		expect(Token.END_ARRAY);
+		depth--;
+	}
+
+	/** Check that nothing but whitespace follows the top level value */
+	public void endDocument() throws IOException {
+		expect(Token.END_DOCUMENT);
+	}
+
+	/** @return true if the current object or array has another element */
+	public boolean hasNext() throws IOException {
+		Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+
+	// ==================== VALUES ====================
+
+	/** @return the next object key, interned */
+	public String nextName() throws IOException {
+		expect(Token.NAME);
+		return internKey();
+	}
+
+	/** @return the next string value, or null for a JSON null */
+	public String nextString() throws IOException {
+		if (peek() == Token.NULL) {
+			peeked = null;
+			return null;
+		}
+		expect(Token.STRING);
+		return new String(text, 0, textLength);
+	}
+
+	public int nextInt() throws IOException {
+		expect(Token.NUMBER);
+		// Plain integers are parsed straight from the token buffer
+		int i = 0;
+		boolean negative = text[0] == '-';
+		if (negative) {
+			i++;
+		}
+		long value = 0;
+		for (; i < textLength; i++) {
+			char c = text[i];
+			if (c < '0' || c > '9' || value > Integer.MAX_VALUE) {
+				double number = parseDouble();
+				if (number != (int) number) {
+					throw error("Expected an int but was " + number);
+				}
+				return (int) number;
+			}
+			value = value * 10 + (c - '0');
+		}
+		value = negative ? -value : value;
+		if (value != (int) value || textLength == (negative ? 1 : 0)) {
+			throw error("Expected an int but was " + new String(text, 0, textLength));
+		}
+		return (int) value;
+	}
+
+	public double nextDouble() throws IOException {
+		expect(Token.NUMBER);
+		return parseDouble();
+	}
+
+	public boolean nextBoolean() throws IOException {
+		expect(Token.BOOLEAN);
+		return booleanValue;
+	}
+
+	public void nextNull() throws IOException {
+		expect(Token.NULL);
+	}
+
+	/** Skip the next value, including everything nested in it */
+	public void skipValue() throws IOException {
+		int level = 0;
+		do {
+			switch (peek()) {
+				case BEGIN_OBJECT:
+					beginObject();
+					level++;
+					break;
+				case BEGIN_ARRAY:
+					beginArray();
+					level++;
+					break;
+				case END_OBJECT:
+					endObject();
+					level--;
+					break;
+				case END_ARRAY:
+					endArray();
+					level--;
+					break;
+				case END_DOCUMENT:
+					throw error("Unexpected end of file");
+				default:
+					peeked = null; // Name, string, number, boolean or null: already read
+					break;
+			}
+		} while (level > 0);
+	}
+
+	// ==================== TOKENIZER ====================
+
+	/** @return the type of the next token, without consuming it */
+	public Token peek() throws IOException {
+		if (peeked != null) {
+			return peeked;
+		}
+		int top = stack[depth - 1];
+		int c;
+		switch (top) {
+			case EMPTY_ARRAY:
+				stack[depth - 1] = NONEMPTY_ARRAY;
+				c = nextNonWhitespace();
+				if (c == ']') {
+					return peeked = Token.END_ARRAY;
+				}
+				pos--;
+				break;
+			case NONEMPTY_ARRAY:
+				c = nextNonWhitespace();
+				if (c == ']') {
+					return peeked = Token.END_ARRAY;
+				}
+				if (c != ',') {
+					throw error("Expected ',' or ']'");
+				}
+				break;
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				stack[depth - 1] = DANGLING_NAME;
+				c = nextNonWhitespace();
+				if (c == '}') {
+					return peeked = Token.END_OBJECT;
+				}
+				if (top == NONEMPTY_OBJECT) {
+					if (c != ',') {
+						throw error("Expected ',' or '}'");
+					}
+					c = nextNonWhitespace();
+				}
+				if (c != '"') {
+					throw error("Expected a name");
+				}
+				readString();
+				return peeked = Token.NAME;
+			case DANGLING_NAME:
+				stack[depth - 1] = NONEMPTY_OBJECT;
+				if (nextNonWhitespace() != ':') {
+					throw error("Expected ':'");
+				}
+				break;
+			case EMPTY_DOCUMENT:
+				stack[depth - 1] = NONEMPTY_DOCUMENT;
+				break;
+			default: // NONEMPTY_DOCUMENT
+				if (nextNonWhitespaceOrEnd() == -1) {
+					return peeked = Token.END_DOCUMENT;
+				}
+				throw error("Unexpected data after the document");
+		}
+
+		c = nextNonWhitespace();
+		switch (c) {
+			case '{':
+				return peeked = Token.BEGIN_OBJECT;
+			case '[':
+				return peeked = Token.BEGIN_ARRAY;
+			case '"':
+				readString();
+				return peeked = Token.STRING;
+			case 't':
+				readLiteral("rue");
+				booleanValue = true;
+				return peeked = Token.BOOLEAN;
+			case 'f':
+				readLiteral("alse");
+				booleanValue = false;
+				return peeked = Token.BOOLEAN;
+			case 'n':
+				readLiteral("ull");
+				return peeked = Token.NULL;
+			default:
+				if (c == '-' || (c >= '0' && c <= '9')) {
+					pos--;
+					readNumber();
+					return peeked = Token.NUMBER;
+				}
+				throw error("Unexpected character '" + (char) c + "'");
+		}
+	}
+
+	private void expect(Token token) throws IOException {
+		Token actual = peek();
+		if (actual != token) {
+			throw error("Expected " + token + " but was " + actual);
+		}
+		peeked = null;
+	}
+
+	private void push(int state) {
+		if (depth == stack.length) {
+			int[] bigger = new int[depth * 2];
+			System.arraycopy(stack, 0, bigger, 0, depth);
+			stack = bigger;
+		}
+		stack[depth++] = state;
+	}
+
+	private boolean fill() throws IOException {
+		lineStart -= limit;
+		pos = 0;
+		limit = in.read(buffer, 0, buffer.length);
+		if (limit <= 0) {
+			limit = 0;
+			return false;
+		}
+		return true;
+	}
+
+	private int nextNonWhitespace() throws IOException {
+		int c = nextNonWhitespaceOrEnd();
+		if (c == -1) {
+			throw error("Unexpected end of file");
+		}
+		return c;
+	}
+
+	private int nextNonWhitespaceOrEnd() throws IOException {
+		// Indentation is most of a pretty-printed file, so scan it in a tight loop over locals
+		char[] buffer = this.buffer;
+		int p = pos;
+		int l = limit;
+		while (true) {
+			if (p == l) {
+				pos = p;
+				if (!fill()) {
+					return -1;
+				}
+				p = pos;
+				l = limit;
+			}
+			char c = buffer[p++];
+			if (c > ' ') {
+				pos = p;
+				return c;
+			}
+			if (c == '\n') {
+				line++;
+				lineStart = p;
+			} else if (c != ' ' && c != '\t' && c != '\r') {
+				pos = p;
+				return c;
+			}
+		}
+	}
+
+	private int read() throws IOException {
+		if (pos < limit || fill()) {
+			return buffer[pos++];
+		}
+		throw error("Unexpected end of file");
+	}
+
+	// Collect a string's chars (after the opening quote) into the token buffer
+	private void readString() throws IOException {
+		textLength = 0;
+		while (true) {
+			// Copy runs of plain chars straight from the read buffer
+			int start = pos;
+			while (pos < limit) {
+				char c = buffer[pos];
+				if (c == '"' || c == '\\') {
+					break;
+				}
+				pos++;
+			}
+			append(buffer, start, pos - start);
+			if (pos == limit) {
+				if (!fill()) {
+					throw error("Unterminated string");
+				}
+				continue;
+			}
+			char c = buffer[pos++];
+			if (c == '"') {
+				return;
+			}
+			// Escape sequence
+			char escaped = (char) read();
+			switch (escaped) {
+				case 'n': append('\n'); break;
+				case 't': append('\t'); break;
+				case 'r': append('\r'); break;
+				case 'b': append('\b'); break;
+				case 'f': append('\f'); break;
+				case 'u':
+					int value = 0;
+					for (int i = 0; i < 4; i++) {
+						int digit = Character.digit(read(), 16);
+						if (digit < 0) {
+							throw error("Invalid \\u escape");
+						}
+						value = value * 16 + digit;
+					}
+					append((char) value);
+					break;
+				default: append(escaped); break; // \" \\ \/
+			}
+		}
+	}
+
+	private void readNumber() throws IOException {
+		textLength = 0;
+		while (pos < limit || fill()) {
+			char c = buffer[pos];
+			if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+				append(c);
+				pos++;
+			} else {
+				break;
+			}
+		}
+	}
+
+	private void readLiteral(String rest) throws IOException {
+		for (int i = 0; i < rest.length(); i++) {
+			if (read() != rest.charAt(i)) {
+				throw error("Invalid literal");
+			}
+		}
+	}
+
+	private double parseDouble() throws IOException {
+		try {
+			return Double.parseDouble(new String(text, 0, textLength));
+		} catch (NumberFormatException e) {
+			throw error("Invalid number " + new String(text, 0, textLength));
+		}
+	}
+
+	private void append(char c) {
+		if (textLength == text.length) {
+			grow(textLength + 1);
+		}
+		text[textLength++] = c;
+	}
+
+	private void append(char[] chars, int offset, int length) {
+		if (textLength + length > text.length) {
+			grow(textLength + length);
+		}
+		System.arraycopy(chars, offset, text, textLength, length);
+		textLength += length;
+	}
+
+	private void grow(int minimum) {
+		char[] bigger = new char[Math.max(minimum, text.length * 2)];
+		System.arraycopy(text, 0, bigger, 0, textLength);
+		text = bigger;
+	}
+
+	// ==================== KEY INTERNING ====================
+
+	// Open addressing table of every key seen, looked up straight from the token buffer
+	private String internKey() {
+		int hash = 0;
+		for (int i = 0; i < textLength; i++) {
+			hash = 31 * hash + text[i];
+		}
+		int mask = keys.length - 1;
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		while (keys[slot] != null) {
+			String key = keys[slot];
+			if (key.hashCode() == hash && matches(key)) {
+				return key;
+			}
+			slot = (slot + 1) & mask;
+		}
+		String key = new String(text, 0, textLength).intern();
+		keys[slot] = key;
+		if (++keyCount * 2 > keys.length) {
+			rehash();
+		}
+		return key;
+	}
+
+	private boolean matches(String key) {
+		if (key.length() != textLength) {
+			return false;
+		}
+		for (int i = 0; i < textLength; i++) {
+			if (key.charAt(i) != text[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void rehash() {
+		String[] old = keys;
+		keys = new String[old.length * 2];
+		int mask = keys.length - 1;
+		for (String key : old) {
+			if (key != null) {
+				int hash = key.hashCode();
+				int slot = (hash ^ (hash >>> 16)) & mask;
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+			}
+		}
+	}
+
+	// ==================== ERRORS ====================
+
+	private IOException error(String message) {
+		return new IOException(message + " at line " + line + " column " + (pos - lineStart + 1));
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
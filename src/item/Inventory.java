@@ -0,0 +1,151 @@
+package item;
+
+/**
+ * The player's items as a count per ItemCatalog id, plus when each item was first acquired so
+ * the bag can list items oldest first. The owned ids are also kept in that order, so menus can
+ * walk them without sorting or copying anything.
+ */
+public class Inventory {
+
+	private final ItemCatalog catalog;
+	private final int[] counts;
+	private final long[] firstAcquired;
+	// Ids with a count above 0, oldest first
+	private final int[] owned;
+	private int ownedSize;
+
+	public Inventory(ItemCatalog catalog) {
+		this.catalog = catalog;
+		this.counts = new int[catalog.size()];
+		this.firstAcquired = new long[catalog.size()];
+		this.owned = new int[catalog.size()];
+	}
+
+	public ItemCatalog getCatalog() {
+		return catalog;
+	}
+
+	public int getCount(int id) {
+		return counts[id];
+	}
+
+	/** When the item was first added since the player last ran out of it, 0 if not owned */
+	public long getFirstAcquired(int id) {
+		return firstAcquired[id];
+	}
+
+	/** Add items, an item the player did not have becomes the newest */
+	public void add(int id, int quantity, long time) {
+		if (quantity <= 0) {
+			return;
+		}
+		if (counts[id] == 0) {
+			firstAcquired[id] = time;
+			owned[ownedSize++] = id;
+		}
+		counts[id] += quantity;
+	}
+
+	/** @return false (and removes nothing) if there are fewer than quantity */
+	public boolean remove(int id, int quantity) {
+		if (counts[id] < quantity) {
+			return false;
+		}
+		counts[id] -= quantity;
+		if (counts[id] == 0 && quantity > 0) {
+			firstAcquired[id] = 0;
+			int index = indexOfOwned(id);
+			System.arraycopy(owned, index + 1, owned, index, ownedSize - index - 1);
+			ownedSize--;
+		}
+		return true;
+	}
+
+	/**
+	 * Set an item's count and acquisition time directly (loading a save). Call sortOwned()
+	 * once everything is set.
+	 */
+	public void set(int id, int count, long time) {
+		boolean wasOwned = counts[id] > 0;
+		if (count <= 0) {
+			if (wasOwned) {
+				remove(id, counts[id]);
+			}
+			return;
+		}
+		counts[id] = count;
+		firstAcquired[id] = time;
+		if (!wasOwned) {
+			owned[ownedSize++] = id;
+		}
+	}
+
+	/** Put the owned items back in acquisition order (items acquired at the same time by id) */
+	public void sortOwned() {
+		for (int i = 1; i < ownedSize; i++) {
+			int id = owned[i];
+			int j = i - 1;
+			while (j >= 0 && isAcquiredAfter(owned[j], id)) {
+				owned[j + 1] = owned[j];
+				j--;
+			}
+			owned[j + 1] = id;
+		}
+	}
+
+	private boolean isAcquiredAfter(int a, int b) {
+		return firstAcquired[a] != firstAcquired[b] ? firstAcquired[a] > firstAcquired[b] : a > b;
+	}
+
+	public void clear() {
+		for (int i = 0; i < ownedSize; i++) {
+			counts[owned[i]] = 0;
+			firstAcquired[owned[i]] = 0;
+		}
+		ownedSize = 0;
+	}
+
+	public boolean isEmpty() {
+		return ownedSize == 0;
+	}
+
+	/** Number of different items owned */
+	public int getOwnedSize() {
+		return ownedSize;
+	}
+
+	/** The index-th owned item, oldest first */
+	public int getOwned(int index) {
+		return owned[index];
+	}
+
+	/** Number of different items of the category owned */
+	public int getOwnedSize(Item.ItemCategory category) {
+		int size = 0;
+		for (int i = 0; i < ownedSize; i++) {
+			if (catalog.getCategory(owned[i]) == category) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/** The index-th owned item of the category, oldest first, ItemCatalog.NONE if there are fewer */
+	public int getOwned(Item.ItemCategory category, int index) {
+		for (int i = 0; i < ownedSize; i++) {
+			if (catalog.getCategory(owned[i]) == category && index-- == 0) {
+				return owned[i];
+			}
+		}
+		return ItemCatalog.NONE;
+	}
+
+	private int indexOfOwned(int id) {
+		for (int i = 0; i < ownedSize; i++) {
+			if (owned[i] == id) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
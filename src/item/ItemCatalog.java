@@ -0,0 +1,173 @@
+package item;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import data.ItemData;
+import data.ItemTemplate;
+import factories.ItemDataLoader;
+
+/**
+ * Every item in the game, numbered 0..size()-1 when the item data is loaded: consumables
+ * first, then equipment, then legend balls, each in data file order. The id is what the
+ * inventory and the menus work with; names are only looked up at the edges (save files,
+ * shop stock, scripted rewards). Ids are not stable across data changes, so they are never
+ * saved.
+ *
+ * The per-category lists (data file order) and per-tier lists (cheapest first) are built once,
+ * reading them does not allocate.
+ */
+public final class ItemCatalog {
+
+	public static final int NONE = -1;
+
+	/** Tier names as used in the item data, lowest first. getTier returns an index into this. */
+	public static final String[] TIERS = {"common", "uncommon", "rare", "legendary", "mythic"};
+
+	private static final Item.ItemCategory[] CATEGORIES = Item.ItemCategory.values();
+
+	private static ItemCatalog instance = null;
+
+	private final ItemTemplate[] templates;
+	private final Item[] items;
+	private final Item.ItemCategory[] categories;
+	private final int[] tiers;
+	private final Map<String, Integer> ids = new HashMap<>();
+	private final int[][] byCategory;
+	private final int[][] byTier;
+
+	public static synchronized ItemCatalog get() {
+		if (instance == null) {
+			instance = new ItemCatalog(ItemDataLoader.loadItems());
+			System.out.println("✓ ItemCatalog indexed " + instance.size() + " items");
+		}
+		return instance;
+	}
+
+	ItemCatalog(ItemData data) {
+		List<ItemTemplate> all = new ArrayList<>(data.getTotalItemCount());
+		all.addAll(data.consumables);
+		all.addAll(data.items);
+		all.addAll(data.legendballs);
+
+		int size = all.size();
+		templates = all.toArray(new ItemTemplate[size]);
+		items = new Item[size];
+		categories = new Item.ItemCategory[size];
+		tiers = new int[size];
+		int[] categorySizes = new int[CATEGORIES.length];
+		int[] tierSizes = new int[TIERS.length];
+		for (int id = 0; id < size; id++) {
+			ItemTemplate template = templates[id];
+			items[id] = ItemFactory.createFromTemplate(template);
+			categories[id] = items[id].getCategory();
+			tiers[id] = tierIndex(template.tier);
+			if (ids.putIfAbsent(template.name, id) != null) {
+				System.out.println("Duplicate item name " + template.name + ", only the first one can be looked up by name");
+			}
+			categorySizes[categories[id].ordinal()]++;
+			tierSizes[tiers[id]]++;
+		}
+
+		byCategory = new int[CATEGORIES.length][];
+		for (int c = 0; c < CATEGORIES.length; c++) {
+			byCategory[c] = new int[categorySizes[c]];
+			categorySizes[c] = 0;
+		}
+		byTier = new int[TIERS.length][];
+		for (int t = 0; t < TIERS.length; t++) {
+			byTier[t] = new int[tierSizes[t]];
+			tierSizes[t] = 0;
+		}
+		for (int id = 0; id < size; id++) {
+			int c = categories[id].ordinal();
+			byCategory[c][categorySizes[c]++] = id;
+			byTier[tiers[id]][tierSizes[tiers[id]]++] = id;
+		}
+		for (int[] tier : byTier) {
+			sortByCost(tier);
+		}
+	}
+
+	private static int tierIndex(String tier) {
+		for (int t = 0; t < TIERS.length; t++) {
+			if (TIERS[t].equals(tier)) {
+				return t;
+			}
+		}
+		return 0; // Unknown tiers count as common, like ItemTemplate's default
+	}
+
+	// Insertion sort, cheapest first and by id for equal costs; the lists are a few dozen long
+	private void sortByCost(int[] ids) {
+		for (int i = 1; i < ids.length; i++) {
+			int id = ids[i];
+			int j = i - 1;
+			while (j >= 0 && templates[ids[j]].cost > templates[id].cost) {
+				ids[j + 1] = ids[j];
+				j--;
+			}
+			ids[j + 1] = id;
+		}
+	}
+
+	public int size() {
+		return templates.length;
+	}
+
+	/** @return the id of the item with this name, NONE if there is none */
+	public int getId(String name) {
+		Integer id = ids.get(name);
+		return id != null ? id : NONE;
+	}
+
+	/** Shared Item, for reading only. ItemFactory.createItem makes one to equip. */
+	public Item getItem(int id) {
+		return items[id];
+	}
+
+	public ItemTemplate getTemplate(int id) {
+		return templates[id];
+	}
+
+	public String getName(int id) {
+		return templates[id].name;
+	}
+
+	public Item.ItemCategory getCategory(int id) {
+		return categories[id];
+	}
+
+	public boolean isConsumable(int id) {
+		return categories[id] == Item.ItemCategory.CONSUMABLE;
+	}
+
+	public boolean isLegendBall(int id) {
+		return categories[id] == Item.ItemCategory.LEGENDBALL;
+	}
+
+	/** @return index into TIERS */
+	public int getTier(int id) {
+		return tiers[id];
+	}
+
+	public int getCategorySize(Item.ItemCategory category) {
+		return byCategory[category.ordinal()].length;
+	}
+
+	/** The index-th item of the category, in data file order */
+	public int getInCategory(Item.ItemCategory category, int index) {
+		return byCategory[category.ordinal()][index];
+	}
+
+	public int getTierSize(int tier) {
+		return byTier[tier].length;
+	}
+
+	/** The index-th item of the tier, cheapest first */
+	public int getInTier(int tier, int index) {
+		return byTier[tier][index];
+	}
+}
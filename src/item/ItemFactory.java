@@ -202,9 +202,10 @@ public class ItemFactory {
      * @return Item object or null if template not found
      */
     public static Item createItem(String itemName) {
-        ItemTemplate template = ItemDataLoader.getItem(itemName);
-        if (template != null) {
-            return createFromTemplate(template);
+        ItemCatalog catalog = ItemCatalog.get();
+        int id = catalog.getId(itemName);
+        if (id != ItemCatalog.NONE) {
+            return createFromTemplate(catalog.getTemplate(id));
         }
         return null;
     }
@@ -216,10 +217,19 @@ public class ItemFactory {
      */
     public static List<Item> createItemsByCategory(String category) {
         List<Item> items = new ArrayList<>();
-        List<ItemTemplate> templates = ItemDataLoader.getItemsByCategory(category);
+        Item.ItemCategory itemCategory = switch (category.toLowerCase()) {
+            case "consumables" -> Item.ItemCategory.CONSUMABLE;
+            case "items", "equipment" -> Item.ItemCategory.CHAMPIONITEM;
+            case "legendballs", "balls" -> Item.ItemCategory.LEGENDBALL;
+            default -> null;
+        };
+        if (itemCategory == null) {
+            return items;
+        }
         
-        for (ItemTemplate template : templates) {
-            items.add(createFromTemplate(template));
+        ItemCatalog catalog = ItemCatalog.get();
+        for (int i = 0; i < catalog.getCategorySize(itemCategory); i++) {
+            items.add(createFromTemplate(catalog.getTemplate(catalog.getInCategory(itemCategory, i))));
         }
         
         return items;
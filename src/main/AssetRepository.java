@@ -0,0 +1,393 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Single place every image in the game is loaded from.
+ * Images are looked up by resource path (optionally with a target size) and kept in two tiers:
+ * a byte-bounded LRU of strong references, and a soft-reference tier that evicted images fall
+ * back to, so the GC can reclaim them under memory pressure but a page revisited soon still
+ * finds them. Pages that draw many portraits can decode asynchronously on a worker pool and
+ * draw a placeholder until the image is ready.
+ *
+ * Queued decodes run in priority order (see the PRIORITY_ constants), so startup assets
+ * (AssetWarmup) and images a page is waiting to draw go before background prefetches. A thread
+ * that needs an image synchronously while its decode is still queued decodes it itself instead
+ * of decoding it a second time.
+ *
+ * Decoded images are copied into the screen's native pixel format, so they blit fast.
+ */
+public class AssetRepository {
+
+	// ==================== CONFIGURATION ====================
+
+	/** Memory budget of the strong LRU tier (decoded pixels, 4 bytes each) */
+	public static final long DEFAULT_MAX_BYTES = 96L * 1024 * 1024;
+
+	private static final AssetRepository INSTANCE = new AssetRepository(DEFAULT_MAX_BYTES);
+
+	/** Returned by the async lookups while the real image is still decoding */
+	public static final BufferedImage PLACEHOLDER = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+	// Decode priorities, lower runs first
+	/** Needed before the title screen can be shown (tiles, player sprites, title UI) */
+	public static final int PRIORITY_CRITICAL = 0;
+	/** Requested by a page that is drawing a placeholder for it right now */
+	public static final int PRIORITY_VISIBLE = 1;
+	/** Prefetched before anything asked for it */
+	public static final int PRIORITY_BACKGROUND = 2;
+
+	private final long maxBytes;
+	private final UtilityTool uTool = new UtilityTool();
+
+	// Strong tier, access ordered: the first entry is the least recently used
+	private final LinkedHashMap<String, BufferedImage> lru = new LinkedHashMap<>(256, 0.75f, true);
+	private long lruBytes = 0;
+	// Soft tier for images pushed out of the LRU
+	private final HashMap<String, SoftReference<BufferedImage>> soft = new HashMap<>();
+	// Paths that do not exist (or failed to decode), so a missing file is not retried every frame
+	private final HashSet<String> missing = new HashSet<>();
+	// Decodes queued or running on the worker pool, by key
+	private final HashMap<String, DecodeTask> pending = new HashMap<>();
+
+	private final ThreadPoolExecutor decoder;
+	private final AtomicLong taskSequence = new AtomicLong();
+
+	// Metrics
+	private long hits = 0;
+	private long softHits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	private long decodeNanos = 0;
+	private long decodedBytes = 0;
+
+	public AssetRepository(long maxBytes) {
+		this.maxBytes = maxBytes;
+		int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+		AtomicInteger threadNumber = new AtomicInteger(1);
+		// Fixed size pool over a priority queue: DecodeTask orders itself by priority, then FIFO
+		this.decoder = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new PriorityBlockingQueue<>(), r -> {
+					Thread t = new Thread(r, "AssetDecoder-" + threadNumber.getAndIncrement());
+					t.setDaemon(true);
+					t.setPriority(Thread.NORM_PRIORITY - 1); // Never compete with the game loop
+					return t;
+				});
+	}
+
+	/** The repository shared by the whole game (also available as gp.assets) */
+	public static AssetRepository getInstance() {
+		return INSTANCE;
+	}
+
+	// ==================== LOOKUPS ====================
+
+	/**
+	 * Get an image, decoding it on the calling thread if it is not cached.
+	 * @param path resource path, e.g. "/championsImg/Ahri.png"
+	 * @return the image, or null if the resource does not exist
+	 */
+	public BufferedImage getImage(String path) {
+		return getScaledImage(path, 0, 0);
+	}
+
+	/**
+	 * Get an image scaled to a fixed size, decoding and scaling it on the calling thread if needed.
+	 * The scaled copy is cached on its own, the original is not kept.
+	 * @param width target width, 0 to keep the original size
+	 * @param height target height, 0 to keep the original size
+	 */
+	public BufferedImage getScaledImage(String path, int width, int height) {
+		String key = key(path, width, height);
+		BufferedImage image;
+		DecodeTask task;
+		synchronized (this) {
+			image = lookup(key);
+			if (image != null || missing.contains(key)) {
+				return image;
+			}
+			task = pending.get(key);
+			if (task == null) {
+				misses++;
+			}
+		}
+		if (task != null) {
+			// Already queued: decode it here if no worker has started it, else wait for the worker
+			task.run();
+			return task.result.join();
+		}
+		image = decode(path, width, height);
+		store(key, image);
+		return image;
+	}
+
+	/**
+	 * Get the first of several candidate paths that exists, e.g. a .png with a .jpg fallback.
+	 * @return the image, or null if none of the paths exist
+	 */
+	public BufferedImage getFirstImage(String... paths) {
+		for (String path : paths) {
+			BufferedImage image = getImage(path);
+			if (image != null) {
+				return image;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get an image without blocking. If it is not cached yet, a decode is queued on the worker
+	 * pool and {@link #PLACEHOLDER} is returned until it finishes.
+	 * @return the image, the placeholder while loading, or null if the resource does not exist
+	 */
+	public BufferedImage getImageAsync(String path) {
+		return getScaledImageAsync(path, 0, 0);
+	}
+
+	public BufferedImage getScaledImageAsync(String path, int width, int height) {
+		CompletableFuture<BufferedImage> result = load(path, width, height, PRIORITY_VISIBLE);
+		return result.isDone() ? result.join() : PLACEHOLDER;
+	}
+
+	/** Queue images for background decoding so they are cached before they are first drawn */
+	public void prefetch(String... paths) {
+		for (String path : paths) {
+			load(path, 0, 0, PRIORITY_BACKGROUND);
+		}
+	}
+
+	/**
+	 * Queue an image for decoding on the worker pool at the given priority (PRIORITY_ constants).
+	 * If it is already queued at a lower priority it is moved up.
+	 * @return completes with the image (null if the resource does not exist), already
+	 *         complete if the image is cached
+	 */
+	public CompletableFuture<BufferedImage> load(String path, int width, int height, int priority) {
+		String key = key(path, width, height);
+		DecodeTask task;
+		synchronized (this) {
+			BufferedImage image = lookup(key);
+			if (image != null || missing.contains(key)) {
+				return CompletableFuture.completedFuture(image);
+			}
+			task = pending.get(key);
+			if (task != null) {
+				if (priority < task.priority && decoder.remove(task)) {
+					task.priority = priority; // Still queued, requeue it further ahead
+					decoder.execute(task);
+				}
+				return task.result;
+			}
+			misses++;
+			task = new DecodeTask(key, path, width, height, priority, taskSequence.getAndIncrement());
+			pending.put(key, task);
+		}
+		decoder.execute(task);
+		return task.result;
+	}
+
+	public static boolean isPlaceholder(BufferedImage image) {
+		return image == PLACEHOLDER;
+	}
+
+	// ==================== CACHE ====================
+
+	// Find a cached image in either tier, promoting soft hits back into the LRU (holds the lock)
+	private BufferedImage lookup(String key) {
+		BufferedImage image = lru.get(key);
+		if (image != null) {
+			hits++;
+			return image;
+		}
+		SoftReference<BufferedImage> ref = soft.remove(key);
+		if (ref != null) {
+			image = ref.get();
+			if (image != null) {
+				softHits++;
+				putStrong(key, image);
+				return image;
+			}
+		}
+		return null;
+	}
+
+	private synchronized void store(String key, BufferedImage image) {
+		pending.remove(key);
+		if (image == null) {
+			missing.add(key);
+			return;
+		}
+		decodedBytes += sizeOf(image);
+		putStrong(key, image);
+	}
+
+	private void putStrong(String key, BufferedImage image) {
+		BufferedImage previous = lru.put(key, image);
+		if (previous != null) {
+			lruBytes -= sizeOf(previous);
+		}
+		lruBytes += sizeOf(image);
+
+		// Demote least recently used images to the soft tier until we are under budget
+		Iterator<Map.Entry<String, BufferedImage>> it = lru.entrySet().iterator();
+		while (lruBytes > maxBytes && it.hasNext()) {
+			Map.Entry<String, BufferedImage> eldest = it.next();
+			if (eldest.getKey().equals(key)) {
+				continue; // Never evict the image we are about to return
+			}
+			it.remove();
+			lruBytes -= sizeOf(eldest.getValue());
+			soft.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+			evictions++;
+		}
+	}
+
+	/** Drop every cached image, e.g. after a resolution change */
+	public synchronized void clear() {
+		lru.clear();
+		soft.clear();
+		missing.clear();
+		lruBytes = 0;
+	}
+
+	// ==================== DECODING ====================
+
+	// One queued decode; run by a worker, or by a thread that needs the image before a worker got to it
+	private class DecodeTask implements Runnable, Comparable<DecodeTask> {
+		final String key;
+		final String path;
+		final int width;
+		final int height;
+		final long sequence;
+		volatile int priority;
+		final AtomicBoolean started = new AtomicBoolean();
+		final CompletableFuture<BufferedImage> result = new CompletableFuture<>();
+
+		DecodeTask(String key, String path, int width, int height, int priority, long sequence) {
+			this.key = key;
+			this.path = path;
+			this.width = width;
+			this.height = height;
+			this.priority = priority;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public void run() {
+			if (!started.compareAndSet(false, true)) {
+				return; // Decoded (or being decoded) by another thread
+			}
+			BufferedImage image = null;
+			try {
+				image = decode(path, width, height);
+			} finally {
+				store(key, image);
+				result.complete(image);
+			}
+		}
+
+		@Override
+		public int compareTo(DecodeTask other) {
+			if (priority != other.priority) {
+				return Integer.compare(priority, other.priority);
+			}
+			return Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private BufferedImage decode(String path, int width, int height) {
+		long start = System.nanoTime();
+		BufferedImage image = null;
+		try (InputStream is = AssetRepository.class.getResourceAsStream(path)) {
+			if (is != null) {
+				image = ImageIO.read(is);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			System.err.println("Failed to decode image " + path + ": " + e.getMessage());
+		}
+		if (image == null) {
+			System.err.println("Image not found: " + path);
+		} else {
+			image = toCompatible(image, width > 0 ? width : image.getWidth(), height > 0 ? height : image.getHeight());
+		}
+		synchronized (this) {
+			decodeNanos += System.nanoTime() - start;
+		}
+		return image;
+	}
+
+	// Copy (and scale) into the native pixel format so drawing the image is a plain blit
+	private BufferedImage toCompatible(BufferedImage source, int width, int height) {
+		int transparency = source.getColorModel().hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE;
+		BufferedImage image = uTool.createCompatibleImage(width, height, transparency);
+		Graphics2D g2 = image.createGraphics();
+		g2.drawImage(source, 0, 0, width, height, null);
+		g2.dispose();
+		return image;
+	}
+
+	private static String key(String path, int width, int height) {
+		return width == 0 && height == 0 ? path : path + "@" + width + "x" + height;
+	}
+
+	private static long sizeOf(BufferedImage image) {
+		return (long) image.getWidth() * image.getHeight() * 4;
+	}
+
+	// ==================== METRICS ====================
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getSoftHits() {
+		return softHits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/** @return bytes of decoded pixels currently held by the strong tier */
+	public synchronized long getCachedBytes() {
+		return lruBytes;
+	}
+
+	/** @return bytes of pixels decoded since startup (re-decodes included) */
+	public synchronized long getDecodedBytes() {
+		return decodedBytes;
+	}
+
+	public synchronized String getStats() {
+		long lookups = hits + softHits + misses;
+		return String.format(java.util.Locale.ROOT,
+				"Assets: %d cached (%.1f / %.1f MB), %d soft, %d missing | hits %d, soft hits %d, misses %d (%.1f%% hit rate) | "
+						+ "%d evictions, %.1f MB decoded in %.0f ms",
+				lru.size(), lruBytes / 1048576.0, maxBytes / 1048576.0, soft.size(), missing.size(),
+				hits, softHits, misses, lookups == 0 ? 0 : (hits + softHits) * 100.0 / lookups,
+				evictions, decodedBytes / 1048576.0, decodeNanos / 1_000_000.0);
+	}
+}
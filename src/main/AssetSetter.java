@@ -16,9 +16,10 @@ public class AssetSetter {
 	}
 	
 	public void setObject() {
-		gp.obj[0]= new OBJ_Door(gp);
+		gp.setEntity(gp.obj, 0, new OBJ_Door(gp));
 		gp.obj[0].worldX=21*gp.tileSize;
 		gp.obj[0].worldY=22*gp.tileSize;
+		gp.refreshEntity(gp.obj[0]);
 		
 
 		
@@ -27,9 +28,10 @@ public class AssetSetter {
 	public void setNPC() {
 		// Removed NPC[0] that was at (21,21) - it was inside the house
 		
-		gp.npc[1]= new NPC_Grandpa(gp);
+		gp.setEntity(gp.npc, 1, new NPC_Grandpa(gp));
 		gp.npc[1].worldX = gp.tileSize*9;
 		gp.npc[1].worldY = gp.tileSize*10;
+		gp.refreshEntity(gp.npc[1]);
 		
 		
 	}
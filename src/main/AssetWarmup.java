@@ -0,0 +1,162 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Startup asset pipeline: the images the game needs, listed up front in two tiers and decoded
+ * concurrently on the AssetRepository worker pool while the loading screen is shown.
+ *
+ * The CRITICAL tier is everything the title screen and the first steps of gameplay draw (tiles,
+ * player sprites, title screen sprites) and is queued first. The BACKGROUND tier (menus, NPCs,
+ * objects) keeps decoding after the title screen is up. The game's own constructors still ask
+ * the repository for the same images, so they simply pick up a warmed (or in-flight) decode.
+ *
+ * Paths and sizes must match the lookups in TileManager, Player, UI and the entities, or the
+ * warm-up decodes an image nobody asks for.
+ */
+public class AssetWarmup {
+
+	public static final int CRITICAL = 0;
+	public static final int BACKGROUND = 1;
+	private static final int TIERS = 2;
+
+	private static class Request {
+		final String path;
+		final int width;
+		final int height;
+
+		Request(String path, int width, int height) {
+			this.path = path;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	private final AssetRepository assets;
+	private final List<List<Request>> requests = new ArrayList<>();
+	private final AtomicInteger[] completed = new AtomicInteger[TIERS];
+	private final Object lock = new Object();
+	private volatile boolean started = false;
+
+	public AssetWarmup(AssetRepository assets) {
+		this.assets = assets;
+		for (int i = 0; i < TIERS; i++) {
+			requests.add(new ArrayList<>());
+			completed[i] = new AtomicInteger();
+		}
+	}
+
+	/** Everything the game loads at startup, for the given tile size */
+	public static AssetWarmup forStartup(AssetRepository assets, int tileSize) {
+		AssetWarmup warmup = new AssetWarmup(assets);
+
+		// CRITICAL: map tiles (TileManager.getTileImage)
+		for (String tile : new String[] {"grass", "wall", "water", "earth", "tree", "sand", "highGrass",
+				"woodground1", "woodground2", "woodground3"}) {
+			warmup.add(CRITICAL, "/tiles/" + tile + ".png", tileSize, tileSize);
+		}
+		for (String furniture : new String[] {"closetopenwhite", "table", "chairright", "chairleft"}) {
+			warmup.add(CRITICAL, "/house/" + furniture + ".png", tileSize, tileSize);
+		}
+		int largeFurnitureSize = (int) (tileSize * 1.5);
+		for (String furniture : new String[] {"bigbedblue", "closetopenwhite"}) {
+			warmup.add(CRITICAL, "/house/" + furniture + ".png", largeFurnitureSize, largeFurnitureSize);
+		}
+
+		// CRITICAL: player walking and standing frames (Player.getPlayerImage, unscaled sprite sheets)
+		for (int frame = 1; frame <= 6; frame++) {
+			for (String direction : new String[] {"Up", "Down", "Left", "Right"}) {
+				warmup.add(CRITICAL, "/player/" + direction + frame + ".png", 0, 0);
+			}
+			for (String direction : new String[] {"Up", "Bas", "Left", "Right"}) {
+				warmup.add(CRITICAL, "/playerStill/" + direction + frame + ".png", 0, 0);
+			}
+		}
+
+		// CRITICAL: title screen sprites (UI.drawTitleScreen)
+		warmup.add(CRITICAL, "/npcProfessor/Down1.png", tileSize, tileSize);
+		warmup.add(CRITICAL, "/pixelChamps/Chogath2.png", tileSize, tileSize);
+
+		// BACKGROUND: pause menu (UI), hearts, overworld NPCs, monsters and objects
+		for (String menu : new String[] {"dex", "champions", "bag", "map", "badges", "save"}) {
+			warmup.add(BACKGROUND, "/menuImages/" + menu + ".png", 0, 0);
+		}
+		for (String heart : new String[] {"heartFull", "heartHalf", "heartBlank"}) {
+			warmup.add(BACKGROUND, "/object/" + heart + ".png", tileSize, tileSize);
+		}
+		for (int frame = 1; frame <= 3; frame++) {
+			for (String direction : new String[] {"Up", "Down", "Left", "Right"}) {
+				warmup.add(BACKGROUND, "/npcProfessor/" + direction + frame + ".png", 0, 0);
+			}
+			for (String direction : new String[] {"up", "down", "left", "right"}) {
+				warmup.add(BACKGROUND, "/npcGP/GP" + direction + frame + ".png", 0, 0);
+			}
+		}
+		warmup.add(BACKGROUND, "/monster/Kogmaw1.png", 0, 0);
+		warmup.add(BACKGROUND, "/monster/Kogmaw2.png", 0, 0);
+		for (String object : new String[] {"boots", "key", "door", "chestClosed"}) {
+			warmup.add(BACKGROUND, "/object/" + object + ".png", 0, 0);
+		}
+		return warmup;
+	}
+
+	public void add(int tier, String path, int width, int height) {
+		requests.get(tier).add(new Request(path, width, height));
+	}
+
+	/** Queue every listed image, critical tier first. Returns immediately. */
+	public void start() {
+		started = true;
+		for (int tier = 0; tier < TIERS; tier++) {
+			int priority = tier == CRITICAL ? AssetRepository.PRIORITY_CRITICAL : AssetRepository.PRIORITY_BACKGROUND;
+			AtomicInteger done = completed[tier];
+			for (Request request : requests.get(tier)) {
+				assets.load(request.path, request.width, request.height, priority).whenComplete((image, error) -> {
+					done.incrementAndGet();
+					synchronized (lock) {
+						lock.notifyAll();
+					}
+				});
+			}
+		}
+	}
+
+	/** Block until every image of the tier is decoded */
+	public void awaitTier(int tier) throws InterruptedException {
+		synchronized (lock) {
+			while (!isTierDone(tier)) {
+				lock.wait();
+			}
+		}
+	}
+
+	public boolean isTierDone(int tier) {
+		return started && completed[tier].get() >= requests.get(tier).size();
+	}
+
+	public int getCompleted(int tier) {
+		return completed[tier].get();
+	}
+
+	public int getTotal(int tier) {
+		return requests.get(tier).size();
+	}
+
+	public int getCompleted() {
+		int total = 0;
+		for (int tier = 0; tier < TIERS; tier++) {
+			total += completed[tier].get();
+		}
+		return total;
+	}
+
+	public int getTotal() {
+		int total = 0;
+		for (int tier = 0; tier < TIERS; tier++) {
+			total += requests.get(tier).size();
+		}
+		return total;
+	}
+}
@@ -2,13 +2,9 @@ package main;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
-import javax.imageio.ImageIO;
-import factories.ItemDataLoader;
-import data.ItemTemplate;
+import item.Inventory;
+import item.Item;
+import item.ItemCatalog;
 
 public class Bag {
     
@@ -19,8 +15,14 @@ public class Bag {
     private int selectedTab = 0;
     private int selectedItem = 0;
     
-    // Mock inventory data (you can replace this with real inventory system)
-    private List<List<BagItem>> inventory;
+    // Owned item ids per tab (ItemCatalog order, like the shop), filled on refresh; counts are read live
+    private static final Item.ItemCategory[] TAB_CATEGORIES = {
+        Item.ItemCategory.CONSUMABLE, Item.ItemCategory.CHAMPIONITEM, Item.ItemCategory.LEGENDBALL
+    };
+    private final ItemCatalog catalog = ItemCatalog.get();
+    private final int[][] tabItems = new int[TAB_CATEGORIES.length][];
+    private final int[] tabSizes = new int[TAB_CATEGORIES.length];
+    private final BufferedImage[] itemIcons = new BufferedImage[catalog.size()]; // By catalog id, loaded on first draw
     
     // Keyboard navigation
     private boolean keyboardMode = true;
@@ -30,7 +32,6 @@ public class Bag {
     private int currentScrollOffset = 0;
     
     // Image cache for item icons
-    private Map<String, BufferedImage> iconCache = new HashMap<>();
     
     // UI Constants - Clean Pokemon Style
     private static final int TAB_HEIGHT = 48;
@@ -51,137 +52,44 @@ public class Bag {
     private static final Color ITEM_COLOR = new Color(100, 150, 220);      // Muted blue
     private static final Color LEGENDBALL_COLOR = new Color(200, 170, 80);  // Muted gold
     
-    // Item class for bag contents
-    public static class BagItem {
-        public String name;
-        public String description;
-        public int quantity;
-        public String iconPath;
-        
-        public BagItem(String name, String description, int quantity, String iconPath) {
-            this.name = name;
-            this.description = description;
-            this.quantity = quantity;
-            this.iconPath = iconPath;
-        }
-    }
-    
     public Bag(GamePanel gp) {
         this.gp = gp;
-        initializeInventory();
-        goBackSelected = false; // Ensure proper initialization
-    }
-    
-    private void initializeInventory() {
+        for (int tab = 0; tab < TAB_CATEGORIES.length; tab++) {
+            tabItems[tab] = new int[catalog.getCategorySize(TAB_CATEGORIES[tab])];
+        }
         loadInventoryFromPlayer();
+        goBackSelected = false; // Ensure proper initialization
     }
     
     /**
      * Load inventory from Player's central inventory system
-     * Items are ordered the same as in Shop using ItemDataLoader
+     * Items are ordered the same as in Shop, by ItemCatalog order
      */
     private void loadInventoryFromPlayer() {
-        try {
-            inventory = new ArrayList<>();
-            Map<String, Integer> playerItems = gp.player.getInventory();
-            
-            if (playerItems == null) {
-                System.err.println("ERROR BAG: Player inventory is null!");
-                // Create empty lists to prevent crashes
-                inventory.add(new ArrayList<>());
-                inventory.add(new ArrayList<>());
-                inventory.add(new ArrayList<>());
-                return;
-            }
-            
-            System.out.println("DEBUG BAG: Loading inventory from player. Total items: " + playerItems.size());
-            for (Map.Entry<String, Integer> entry : playerItems.entrySet()) {
-                System.out.println("DEBUG BAG: Player has '" + entry.getKey() + "' x" + entry.getValue());
-            }
-            
-            // Initialize category lists using ItemDataLoader order
-            List<BagItem> consumables = createOrderedCategoryList("consumables", playerItems);
-            List<BagItem> items = createOrderedCategoryList("items", playerItems);
-            List<BagItem> legendBalls = createOrderedCategoryList("legendballs", playerItems);
-            
-            System.out.println("DEBUG BAG: Final counts - Consumables: " + consumables.size() + 
-                              ", Items: " + items.size() + ", LegendBalls: " + legendBalls.size());
-            
-            inventory.add(consumables);
-            inventory.add(items);
-            inventory.add(legendBalls);
-        } catch (Exception e) {
-            System.err.println("ERROR BAG: Exception in loadInventoryFromPlayer: " + e.getMessage());
-            e.printStackTrace();
-            
-            // Create empty lists to prevent crashes
-            inventory = new ArrayList<>();
-            inventory.add(new ArrayList<>());
-            inventory.add(new ArrayList<>());
-            inventory.add(new ArrayList<>());
-        }
-    }
-    
-    /**
-     * Create ordered list for a category using ItemDataLoader order
-     */
-    private List<BagItem> createOrderedCategoryList(String category, Map<String, Integer> playerItems) {
-        List<BagItem> categoryList = new ArrayList<>();
-        
-        try {
-            List<ItemTemplate> templateItems = ItemDataLoader.getItemsByCategory(category);
-            
-            if (templateItems == null) {
-                System.err.println("ERROR BAG: ItemDataLoader.getItemsByCategory returned null for: " + category);
-                return categoryList; // Return empty list
-            }
-            
-            // Go through items in ItemDataLoader order
-            for (ItemTemplate template : templateItems) {
-                if (template == null || template.name == null) {
-                    System.err.println("ERROR BAG: Null template or template name in category: " + category);
-                    continue;
-                }
-                
-                String itemName = template.name;
-                if (playerItems.containsKey(itemName) && playerItems.get(itemName) > 0) {
-                    int quantity = playerItems.get(itemName);
-                    BagItem bagItem = createBagItem(itemName, quantity);
-                    if (bagItem != null) {
-                        categoryList.add(bagItem);
-                        System.out.println("DEBUG BAG: Adding '" + itemName + "' to " + category + " (ordered)");
-                    }
+        Inventory playerItems = gp.player.getInventory();
+        for (int tab = 0; tab < TAB_CATEGORIES.length; tab++) {
+            Item.ItemCategory category = TAB_CATEGORIES[tab];
+            int size = 0;
+            for (int i = 0; i < catalog.getCategorySize(category); i++) {
+                int id = catalog.getInCategory(category, i);
+                if (playerItems.getCount(id) > 0) {
+                    tabItems[tab][size++] = id;
                 }
             }
-        } catch (Exception e) {
-            System.err.println("ERROR BAG: Exception in createOrderedCategoryList for " + category + ": " + e.getMessage());
-            e.printStackTrace();
+            tabSizes[tab] = size;
         }
-        
-        return categoryList;
-    }
-    
-    /**
-     * Create BagItem with appropriate description and icon path
-     */
-    private BagItem createBagItem(String itemName, int quantity) {
-        // Get description from ItemDataLoader
-        ItemTemplate template = ItemDataLoader.getItem(itemName);
-        String description = template != null ? template.description : "Unknown item";
-        String iconPath = template != null ? template.iconPath : itemName.toLowerCase().replace(" ", "").replace("'", "");
-        
-        return new BagItem(itemName, description, quantity, iconPath);
+        System.out.println("DEBUG BAG: Final counts - Consumables: " + tabSizes[0] + 
+                          ", Items: " + tabSizes[1] + ", LegendBalls: " + tabSizes[2]);
     }
     
-    
     /**
      * Refresh inventory from player data (call when returning to bag)
      */
     public void refreshInventory() {
         loadInventoryFromPlayer();
         // Reset selection if needed
-        if (selectedTab >= inventory.size()) selectedTab = 0;
-        if (selectedTab < inventory.size() && selectedItem >= inventory.get(selectedTab).size()) {
+        if (selectedTab >= tabSizes.length) selectedTab = 0;
+        if (selectedItem >= tabSizes[selectedTab]) {
             selectedItem = 0;
         }
         goBackSelected = false; // Reset GO BACK selection when refreshing
@@ -215,8 +123,7 @@ public class Bag {
             return;
         }
         
-        List<BagItem> currentTab = inventory.get(selectedTab);
-        if (selectedItem < currentTab.size() - 1) {
+        if (selectedItem < tabSizes[selectedTab] - 1) {
             selectedItem++;
             updateScrollForDownNavigation();
             gp.playSE(9);
@@ -224,8 +131,7 @@ public class Bag {
     }
     
     private void updateScrollForUpNavigation() {
-        List<BagItem> currentTab = inventory.get(selectedTab);
-        if (currentTab.size() <= VISIBLE_ITEMS) {
+        if (tabSizes[selectedTab] <= VISIBLE_ITEMS) {
             currentScrollOffset = 0;
             return;
         }
@@ -239,8 +145,7 @@ public class Bag {
     }
     
     private void updateScrollForDownNavigation() {
-        List<BagItem> currentTab = inventory.get(selectedTab);
-        if (currentTab.size() <= VISIBLE_ITEMS) {
+        if (tabSizes[selectedTab] <= VISIBLE_ITEMS) {
             currentScrollOffset = 0;
             return;
         }
@@ -252,7 +157,7 @@ public class Bag {
         }
         
         // Ensure we don't scroll past the end
-        currentScrollOffset = Math.min(currentScrollOffset, currentTab.size() - VISIBLE_ITEMS);
+        currentScrollOffset = Math.min(currentScrollOffset, tabSizes[selectedTab] - VISIBLE_ITEMS);
     }
     
     public void navigateLeft() {
@@ -282,11 +187,10 @@ public class Bag {
             return;
         }
         
-        List<BagItem> currentTab = inventory.get(selectedTab);
-        if (selectedItem < currentTab.size()) {
-            BagItem selected = currentTab.get(selectedItem);
+        if (selectedItem < tabSizes[selectedTab]) {
+            int selected = tabItems[selectedTab][selectedItem];
             // Handle item usage here
-            System.out.println("Used: " + selected.name);
+            System.out.println("Used: " + catalog.getName(selected));
             gp.playSE(11);
         }
     }
@@ -297,61 +201,38 @@ public class Bag {
         gp.playSE(9);
     }
     
+    private BufferedImage getItemIcon(int itemId) {
+        if (itemIcons[itemId] == null) {
+            itemIcons[itemId] = loadItemIcon(catalog.getTemplate(itemId).iconPath, selectedTab);
+        }
+        return itemIcons[itemId];
+    }
+    
     /**
      * Load item icon based on current tab and item name
      */
     private BufferedImage loadItemIcon(String itemName, int tabIndex) {
-        String cacheKey = itemName + "_" + tabIndex;
-        
-        if (iconCache.containsKey(cacheKey)) {
-            return iconCache.get(cacheKey);
+        String folderPath = "";
+        switch (tabIndex) {
+            case 0: // Consumables
+                folderPath = "/LeagueItems/consumables/";
+                break;
+            case 1: // Items
+                folderPath = "/LeagueItems/items/";
+                break;
+            case 2: // LegendBalls
+                folderPath = "/LeagueItems/legendballs/";
+                break;
         }
         
-        try {
-            String folderPath = "";
-            switch (tabIndex) {
-                case 0: // Consumables
-                    folderPath = "/LeagueItems/consumables/";
-                    break;
-                case 1: // Items
-                    folderPath = "/LeagueItems/items/";
-                    break;
-                case 2: // LegendBalls
-                    folderPath = "/LeagueItems/legendballs/";
-                    break;
-            }
-            
-            // Try .png first, then .jpg as fallback
-            String imagePath = folderPath + itemName + ".png";
-            BufferedImage image = null;
-            
-            try {
-                image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-            } catch (Exception e) {
-                // Try .jpg extension if .png fails
-                imagePath = folderPath + itemName + ".jpg";
-                image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-            }
-            
-            iconCache.put(cacheKey, image);
-            return image;
-        } catch (Exception e) {
-            System.err.println("Could not load icon for: " + itemName + " (tab: " + tabIndex + ")");
-            
-            // Try to load imgnotfound.png as fallback
-            try {
-                BufferedImage fallbackImage = ImageIO.read(getClass().getResourceAsStream("/LeagueItems/imgnotfound.png"));
-                if (fallbackImage != null) {
-                    iconCache.put(cacheKey, fallbackImage);
-                    return fallbackImage;
-                }
-            } catch (Exception fallbackException) {
-                System.err.println("Could not load fallback image: imgnotfound.png");
-            }
-            
-            // Return a placeholder colored square as last resort
-            return createPlaceholderIcon(tabIndex);
-        }
+        // Try .png first, then .jpg, then imgnotfound.png
+        BufferedImage image = gp.assets.getFirstImage(
+                folderPath + itemName + ".png",
+                folderPath + itemName + ".jpg",
+                "/LeagueItems/imgnotfound.png");
+        
+        // Return a placeholder colored square as last resort
+        return image != null ? image : createPlaceholderIcon(tabIndex);
     }
     
     /**
@@ -528,7 +409,7 @@ public class Bag {
     }
     
     private void drawModernItems(Graphics2D g2) {
-        List<BagItem> currentTab = inventory.get(selectedTab);
+        int tabSize = tabSizes[selectedTab];
         // Center the items list on the page with more space
         int itemsAreaWidth = 700;
         int itemsAreaX = (gp.screenWidth - itemsAreaWidth) / 2;
@@ -557,12 +438,12 @@ public class Bag {
         
         // Draw visible items with bounds checking - reserve space for scrollbar
         int scrollbarWidth = 20;
-        int itemsToShow = Math.min(VISIBLE_ITEMS, currentTab.size());
+        int itemsToShow = Math.min(VISIBLE_ITEMS, tabSize);
         for (int i = 0; i < itemsToShow; i++) {
             int itemIndex = scrollOffset + i;
-            if (itemIndex < 0 || itemIndex >= currentTab.size()) continue;
+            if (itemIndex < 0 || itemIndex >= tabSize) continue;
             
-            BagItem item = currentTab.get(itemIndex);
+            int item = tabItems[selectedTab][itemIndex];
             int itemY = itemsAreaY + 15 + (i * ITEM_HEIGHT);
             boolean isSelected = !goBackSelected && itemIndex == selectedItem; // Don't highlight items when GO BACK is selected
             
@@ -570,19 +451,19 @@ public class Bag {
         }
         
         // Modern scroll indicator - positioned inside the white items area
-        if (currentTab.size() > VISIBLE_ITEMS) {
+        if (tabSize > VISIBLE_ITEMS) {
             int scrollX = itemsAreaX + itemsAreaWidth - 25;
             int scrollY = itemsAreaY + 15;
             int scrollHeight = VISIBLE_ITEMS * ITEM_HEIGHT - 10;
             drawModernScrollIndicator(g2, scrollX, scrollY, 
                                     15, scrollHeight, 
-                                    currentTab.size(), scrollOffset, VISIBLE_ITEMS);
+                                    tabSize, scrollOffset, VISIBLE_ITEMS);
         }
         
         g2.setStroke(new BasicStroke(1)); // Reset stroke
     }
     
-    private void drawModernBagItem(Graphics2D g2, BagItem item, int x, int y, int width, int height, boolean isSelected) {
+    private void drawModernBagItem(Graphics2D g2, int item, int x, int y, int width, int height, boolean isSelected) {
         Color categoryColor = getCategoryColor(selectedTab);
         
         // Clean item card styling
@@ -605,7 +486,7 @@ public class Bag {
         }
         
         // Clean item icon
-        BufferedImage itemIcon = loadItemIcon(item.iconPath, selectedTab);
+        BufferedImage itemIcon = getItemIcon(item);
         int iconSize = 36;
         int iconX = x + 12;
         int iconY = y + (height - iconSize) / 2;
@@ -640,10 +521,10 @@ public class Bag {
         int textStartX = iconX + iconSize + 14;
         g2.setFont(new Font("Segoe UI", Font.BOLD, 14));
         g2.setColor(TEXT_DARK);
-        g2.drawString(item.name, textStartX, y + height/2 + 4);
+        g2.drawString(catalog.getName(item), textStartX, y + height/2 + 4);
         
         // Simple quantity badge
-        String quantityText = "×" + item.quantity;
+        String quantityText = "×" + gp.player.getInventory().getCount(item);
         g2.setFont(new Font("Segoe UI", Font.BOLD, 11));
         FontMetrics qfm = g2.getFontMetrics();
         int qWidth = qfm.stringWidth(quantityText);
@@ -672,10 +553,9 @@ public class Bag {
     
     
     private void drawModernItemDescription(Graphics2D g2) {
-        List<BagItem> currentTab = inventory.get(selectedTab);
-        if (selectedItem >= currentTab.size()) return;
+        if (selectedItem >= tabSizes[selectedTab]) return;
         
-        BagItem selectedBagItem = currentTab.get(selectedItem);
+        int selectedBagItem = tabItems[selectedTab][selectedItem];
         Color categoryColor = getCategoryColor(selectedTab);
         
         // Position description as a compact square at bottom
@@ -706,10 +586,10 @@ public class Bag {
         // Clean item name
         g2.setFont(new Font("Segoe UI", Font.BOLD, 18));
         g2.setColor(categoryColor);
-        g2.drawString(selectedBagItem.name, descX + 18, descY + 35);
+        g2.drawString(catalog.getName(selectedBagItem), descX + 18, descY + 35);
         
         // Quantity badge - moved to top right
-        String quantityText = "×" + selectedBagItem.quantity;
+        String quantityText = "×" + gp.player.getInventory().getCount(selectedBagItem);
         g2.setFont(new Font("Segoe UI", Font.BOLD, 12));
         FontMetrics qtyFm = g2.getFontMetrics();
         int qtyWidth = qtyFm.stringWidth(quantityText);
@@ -743,7 +623,7 @@ public class Bag {
         g2.setColor(TEXT_DARK);
         
         // Word wrap description - optimized for compact panel
-        String[] words = selectedBagItem.description.split(" ");
+        String[] words = catalog.getTemplate(selectedBagItem).description.split(" ");
         String currentLine = "";
         int textLineY = descY + 88;
         int maxWidth = descWidth - 36;
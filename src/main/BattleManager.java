@@ -15,36 +15,11 @@ import java.awt.Graphics2D;
 import java.awt.RadialGradientPaint;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
-
-import javax.imageio.ImageIO;
 
 public class BattleManager {
 
-    // Performance optimization: Reusable damage result to avoid array allocations
-    private static class DamageResult {
-        int damage = 0;
-        boolean isCrit = false;
-        boolean isMiss = false;
-        
-        void setMiss() { 
-            damage = 0; 
-            isCrit = false; 
-            isMiss = true; 
-        }
-        
-        void setHit(int dmg, boolean crit) { 
-            damage = dmg; 
-            isCrit = crit; 
-            isMiss = false; 
-        }
-    }
-
     private GamePanel gp;
     private Champion playerChampion;
     private Champion wildChampion;
@@ -56,6 +31,8 @@ public class BattleManager {
     private int selectedTeamMemberIndex = 0; // For team swap selection
     private int selectedItemIndex = 0; // For item selection
     private String selectedItemCategory = "consumables"; // Track current item category
+    private final item.ItemCatalog itemCatalog = item.ItemCatalog.get();
+    private final BufferedImage[] itemIcons = new BufferedImage[itemCatalog.size()]; // By catalog id, loaded on first draw
     private boolean hoveringTabs = false; // Whether we're hovering over tabs
     private boolean hoveringReturnArrow = false; // Whether we're hovering over return arrow
     private int selectedTabIndex = 0; // 0 = consumables, 1 = legendballs
@@ -65,12 +42,6 @@ public class BattleManager {
     private int currentPage = 0; // Current page in pagination
     private static final int ITEMS_PER_PAGE = 4; // Max items per page
     
-    // Image cache for item icons (same system as Bag.java)
-    private Map<String, BufferedImage> iconCache = new HashMap<>();
-    
-    // Image cache for battle icons
-    private Map<String, BufferedImage> battleIconCache = new HashMap<>();
-    
     // Navigation states for item selection
     public enum ItemNavigationState {
         TAB_SELECTION,    // Currently on tab names (can use A/D to switch tabs, W to go to return arrow)
@@ -91,7 +62,32 @@ public class BattleManager {
         RETURN_ARROW        // Currently on return arrow
     }
     private PartyNavigationState partyNavState = PartyNavigationState.CHAMPION_SELECTION;
-    private Random random = new Random();
+    
+    // Turn rules live in the engine, this class only feeds it input and paces the results on screen
+    private final battle.BattleEngine engine = createEngine();
+    
+    // Every battle rolls from its own stream; set a seed to fight a logged battle again
+    private boolean nextBattleSeedSet = false;
+    private long nextBattleSeed;
+    
+    private static battle.BattleEngine createEngine() {
+        battle.BattleEngine engine = new battle.BattleEngine(battle.BattleRandom.nextSeed());
+        engine.setVerbose(true); // Keep the detailed damage logs in the console
+        return engine;
+    }
+    
+    // Wild champions decide on a worker thread while the player's turn is still on screen
+    private battle.AIDifficulty aiDifficulty = battle.AIDifficulty.NORMAL;
+    private final battle.AIWorker aiWorker = new battle.AIWorker(new battle.SearchAI());
+    
+    // Every battle is recorded and saved as a replay when it ends
+    public static final String LAST_REPLAY_FILE = "replays/last_battle.replay";
+    private final battle.BattleEventLog eventLog = new battle.BattleEventLog();
+    
+    // Replay playback, null while a normal battle is running
+    private battle.BattleEventLog replayLog = null;
+    private int replayEvent = 0;
+    private final String[] replayNames = new String[2];
     
     // Getter and setter methods for navigation states
     public FightNavigationState getFightNavState() {
@@ -120,59 +116,23 @@ public class BattleManager {
     
     // Method to load battle icons
     private BufferedImage loadBattleIcon(String iconName) {
-        if (battleIconCache.containsKey(iconName)) {
-            return battleIconCache.get(iconName);
-        }
-        
-        try {
-            BufferedImage icon = ImageIO.read(getClass().getResourceAsStream("/battle/" + iconName + ".png"));
-            battleIconCache.put(iconName, icon);
-            return icon;
-        } catch (Exception e) {
-            System.out.println("Could not load battle icon: " + iconName);
-            return null;
-        }
+        return gp.assets.getImage("/battle/" + iconName + ".png");
     }
     
-    // Scrollable text system with colors
-    private java.util.List<ColoredMessage> battleMessages = new java.util.ArrayList<>();
+    // Scrollable text system with colors (bounded, wrapped and laid out once per message)
+    private final BattleMessageLog battleMessages = new BattleMessageLog();
     private int scrollOffset = 0; // How many lines we've scrolled up
     private int maxVisibleLines = 8; // Maximum lines visible in text box
     private Color lastMessageColor = null; // Track last message color for spacing
-    
-    // Message class to store text with color
-    private static class ColoredMessage {
-        final String text;
-        final Color color;
-        
-        ColoredMessage(String text, Color color) {
-            this.text = text;
-            this.color = color;
-        }
-    }
+    private static final Color PLAYER_MESSAGE_COLOR = new Color(100, 149, 237); // Cornflower blue
+    private static final Color ENEMY_MESSAGE_COLOR = new Color(220, 20, 60); // Crimson red
+    private java.awt.Font messageBaseFont; // Font the text box font was derived from
+    private java.awt.Font messageFont;
+    private java.awt.Font scrollHintFont;
     private int messageTimer = 0;
     private boolean xpAwarded = false; // Prevent multiple XP awards
     private boolean battleEndMessageShown = false; // Prevent multiple battle end messages
     
-    // Performance optimizations: Reusable objects to reduce allocations
-    private final DamageResult damageResult = new DamageResult();
-    private final StringBuilder mainMessage = new StringBuilder(256);
-    private final StringBuilder statusMessage = new StringBuilder(128);
-    
-    // AI move caching to avoid stream operations every turn
-    private List<Move> cachedAIMoves = new ArrayList<>(4);
-    private boolean aiMovesCacheValid = false;
-    private int lastAIResource = -1;
-    
-    // Run away attempt tracking
-    private int runAttempts = 0;
-    
-    // Turn priority caching system
-    private enum TurnOrder { PLAYER_FIRST, WILD_FIRST, SPEED_CHECK_NEEDED }
-    private TurnOrder baseTurnOrder = TurnOrder.SPEED_CHECK_NEEDED;
-    private int lastPlayerSpeed = -1;
-    private int lastWildSpeed = -1;
-    
     // Level up display
     private boolean showLevelUpStats = false;
     private StatIncrease levelUpStats = null;
@@ -196,12 +156,10 @@ public class BattleManager {
 
     public BattleManager(GamePanel gamePanel) {
         this.gp = gamePanel;
+        engine.setEventLog(eventLog);
     }
 
     public void startBattle(Champion playerChampion, Champion wildChampion) {
-        // Initialize ItemManager at battle start to ensure item system is ready
-        item.ItemManager.initialize();
-        
         // Reset UI battle navigation to Fight option
         gp.ui.battleNum = 0;
         
@@ -216,13 +174,18 @@ public class BattleManager {
         this.playerChampion = playerChampion;
         this.wildChampion = wildChampion;
         this.battleState = BattleState.MAIN_MENU;
-        this.playerTurn = determineFirstTurn();
         this.selectedMoveIndex = 0;
         clearBattleMessages();
         
+        // New random stream for this battle, the levels below are rolled from it too
+        long seed = nextBattleSeedSet ? nextBattleSeed : battle.BattleRandom.nextSeed();
+        nextBattleSeedSet = false;
+        battle.BattleRandom.logSeed("Battle " + playerChampion.getName() + " vs " + wildChampion.getName(), seed);
+        engine.setSeed(seed);
+        
         // Random level scaling system
-        int testPlayerLevel = random.nextInt(51); // 0-50
-        int testWildLevel = random.nextInt(51); // 0-50
+        int testPlayerLevel = engine.getRandom().nextInt(51); // 0-50
+        int testWildLevel = engine.getRandom().nextInt(51); // 0-50
         
         playerChampion.setLevel(testPlayerLevel);
         wildChampion.setLevel(testWildLevel);
@@ -236,20 +199,12 @@ public class BattleManager {
         this.messageTimer = 120; // Display message for 2 seconds at 60fps
         this.xpAwarded = false; // Reset XP award flag
         this.battleEndMessageShown = false; // Reset battle end message flag
-        this.runAttempts = 0; // Reset run attempts for new battle
-        
-        // Reset passive states for new battle
-        playerChampion.resetPassiveStates();
-        wildChampion.resetPassiveStates();
         
-        // Trigger start of battle passives
-        StringBuilder startMessage = new StringBuilder();
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.START_OF_BATTLE, 0, startMessage);
-        handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.START_OF_BATTLE, 0, startMessage);
+        aiWorker.cancel();
         
-        if (startMessage.length() > 0) {
-            addBattleMessage(startMessage.toString());
-        }
+        // Resets passives and run attempts, and triggers start of battle passives
+        showResult(engine.start(playerChampion, wildChampion));
+        this.playerTurn = engine.playerMovesFirst();
         
         gp.gameState = gp.battleState;
         System.out.println("Battle started! Player: " + playerChampion.getName() + 
@@ -257,6 +212,11 @@ public class BattleManager {
     }
  
     public void update() {
+        if (replayLog != null) {
+            updateReplay();
+            return;
+        }
+        
         // Handle ESC key for item selection
         if (battleState == BattleState.ITEM_SELECTION && gp.keyH.escPressed) {
             // Close bag and return to battle menu (same as ENTER on return arrow)
@@ -271,105 +231,88 @@ public class BattleManager {
         }
         
         // Check for battle end conditions
+        // (death defiance passives already had their chance when the engine action ended)
         if (playerChampion.isFainted()) {
-            // Check for death defiance passives
-            StringBuilder deathMessage = new StringBuilder();
-            handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.DEATH_DEFIANCE, 0, deathMessage);
-            
-            if (playerChampion.isFainted() && !battleEndMessageShown) { // Still fainted after death defiance check
+            if (!battleEndMessageShown) {
                 battleState = BattleState.BATTLE_END;
                 addPlayerMessage(playerChampion.getName() + " fainted!");
                 addBattleMessage("You lost!", new Color(255, 0, 0)); // Red for defeat
                 messageTimer = 180; // 3 seconds
                 battleEndMessageShown = true;
-            } else if (deathMessage.length() > 0) {
-                addBattleMessage(deathMessage.toString());
-                messageTimer = 120;
             }
         } else if (wildChampion.isFainted() && !xpAwarded && !battleEndMessageShown) {
-            // Check for death defiance passives
-            StringBuilder deathMessage = new StringBuilder();
-            handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.DEATH_DEFIANCE, 0, deathMessage);
-            
-            if (wildChampion.isFainted()) { // Still fainted after death defiance check
-                battleState = BattleState.BATTLE_END;
-                
-                // Trigger ON_KILL passive
-                StringBuilder killMessage = new StringBuilder();
-                handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.ON_KILL, 0, killMessage);
-                
-                int expGained = wildChampion.getLevel() * 5;
-                StatIncrease statIncrease = playerChampion.gainExp(expGained);
-                
-                // Award money for winning battle
-                gp.player.awardBattleMoney(wildChampion.getLevel(), false); // Wild battle, not trainer
-                
-                if (statIncrease != null) {
-                    // Level up occurred - show stats display
-                    addEnemyMessage("Wild " + wildChampion.getName() + " fainted!");
-                    addBattleMessage("You won!", new Color(0, 255, 0)); // Green for victory
-                    addPlayerMessage(playerChampion.getName() + " gained " + expGained + " XP!");
-                    addPlayerMessage(playerChampion.getName() + " leveled up to level " + playerChampion.getLevel() + "!");
-                    addPlayerMessage("You received " + (wildChampion.getLevel() * 4) + " gold!");
-                    if (killMessage.length() > 0) {
-                        addBattleMessage(killMessage.toString());
-                    }
-                    showLevelUpStats = true;
-                    levelUpStats = statIncrease;
-                    levelUpChampion = playerChampion;
-                } else {
-                    addEnemyMessage("Wild " + wildChampion.getName() + " fainted!");
-                    addBattleMessage("You won!", new Color(0, 255, 0)); // Green for victory
-                    addPlayerMessage(playerChampion.getName() + " gained " + expGained + " XP!");
-                    addPlayerMessage("You received " + (wildChampion.getLevel() * 4) + " gold!");
-                    if (killMessage.length() > 0) {
-                        addBattleMessage(killMessage.toString());
-                    }
+            battleState = BattleState.BATTLE_END;
+            
+            // Trigger ON_KILL passive
+            String killMessage = engine.triggerOnKill(battle.BattleEngine.PLAYER);
+            
+            int expGained = wildChampion.getLevel() * 5;
+            StatIncrease statIncrease = playerChampion.gainExp(expGained);
+            
+            // Award money for winning battle
+            gp.player.awardBattleMoney(wildChampion.getLevel(), false); // Wild battle, not trainer
+            
+            if (statIncrease != null) {
+                // Level up occurred - show stats display
+                addEnemyMessage("Wild " + wildChampion.getName() + " fainted!");
+                addBattleMessage("You won!", new Color(0, 255, 0)); // Green for victory
+                addPlayerMessage(playerChampion.getName() + " gained " + expGained + " XP!");
+                addPlayerMessage(playerChampion.getName() + " leveled up to level " + playerChampion.getLevel() + "!");
+                addPlayerMessage("You received " + (wildChampion.getLevel() * 4) + " gold!");
+                if (killMessage.length() > 0) {
+                    addBattleMessage(killMessage);
+                }
+                showLevelUpStats = true;
+                levelUpStats = statIncrease;
+                levelUpChampion = playerChampion;
+            } else {
+                addEnemyMessage("Wild " + wildChampion.getName() + " fainted!");
+                addBattleMessage("You won!", new Color(0, 255, 0)); // Green for victory
+                addPlayerMessage(playerChampion.getName() + " gained " + expGained + " XP!");
+                addPlayerMessage("You received " + (wildChampion.getLevel() * 4) + " gold!");
+                if (killMessage.length() > 0) {
+                    addBattleMessage(killMessage);
                 }
-                xpAwarded = true; // Mark XP as awarded
-                battleEndMessageShown = true; // Mark victory message as shown
-                // No timer set - message will persist until user action
-            } else if (deathMessage.length() > 0) {
-                addBattleMessage(deathMessage.toString());
-                messageTimer = 120;
             }
+            xpAwarded = true; // Mark XP as awarded
+            battleEndMessageShown = true; // Mark victory message as shown
+            // No timer set - message will persist until user action
         }
         
         // Auto-execute AI turn if it's not player turn and in executing state
-        if (battleState == BattleState.EXECUTING && !playerTurn && messageTimer <= 0) {
-            executeAITurn();
-        }
-        
-        // Update passive states each frame
-        if (playerChampion != null) {
-            // Check HP threshold passives
-            StringBuilder hpMessage = new StringBuilder();
-            handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.HP_THRESHOLD, 0, hpMessage);
-            if (hpMessage.length() > 0 && messageTimer <= 0) {
-                addBattleMessage(hpMessage.toString());
-                messageTimer = 90;
+        if (battleState == BattleState.EXECUTING && !playerTurn) {
+            if (aiDifficulty.usesSearch() && !aiWorker.hasRequest()) {
+                // The search has to be done before the messages of the player's turn are gone
+                int budget = Math.min(aiDifficulty.budgetMillis, messageTimer * 1000 / 60);
+                aiWorker.request(wildChampion, playerChampion, engine.getTurnCount(), budget);
             }
-        }
-        
-        if (wildChampion != null) {
-            // Check HP threshold passives
-            StringBuilder hpMessage = new StringBuilder();
-            handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.HP_THRESHOLD, 0, hpMessage);
-            if (hpMessage.length() > 0 && messageTimer <= 0) {
-                addBattleMessage(hpMessage.toString());
-                messageTimer = 90;
+            if (messageTimer <= 0) {
+                executeAITurn();
             }
         }
     }
+    
+    private void executeAITurn() {
+        battle.TurnResult result;
+        int action = aiWorker.poll();
+        if (action != battle.AIWorker.NO_ACTION) {
+            result = engine.act(battle.BattleEngine.ENEMY, action);
+        } else {
+            // No search (EASY) or it is not done yet: never wait for it, use the quick AI
+            aiWorker.cancel();
+            result = engine.aiTurn(battle.BattleEngine.ENEMY);
+        }
+        showResult(result);
+        messageTimer = result.getMessageCount() > 0 && !result.acted ? 90 : 120;
+        
+        playerTurn = true;
+        battleState = BattleState.MAIN_MENU;
+        gp.ui.battleNum = 0; // Reset cursor to attack option
+    }
 
     public void draw(Graphics2D g2) {
         // Draw the battle background
-        BufferedImage backgroundImage = null;
-        try {
-            backgroundImage = ImageIO.read(getClass().getResourceAsStream("/battle/NatureBattle.jpg"));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        BufferedImage backgroundImage = gp.assets.getImage("/battle/NatureBattle.jpg");
 
         // Draw the background image for the top 2/3 of the screen
         if (backgroundImage != null) {
@@ -381,12 +324,7 @@ public class BattleManager {
         }
 
         // Replace the black background for the bottom 1/3 with an image
-        BufferedImage fightLayoutImage = null;
-        try {
-            fightLayoutImage = ImageIO.read(getClass().getResourceAsStream("/battle/bgfightbtn2.jpg"));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        BufferedImage fightLayoutImage = gp.assets.getImage("/battle/bgfightbtn2.jpg");
 
         int blackStartY = (int) (gp.screenHeight * (2.0 / 3.0));
         if (fightLayoutImage != null) {
@@ -399,12 +337,7 @@ public class BattleManager {
         // Draw wild champion image
         if (wildChampion != null) {
         	
-            BufferedImage wildChampionImage = null;
-            try {
-                wildChampionImage = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + wildChampion.getImageName()+".png"));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            BufferedImage wildChampionImage = gp.assets.getImage("/championsImg/" + wildChampion.getImageName()+".png");
 
             if (wildChampionImage != null) {
                 int wildImageX = gp.screenWidth / 4 +300; // Adjust position to center the image
@@ -416,12 +349,7 @@ public class BattleManager {
 
         // Draw player champion image
         if (playerChampion != null) {
-            BufferedImage playerChampionImage = null;
-            try {
-                playerChampionImage = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + playerChampion.getImageName()+".png"));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            BufferedImage playerChampionImage = gp.assets.getImage("/championsImg/" + playerChampion.getImageName()+".png");
 
             if (playerChampionImage != null) {
                 int playerImageX = (int) (gp.screenWidth * (3.0 / 4.0)- 530) ;
@@ -635,14 +563,21 @@ public class BattleManager {
         String typeInfo = move.getType();
         g2.drawString(typeInfo, x + 8, y + 50);
         
-        // Show ultimate cooldown or power
+        // Expected damage and hit chance against the wild champion (memoized by the engine)
+        if (wildChampion != null) {
+            battle.DamagePreview preview = engine.previewDamage(move, playerChampion, wildChampion);
+            java.awt.FontMetrics fm = g2.getFontMetrics();
+            g2.drawString(preview.critLabel, x + width - 8 - fm.stringWidth(preview.critLabel), y + 37);
+            if (!(move.isUltimate() && move.isUltimateOnCooldown())) {
+                g2.drawString(preview.label, x + width - 8 - fm.stringWidth(preview.label), y + 50);
+            }
+        }
+        
+        // Show ultimate cooldown
         if (move.isUltimate() && move.isUltimateOnCooldown()) {
             String cooldownInfo = "CD: " + move.getUltimateCooldown();
             g2.setColor(new Color(255, 100, 100)); // Red for cooldown
             g2.drawString(cooldownInfo, x + width - 60, y + 50);
-        } else {
-            String powerInfo = "PWR: " + move.getPower();
-            g2.drawString(powerInfo, x + width - 60, y + 50);
         }
         
         // Add a small type indicator
@@ -1156,9 +1091,6 @@ public class BattleManager {
                 // Don't clear battle message when switching to move selection
             }
             case 1 -> {
-                // Ensure ItemManager is initialized before checking inventory
-                item.ItemManager.initialize();
-                
                 // Check if player has any items
                 if (gp.player.getInventory().isEmpty()) {
                     addBattleMessage("No items available!");
@@ -1197,15 +1129,12 @@ public class BattleManager {
                 }
             }
             case 3 -> {
-                if (attemptRun()) {
-                    addBattleMessage("Got away safely!");
-                    messageTimer = 60;
+                battle.TurnResult result = engine.attemptRun();
+                showResult(result);
+                messageTimer = 60;
+                if (result.escaped) {
                     battleState = BattleState.BATTLE_END;
                 } else {
-                    runAttempts++; // Increment failed attempts
-                    addBattleMessage("Couldn't escape!");
-                    messageTimer = 60;
-                    
                     // Failed escape counts as player's turn - now it's enemy's turn
                     playerTurn = false;
                     battleState = BattleState.EXECUTING;
@@ -1218,7 +1147,7 @@ public class BattleManager {
         // Check if Auto Attack was selected (index 0)
         if (moveIndex == 0) {
             battleState = BattleState.EXECUTING;
-            executePlayerAutoAttack();
+            showPlayerTurn(engine.autoAttack(battle.BattleEngine.PLAYER));
             return;
         }
         
@@ -1226,22 +1155,25 @@ public class BattleManager {
         int actualMoveIndex = moveIndex - 1;
         if (actualMoveIndex >= 0 && actualMoveIndex < playerChampion.getMoves().size()) {
             Move selectedMove = playerChampion.getMoves().get(actualMoveIndex);
-            if (!playerChampion.canUseMove(selectedMove)) {
-                if (selectedMove.getManaCost() > playerChampion.getCurrentResource()) {
-                    addPlayerMessage("Not enough " + playerChampion.getResourceName() + "! (" + 
-                                   selectedMove.getManaCost() + " needed, " + 
-                                   playerChampion.getCurrentResource() + " available)");
-                } else if (selectedMove.isUltimateOnCooldown()) {
-                    addPlayerMessage(selectedMove.getName() + " is on cooldown! (" + selectedMove.getUltimateCooldown() + " turns left)");
-                }
+            battle.TurnResult result = engine.useMove(battle.BattleEngine.PLAYER, selectedMove);
+            if (!result.acted) {
+                // Not enough resource or on cooldown, let the player pick again
+                showResult(result);
                 messageTimer = 60;
             } else {
                 battleState = BattleState.EXECUTING;
-                executePlayerMove(selectedMove);
+                showPlayerTurn(result);
             }
         }
     }
     
+    // Show the player's action and hand the turn to the AI
+    private void showPlayerTurn(battle.TurnResult result) {
+        showResult(result);
+        messageTimer = 120; // 2 seconds
+        playerTurn = false;
+    }
+    
     private void handleTeamSwapSelection(int actionIndex) {
         Champion[] battleTeam = gp.player.getBattleOrderedTeam();
         java.util.List<Champion> availableChampions = new java.util.ArrayList<>();
@@ -1282,25 +1214,13 @@ public class BattleManager {
     }
     
     private void handleItemSelection(int actionIndex) {
-        // Get items for current category ordered by addition time (oldest first)
-        java.util.Map<String, Integer> inventory = gp.player.getInventory();
-        java.util.List<String> categoryItems = new java.util.ArrayList<>();
-        
-        // Get items in the order they were added (oldest to newest)
-        java.util.List<String> orderedItemNames = gp.player.getInventoryKeysInOrder();
-        
-        for (String itemName : orderedItemNames) {
-            if (inventory.get(itemName) > 0) {
-                if (selectedItemCategory.equals("consumables") && isConsumable(itemName)) {
-                    categoryItems.add(itemName);
-                } else if (selectedItemCategory.equals("legendballs") && isLegendBall(itemName)) {
-                    categoryItems.add(itemName);
-                }
-            }
-        }
+        // Items of the current category, ordered by addition time (oldest first)
+        item.Inventory inventory = gp.player.getInventory();
+        item.Item.ItemCategory category = getSelectedItemCategory();
+        int categoryItemCount = inventory.getOwnedSize(category);
         
         // Calculate pagination
-        int totalPages = categoryItems.isEmpty() ? 1 : (int) Math.ceil((double) categoryItems.size() / ITEMS_PER_PAGE);
+        int totalPages = categoryItemCount == 0 ? 1 : (int) Math.ceil((double) categoryItemCount / ITEMS_PER_PAGE);
         int maxPage = Math.max(0, totalPages - 1);
         
         if (actionIndex == 0) { // ENTER pressed
@@ -1309,11 +1229,11 @@ public class BattleManager {
                 battleState = BattleState.MAIN_MENU;
                 gp.ui.battleNum = 0;
                 return;
-            } else if (itemNavState == ItemNavigationState.ITEM_LIST && !categoryItems.isEmpty()) {
+            } else if (itemNavState == ItemNavigationState.ITEM_LIST && categoryItemCount > 0) {
                 // Use the selected item
                 int absoluteIndex = currentPage * ITEMS_PER_PAGE + selectedItemIndex;
-                if (absoluteIndex < categoryItems.size()) {
-                    String selectedItem = categoryItems.get(absoluteIndex);
+                if (absoluteIndex < categoryItemCount) {
+                    int selectedItem = inventory.getOwned(category, absoluteIndex);
                     useItem(selectedItem);
                     return;
                 }
@@ -1345,7 +1265,7 @@ public class BattleManager {
             switch (itemNavState) {
                 case TAB_SELECTION:
                     // Move from tab to items (if available)
-                    if (!categoryItems.isEmpty()) {
+                    if (categoryItemCount > 0) {
                         itemNavState = ItemNavigationState.ITEM_LIST;
                         selectedItemIndex = 0;
                         currentPage = 0;
@@ -1356,8 +1276,8 @@ public class BattleManager {
                     itemNavState = ItemNavigationState.TAB_SELECTION;
                     break;
                 case ITEM_LIST:
-                    if (!categoryItems.isEmpty()) {
-                        int currentPageSize = Math.min(ITEMS_PER_PAGE, categoryItems.size() - (currentPage * ITEMS_PER_PAGE));
+                    if (categoryItemCount > 0) {
+                        int currentPageSize = Math.min(ITEMS_PER_PAGE, categoryItemCount - (currentPage * ITEMS_PER_PAGE));
                         if (selectedItemIndex < currentPageSize - 1) {
                             // Move down in current page
                             selectedItemIndex++;
@@ -1397,1441 +1317,176 @@ public class BattleManager {
         }
         
         // Handle empty category message
-        if (categoryItems.isEmpty() && actionIndex == 0 && itemNavState == ItemNavigationState.ITEM_LIST) {
+        if (categoryItemCount == 0 && actionIndex == 0 && itemNavState == ItemNavigationState.ITEM_LIST) {
             addBattleMessage("No " + selectedItemCategory + " available!");
         }
     }
     
-    private void swapToChampion(Champion newChampion) {
-        Champion oldChampion = playerChampion;
-        playerChampion = newChampion;
-        
-        addBattleMessage(oldChampion.getName() + " was swapped out!");
-        addBattleMessage("Go, " + newChampion.getName() + "!");
-        
-        // Swapping counts as the player's turn
-        playerTurn = false;
-        battleState = BattleState.EXECUTING;
-        messageTimer = 120; // Longer timer for swap messages
-    }
-    
-    // Helper methods for item categorization
-    private boolean isConsumable(String itemName) {
-        return item.ItemManager.isConsumable(itemName);
-    }
-    
-    private boolean isLegendBall(String itemName) {
-        return item.ItemManager.isLegendBall(itemName);
-    }
-    
-    /**
-     * Load item icon using the new Item system with category-based folders and custom image names
-     */
-    private BufferedImage loadItemIcon(String itemName) {
-        // Get item info from ItemManager
-        item.ItemManager.initialize(); // Ensure ItemManager is initialized
-        item.Item.ItemCategory category = item.ItemManager.getItemCategory(itemName);
-        String imageName = item.ItemManager.getItemImageName(itemName);
-        
-        String cacheKey = itemName + "_" + category + "_" + imageName;
-        
-        if (iconCache.containsKey(cacheKey)) {
-            return iconCache.get(cacheKey);
-        }
-        
-        try {
-            // Use category to determine folder path
-            String folderPath = "/leagueItems/" + category.getFolderName() + "/";
-            
-            // Try .png first, then .jpg as fallback
-            String imagePath = folderPath + imageName + ".png";
-            BufferedImage image = null;
-            
-            try {
-                image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-            } catch (Exception e) {
-                // Try .jpg extension if .png fails
-                imagePath = folderPath + imageName + ".jpg";
-                image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-            }
-            
-            iconCache.put(cacheKey, image);
-            return image;
-        } catch (Exception e) {
-            System.err.println("Could not load icon for: " + itemName + " (category: " + category + ")");
-            
-            // Try to load imgnotfound.png as fallback
-            try {
-                BufferedImage fallbackImage = ImageIO.read(getClass().getResourceAsStream("/leagueItems/imgnotfound.png"));
-                if (fallbackImage != null) {
-                    iconCache.put(cacheKey, fallbackImage);
-                    return fallbackImage;
-                }
-            } catch (Exception fallbackException) {
-                System.err.println("Could not load fallback image: imgnotfound.png");
-            }
-            
-            // Return a placeholder colored square as last resort
-            return createPlaceholderIcon(category);
-        }
-    }
-    
-    /**
-     * Create a colored placeholder icon if image loading fails using new ItemCategory system
-     */
-    private BufferedImage createPlaceholderIcon(item.Item.ItemCategory category) {
-        BufferedImage placeholder = new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = placeholder.createGraphics();
-        
-        // Different colors for different categories using enum
-        Color color = switch (category) {
-            case CONSUMABLE -> new Color(255, 100, 100); // Red for consumables
-            case LEGENDBALL -> new Color(255, 215, 0);   // Gold for legend balls
-            case CHAMPIONITEM -> new Color(100, 100, 255); // Blue for champion items
-        };
-        
-        g2.setColor(color);
-        g2.fillRoundRect(2, 2, 28, 28, 6, 6);
-        g2.setColor(Color.WHITE);
-        g2.setStroke(new BasicStroke(2));
-        g2.drawRoundRect(2, 2, 28, 28, 6, 6);
-        g2.dispose();
-        
-        return placeholder;
-    }
-    
-    private void useItem(String itemName) {
-        // Check if player has the item
-        if (gp.player.getInventory().getOrDefault(itemName, 0) <= 0) {
-            addBattleMessage("You don't have any " + itemName + "!");
-            return;
-        }
-        
-        boolean itemUsed = false;
-        
-        if (isConsumable(itemName)) {
-            itemUsed = useConsumable(itemName);
-        } else if (isLegendBall(itemName)) {
-            itemUsed = useLegendBall(itemName);
-        }
-        
-        if (itemUsed) {
-            // Only remove item from inventory and skip turn if item had an effect
-            gp.player.removeFromInventory(itemName, 1);
-            
-            // Using an item counts as the player's turn
-            playerTurn = false;
-            battleState = BattleState.EXECUTING;
-            messageTimer = 120;
-        } else {
-            // Item had no effect, don't consume it and don't skip turn
-            // Stay in item selection to allow player to choose something else
-            messageTimer = 60; // Short timer to show the "no effect" message
-        }
-    }
-    
-    private boolean useConsumable(String itemName) {
-        Champion target = playerChampion; // For now, consumables target the player's champion
-        
-        switch (itemName.toLowerCase()) {
-            case "potion":
-                int healAmount = 50;
-                int currentHp = target.getCurrentHp();
-                int maxHp = target.getCurrentMaxHP();
-                int actualHeal = Math.min(healAmount, maxHp - currentHp);
-                
-                if (actualHeal <= 0) {
-                    addBattleMessage(target.getName() + " is already at full HP!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                target.setCurrentHp(currentHp + actualHeal);
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " recovered " + actualHeal + " HP!");
-                return true;
-                
-            case "mana potion":
-                // Check if target has mana/resource and if it's not already full
-                int currentResource = target.getCurrentResource();
-                int maxResource = target.getMaxResource();
-                
-                if (currentResource >= maxResource) {
-                    addBattleMessage(target.getName() + " already has full " + target.getResourceType().name() + "!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                target.restoreResource(30);
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " recovered " + target.getResourceType().name() + "!");
-                return true;
-                
-            case "full restore":
-                int currentHpBefore = target.getCurrentHp();
-                int maxHpCurrent = target.getCurrentMaxHP();
-                boolean hasStatusEffects = !target.getStatusEffects().isEmpty();
-                
-                if (currentHpBefore >= maxHpCurrent && !hasStatusEffects) {
-                    addBattleMessage(target.getName() + " is already at full HP with no status effects!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                target.setCurrentHp(maxHpCurrent); // Full heal
-                target.clearAllStatusEffects();
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " was fully restored!");
-                return true;
-                
-            case "revive":
-                if (!target.isFainted()) {
-                    addBattleMessage(target.getName() + " is not fainted!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                int reviveHp = target.getCurrentMaxHP() / 2; // 50% HP
-                target.setCurrentHp(reviveHp);
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " was revived!");
-                return true;
-                
-            case "max revive":
-                if (!target.isFainted()) {
-                    addBattleMessage(target.getName() + " is not fainted!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                target.setCurrentHp(target.getCurrentMaxHP()); // Full revive
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " was fully revived!");
-                return true;
-                
-            case "refillable potion":
-                int refillHeal = 40;
-                int currentHpRef = target.getCurrentHp();
-                int maxHpRef = target.getCurrentMaxHP();
-                int actualRefillHeal = Math.min(refillHeal, maxHpRef - currentHpRef);
-                
-                if (actualRefillHeal <= 0) {
-                    addBattleMessage(target.getName() + " is already at full HP!");
-                    return false; // No effect, don't consume item or skip turn
-                }
-                
-                target.setCurrentHp(currentHpRef + actualRefillHeal);
-                addPlayerMessage("Used " + itemName + "!");
-                addBattleMessage(target.getName() + " recovered " + actualRefillHeal + " HP!");
-                return true;
-                
-            default:
-                addBattleMessage("Cannot use " + itemName + " in battle!");
-                return false;
-        }
-    }
-    
-    private boolean useLegendBall(String itemName) {
-        // Simple legendball usage - just log and consume
-        addPlayerMessage("Used " + itemName + "!");
-        addBattleMessage("You threw a " + itemName + "!");
-        
-        // Always successful for simplicity
-        return true;
-    }
-    
-    // Auto Attack execution
-    private void executePlayerAutoAttack() {
-        // Update passive states at start of turn
-        playerChampion.updatePassiveStatesStartOfTurn();
-        
-        // Process status effects at start of turn
-        StringBuilder statusMessage = playerChampion.processStatusEffectsStartOfTurn();
-        
-        // Check if player is stunned
-        if (isChampionStunned(playerChampion)) {
-            addPlayerMessage(playerChampion.getName() + " is stunned and cannot act!" + statusMessage.toString());
-            playerTurn = false; // Switch to AI turn
-            return;
-        }
-        
-        // Trigger start of turn passives
-        StringBuilder startTurnMessage = getCleanTempBuilder();
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.START_OF_TURN, 0, startTurnMessage);
-        
-        StringBuilder message = getCleanMessageBuilder();
-        message.append(playerChampion.getName()).append(" attacks with ").append(playerChampion.getAutoAttack().getName()).append("!");
-        
-        // Add status effect and start of turn passive messages
-        if (statusMessage.length() > 0) {
-            message.append(statusMessage);
-        }
-        if (startTurnMessage.length() > 0) {
-            message.append(startTurnMessage);
-        }
-        
-        // Mark enemy as attacked for first attack tracking
-        if (playerChampion.isFirstAttackOnEnemy()) {
-            playerChampion.addAttackedEnemy(wildChampion.getName());
-        }
-        
-        // Execute primary auto attack
-        Champions.AutoAttack autoAttack = playerChampion.getAutoAttack();
-        executeAutoAttackHit(autoAttack, playerChampion, wildChampion, message, false);
-        
-        // Check for bonus auto attack based on attack speed
-        if (autoAttack.shouldGetBonusAuto(playerChampion)) {
-            message.append("\n").append(playerChampion.getName()).append(" attacks again with incredible speed!");
-            executeAutoAttackHit(autoAttack, playerChampion, wildChampion, message, true);
-        }
-        
-        // Remove blind and stealth status effects after attack
-        playerChampion.removeStatusEffect(StatusEffect.StatusType.BLIND);
-        wildChampion.removeStatusEffect(StatusEffect.StatusType.STEALTH);
-        
-        // Mark first attack as used
-        if (playerChampion.isFirstAttackOnEnemy()) {
-            playerChampion.setFirstAttackOnEnemy(false);
-        }
-        
-        playerTurn = false; // Switch to AI turn
-        addPlayerMessage(message.toString());
-        messageTimer = 120; // 2 seconds
-        
-        // Trigger end of turn passives
-        StringBuilder endTurnMessage = new StringBuilder();
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.END_OF_TURN, 0, endTurnMessage);
-        if (endTurnMessage.length() > 0) {
-            addBattleMessage(endTurnMessage.toString());
-        }
-        
-        // Regenerate resources for both champions
-        int playerResourceBefore = playerChampion.getCurrentResource();
-        int enemyResourceBefore = wildChampion.getCurrentResource();
-        
-        playerChampion.regenerateResource();
-        wildChampion.regenerateResource();
-        
-        // Show resource regeneration messages if any occurred
-        if (playerChampion.getCurrentResource() > playerResourceBefore) {
-            int regenAmount = playerChampion.getCurrentResource() - playerResourceBefore;
-            addPlayerMessage(playerChampion.getName() + " regenerated " + regenAmount + " " + 
-                           playerChampion.getResourceType().getDisplayName() + "!");
-        }
-        if (wildChampion.getCurrentResource() > enemyResourceBefore) {
-            int regenAmount = wildChampion.getCurrentResource() - enemyResourceBefore;
-            addEnemyMessage(wildChampion.getName() + " regenerated " + regenAmount + " " + 
-                           wildChampion.getResourceType().getDisplayName() + "!");
-        }
-    }
-    
-    // Performance helper methods
-    private StringBuilder getCleanMessageBuilder() {
-        mainMessage.setLength(0);
-        return mainMessage;
-    }
-
-    private StringBuilder getCleanStatusBuilder() {
-        statusMessage.setLength(0); 
-        return statusMessage;
-    }
-    
-    // For cases where we need a separate temporary builder
-    private final StringBuilder tempMessage = new StringBuilder(128);
-    
-    private StringBuilder getCleanTempBuilder() {
-        tempMessage.setLength(0);
-        return tempMessage;
-    }
-    
-    // Scrollable text system methods
-    private void addBattleMessage(String message) {
-        addBattleMessage(message, Color.WHITE); // Default white color
-    }
-    
-    private void addBattleMessage(String message, Color color) {
-        // Define player and enemy colors for spacing detection
-        Color playerColor = new Color(100, 149, 237);
-        Color enemyColor = new Color(220, 20, 60);
-        
-        // Add empty line if switching between player and enemy colors
-        if (lastMessageColor != null && !battleMessages.isEmpty()) {
-            boolean lastWasPlayer = lastMessageColor.equals(playerColor);
-            boolean lastWasEnemy = lastMessageColor.equals(enemyColor);
-            boolean currentIsPlayer = color.equals(playerColor);
-            boolean currentIsEnemy = color.equals(enemyColor);
-            
-            // Add spacing when switching from player to enemy or enemy to player
-            if ((lastWasPlayer && currentIsEnemy) || (lastWasEnemy && currentIsPlayer)) {
-                battleMessages.add(new ColoredMessage("", Color.WHITE)); // Empty line
-            }
-        }
-        
-        // Split message by newlines and add each line separately
-        String[] lines = message.split("\n");
-        for (String line : lines) {
-            if (!line.trim().isEmpty()) {
-                battleMessages.add(new ColoredMessage(line.trim(), color));
-                lastMessageColor = color; // Update last color for each line
-            }
-        }
-        // Auto-scroll to bottom when new messages arrive
-        scrollOffset = 0;
-    }
-    
-    private void addPlayerMessage(String message) {
-        addBattleMessage(message, new Color(100, 149, 237)); // Cornflower blue
-    }
-    
-    private void addEnemyMessage(String message) {
-        addBattleMessage(message, new Color(220, 20, 60)); // Crimson red
-    }
-    
-    private void clearBattleMessages() {
-        battleMessages.clear();
-        scrollOffset = 0;
-        lastMessageColor = null; // Reset color tracking
-    }
-    
-    public void scrollTextUp() {
-        int totalLines = battleMessages.size();
-        if (scrollOffset < totalLines - maxVisibleLines) {
-            scrollOffset++;
-        }
-    }
-    
-    public void scrollTextDown() {
-        if (scrollOffset > 0) {
-            scrollOffset--;
-        }
-    }
-    
-    // AI decision logic for auto attack vs moves
-    private boolean decideAIAutoAttack(List<Move> availableMoves) {
-        // AI will auto attack if:
-        // 1. No moves available (out of resources)
-        // 2. Has high attack speed (>= 1.2) for bonus auto potential
-        // 3. Low on resources and auto attack might be better
-        // 4. Random chance for variety
-        
-        if (availableMoves.isEmpty()) {
-            // Debug: Show why no moves are available
-            System.out.println("=== AI AUTO ATTACK DEBUG ===");
-            System.out.println(wildChampion.getName() + " has " + wildChampion.getCurrentResource() + "/" + wildChampion.getMaxResource() + " " + wildChampion.getResourceName());
-            System.out.println("Available moves: " + availableMoves.size());
-            for (Move move : wildChampion.getMoves()) {
-                boolean canUse = wildChampion.canUseMove(move);
-                System.out.println("- " + move.getName() + " (Cost: " + move.getManaCost() + ") = " + (canUse ? "USABLE" : "NOT USABLE"));
-            }
-            System.out.println("============================");
-            return true; // Force auto attack if no moves available
-        }
-        
-        double attackSpeed = wildChampion.getTotalAttackSpeed();
-        int currentResource = wildChampion.getCurrentResource();
-        int maxResource = wildChampion.getMaxResource();
-        double resourcePercent = (double) currentResource / maxResource;
-        
-        // High attack speed champions (like ADCs) prefer auto attacks
-        if (attackSpeed >= 1.2) {
-            return Math.random() < 0.4; // 40% chance to auto attack
-        }
-        
-        // Low resource situation - consider auto attack
-        if (resourcePercent < 0.3) {
-            return Math.random() < 0.6; // 60% chance when low on resources
-        }
-        
-        // General random chance for strategic variety
-        return Math.random() < 0.15; // 15% baseline chance
-    }
-    
-    // Execute AI auto attack with bonus attack logic
-    private void executeAIAutoAttack(StringBuilder statusMessage, StringBuilder startTurnMessage) {
-        StringBuilder message = getCleanMessageBuilder();
-        message.append("Wild ").append(wildChampion.getName()).append(" attacks with ").append(wildChampion.getAutoAttack().getName()).append("!");
-        
-        // Add status effect and start of turn passive messages
-        if (statusMessage.length() > 0) {
-            message.append(statusMessage);
-        }
-        if (startTurnMessage.length() > 0) {
-            message.append(startTurnMessage);
-        }
-        
-        // Mark enemy as attacked for first attack tracking
-        if (wildChampion.isFirstAttackOnEnemy()) {
-            wildChampion.addAttackedEnemy(playerChampion.getName());
-        }
-        
-        // Execute primary auto attack
-        Champions.AutoAttack autoAttack = wildChampion.getAutoAttack();
-        executeAutoAttackHit(autoAttack, wildChampion, playerChampion, message, false);
-        
-        // Check for bonus auto attack based on attack speed
-        if (autoAttack.shouldGetBonusAuto(wildChampion)) {
-            message.append("\nWild ").append(wildChampion.getName()).append(" attacks again with incredible speed!");
-            executeAutoAttackHit(autoAttack, wildChampion, playerChampion, message, true);
-        }
-        
-        // Remove blind and stealth status effects after attack
-        wildChampion.removeStatusEffect(StatusEffect.StatusType.BLIND);
-        playerChampion.removeStatusEffect(StatusEffect.StatusType.STEALTH);
-        
-        // Mark first attack as used
-        if (wildChampion.isFirstAttackOnEnemy()) {
-            wildChampion.setFirstAttackOnEnemy(false);
-        }
-        
-        // Trigger end of turn passives
-        StringBuilder endTurnMessage = new StringBuilder();
-        handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.END_OF_TURN, 0, endTurnMessage);
-        if (endTurnMessage.length() > 0) {
-            message.append(endTurnMessage);
-        }
-        
-        // Regenerate resources for both champions
-        int playerResourceBefore = playerChampion.getCurrentResource();
-        int enemyResourceBefore = wildChampion.getCurrentResource();
-        
-        playerChampion.regenerateResource();
-        wildChampion.regenerateResource();
-        
-        // Show resource regeneration messages separately with appropriate colors
-        if (playerChampion.getCurrentResource() > playerResourceBefore) {
-            int regenAmount = playerChampion.getCurrentResource() - playerResourceBefore;
-            addPlayerMessage(playerChampion.getName() + " regenerated " + regenAmount + " " + 
-                           playerChampion.getResourceType().getDisplayName() + "!");
-        }
-        if (wildChampion.getCurrentResource() > enemyResourceBefore) {
-            int regenAmount = wildChampion.getCurrentResource() - enemyResourceBefore;
-            addEnemyMessage(wildChampion.getName() + " regenerated " + regenAmount + " " + 
-                           wildChampion.getResourceType().getDisplayName() + "!");
-        }
-        
-        // Trigger turn-based passives
-        handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.EVERY_N_TURNS, 0, message);
-        
-        addEnemyMessage(message.toString());
-        messageTimer = 120;
-        
-        // Set first attack flag to false after first attack
-        if (wildChampion.isFirstAttackOnEnemy()) {
-            wildChampion.setFirstAttackOnEnemy(false);
-        }
-        
-        playerTurn = true;
-        battleState = BattleState.MAIN_MENU;
-        gp.ui.battleNum = 0; // Reset cursor to attack option
-    }
-    
-    private List<Move> getAIAvailableMoves() {
-        int currentResource = wildChampion.getCurrentResource();
-        
-        if (!aiMovesCacheValid || currentResource != lastAIResource) {
-            cachedAIMoves.clear();
-            for (Move move : wildChampion.getMoves()) {
-                if (move.isUsable(currentResource)) {
-                    cachedAIMoves.add(move);
-                }
-            }
-            aiMovesCacheValid = true;
-            lastAIResource = currentResource;
-        }
-        
-        return cachedAIMoves;
-    }
-    
-    private void invalidateAIMoveCache() {
-        aiMovesCacheValid = false;
-    }
-
-    // New battle system methods with speed caching
-    private boolean determineFirstTurn() {
-        int playerSpeed = playerChampion.getEffectiveSpeed();
-        int wildSpeed = wildChampion.getEffectiveSpeed();
-        
-        // Only recalculate if speeds changed
-        if (playerSpeed != lastPlayerSpeed || wildSpeed != lastWildSpeed || baseTurnOrder == TurnOrder.SPEED_CHECK_NEEDED) {
-            if (playerSpeed > wildSpeed) {
-                baseTurnOrder = TurnOrder.PLAYER_FIRST;
-            } else if (wildSpeed > playerSpeed) {
-                baseTurnOrder = TurnOrder.WILD_FIRST;  
-            } else {
-                // Tie-break with original speeds (before status effects)
-                baseTurnOrder = playerChampion.getSpeed() >= wildChampion.getSpeed() ? 
-                               TurnOrder.PLAYER_FIRST : TurnOrder.WILD_FIRST;
-            }
-            lastPlayerSpeed = playerSpeed;
-            lastWildSpeed = wildSpeed;
-        }
-        
-        return baseTurnOrder == TurnOrder.PLAYER_FIRST;
-    }
-    
-    private void invalidateSpeedCache() {
-        baseTurnOrder = TurnOrder.SPEED_CHECK_NEEDED;
-    }
-    
-    private boolean isSpeedAffectingStatus(StatusEffect.StatusType type) {
-        return type == StatusEffect.StatusType.SPEED_BOOST ||
-               type == StatusEffect.StatusType.SPEED_REDUCTION ||
-               type == StatusEffect.StatusType.SLOW;
-    }
-    
-    private void executePlayerMove(Move move) {
-        // Update passive states at start of turn
-        playerChampion.updatePassiveStatesStartOfTurn();
-        
-        // Process status effects at start of turn
-        StringBuilder statusMessage = playerChampion.processStatusEffectsStartOfTurn();
-        
-        // Check if player is stunned
-        if (isChampionStunned(playerChampion)) {
-            addPlayerMessage(playerChampion.getName() + " is stunned and cannot act!" + statusMessage.toString());
-            playerTurn = false; // Switch to AI turn
-            return;
-        }
-        
-        // Trigger start of turn passives
-        StringBuilder startTurnMessage = getCleanTempBuilder();
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.START_OF_TURN, 0, startTurnMessage);
-        
-        StringBuilder message = getCleanMessageBuilder();
-        message.append(playerChampion.getName()).append(" used ").append(move.getName()).append("!");
-        
-        // Add status effect and start of turn passive messages
-        if (statusMessage.length() > 0) {
-            message.append(statusMessage);
-        }
-        if (startTurnMessage.length() > 0) {
-            message.append(startTurnMessage);
-        }
-        
-        // Mark enemy as attacked for first attack tracking
-        if (playerChampion.isFirstAttackOnEnemy()) {
-            playerChampion.addAttackedEnemy(wildChampion.getName());
-        }
-        
-        // Handle damage
-        DamageResult result = calculateDamageWithCrit(move, playerChampion, wildChampion);
-        int damage = result.damage;
-        boolean isCrit = result.isCrit;
-        boolean isMiss = result.isMiss;
-        
-        // DETAILED CONSOLE LOGGING
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("PLAYER TURN: " + playerChampion.getName() + " uses " + move.getName());
-        System.out.println("=".repeat(60));
-        logChampionStats("ATTACKER", playerChampion);
-        logChampionStats("DEFENDER", wildChampion);
-        logDamageCalculation(move, playerChampion, wildChampion, result);
-        System.out.println("=".repeat(60));
-        
-        if (isMiss) {
-            message.append("\n").append(playerChampion.getName()).append("'s ").append(move.getName()).append(" missed!");
-        } else if (damage > 0) {
-            wildChampion.takeDamage(damage);
-            message.append("\nDealt ").append(damage).append(" damage!");
-            if (isCrit) {
-                message.append("\nCritical hit!");
-                // Trigger critical hit passives
-                handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.ON_CRITICAL, damage, message);
-            }
-            
-            // Apply lifesteal if damage was dealt
-            int healAmount = (damage * playerChampion.getLifesteal()) / 100;
-            healAmount = (int)(healAmount * playerChampion.getHealingMultiplier()); // Apply healing bonus
-            if (healAmount > 0) {
-                int newHp = Math.min(playerChampion.getCurrentHp() + healAmount, playerChampion.getMaxHp());
-                playerChampion.setCurrentHp(newHp);
-            }
-            
-            // Trigger retaliation passives on defender
-            handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.RETALIATION, damage, message, playerChampion);
-            
-            // Apply status effects from the move
-            applyMoveStatusEffects(move, playerChampion, wildChampion, message);
-        }
-        
-        // Handle stat stage changes
-        if (move.hasStatStageChanges()) {
-            Champion target = move.targetsSelf() ? playerChampion : wildChampion;
-            String targetName = move.targetsSelf() ? playerChampion.getName() : wildChampion.getName();
-            
-            handleStatStageChanges(move, target, targetName, message);
-        }
-        
-        playerChampion.useMove(move);
-        
-        // Check for passive triggers after attack
-        if (damage > 0) {
-            handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.ON_ATTACK, damage, message, wildChampion);
-            handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.STACKING_ATTACK, damage, message);
-        }
-        
-        // Trigger ability use passives
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.ON_ABILITY_USE, 0, message);
-        
-        // Trigger turn-based passives
-        handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.EVERY_N_TURNS, 0, message);
-        
-        addPlayerMessage(message.toString());
-        messageTimer = 120;
-        
-        playerTurn = false;
-        
-        // Set first attack flag to false after first attack
-        if (playerChampion.isFirstAttackOnEnemy()) {
-            playerChampion.setFirstAttackOnEnemy(false);
-        }
-    }
-    
-    // Helper method to execute a single auto attack hit (primary or bonus)
-    private void executeAutoAttackHit(Champions.AutoAttack autoAttack, Champion attacker, Champion defender, StringBuilder message, boolean isBonusAuto) {
-        if (autoAttack.doesHit(attacker, defender)) {
-            int damage = autoAttack.calculateDamage(attacker, isBonusAuto);
-            
-            // Apply damage
-            defender.takeDamage(damage);
-            if (isBonusAuto) {
-                message.append("\nBonus auto dealt ").append(damage).append(" damage!");
-            } else {
-                message.append("\nDealt ").append(damage).append(" damage!");
-            }
-            
-            // Apply lifesteal healing (full lifesteal even on bonus autos)
-            int lifestealHeal = autoAttack.calculateLifesteal(damage, attacker);
-            if (lifestealHeal > 0) {
-                int oldHp = attacker.getCurrentHp();
-                attacker.setCurrentHp(oldHp + lifestealHeal);
-                message.append("\n").append(attacker.getName()).append(" healed ").append(lifestealHeal).append(" HP from lifesteal!");
-            }
-            
-            // Trigger passives that activate on attack (only on primary auto to prevent double triggers)
-            if (!isBonusAuto) {
-                StringBuilder attackPassiveMessage = new StringBuilder();
-                handlePassiveTrigger(attacker, Champions.Passive.PassiveType.ON_ATTACK, damage, attackPassiveMessage);
-                if (attackPassiveMessage.length() > 0) {
-                    message.append(attackPassiveMessage);
-                }
-                
-                // Trigger enemy passives that activate on being damaged
-                StringBuilder damagedPassiveMessage = new StringBuilder();
-                handlePassiveTrigger(defender, Champions.Passive.PassiveType.ON_DAMAGED, damage, damagedPassiveMessage);
-                if (damagedPassiveMessage.length() > 0) {
-                    message.append(damagedPassiveMessage);
-                }
-            }
-            
-            // Check for critical hit message (both primary and bonus can crit)
-            boolean wasCrit = attacker.getTotalCritChance() > 0 && damage > (isBonusAuto ? attacker.getTotalAD() * 0.4 : attacker.getTotalAD());
-            if (wasCrit) {
-                message.append("\nCritical hit!");
-                // Trigger critical hit passives (only on primary auto)
-                if (!isBonusAuto) {
-                    StringBuilder critPassiveMessage = new StringBuilder();
-                    handlePassiveTrigger(attacker, Champions.Passive.PassiveType.ON_CRITICAL, damage, critPassiveMessage);
-                    if (critPassiveMessage.length() > 0) {
-                        message.append(critPassiveMessage);
-                    }
-                }
-            }
-        } else {
-            if (isBonusAuto) {
-                message.append("\n").append(attacker.getName()).append("'s bonus attack missed!");
-            } else {
-                message.append("\n").append(attacker.getName()).append("'s attack missed!");
-            }
-        }
-    }
-    
-    private void executeAITurn() {
-        // Update passive states at start of turn
-        wildChampion.updatePassiveStatesStartOfTurn();
-        
-        // Process status effects at start of turn
-        StringBuilder statusMessage = wildChampion.processStatusEffectsStartOfTurn();
-        
-        // Check if AI is stunned
-        if (isChampionStunned(wildChampion)) {
-            addEnemyMessage("Wild " + wildChampion.getName() + " is stunned and cannot act!" + statusMessage.toString());
-            playerTurn = true; // Switch to player turn
-            battleState = BattleState.MAIN_MENU;
-            return;
-        }
-        
-        // Trigger start of turn passives
-        StringBuilder startTurnMessage = getCleanTempBuilder();
-        handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.START_OF_TURN, 0, startTurnMessage);
-        
-        // Enhanced AI: choose between moves and auto attacks
-        List<Move> availableMoves = getAIAvailableMoves();
-        
-        // AI decision logic: auto attack vs moves
-        boolean shouldAutoAttack = decideAIAutoAttack(availableMoves);
-        
-        if (shouldAutoAttack) {
-            // Execute AI auto attack
-            executeAIAutoAttack(statusMessage, startTurnMessage);
-        } else if (!availableMoves.isEmpty()) {
-            Move aiMove = availableMoves.get(random.nextInt(availableMoves.size()));
-            StringBuilder message = getCleanMessageBuilder();
-            message.append("Wild ").append(wildChampion.getName()).append(" used ").append(aiMove.getName()).append("!");
-            
-            // Add status effect and start of turn passive messages
-            if (statusMessage.length() > 0) {
-                message.append(statusMessage);
-            }
-            if (startTurnMessage.length() > 0) {
-                message.append(startTurnMessage);
-            }
-            
-            // Mark enemy as attacked for first attack tracking
-            if (wildChampion.isFirstAttackOnEnemy()) {
-                wildChampion.addAttackedEnemy(playerChampion.getName());
-            }
-            
-            // Handle damage
-            DamageResult result = calculateDamageWithCrit(aiMove, wildChampion, playerChampion);
-            int damage = result.damage;
-            boolean isCrit = result.isCrit;
-            boolean isMiss = result.isMiss;
-            
-            // DETAILED CONSOLE LOGGING
-            System.out.println("\n" + "=".repeat(60));
-            System.out.println("AI TURN: " + wildChampion.getName() + " uses " + aiMove.getName());
-            System.out.println("=".repeat(60));
-            logChampionStats("ATTACKER", wildChampion);
-            logChampionStats("DEFENDER", playerChampion);
-            logDamageCalculation(aiMove, wildChampion, playerChampion, result);
-            System.out.println("=".repeat(60));
-            
-            if (isMiss) {
-                message.append("\n").append(wildChampion.getName()).append("'s ").append(aiMove.getName()).append(" missed!");
-            } else if (damage > 0) {
-                playerChampion.takeDamage(damage);
-                message.append("\nDealt ").append(damage).append(" damage!");
-                if (isCrit) {
-                    message.append("\nCritical hit!");
-                    // Trigger critical hit passives
-                    handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.ON_CRITICAL, damage, message);
-                }
-                
-                // Apply lifesteal for AI if damage was dealt
-                int healAmount = (damage * wildChampion.getLifesteal()) / 100;
-                healAmount = (int)(healAmount * wildChampion.getHealingMultiplier()); // Apply healing bonus
-                if (healAmount > 0) {
-                    int newHp = Math.min(wildChampion.getCurrentHp() + healAmount, wildChampion.getMaxHp());
-                    wildChampion.setCurrentHp(newHp);
-                }
-                
-                // Trigger retaliation passives on defender
-                handlePassiveTrigger(playerChampion, Champions.Passive.PassiveType.RETALIATION, damage, message, wildChampion);
-                
-                // Apply status effects from the move
-                applyMoveStatusEffects(aiMove, wildChampion, playerChampion, message);
-            }
-            
-            // Handle stat stage changes
-            if (aiMove.hasStatStageChanges()) {
-                Champion target = aiMove.targetsSelf() ? wildChampion : playerChampion;
-                String targetName = aiMove.targetsSelf() ? "Wild " + wildChampion.getName() : playerChampion.getName();
-                
-                handleStatStageChanges(aiMove, target, targetName, message);
-            }
-            
-            wildChampion.useMove(aiMove);
-            invalidateAIMoveCache(); // Invalidate cache after resource change
-            
-            // Check for passive triggers after attack
-            if (damage > 0) {
-                handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.ON_ATTACK, damage, message, playerChampion);
-                handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.STACKING_ATTACK, damage, message);
-            }
-            
-            // Trigger ability use passives
-            handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.ON_ABILITY_USE, 0, message);
-            
-            // Trigger turn-based passives
-            handlePassiveTrigger(wildChampion, Champions.Passive.PassiveType.EVERY_N_TURNS, 0, message);
-            
-            addEnemyMessage(message.toString());
-            messageTimer = 120;
-            
-            // Set first attack flag to false after first attack
-            if (wildChampion.isFirstAttackOnEnemy()) {
-                wildChampion.setFirstAttackOnEnemy(false);
-            }
-        } else {
-            addEnemyMessage("Wild " + wildChampion.getName() + " has no moves left!");
-            messageTimer = 90;
-        }
-        
-        playerTurn = true;
-        battleState = BattleState.MAIN_MENU;
-        gp.ui.battleNum = 0; // Reset cursor to attack option
-    }
-    
-    private void handleStatStageChanges(Move move, Champion target, String targetName, StringBuilder message) {
-        boolean anyChanged = false;
-        
-        if (move.getSpeedStageChange() != 0) {
-            boolean changed = target.modifySpeedStage(move.getSpeedStageChange());
-            if (changed) {
-                anyChanged = true;
-                String direction = move.getSpeedStageChange() > 0 ? "rose" : "fell";
-                message.append("\n").append(targetName).append("'s speed ").append(direction).append("!");
-            }
-        }
-        
-        if (move.getAttackStageChange() != 0) {
-            boolean changed = target.modifyAttackStage(move.getAttackStageChange());
-            if (changed) {
-                anyChanged = true;
-                String direction = move.getAttackStageChange() > 0 ? "rose" : "fell";
-                message.append("\n").append(targetName).append("'s attack ").append(direction).append("!");
-            }
-        }
-        
-        if (move.getArmorStageChange() != 0) {
-            boolean changed = target.modifyArmorStage(move.getArmorStageChange());
-            if (changed) {
-                anyChanged = true;
-                String direction = move.getArmorStageChange() > 0 ? "rose" : "fell";
-                message.append("\n").append(targetName).append("'s armor ").append(direction).append("!");
-            }
-        }
-        
-        if (move.getApStageChange() != 0) {
-            boolean changed = target.modifyApStage(move.getApStageChange());
-            if (changed) {
-                anyChanged = true;
-                String direction = move.getApStageChange() > 0 ? "rose" : "fell";
-                message.append("\n").append(targetName).append("'s ability power ").append(direction).append("!");
-            }
-        }
-        
-        if (move.getMagicResistStageChange() != 0) {
-            boolean changed = target.modifyMagicResistStage(move.getMagicResistStageChange());
-            if (changed) {
-                anyChanged = true;
-                String direction = move.getMagicResistStageChange() > 0 ? "rose" : "fell";
-                message.append("\n").append(targetName).append("'s magic resist ").append(direction).append("!");
-            }
-        }
-        
-        if (!anyChanged && move.hasStatStageChanges()) {
-            message.append("\nBut ").append(targetName).append("'s stats can't go any higher/lower!");
-        }
-    }
-    
-    private void handlePassiveTrigger(Champion champion, Champions.Passive.PassiveType triggerType, int damageDealt, StringBuilder message) {
-        handlePassiveTrigger(champion, triggerType, damageDealt, message, null);
-    }
-    
-    private void handlePassiveTrigger(Champion champion, Champions.Passive.PassiveType triggerType, int damageDealt, StringBuilder message, Champion target) {
-        Champions.Passive passive = champion.getPassive();
-        if (passive == null || passive.getType() != triggerType) return;
-        
-        // Check if passive should trigger
-        if (!passive.shouldTrigger()) return;
-        
-        // Mark passive as used this turn for certain types
-        if (triggerType == Champions.Passive.PassiveType.ON_ATTACK || 
-            triggerType == Champions.Passive.PassiveType.ON_ABILITY_USE) {
-            champion.setUsedPassiveThisTurn(true);
-        }
-        
-        switch (passive.getType()) {
-            case ON_ATTACK:
-                handleOnAttackPassives(champion, passive, damageDealt, message, target);
-                break;
-            case ON_KILL:
-                handleOnKillPassives(champion, passive, message);
-                break;
-            case ON_CRITICAL:
-                handleOnCriticalPassives(champion, passive, damageDealt, message);
-                break;
-            case STACKING_ATTACK:
-                handleStackingAttackPassives(champion, passive, message);
-                break;
-            case START_OF_TURN:
-                handleStartOfTurnPassives(champion, passive, message);
-                break;
-            case END_OF_TURN:
-                handleEndOfTurnPassives(champion, passive, message);
-                break;
-            case EVERY_N_TURNS:
-                handleEveryNTurnsPassives(champion, passive, message);
-                break;
-            case HP_THRESHOLD:
-                handleHpThresholdPassives(champion, passive, message);
-                break;
-            case FIRST_ATTACK:
-                handleFirstAttackPassives(champion, passive, damageDealt, message);
-                break;
-            case TRANSFORMATION:
-                handleTransformationPassives(champion, passive, message);
-                break;
-            case RETALIATION:
-                handleRetaliationPassives(champion, passive, damageDealt, message, target);
-                break;
-            case DEATH_DEFIANCE:
-                handleDeathDefiancePassives(champion, passive, message);
-                break;
-            default:
-                break;
-        }
-    }
-    
-    private void handleOnAttackPassives(Champion champion, Champions.Passive passive, int damageDealt, StringBuilder message, Champion target) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Darkin Blade":
-                // Heal for percentage of damage dealt
-                int healAmount = (damageDealt * passive.getValue()) / 100;
-                healAmount = (int)(healAmount * champion.getHealingMultiplier()); // Apply healing bonus
-                int oldHp = champion.getCurrentHp();
-                int newHp = Math.min(oldHp + healAmount, champion.getMaxHp());
-                champion.setCurrentHp(newHp);
-                int actualHeal = newHp - oldHp;
-                if (actualHeal > 0) {
-                    message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                           .append(" healed ").append(actualHeal).append(" HP!");
-                }
-                break;
-                
-            case "Assassin's Mark":
-                // +25% damage when attacking first - handled in damage calculation
-                if (champion.isFirstAttackOnEnemy()) {
-                    message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                           .append(" activated!");
-                }
-                break;
-                
-            case "Going Rogue":
-                // 30% chance to act twice - handled in turn system
-                message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                       .append(" grants a second attack!");
-                break;
-                
-            case "Cursed Touch":
-                // Attackers take recoil damage - handled in retaliation
-                break;
-                
-            case "Frost Shot":
-                // Reduce enemy speed - handled with passive cooldown system
-                if (target != null && !passive.isOnCooldown()) {
-                    target.modifySpeedStage(-1);
-                    message.append("\n").append(target.getName()).append("'s speed fell!");
-                    passive.resetCooldown(); // 3 turn cooldown
-                }
-                break;
-                
-            case "Concussive Blows":
-                // Every 4 turns paralyze enemy
-                passive.addStack();
-                if (passive.getStacks() >= 4) {
-                    message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                           .append(" paralyzed the enemy!");
-                    passive.resetStacks();
-                }
-                break;
-                
-            case "Moonsilver Blade":
-                // Every 3rd attack deals +30% damage
-                champion.incrementConsecutiveAttacks();
-                if (champion.getConsecutiveAttacks() % 3 == 0) {
-                    message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                           .append(" deals bonus damage!");
-                }
-                break;
-        }
-    }
-    
-    private void handleOnKillPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Essence Theft":
-                // Heal 10% HP and gain 6pp of last used ability
-                int healAmount = (champion.getMaxHp() * passive.getValue()) / 100;
-                healAmount = (int)(healAmount * champion.getHealingMultiplier()); // Apply healing bonus
-                int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
-                champion.setCurrentHp(newHp);
-                message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                       .append(" healed ").append(healAmount).append(" HP!");
-                break;
-                
-            case "Bel'Veth":
-                // +1 Attack after defeating enemy
-                champion.modifyAttackStage(1);
-                message.append("\n").append(champion.getName()).append("'s attack rose!");
-                break;
-                
-            case "Feast":
-                // Gains +10% HP when defeating enemy (until end of battle)
-                int hpBonus = (champion.getMaxHp() * 10) / 100;
-                // This would need to be implemented as a temporary stat boost
-                message.append("\n").append(champion.getName()).append(" grew larger!");
-                break;
-                
-            case "League of Draven":
-                // +1 AD boost each kill
-                champion.modifyAttackStage(1);
-                message.append("\n").append(champion.getName()).append("'s attack rose!");
-                break;
-                
-            case "Get Excited":
-                // +2 Speed for 2 turns
-                champion.modifySpeedStage(2);
-                message.append("\n").append(champion.getName()).append(" got excited! Speed rose sharply!");
-                break;
-        }
-    }
-    
-    private void handleOnCriticalPassives(Champion champion, Champions.Passive passive, int damageDealt, StringBuilder message) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Blast Shield":
-                // Gains shield worth 20% max HP after landing critical hit
-                int shieldAmount = (champion.getMaxHp() * 20) / 100;
-                message.append("\n").append(champion.getName()).append(" gained a shield!");
-                break;
-        }
-    }
-    
-    private void handleStackingAttackPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Hemorrhage":
-                // Each hit applies stack, at 5 stacks gain +3 AD boost
-                passive.addStack();
-                if (passive.getStacks() >= 5) {
-                    champion.modifyAttackStage(3);
-                    message.append("\n").append(champion.getName()).append(" is bleeding out the enemy!");
-                    passive.resetStacks();
-                }
-                break;
-        }
-    }
-    
-    private void handleStartOfTurnPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        // Handle passives that trigger at start of turn
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Salvation":
-                // Heals 10% HP at start of turn when below 30% HP
-                if (champion.getCurrentHp() < (champion.getMaxHp() * 30 / 100)) {
-                    int healAmount = (champion.getMaxHp() * 10) / 100;
-                    int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
-                    champion.setCurrentHp(newHp);
-                    message.append("\n").append(champion.getName()).append(" was healed by ").append(passive.getName()).append("!");
-                }
-                break;
-        }
-    }
-    
-    private void handleEndOfTurnPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        // Handle passives that trigger at end of turn
-    }
-    
-    private void handleEveryNTurnsPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        // Handle passives that trigger every N turns
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Triumphant Roar":
-                // Every 3 turns heal all team by 10% max HP
-                if (champion.getTurnsInBattle() % 3 == 0) {
-                    int healAmount = (champion.getMaxHp() * 10) / 100;
-                    int newHp = Math.min(champion.getCurrentHp() + healAmount, champion.getMaxHp());
-                    champion.setCurrentHp(newHp);
-                    message.append("\n").append(champion.getName()).append(" let out a triumphant roar!");
-                }
-                break;
-        }
-    }
-    
-    private void handleHpThresholdPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        String passiveName = passive.getName();
-        int hpPercentage = (champion.getCurrentHp() * 100) / champion.getMaxHp();
-        
-        switch (passiveName) {
-            case "Rage Gene":
-                // When below 50% HP transform and get +2 AD and -1 speed
-                if (hpPercentage < 50 && !champion.isTransformed()) {
-                    champion.transform("Mega Gnar", -1); // -1 means permanent until end of battle
-                    champion.modifyAttackStage(2);
-                    champion.modifySpeedStage(-1);
-                    message.append("\n").append(champion.getName()).append(" transformed into Mega Gnar!");
-                }
-                break;
-                
-            case "Ionian Fervor":
-                // +2 Speed when below 50% HP
-                if (hpPercentage < 50) {
-                    champion.modifySpeedStage(2);
-                    message.append("\n").append(champion.getName()).append("'s fervor increased their speed!");
-                }
-                break;
-        }
-    }
-    
-    private void handleFirstAttackPassives(Champion champion, Champions.Passive passive, int damageDealt, StringBuilder message) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Granite Shield":
-                // First attack each battle deals 50% damage
-                if (champion.isFirstAttackOnEnemy()) {
-                    message.append("\n").append(champion.getName()).append("'s ").append(passive.getName())
-                           .append(" reduced the damage!");
-                    champion.setFirstAttackOnEnemy(false);
-                }
-                break;
-        }
-    }
-    
-    private void handleTransformationPassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        // Handle transformation-based passives
-    }
-    
-    private void handleRetaliationPassives(Champion champion, Champions.Passive passive, int damageDealt, StringBuilder message, Champion attacker) {
-        String passiveName = passive.getName();
+    private void swapToChampion(Champion newChampion) {
+        playerChampion = newChampion;
+        showResult(engine.swap(newChampion));
         
-        switch (passiveName) {
-            case "Cursed Touch":
-                // Attackers take 8% recoil damage
-                if (attacker != null) {
-                    int recoilDamage = (damageDealt * 8) / 100;
-                    attacker.takeDamage(recoilDamage);
-                    message.append("\n").append(attacker.getName()).append(" was hurt by ").append(passive.getName()).append("!");
-                }
-                break;
-                
-            case "Spiked Shell":
-                // Reflects 20% of AD damage taken
-                if (attacker != null) {
-                    int reflectedDamage = (damageDealt * 20) / 100;
-                    attacker.takeDamage(reflectedDamage);
-                    message.append("\n").append(attacker.getName()).append(" was hurt by spikes!");
-                }
-                break;
-        }
+        // Swapping counts as the player's turn
+        playerTurn = false;
+        battleState = BattleState.EXECUTING;
+        messageTimer = 120; // Longer timer for swap messages
     }
     
-    private void handleDeathDefiancePassives(Champion champion, Champions.Passive passive, StringBuilder message) {
-        String passiveName = passive.getName();
-        
-        switch (passiveName) {
-            case "Rebirth":
-                // Survive KO with 1 HP (once per battle)
-                if (!passive.isUsedThisBattle()) {
-                    champion.setCurrentHp(1);
-                    passive.setUsedThisBattle(true);
-                    message.append("\n").append(champion.getName()).append(" was reborn from the ashes!");
-                }
-                break;
-                
-            case "Death Defied":
-                // Can use one move after being defeated
-                if (!passive.isUsedThisBattle()) {
-                    passive.setUsedThisBattle(true);
-                    message.append("\n").append(champion.getName()).append(" refuses to die!");
-                }
-                break;
-        }
+    // Battle bag tabs: consumables or legend balls
+    private item.Item.ItemCategory getSelectedItemCategory() {
+        return selectedItemCategory.equals("legendballs") ? item.Item.ItemCategory.LEGENDBALL : item.Item.ItemCategory.CONSUMABLE;
     }
     
-    private int calculateDamage(Move move, Champion attacker, Champion defender) {
-        if (move.getPower() == 0) return 0; // Non-damaging moves
-        
-        // League of Legends damage formula: Base damage + ratio scaling
-        double baseDamage = move.getBaseDamage(attacker.getLevel()); // Level-scaling base damage
-        double adScaling = attacker.getEffectiveAD() * move.getAdRatio();
-        double apScaling = attacker.getEffectiveAP() * move.getApRatio();
-        
-        double rawDamage = baseDamage + adScaling + apScaling;
-        
-        // Apply LEVEL GAP DAMAGE MULTIPLIER - REDUCED VALUES (OPTION 2)
-        int levelGap = attacker.getLevel() - defender.getLevel();
-        if (levelGap >= 20) {
-            // 20+ level gap: 1.6x damage (was 2.0x)
-            rawDamage *= 1.6;
-        } else if (levelGap >= 15) {
-            // 15-19 level gap: 1.4x damage (was 1.7x)
-            rawDamage *= 1.4;
-        } else if (levelGap >= 10) {
-            // 10-14 level gap: 1.2x damage (was 1.4x)
-            rawDamage *= 1.2;
-        }
-        
-        // Apply LEVEL GAP DAMAGE RESISTANCE for defenders (high level takes less damage)
-        int reverseLevelGap = defender.getLevel() - attacker.getLevel();
-        if (reverseLevelGap >= 20) {
-            // 20+ level advantage: 60% damage reduction (take 40% damage)
-            rawDamage *= 0.40;
-        } else if (reverseLevelGap >= 15) {
-            // 15-19 level advantage: 50% damage reduction (take 50% damage)
-            rawDamage *= 0.50;
-        } else if (reverseLevelGap >= 13) {
-            // 13-14 level advantage: 40% damage reduction (take 60% damage)
-            rawDamage *= 0.60;
-        }
-        
-        // Apply armor/magic resist reduction with penetration
-        double finalDamage;
-        if (move.getType().equals("Physical")) {
-            finalDamage = applyArmorReduction(rawDamage, attacker, defender);
-        } else { // Magic
-            finalDamage = applyMagicResistReduction(rawDamage, attacker, defender);
+    /**
+     * Item icon by catalog id, loaded once from the category folder and the item's image name
+     */
+    private BufferedImage getItemIcon(int itemId) {
+        if (itemIcons[itemId] == null) {
+            itemIcons[itemId] = loadItemIcon(itemCatalog.getItem(itemId));
         }
-        
-        // Ensure minimum damage of 1 for successful hits
-        return Math.max(1, (int) finalDamage);
+        return itemIcons[itemId];
     }
     
     /**
-     * Apply armor reduction with proper penetration calculations (League-style)
+     * Load item icon using the new Item system with category-based folders and custom image names
      */
-    private double applyArmorReduction(double damage, Champion attacker, Champion defender) {
-        int armor = defender.getEffectiveArmor();
-        int armorPen = attacker.getTotalArmorPen();
+    private BufferedImage loadItemIcon(item.Item itemData) {
+        item.Item.ItemCategory category = itemData.getCategory();
+        String imageName = itemData.getImageName();
         
-        // Apply armor penetration (flat reduction)
-        int effectiveArmor = Math.max(0, armor - armorPen);
+        // Use category to determine folder path
+        String folderPath = "/leagueItems/" + category.getFolderName() + "/";
         
-        // League's damage reduction formula: reduction = armor / (armor + 100)
-        double damageReduction = (double)effectiveArmor / (effectiveArmor + 100.0);
+        // Try .png first, then .jpg, then imgnotfound.png
+        BufferedImage image = gp.assets.getFirstImage(
+                folderPath + imageName + ".png",
+                folderPath + imageName + ".jpg",
+                "/leagueItems/imgnotfound.png");
         
-        return damage * (1.0 - damageReduction);
+        // Return a placeholder colored square as last resort
+        return image != null ? image : createPlaceholderIcon(category);
     }
     
     /**
-     * Apply magic resist reduction with proper penetration calculations
+     * Create a colored placeholder icon if image loading fails using new ItemCategory system
      */
-    private double applyMagicResistReduction(double damage, Champion attacker, Champion defender) {
-        int magicResist = defender.getEffectiveMagicResist();
-        int magicPen = attacker.getTotalMagicPen();
+    private BufferedImage createPlaceholderIcon(item.Item.ItemCategory category) {
+        BufferedImage placeholder = new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = placeholder.createGraphics();
         
-        // Apply magic penetration (flat reduction)
-        int effectiveMR = Math.max(0, magicResist - magicPen);
+        // Different colors for different categories using enum
+        Color color = switch (category) {
+            case CONSUMABLE -> new Color(255, 100, 100); // Red for consumables
+            case LEGENDBALL -> new Color(255, 215, 0);   // Gold for legend balls
+            case CHAMPIONITEM -> new Color(100, 100, 255); // Blue for champion items
+        };
         
-        // League's damage reduction formula: reduction = MR / (MR + 100)
-        double damageReduction = (double)effectiveMR / (effectiveMR + 100.0);
+        g2.setColor(color);
+        g2.fillRoundRect(2, 2, 28, 28, 6, 6);
+        g2.setColor(Color.WHITE);
+        g2.setStroke(new BasicStroke(2));
+        g2.drawRoundRect(2, 2, 28, 28, 6, 6);
+        g2.dispose();
         
-        return damage * (1.0 - damageReduction);
+        return placeholder;
     }
     
-    private DamageResult calculateDamageWithCrit(Move move, Champion attacker, Champion defender) {
-        // Check hit chance first
-        if (!doesMoveHit(move, attacker, defender)) {
-            damageResult.setMiss();
-            return damageResult;
+    private void useItem(int itemId) {
+        // Check if player has the item
+        if (gp.player.getInventory().getCount(itemId) <= 0) {
+            addBattleMessage("You don't have any " + itemCatalog.getName(itemId) + "!");
+            return;
         }
         
-        // Calculate base damage
-        int baseDamage = calculateDamage(move, attacker, defender);
-        boolean isCrit = false;
+        battle.TurnResult result = engine.useItem(itemId);
+        showResult(result);
         
-        // Check for critical hit
-        if (random.nextInt(100) < attacker.getCritChance()) {
-            baseDamage = (int) (baseDamage * attacker.getCritDamageMultiplier()); // Use champion's crit multiplier
-            isCrit = true;
+        if (result.acted) {
+            // Only remove item from inventory and skip turn if item had an effect
+            gp.player.removeFromInventory(itemId, 1);
+            
+            // Using an item counts as the player's turn
+            playerTurn = false;
+            battleState = BattleState.EXECUTING;
+            messageTimer = 120;
+        } else {
+            // Item had no effect, don't consume it and don't skip turn
+            // Stay in item selection to allow player to choose something else
+            messageTimer = 60; // Short timer to show the "no effect" message
         }
-        
-        damageResult.setHit(baseDamage, isCrit);
-        return damageResult;
     }
     
-    // Enhanced hit chance calculation that considers status effects
-    private boolean doesMoveHit(Move move, Champion attacker, Champion defender) {
-        int hitChance = move.getAccuracy();
-        
-        // Check for blind effect on attacker
-        if (attacker.hasStatusEffect(StatusEffect.StatusType.BLIND)) {
-            return false; // Blind causes automatic miss
-        }
-        
-        // Check for stealth effect on defender
-        if (defender.hasStatusEffect(StatusEffect.StatusType.STEALTH)) {
-            defender.removeStatusEffect(StatusEffect.StatusType.STEALTH); // Stealth is consumed
-            return false; // Stealth causes automatic miss
+    // Add every message of an engine result in the color of the side that caused it
+    private void showResult(battle.TurnResult result) {
+        for (int i = 0; i < result.getMessageCount(); i++) {
+            switch (result.getMessageSide(i)) {
+                case battle.BattleEngine.PLAYER -> addPlayerMessage(result.getMessage(i));
+                case battle.BattleEngine.ENEMY -> addEnemyMessage(result.getMessage(i));
+                default -> addBattleMessage(result.getMessage(i));
+            }
         }
+    }
+    
+    // Scrollable text system methods
+    private void addBattleMessage(String message) {
+        addBattleMessage(message, Color.WHITE); // Default white color
+    }
+    
+    private void addBattleMessage(String message, Color color) {
+        // Define player and enemy colors for spacing detection
+        Color playerColor = PLAYER_MESSAGE_COLOR;
+        Color enemyColor = ENEMY_MESSAGE_COLOR;
         
-        // Check for confusion on attacker
-        if (attacker.hasStatusEffect(StatusEffect.StatusType.CONFUSION)) {
-            StatusEffect confusion = attacker.getStatusEffect(StatusEffect.StatusType.CONFUSION);
-            if (random.nextInt(100) < confusion.getValue()) {
-                // Confused champion hits themselves
-                attacker.takeDamage(move.getPower() / 2); // Reduced self-damage
-                return false; // Original attack misses
+        // Add empty line if switching between player and enemy colors
+        if (lastMessageColor != null && !battleMessages.isEmpty()) {
+            boolean lastWasPlayer = lastMessageColor.equals(playerColor);
+            boolean lastWasEnemy = lastMessageColor.equals(enemyColor);
+            boolean currentIsPlayer = color.equals(playerColor);
+            boolean currentIsEnemy = color.equals(enemyColor);
+            
+            // Add spacing when switching from player to enemy or enemy to player
+            if ((lastWasPlayer && currentIsEnemy) || (lastWasEnemy && currentIsPlayer)) {
+                battleMessages.add("", Color.WHITE); // Empty line
             }
         }
         
-        // Apply accuracy reduction
-        StatusEffect accuracyReduction = attacker.getStatusEffect(StatusEffect.StatusType.ACCURACY_REDUCTION);
-        if (accuracyReduction != null) {
-            hitChance -= accuracyReduction.getValue();
+        // Split message by newlines and add each line separately
+        String[] lines = message.split("\n");
+        for (String line : lines) {
+            if (!line.trim().isEmpty()) {
+                battleMessages.add(line.trim(), color);
+                lastMessageColor = color; // Update last color for each line
+            }
         }
-        
-        // Speed difference modifier: faster champions are harder to hit
-        int speedDiff = defender.getEffectiveSpeed() - attacker.getEffectiveSpeed();
-        int evasionBonus = Math.max(0, speedDiff / 20); // +1% evasion per 20 speed difference
-        
-        // Apply evasion bonus (up to 15% max)
-        hitChance = Math.max(30, hitChance - Math.min(15, evasionBonus));
-        
-        return random.nextInt(100) < hitChance;
+        // Auto-scroll to bottom when new messages arrive
+        scrollOffset = 0;
+    }
+    
+    private void addPlayerMessage(String message) {
+        addBattleMessage(message, PLAYER_MESSAGE_COLOR);
+    }
+    
+    private void addEnemyMessage(String message) {
+        addBattleMessage(message, ENEMY_MESSAGE_COLOR);
+    }
+    
+    private void clearBattleMessages() {
+        battleMessages.clear();
+        scrollOffset = 0;
+        lastMessageColor = null; // Reset color tracking
     }
     
-    private boolean attemptRun() {
-        int playerLevel = playerChampion.getLevel();
-        int wildLevel = wildChampion.getLevel();
-        int levelDiff = playerLevel - wildLevel;
-        
-        // 10+ level advantage = automatic escape
-        if (levelDiff >= 10) {
-            return true; // 100% escape chance
+    public void scrollTextUp() {
+        int totalLines = battleMessages.getRowCount();
+        if (scrollOffset < totalLines - maxVisibleLines) {
+            scrollOffset++;
         }
-        
-        // Calculate base chance from level difference
-        int baseChance;
-        if (levelDiff >= 1 && levelDiff <= 6) {
-            // 1-6 levels higher: 78-85% range
-            baseChance = 78 + levelDiff; // Level 1 = 79%, Level 6 = 84%
-        } else if (levelDiff >= -2 && levelDiff <= 0) {
-            // Similar level (-2 to 0): 70-75% range  
-            baseChance = 75 + levelDiff; // Level -2 = 73%, Level 0 = 75%
-        } else {
-            // Lower level (-3 and below): MUCH harsher penalties
-            baseChance = 75 + (levelDiff * 8); // -3 = 51%, -5 = 35%, -7 = 19%, -10 = -5%
+    }
+    
+    public void scrollTextDown() {
+        if (scrollOffset > 0) {
+            scrollOffset--;
         }
-        
-        // Speed modifier (secondary factor)
-        int speedDiff = playerChampion.getEffectiveSpeed() - wildChampion.getEffectiveSpeed();
-        int speedBonus = speedDiff / 3; // +/-1% per 3 speed difference
-        speedBonus = Math.max(-10, Math.min(10, speedBonus)); // Cap at ±10%
-        
-        // Attempt bonus: +8% per failed attempt for all scenarios
-        int attemptBonus = runAttempts * 8; // 0, 8%, 16%, 24%, etc.
-        
-        // Final calculation - apply minimum to base chance first, then add bonuses
-        int protectedBaseChance = Math.max(25, baseChance); // Protect base chance with 25% minimum
-        int runChance = protectedBaseChance + speedBonus + attemptBonus;
-        runChance = Math.min(95, runChance); // Apply 95% maximum only
-        
-        // Debug logging for development
-        System.out.println("=== ESCAPE ATTEMPT DEBUG ===");
-        System.out.println("Player Level: " + playerLevel + " | Wild Level: " + wildLevel + " | Level Diff: " + levelDiff);
-        System.out.println("Attempt Number: " + (runAttempts + 1));
-        System.out.println("Raw Base: " + baseChance + "% | Protected Base: " + protectedBaseChance + "%");
-        System.out.println("Speed Bonus: " + speedBonus + "% | Attempt Bonus: " + attemptBonus + "%");
-        System.out.println("Final Escape Chance: " + runChance + "%");
-        System.out.println("=============================");
-        
-        return random.nextInt(100) < runChance;
     }
     
     private void drawMoveSelection(Graphics2D g2) {
@@ -2946,8 +1601,14 @@ public class BattleManager {
         g2.drawRoundRect(textBoxX, textBoxY, textBoxWidth, textBoxHeight, 15, 15);
         
         // Draw scrollable battle text
-        g2.setFont(g2.getFont().deriveFont(14f));
+        if (!g2.getFont().equals(messageBaseFont)) {
+            messageBaseFont = g2.getFont();
+            messageFont = messageBaseFont.deriveFont(14f);
+            scrollHintFont = messageFont.deriveFont(10f);
+        }
+        g2.setFont(messageFont);
         g2.setColor(Color.WHITE);
+        battleMessages.setLayout(g2, messageFont, textBoxWidth - 20);
         
         // Calculate how many lines we can display
         int lineHeight = 18;
@@ -2980,27 +1641,18 @@ public class BattleManager {
         }
         
         // Draw visible messages with scrolling
-        int totalLines = battleMessages.size();
-        int startIndex = Math.max(0, totalLines - maxVisibleLines - scrollOffset);
-        int endIndex = Math.min(totalLines, startIndex + maxVisibleLines);
-        
-        int currentY = startY;
-        for (int i = startIndex; i < endIndex; i++) {
-            ColoredMessage message = battleMessages.get(i);
-            g2.setColor(message.color);
-            g2.drawString(message.text, textBoxX + 10, currentY);
-            currentY += lineHeight;
-        }
+        int totalLines = battleMessages.getRowCount();
+        battleMessages.draw(g2, textBoxX + 10, startY, lineHeight, maxVisibleLines, scrollOffset);
         // Reset color to white for other UI elements
         g2.setColor(Color.WHITE);
         
         // Draw scroll indicator if there are more messages
         if (totalLines > maxVisibleLines) {
-            String scrollText = "↑↓ Scroll [" + (totalLines - maxVisibleLines - scrollOffset) + "/" + totalLines + "]";
-            g2.setFont(g2.getFont().deriveFont(10f));
+            String scrollText = battleMessages.getScrollText(totalLines - maxVisibleLines - scrollOffset, totalLines);
+            g2.setFont(scrollHintFont);
             g2.setColor(new Color(200, 200, 200));
             g2.drawString(scrollText, textBoxX + textBoxWidth - 120, textBoxY + 15);
-            g2.setFont(g2.getFont().deriveFont(14f));
+            g2.setFont(messageFont);
             g2.setColor(Color.WHITE);
         }
         
@@ -3329,12 +1981,7 @@ public class BattleManager {
         int currentY = y + 20;
         
         // Champion portrait with professional frame
-        BufferedImage championImage = null;
-        try {
-            championImage = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + champion.getImageName() + ".png"));
-        } catch (Exception e) {
-            // Image loading failed, continue without image
-        }
+        BufferedImage championImage = gp.assets.getImageAsync("/championsImg/" + champion.getImageName() + ".png");
         
         if (championImage != null) {
             int imageSize = Math.min(width - 40, 160);
@@ -4114,7 +2761,7 @@ public class BattleManager {
             
             // Draw small champion image
             try {
-                java.awt.image.BufferedImage champImage = javax.imageio.ImageIO.read(getClass().getResourceAsStream("/championsImg/" + champ.getImageName() + ".png"));
+                java.awt.image.BufferedImage champImage = gp.assets.getImageAsync("/championsImg/" + champ.getImageName() + ".png");
                 if (champImage != null) {
                     int imageSize = 40;
                     int imageX = panelX + 30;
@@ -4241,7 +2888,7 @@ public class BattleManager {
         g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         
         // Get inventory
-        java.util.Map<String, Integer> inventory = gp.player.getInventory();
+        item.Inventory inventory = gp.player.getInventory();
         
         // Modern panel dimensions
         int panelWidth = 560;
@@ -4328,19 +2975,9 @@ public class BattleManager {
                      new Color(180, 70, 140), new Color(140, 40, 100),
                      itemNavState == ItemNavigationState.TAB_SELECTION && selectedTabIndex == 1);
         
-        // Get items for current category in chronological order
-        java.util.List<String> categoryItems = new java.util.ArrayList<>();
-        java.util.List<String> orderedItemNames = gp.player.getInventoryKeysInOrder();
-        
-        for (String itemName : orderedItemNames) {
-            if (inventory.get(itemName) > 0) {
-                if (selectedItemCategory.equals("consumables") && isConsumable(itemName)) {
-                    categoryItems.add(itemName);
-                } else if (selectedItemCategory.equals("legendballs") && isLegendBall(itemName)) {
-                    categoryItems.add(itemName);
-                }
-            }
-        }
+        // Items of the current category in chronological order
+        item.Item.ItemCategory category = getSelectedItemCategory();
+        int categoryItemCount = inventory.getOwnedSize(category);
         
         // Modern item list area with pagination
         int itemsStartY = tabY + tabHeight + 25;
@@ -4349,18 +2986,15 @@ public class BattleManager {
         int itemHeight = 55;
         
         // Calculate pagination
-        int totalPages = categoryItems.isEmpty() ? 1 : (int) Math.ceil((double) categoryItems.size() / ITEMS_PER_PAGE);
+        int totalPages = categoryItemCount == 0 ? 1 : (int) Math.ceil((double) categoryItemCount / ITEMS_PER_PAGE);
         int startIndex = currentPage * ITEMS_PER_PAGE;
-        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, categoryItems.size());
-        java.util.List<String> currentPageItems = categoryItems.isEmpty() ? 
-            new java.util.ArrayList<>() : 
-            new java.util.ArrayList<>(categoryItems.subList(startIndex, endIndex));
+        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, categoryItemCount);
         
-        if (categoryItems.isEmpty()) {
+        if (categoryItemCount == 0) {
             drawNoItemsMessage(g2, panelX, panelWidth, itemsStartY + 60, selectedItemCategory);
         } else {
             drawPaginatedItemList(g2, panelX, panelWidth, itemsStartY, itemHeight, 
-                                currentPageItems, inventory);
+                                inventory, category, startIndex, endIndex);
         }
         
         // Draw pagination info and instructions
@@ -4476,35 +3110,19 @@ public class BattleManager {
         g2.drawString(noItemsText, textX, y);
     }
     
-    private void drawModernItemList(Graphics2D g2, int panelX, int panelWidth, int startY, int itemHeight,
-                                   int maxVisible, java.util.List<String> items, java.util.Map<String, Integer> inventory) {
-        int itemMargin = 15;
-        int itemWidth = panelWidth - itemMargin * 2;
-        
-        for (int i = 0; i < Math.min(items.size(), maxVisible); i++) {
-            String itemName = items.get(i);
-            int quantity = inventory.get(itemName);
-            int itemY = startY + i * itemHeight;
-            boolean isSelected = (i == selectedItemIndex);
-            
-            drawModernItemCard(g2, panelX + itemMargin, itemY, itemWidth, itemHeight - 5, 
-                             itemName, quantity, isSelected && !hoveringReturnArrow);
-        }
-    }
-    
     private void drawPaginatedItemList(Graphics2D g2, int panelX, int panelWidth, int startY, int itemHeight,
-                                     java.util.List<String> currentPageItems, java.util.Map<String, Integer> inventory) {
+                                     item.Inventory inventory, item.Item.ItemCategory category, int startIndex, int endIndex) {
         int itemMargin = 15;
         int itemWidth = panelWidth - itemMargin * 2;
         
-        for (int i = 0; i < currentPageItems.size(); i++) {
-            String itemName = currentPageItems.get(i);
-            int quantity = inventory.get(itemName);
+        for (int i = 0; i < endIndex - startIndex; i++) {
+            int itemId = inventory.getOwned(category, startIndex + i);
+            int quantity = inventory.getCount(itemId);
             int itemY = startY + i * itemHeight;
             boolean isSelected = (i == selectedItemIndex) && (itemNavState == ItemNavigationState.ITEM_LIST);
             
             drawModernItemCard(g2, panelX + itemMargin, itemY, itemWidth, itemHeight - 5, 
-                             itemName, quantity, isSelected);
+                             itemId, quantity, isSelected);
         }
     }
     
@@ -4542,7 +3160,8 @@ public class BattleManager {
     }
     
     private void drawModernItemCard(Graphics2D g2, int x, int y, int width, int height, 
-                                   String itemName, int quantity, boolean isSelected) {
+                                   int itemId, int quantity, boolean isSelected) {
+        String itemName = itemCatalog.getName(itemId);
         // Card shadow with multiple layers
         for (int i = 0; i < 3; i++) {
             g2.setColor(new Color(0, 0, 0, 20 - i * 5));
@@ -4582,7 +3201,7 @@ public class BattleManager {
         int iconX = x + 18;
         int iconY = y + (height - iconSize) / 2;
         
-        drawItemIcon(g2, iconX, iconY, iconSize, itemName);
+        drawItemIcon(g2, iconX, iconY, iconSize, itemId);
         
         // Item name with better typography
         g2.setFont(new Font("Segoe UI", Font.BOLD, 16));
@@ -4624,9 +3243,9 @@ public class BattleManager {
         g2.drawString(qtyText, qtyX, qtyY);
     }
     
-    private void drawItemIcon(Graphics2D g2, int x, int y, int size, String itemName) {
+    private void drawItemIcon(Graphics2D g2, int x, int y, int size, int itemId) {
         // Load the actual item image using new system
-        BufferedImage itemImage = loadItemIcon(itemName);
+        BufferedImage itemImage = getItemIcon(itemId);
         
         if (itemImage != null) {
             // Create a circular clipping mask for the image
@@ -4659,7 +3278,7 @@ public class BattleManager {
             g2.drawOval(x, y, size, size);
         } else {
             // Fallback to colored circle if image fails to load
-            boolean isConsumable = item.ItemManager.isConsumable(itemName);
+            boolean isConsumable = itemCatalog.isConsumable(itemId);
             drawEnhancedIconFallback(g2, x, y, size, isConsumable);
         }
     }
@@ -4800,6 +3419,13 @@ public class BattleManager {
     }
 
     private void endBattle() {
+        aiWorker.cancel();
+        if (replayLog != null) {
+            replayLog = null; // Nothing to save or reward after watching a replay
+        } else if (playerChampion != null && wildChampion != null) {
+            saveReplay();
+        }
+        
         gp.ui.battleNum = 0;
         gp.gameState = gp.playState;
         gp.playMusic(gp.currentMusic);
@@ -4832,6 +3458,139 @@ public class BattleManager {
         }
     }
     
+    public battle.AIDifficulty getAIDifficulty() {
+        return aiDifficulty;
+    }
+    
+    public void setAIDifficulty(battle.AIDifficulty difficulty) {
+        this.aiDifficulty = difficulty;
+    }
+    
+    // Fight the next battle with this seed (as printed with --log-seeds) instead of a new one
+    public void setNextBattleSeed(long seed) {
+        this.nextBattleSeed = seed;
+        this.nextBattleSeedSet = true;
+    }
+    
+    public long getBattleSeed() {
+        return engine.getSeed();
+    }
+    
+    // ==================== REPLAYS ====================
+    
+    private void saveReplay() {
+        int winner = playerChampion.isFainted() ? battle.BattleEngine.ENEMY
+                : wildChampion.isFainted() ? battle.BattleEngine.PLAYER : battle.BattleEngine.NEUTRAL;
+        engine.finish(winner);
+        try {
+            eventLog.save(new java.io.File(LAST_REPLAY_FILE));
+            System.out.println("Battle replay saved: " + LAST_REPLAY_FILE + " (" + eventLog.size() + " events)");
+        } catch (java.io.IOException e) {
+            System.out.println("Could not save battle replay: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Play a recorded battle back on the battle screen. The champions are fresh copies created
+     * from the names in the log, so the player's own team is not touched.
+     */
+    public void startReplay(battle.BattleEventLog log) {
+        replayLog = log;
+        replayEvent = 0;
+        playerChampion = null;
+        wildChampion = null;
+        clearBattleMessages();
+        System.out.println("Replaying battle with seed " + log.getSeed());
+        
+        // Both champions have to exist before the first frame is drawn
+        while (replayEvent < log.size() && (playerChampion == null || wildChampion == null)) {
+            playReplayEvent();
+        }
+        if (playerChampion == null || wildChampion == null) {
+            System.out.println("Replay has no champions to show");
+            replayLog = null;
+            return;
+        }
+        
+        gp.ui.battleNum = 0;
+        battleState = BattleState.EXECUTING;
+        playerTurn = false;
+        messageTimer = 120;
+        xpAwarded = true; // No rewards in a replay
+        battleEndMessageShown = true;
+        showLevelUpStats = false;
+        gp.gameState = gp.battleState;
+        System.out.println("Playing replay: " + log.size() + " events");
+    }
+    
+    public boolean isReplaying() {
+        return replayLog != null;
+    }
+    
+    // Show one event message at a time, at the pace of normal battle messages
+    private void updateReplay() {
+        if (messageTimer > 0) {
+            messageTimer--;
+            return;
+        }
+        if (battleState == BattleState.BATTLE_END) {
+            return; // Waiting for ENTER
+        }
+        while (replayEvent < replayLog.size()) {
+            if (playReplayEvent()) {
+                messageTimer = 60;
+                return;
+            }
+        }
+        battleState = BattleState.BATTLE_END;
+        addBattleMessage("Replay finished.", new Color(255, 215, 0));
+    }
+    
+    // Apply the next event to the champions on screen, returns true if it added a message
+    private boolean playReplayEvent() {
+        int event = replayEvent++;
+        int side = replayLog.getSide(event);
+        switch (replayLog.getType(event)) {
+            case battle.BattleEventLog.SEND_OUT:
+                Champion champion = createReplayChampion(replayLog.getString(replayLog.getA(event)), replayLog.getB(event));
+                if (champion != null) {
+                    if (side == battle.BattleEngine.PLAYER) {
+                        playerChampion = champion;
+                    } else {
+                        wildChampion = champion;
+                    }
+                }
+                replayNames[side] = replayLog.getString(replayLog.getA(event));
+                break;
+            case battle.BattleEventLog.HP:
+                Champion target = side == battle.BattleEngine.PLAYER ? playerChampion : wildChampion;
+                if (target != null) {
+                    target.setCurrentHp(replayLog.getA(event));
+                }
+                return false;
+        }
+        
+        String text = replayLog.describe(event, replayNames);
+        if (text == null) {
+            return false;
+        }
+        switch (side) {
+            case battle.BattleEngine.PLAYER -> addPlayerMessage(text);
+            case battle.BattleEngine.ENEMY -> addEnemyMessage(text);
+            default -> addBattleMessage(text);
+        }
+        return true;
+    }
+    
+    private Champion createReplayChampion(String name, int level) {
+        Champions.ChampionSpecies species = Champions.ChampionFactory.findSpecies(name);
+        if (species == null) {
+            System.out.println("Replay champion not found: " + name);
+            return null;
+        }
+        return species.createInstance(level);
+    }
+    
     // Getters for battle state
     public BattleState getBattleState() {
         return battleState;
@@ -4888,183 +3647,9 @@ public class BattleManager {
         }
     }
     
-    // ========== STATUS EFFECTS PROCESSING ==========
-    
-    private void applyMoveStatusEffects(Move move, Champion attacker, Champion defender, StringBuilder message) {
-        if (!move.hasStatusEffects()) {
-            return;
-        }
-        
-        for (StatusEffect effect : move.getStatusEffects()) {
-            Champion target = move.appliesStatusToSelf() ? attacker : defender;
-            
-            // Apply the status effect
-            target.addStatusEffect(effect);
-            
-            // Invalidate speed cache if speed-affecting status was applied
-            if (isSpeedAffectingStatus(effect.getType())) {
-                invalidateSpeedCache();
-            }
-            
-            // Add message
-            String targetName = (target == attacker) ? attacker.getName() : 
-                               (target == playerChampion) ? playerChampion.getName() : "Wild " + wildChampion.getName();
-            
-            message.append("\n").append(targetName).append(" is affected by ").append(effect.getName()).append("!");
-            
-            // Special handling for immediate effects
-            switch (effect.getType()) {
-                case SHIELD:
-                    target.setShieldAmount(effect.getValue());
-                    message.append(" (").append(effect.getValue()).append(" shield)");
-                    break;
-                    
-                case STUN:
-                    // Stun effect will be processed at start of next turn
-                    break;
-                    
-                case CLEANSE:
-                    // Cleanse removes all debuffs
-                    target.getStatusEffects().removeIf(existingEffect -> 
-                        isDebuffEffect(existingEffect.getType()));
-                    message.append(" All debuffs removed!");
-                    break;
-                    
-                case PP_RESTORE:
-                    // Restore resources (mana for consumable, reset to 0 for build-up)
-                    if (target.getResourceType().isConsumable()) {
-                        target.setCurrentResource(target.getMaxResource());
-                        message.append(" All mana restored!");
-                    } else {
-                        target.setCurrentResource(0);
-                        message.append(" Build-up resource reset!");
-                    }
-                    break;
-                    
-                default:
-                    // Most effects are handled during start of turn processing
-                    break;
-            }
-        }
-    }
-    
-    private boolean isDebuffEffect(StatusEffect.StatusType type) {
-        return type == StatusEffect.StatusType.ATTACK_REDUCTION ||
-               type == StatusEffect.StatusType.AP_REDUCTION ||
-               type == StatusEffect.StatusType.SPEED_REDUCTION ||
-               type == StatusEffect.StatusType.ARMOR_REDUCTION ||
-               type == StatusEffect.StatusType.MAGIC_RESIST_REDUCTION ||
-               type == StatusEffect.StatusType.ACCURACY_REDUCTION ||
-               type == StatusEffect.StatusType.BURN ||
-               type == StatusEffect.StatusType.POISON ||
-               type == StatusEffect.StatusType.BLEED ||
-               type == StatusEffect.StatusType.STUN ||
-               type == StatusEffect.StatusType.SLOW ||
-               type == StatusEffect.StatusType.BLIND ||
-               type == StatusEffect.StatusType.CONFUSION;
-    }
-    
     // Check if champion is stunned (cannot act)
     public boolean isChampionStunned(Champion champion) {
-        return champion.hasStatusEffect(StatusEffect.StatusType.STUN);
-    }
-    
-    // ==================== DETAILED CONSOLE LOGGING METHODS ====================
-    
-    /**
-     * Log detailed champion stats for combat analysis
-     */
-    private void logChampionStats(String role, Champion champion) {
-        System.out.printf("%-9s: %-15s (Lv%2d %s)%n", role, champion.getName(), 
-            champion.getLevel(), champion.getChampionClass());
-        System.out.printf("          HP: %4d/%4d | AD: %3d | AP: %3d | Armor: %3d | MR: %3d%n",
-            champion.getCurrentHp(), champion.getMaxHp(), 
-            champion.getEffectiveAD(), champion.getEffectiveAP(),
-            champion.getEffectiveArmor(), champion.getEffectiveMagicResist());
-        System.out.printf("          ArmorPen: %2d | MagicPen: %2d | Crit: %2d%% | Speed: %3d%n",
-            champion.getTotalArmorPen(), champion.getTotalMagicPen(),
-            champion.getCritChance(), champion.getEffectiveSpeed());
+        return engine.isChampionStunned(champion);
     }
     
-    /**
-     * Log detailed damage calculation breakdown
-     */
-    private void logDamageCalculation(Move move, Champion attacker, Champion defender, DamageResult result) {
-        System.out.printf("ABILITY: %s (%s) | Power: %d | Accuracy: %d%%%n",
-            move.getName(), move.getType(), move.getPower(), move.getAccuracy());
-        
-        if (result.isMiss) {
-            System.out.println("RESULT: MISS!");
-            return;
-        }
-        
-        // Calculate raw damage components
-        double baseDamage = move.getBaseDamage(attacker.getLevel());
-        double adScaling = attacker.getEffectiveAD() * move.getAdRatio();
-        double apScaling = attacker.getEffectiveAP() * move.getApRatio();
-        int rawDamage = (int)(baseDamage + adScaling + apScaling);
-        
-        System.out.printf("DAMAGE CALC: %.0f base + %.0f AD scaling + %.0f AP scaling = %d raw%n",
-            baseDamage, adScaling, apScaling, rawDamage);
-        
-        // Show level gap multiplier if applicable
-        int levelGap = attacker.getLevel() - defender.getLevel();
-        if (levelGap >= 10) {
-            double multiplier = levelGap >= 20 ? 1.6 : (levelGap >= 15 ? 1.4 : 1.2);
-            int boostedDamage = (int)(rawDamage * multiplier);
-            System.out.printf("LEVEL GAP BOOST: %d raw × %.1fx (Lv%d gap) = %d boosted%n",
-                rawDamage, multiplier, levelGap, boostedDamage);
-            rawDamage = boostedDamage; // Update for defense calculation display
-        }
-        
-        // Show level gap resistance if applicable
-        int reverseLevelGap = defender.getLevel() - attacker.getLevel();
-        if (reverseLevelGap >= 13) {
-            double resistance = reverseLevelGap >= 20 ? 0.40 : (reverseLevelGap >= 15 ? 0.50 : 0.60);
-            int resistedDamage = (int)(rawDamage * resistance);
-            System.out.printf("LEVEL GAP RESIST: %d damage × %.0f%% (Lv%d defender advantage) = %d resisted%n",
-                rawDamage, resistance * 100, reverseLevelGap, resistedDamage);
-            rawDamage = resistedDamage; // Update for defense calculation display
-        }
-        
-        // Calculate defense reduction
-        int defenderDefense;
-        int attackerPen;
-        String defenseType;
-        
-        if (move.getType().equals("Physical")) {
-            defenderDefense = defender.getEffectiveArmor();
-            attackerPen = attacker.getTotalArmorPen();
-            defenseType = "Armor";
-        } else {
-            defenderDefense = defender.getEffectiveMagicResist();
-            attackerPen = attacker.getTotalMagicPen();
-            defenseType = "MagicResist";
-        }
-        
-        int effectiveDefense = Math.max(0, defenderDefense - attackerPen);
-        double reductionPercent = (double)effectiveDefense / (effectiveDefense + 100.0) * 100;
-        int finalDamage = result.damage;
-        
-        System.out.printf("DEFENSE: %d %s - %d Pen = %d effective (%.1f%% reduction)%n",
-            defenderDefense, defenseType, attackerPen, effectiveDefense, reductionPercent);
-        
-        String critText = result.isCrit ? " (CRITICAL HIT!)" : "";
-        System.out.printf("FINAL: %d raw → %d final%s%n", rawDamage, finalDamage, critText);
-        
-        // Calculate damage as percentage of defender HP
-        double hpPercent = (double)finalDamage / defender.getCurrentHp() * 100;
-        double hitsToKill = (double)defender.getCurrentHp() / finalDamage;
-        
-        System.out.printf("IMPACT: %.1f%% of %d HP | %.1f hits to kill%n",
-            hpPercent, defender.getCurrentHp(), hitsToKill);
-        
-        // Level difference analysis
-        int levelDiff = attacker.getLevel() - defender.getLevel();
-        if (Math.abs(levelDiff) >= 5) {
-            String dominance = levelDiff > 0 ? "ATTACKER DOMINANCE" : "DEFENDER ADVANTAGE";
-            System.out.printf("LEVEL GAP: %+d levels (%s)%n", levelDiff, dominance);
-        }
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Battle text box contents: the last CAPACITY messages in a ring buffer, each one word wrapped
+ * to the box width and turned into glyph vectors once, when it is added. Drawing is then just
+ * one drawGlyphVector per visible row, and long battles neither grow memory nor frame time
+ * (the oldest messages are dropped).
+ *
+ * Scrolling counts wrapped rows, not messages.
+ */
+public class BattleMessageLog {
+
+	public static final int CAPACITY = 200;
+
+	private static class Message {
+		String text;
+		Color color;
+		GlyphVector[] rows; // null until laid out, empty text has no glyphs but one row
+		int rowCount;
+	}
+
+	private final Message[] messages = new Message[CAPACITY];
+	private int first = 0; // Ring index of the oldest message
+	private int count = 0;
+	private int totalRows = 0;
+
+	// Layout every message is wrapped with, set by the text box before drawing
+	private Font font;
+	private FontRenderContext frc;
+	private FontMetrics metrics;
+	private int wrapWidth;
+
+	private final List<String> wrapBuffer = new ArrayList<>();
+
+	// Cached scroll indicator text
+	private String scrollText;
+	private int scrollTextPosition = -1;
+	private int scrollTextTotal = -1;
+
+	public BattleMessageLog() {
+		for (int i = 0; i < CAPACITY; i++) {
+			messages[i] = new Message();
+		}
+	}
+
+	public void add(String text, Color color) {
+		Message message;
+		if (count == CAPACITY) {
+			// Full, reuse the oldest slot
+			message = messages[first];
+			totalRows -= message.rowCount;
+			first = (first + 1) % CAPACITY;
+		} else {
+			message = messages[(first + count) % CAPACITY];
+			count++;
+		}
+		message.text = text;
+		message.color = color;
+		message.rows = null;
+		message.rowCount = 1;
+		if (font != null) {
+			layout(message);
+		}
+		totalRows += message.rowCount;
+	}
+
+	public void clear() {
+		for (int i = 0; i < CAPACITY; i++) {
+			messages[i].text = null;
+			messages[i].rows = null;
+		}
+		first = 0;
+		count = 0;
+		totalRows = 0;
+	}
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/** Number of wrapped rows of all messages */
+	public int getRowCount() {
+		return totalRows;
+	}
+
+	/**
+	 * Font and width to wrap with. Only relayouts the kept messages when they actually changed,
+	 * so the text box can call this every frame.
+	 */
+	public void setLayout(Graphics2D g2, Font font, int wrapWidth) {
+		FontRenderContext frc = g2.getFontRenderContext();
+		if (font.equals(this.font) && wrapWidth == this.wrapWidth && frc.equals(this.frc)) {
+			return;
+		}
+		this.font = font;
+		this.frc = frc;
+		this.metrics = g2.getFontMetrics(font);
+		this.wrapWidth = wrapWidth;
+		totalRows = 0;
+		for (int i = 0; i < count; i++) {
+			Message message = messages[(first + i) % CAPACITY];
+			layout(message);
+			totalRows += message.rowCount;
+		}
+	}
+
+	// Word wrap the message to the layout width and build one glyph vector per row
+	private void layout(Message message) {
+		if (message.text.isEmpty()) {
+			message.rows = new GlyphVector[0];
+			message.rowCount = 1;
+			return;
+		}
+		wrapBuffer.clear();
+		String[] words = message.text.split(" ");
+		StringBuilder row = new StringBuilder();
+		for (String word : words) {
+			if (row.length() > 0 && metrics.stringWidth(row + " " + word) > wrapWidth) {
+				wrapBuffer.add(row.toString());
+				row.setLength(0);
+			}
+			if (row.length() > 0) {
+				row.append(' ');
+			}
+			row.append(word);
+		}
+		wrapBuffer.add(row.toString());
+
+		message.rows = new GlyphVector[wrapBuffer.size()];
+		for (int i = 0; i < message.rows.length; i++) {
+			message.rows[i] = font.createGlyphVector(frc, wrapBuffer.get(i));
+		}
+		message.rowCount = message.rows.length;
+	}
+
+	/**
+	 * Draw the rows that fit, scrolled up by scrollOffset rows from the newest one.
+	 * The font must have been set with setLayout.
+	 */
+	public void draw(Graphics2D g2, int x, int y, int lineHeight, int visibleRows, int scrollOffset) {
+		// Walk back from the newest row to the first visible one
+		int skip = Math.max(0, scrollOffset) + Math.min(visibleRows, totalRows);
+		int index = count - 1;
+		int row = 0;
+		while (index >= 0) {
+			int rows = messages[(first + index) % CAPACITY].rowCount;
+			if (skip <= rows) {
+				row = rows - skip;
+				break;
+			}
+			skip -= rows;
+			index--;
+		}
+		if (index < 0) {
+			index = 0;
+			row = 0;
+		}
+
+		int drawn = 0;
+		int currentY = y;
+		for (; index < count && drawn < visibleRows; index++, row = 0) {
+			Message message = messages[(first + index) % CAPACITY];
+			g2.setColor(message.color);
+			for (; row < message.rowCount && drawn < visibleRows; row++) {
+				if (row < message.rows.length) {
+					g2.drawGlyphVector(message.rows[row], x, currentY);
+				}
+				currentY += lineHeight;
+				drawn++;
+			}
+		}
+	}
+
+	/** "↑↓ Scroll [position/total]" text, only rebuilt when the numbers change */
+	public String getScrollText(int position, int total) {
+		if (position != scrollTextPosition || total != scrollTextTotal) {
+			scrollTextPosition = position;
+			scrollTextTotal = total;
+			scrollText = "↑↓ Scroll [" + position + "/" + total + "]";
+		}
+		return scrollText;
+	}
+}
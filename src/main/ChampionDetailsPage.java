@@ -5,7 +5,6 @@ import Champions.Move;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.util.List;
 
 public class ChampionDetailsPage {
@@ -364,12 +363,8 @@ public class ChampionDetailsPage {
         int currentY = y + 10; // Move everything up
         
         // Champion portrait with professional frame (smaller)
-        BufferedImage championImage = null;
-        try {
-            championImage = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + champion.getImageName() + ".png"));
-        } catch (Exception e) {
-            // Image loading failed, continue without image
-        }
+        // Cached by the asset repository, this panel is redrawn every frame
+        BufferedImage championImage = gamePanel.assets.getImageAsync("/championsImg/" + champion.getImageName() + ".png");
         
         if (championImage != null) {
             int imageSize = Math.min(width - 40, 150); // 10 pixels smaller
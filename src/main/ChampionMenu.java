@@ -3,11 +3,7 @@
 	import java.awt.*;
 	import java.awt.image.BufferedImage;
 	import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import javax.imageio.ImageIO;
 
 import Champions.Champion;
 	
@@ -22,7 +18,6 @@ import Champions.Champion;
 	
 	    private Champion selectedChampion = null; // Track the selected champion for the popup
 	    public boolean showPopup = false;        // Whether the popup is currently visible
-	    private final Map<String, BufferedImage> imageCache = new HashMap<>(); // Cache for champion images
 	    
 	    // Keyboard navigation variables
 	    private int selectedGridRow = 0;    // Currently selected row in the 3x3 grid (0-2)
@@ -640,28 +635,14 @@ import Champions.Champion;
 	        gp.playSE(11);
 	    }
 	    private void preloadImages() {
-	        for (Champion champion : gp.champList) {
-	            loadChampionImage(champion.getImageName());
+	        // Image names come from the roster, so this does not create every champion
+	        for (int i = 0; i < gp.champList.size(); i++) {
+	            gp.assets.prefetch("/championsImg/" + gp.champList.getImageName(i) + ".png");
 	        }
 	    }
 	    
-	    public void clearImageCache() {
-	        imageCache.clear();
-	    }
-
-	    
 	    private BufferedImage loadChampionImage(String imageName) {
-	        if (imageCache.containsKey(imageName)) {
-	            return imageCache.get(imageName);
-	        }
-	        try {
-	            BufferedImage image = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + imageName + ".png"));
-	            imageCache.put(imageName, image); // Cache the image
-	            return image;
-	        } catch (Exception e) {
-	            e.printStackTrace();
-	            return null;
-	        }
+	        return gp.assets.getImageAsync("/championsImg/" + imageName + ".png");
 	    }
 
 	    
@@ -1090,9 +1071,11 @@ import Champions.Champion;
 	
 	    private List<Champion> applyFilters() {
 	        // Filter champions based on roles and search query, and only include owned champions
+	        // Ownership is checked by index, so only owned champions are created
 	        List<Champion> filtered = new ArrayList<>();
-	        for (Champion champion : gp.champList) {
-	            if (!gp.player.isChampionOwned(champion)) continue; // Only show owned champions
+	        for (int index = 0; index < gp.champList.size(); index++) {
+	            if (!gp.player.isChampionOwned(index)) continue; // Only show owned champions
+	            Champion champion = gp.champList.get(index);
 	
 	            boolean matchesRole = false;
 	            for (int i = 0; i < roleFilters.length; i++) {
@@ -67,4 +67,18 @@ public class ChampionSaveData implements Serializable {
         this.apStage = champion.getApStage();
         this.magicResistStage = champion.getMagicResistStage();
     }
+    
+    // Constructor for a champion that was never created, saved as a fresh level 1 champion
+    public ChampionSaveData(Champions.ChampionSpecies species) {
+        this.name = species.getName();
+        this.level = 1;
+        this.exp = 0;
+        this.currentHp = species.getMaxHpAtLevel(1);
+        this.currentResource = species.getResourceType().isConsumable() ? species.getMaxResource() : 0;
+        this.equippedItems = new ArrayList<>();
+        this.moveUpgradeLevels = new ArrayList<>();
+        for (int i = 0; i < species.getMoves().size(); i++) {
+            this.moveUpgradeLevels.add(1);
+        }
+    }
 }
\ No newline at end of file
@@ -23,7 +23,7 @@ public class CollisionChecker {
 	    int tileNum1, tileNum2;
 
 	    switch (entity.direction) {
-	        case "up":
+	        case UP:
 	            entityTopRow = (entityTopWorldY - entity.speed) / gp.tileSize;
 	            if (isValidTilePosition(entityLeftCol, entityTopRow) && isValidTilePosition(entityRightCol, entityTopRow)) {
 	                tileNum1 = gp.mapManager.getCurrentMap().getTileAt(entityLeftCol, entityTopRow);
@@ -36,7 +36,7 @@ public class CollisionChecker {
 	                entity.collisionOn = true;
 	            }
 	            break;
-	        case "down":
+	        case DOWN:
 	            entityBottomRow = (entityBottomWorldY + entity.speed) / gp.tileSize;
 	            if (isValidTilePosition(entityLeftCol, entityBottomRow) && isValidTilePosition(entityRightCol, entityBottomRow)) {
 	                tileNum1 = gp.mapManager.getCurrentMap().getTileAt(entityLeftCol, entityBottomRow);
@@ -49,7 +49,7 @@ public class CollisionChecker {
 	                entity.collisionOn = true;
 	            }
 	            break;
-	        case "left":
+	        case LEFT:
 	            entityLeftCol = (entityLeftWorldX - entity.speed) / gp.tileSize;
 	            if (isValidTilePosition(entityLeftCol, entityTopRow) && isValidTilePosition(entityLeftCol, entityBottomRow)) {
 	                tileNum1 = gp.mapManager.getCurrentMap().getTileAt(entityLeftCol, entityTopRow);
@@ -62,7 +62,7 @@ public class CollisionChecker {
 	                entity.collisionOn = true;
 	            }
 	            break;
-	        case "right":
+	        case RIGHT:
 	            entityRightCol = (entityRightWorldX + entity.speed) / gp.tileSize;
 	            if (isValidTilePosition(entityRightCol, entityTopRow) && isValidTilePosition(entityRightCol, entityBottomRow)) {
 	                tileNum1 = gp.mapManager.getCurrentMap().getTileAt(entityRightCol, entityTopRow);
@@ -103,13 +103,13 @@ public class CollisionChecker {
 				
 				switch(entity.direction) {
 				
-				case "up": entity.solidArea.y-=entity.speed;
+				case UP: entity.solidArea.y-=entity.speed;
 					break;
-				case "down": entity.solidArea.y+=entity.speed;
+				case DOWN: entity.solidArea.y+=entity.speed;
 					break;
-				case "left": entity.solidArea.x-=entity.speed;
+				case LEFT: entity.solidArea.x-=entity.speed;
 					break;
-				case "right": entity.solidArea.x+=entity.speed;
+				case RIGHT: entity.solidArea.x+=entity.speed;
 					break;
 				
 				}
@@ -151,13 +151,13 @@ public class CollisionChecker {
 				target[i].solidArea.y= target[i].worldY+ target[i].solidArea.y;
 				
 				switch(entity.direction) {
-				case "up": entity.solidArea.y-=entity.speed;
+				case UP: entity.solidArea.y-=entity.speed;
 					break;
-				case "down": entity.solidArea.y+=entity.speed;
+				case DOWN: entity.solidArea.y+=entity.speed;
 					break;
-				case "left": entity.solidArea.x-=entity.speed;
+				case LEFT: entity.solidArea.x-=entity.speed;
 					break;
-				case "right":entity.solidArea.x+=entity.speed;
+				case RIGHT:entity.solidArea.x+=entity.speed;
 					break;
 				
 				}
@@ -194,13 +194,13 @@ public class CollisionChecker {
 		
 		switch(entity.direction) {
 		
-		case "up": entity.solidArea.y-=entity.speed;
+		case UP: entity.solidArea.y-=entity.speed;
 			break;
-		case "down": entity.solidArea.y+=entity.speed;
+		case DOWN: entity.solidArea.y+=entity.speed;
 			break;
-		case "left": entity.solidArea.x-=entity.speed;
+		case LEFT: entity.solidArea.x-=entity.speed;
 			break;
-		case "right": entity.solidArea.x+=entity.speed;
+		case RIGHT: entity.solidArea.x+=entity.speed;
 			break;
 		
 		}
@@ -2,10 +2,6 @@ package main;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import javax.imageio.ImageIO;
 import javax.swing.SwingUtilities;
 
 import Champions.Champion;
@@ -17,7 +13,6 @@ public class Dex {
     private Champion selectedChampion = null; // Track the selected champion for the popup
     public boolean showPopup = false;        // Whether the popup is currently visible
     private int popupPage = 0;                // 0: Info, 1: Abilities, 2: Stats
-    private final Map<String, BufferedImage> imageCache = new HashMap<>(); // Cache for champion images
     
     private int currentPage = 0; // Tracks which page of champions we are on
     private static final int CHAMPIONS_PER_PAGE = 25; // 5x5 grid
@@ -274,8 +269,8 @@ public class Dex {
             int championIndex = getSelectedChampionIndex();
             System.out.println("DEBUG: Attempting to select champion at index: " + championIndex);
             if (championIndex >= 0 && championIndex < gp.champList.size()) {
-                Champion champion = gp.champList.get(championIndex);
-                if (gp.player.isChampionOwned(champion) || gp.player.isChampionSeen(champion)) {
+                if (gp.player.isChampionOwned(championIndex) || gp.player.isChampionSeen(championIndex)) {
+                    Champion champion = gp.champList.get(championIndex);
                     System.out.println("DEBUG: Opening popup for champion: " + champion.getName());
                     selectedChampion = champion;
                     showPopup = true;
@@ -327,9 +322,8 @@ public class Dex {
         
         // Find previous owned/seen champion (no wrapping)
         for (int i = currentIndex - 1; i >= 0; i--) {
-            Champion champion = gp.champList.get(i);
-            if (gp.player.isChampionOwned(champion) || gp.player.isChampionSeen(champion)) {
-                selectedChampion = champion;
+            if (gp.player.isChampionOwned(i) || gp.player.isChampionSeen(i)) {
+                selectedChampion = gp.champList.get(i);
                 gp.playSE(9);
                 return;
             }
@@ -345,9 +339,8 @@ public class Dex {
         
         // Find next owned/seen champion (no wrapping)
         for (int i = currentIndex + 1; i < gp.champList.size(); i++) {
-            Champion champion = gp.champList.get(i);
-            if (gp.player.isChampionOwned(champion) || gp.player.isChampionSeen(champion)) {
-                selectedChampion = champion;
+            if (gp.player.isChampionOwned(i) || gp.player.isChampionSeen(i)) {
+                selectedChampion = gp.champList.get(i);
                 gp.playSE(9);
                 return;
             }
@@ -357,8 +350,9 @@ public class Dex {
     }
 
     private void preloadImages() {
-        for (Champion champion : gp.champList) {
-            loadChampionImage(champion.getImageName());
+        // Image names come from the roster, so this does not create every champion
+        for (int i = 0; i < gp.champList.size(); i++) {
+            gp.assets.prefetch("/championsImg/" + gp.champList.getImageName(i) + ".png");
         }
     }
 
@@ -405,14 +399,14 @@ public class Dex {
         int gridStartX = GRID_PADDING;
         int gridStartY = GRID_PADDING;
 
-        List<Champion> champions = gp.champList;
         int startIndex = currentPage * CHAMPIONS_PER_PAGE;
-        int endIndex = Math.min(startIndex + CHAMPIONS_PER_PAGE, champions.size());
+        int endIndex = Math.min(startIndex + CHAMPIONS_PER_PAGE, gp.champList.size());
 
         // Mouse hover effects disabled - keyboard-only navigation
         
         for (int i = startIndex; i < endIndex; i++) {
-            Champion champion = champions.get(i);
+            // The grid only needs the image name, so the champion itself is not created
+            String imageName = gp.champList.getImageName(i);
 
             // Calculate grid position
             int localIndex = i - startIndex;
@@ -438,16 +432,16 @@ public class Dex {
             g2.drawRect(xOffset + 10, yOffset + 10, cellWidth - 20, cellHeight - 20);
 
             // Draw champion image based on three states
-            boolean isOwned = gp.player.isChampionOwned(champion);
-            boolean isSeen = gp.player.isChampionSeen(champion);
+            boolean isOwned = gp.player.isChampionOwned(i);
+            boolean isSeen = gp.player.isChampionSeen(i);
             
             BufferedImage champImage;
             if (isOwned || isSeen) {
                 // Load normal image for owned and seen champions
-                champImage = loadChampionImage(champion.getImageName());
+                champImage = loadChampionImage(imageName);
             } else {
                 // Load dark image for unseen champions
-                champImage = loadDarkChampionImage(champion.getImageName());
+                champImage = loadDarkChampionImage(imageName);
             }
             
             if (champImage != null) {
@@ -610,8 +604,7 @@ public class Dex {
         
         // Check if there's a previous owned/seen champion
         for (int i = currentIndex - 1; i >= 0; i--) {
-            Champion champion = gp.champList.get(i);
-            if (gp.player.isChampionOwned(champion) || gp.player.isChampionSeen(champion)) {
+            if (gp.player.isChampionOwned(i) || gp.player.isChampionSeen(i)) {
                 hasPrevious = true;
                 break;
             }
@@ -619,8 +612,7 @@ public class Dex {
         
         // Check if there's a next owned/seen champion  
         for (int i = currentIndex + 1; i < gp.champList.size(); i++) {
-            Champion champion = gp.champList.get(i);
-            if (gp.player.isChampionOwned(champion) || gp.player.isChampionSeen(champion)) {
+            if (gp.player.isChampionOwned(i) || gp.player.isChampionSeen(i)) {
                 hasNext = true;
                 break;
             }
@@ -955,33 +947,14 @@ public class Dex {
     
     
     private BufferedImage loadChampionImage(String imageName) {
-        if (imageCache.containsKey(imageName)) {
-            return imageCache.get(imageName);
-        }
-        try {
-            BufferedImage image = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + imageName + ".png"));
-            imageCache.put(imageName, image);
-            return image;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        // Decoded in the background, a placeholder is drawn for the few frames until it is ready
+        return gp.assets.getImageAsync("/championsImg/" + imageName + ".png");
     }
     
     private BufferedImage loadDarkChampionImage(String imageName) {
-        String darkKey = imageName + "_dark";
-        if (imageCache.containsKey(darkKey)) {
-            return imageCache.get(darkKey);
-        }
-        try {
-            BufferedImage image = ImageIO.read(getClass().getResourceAsStream("/championImgDark/" + imageName + ".png"));
-            imageCache.put(darkKey, image);
-            return image;
-        } catch (Exception e) {
-            // If dark image not found, fall back to loading normal image
-            e.printStackTrace();
-            return loadChampionImage(imageName);
-        }
+        BufferedImage image = gp.assets.getImageAsync("/championImgDark/" + imageName + ".png");
+        // If dark image not found, fall back to loading normal image
+        return image != null ? image : loadChampionImage(imageName);
     }
     
     
@@ -1000,19 +973,7 @@ public class Dex {
     }
 
     private BufferedImage loadImage(String path) {
-    	//System.out.println("Attempting to load image from path: " + path); // Debugging line
-
-        if (imageCache.containsKey(path)) {
-            return imageCache.get(path);
-        }
-        try {
-            BufferedImage image = ImageIO.read(getClass().getResourceAsStream(path));
-            imageCache.put(path, image);
-            return image;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        return gp.assets.getImage(path);
     }
 
     
@@ -90,7 +90,7 @@ public class EventHandler {
 		eventRect[col][row].y= row*gp.tileSize + eventRect[col][row].y; 
 		
 		if(gp.player.solidArea.intersects(eventRect[col][row])&&eventRect[col][row].eventDone == false) {
-			if(gp.player.direction.contentEquals(reqDirection)|| reqDirection.contentEquals("any")) {
+			if(gp.player.direction.getName().contentEquals(reqDirection)|| reqDirection.contentEquals("any")) {
 				
 				hit = true;
 				
@@ -174,8 +174,8 @@ public class EventHandler {
                 int width = eventRect[col][row].width;
                 int height = eventRect[col][row].height;
 
-                g2.fillRect(x - gp.player.worldX + gp.player.screenX, 
-                            y - gp.player.worldY + gp.player.screenY, 
+                g2.fillRect(x - gp.player.getRenderX() + gp.player.screenX, 
+                            y - gp.player.getRenderY() + gp.player.screenY, 
                             width, height);
             }
         }
@@ -0,0 +1,223 @@
+package main;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Low-overhead frame profiler and hitch detector.
+ * Subsystems wrap their work in begin/end spans; the nanoTime totals are kept in a
+ * preallocated ring buffer. When a frame goes over the budget, the last frames are dumped to
+ * a file together with the active game state, so stutters seen in the field can be traced to
+ * the subsystem that caused them.
+ *
+ * Update ticks and rendered frames are recorded as separate rows: the scheduler runs several
+ * updates per render at low render rates and keeps updating while minimized, so each tick is
+ * closed on its own (endUpdate) and each render on its own (endRender), and each is checked
+ * against the budget by itself. Input spans count towards the next update tick.
+ *
+ * Spans are recorded from the game thread (update, active drawing) and the EDT (input,
+ * passive drawing), so every method holds the profiler's lock. Each span is only ever used
+ * from one of the two threads, and the lock is held for a few nanoseconds at a time.
+ */
+public class FrameProfiler {
+
+	// ==================== SPANS ====================
+
+	// Top level spans, their sum is the cost of a row checked against the budget
+	public static final int UPDATE = 0;
+	public static final int RENDER = 1;
+	public static final int INPUT = 2;
+	// Detail spans, nested inside one of the above
+	public static final int TILE_DRAW = 3;
+	public static final int ENTITY_DRAW = 4;
+	public static final int UI_DRAW = 5;
+	public static final int BATTLE_UPDATE = 6;
+	public static final int BATTLE_DRAW = 7;
+	public static final int SPAN_COUNT = 8;
+	private static final int TOP_LEVEL_SPANS = 3;
+
+	private static final String[] SPAN_NAMES = {
+		"update", "render", "input", "tileDraw", "entityDraw", "uiDraw", "battleUpdate", "battleDraw"
+	};
+
+	// Row kinds, and which kind of row each span is recorded in
+	private static final int UPDATE_ROW = 0;
+	private static final int RENDER_ROW = 1;
+	private static final String[] ROW_NAMES = {"update", "render"};
+	private static final int[] SPAN_ROW = {
+		UPDATE_ROW, RENDER_ROW, UPDATE_ROW, RENDER_ROW, RENDER_ROW, RENDER_ROW, UPDATE_ROW, RENDER_ROW
+	};
+
+	// ==================== CONFIGURATION ====================
+
+	/** Rows (update ticks and rendered frames) kept in the ring buffer and written on a dump */
+	public static final int HISTORY_FRAMES = 240;
+
+	/** Cost of one update tick (update + input) or one render above which the history is dumped (20 ms) */
+	public static final long DEFAULT_BUDGET_NANOS = 20_000_000L;
+
+	/** Minimum time between two dumps, avoids flooding the disk during a long stall */
+	private static final long DUMP_COOLDOWN_NANOS = 5_000_000_000L;
+
+	private static final String PROFILE_DIRECTORY = "profiles";
+
+	public volatile boolean enabled = true;
+	private long budgetNanos = DEFAULT_BUDGET_NANOS;
+
+	// Open rows, spans of both kinds accumulate here until their row is closed
+	private final long[] spanStart = new long[SPAN_COUNT];
+	private final long[] current = new long[SPAN_COUNT];
+	private final long[] rowStart = {System.nanoTime(), System.nanoTime()};
+
+	// History ring buffer: [row][span], plus kind, cost, wall interval since the previous row
+	// of the same kind and game state per row
+	private final long[][] history = new long[HISTORY_FRAMES][SPAN_COUNT];
+	private final int[] historyKind = new int[HISTORY_FRAMES];
+	private final long[] historyTotal = new long[HISTORY_FRAMES];
+	private final long[] historyInterval = new long[HISTORY_FRAMES];
+	private final int[] historyState = new int[HISTORY_FRAMES];
+	private int head = 0;
+	private int count = 0;
+	private long frameNumber = 0;
+
+	private long lastDump = 0;
+	private int hitchCount = 0;
+
+	public void begin(int span) {
+		if (enabled) {
+			long now = System.nanoTime();
+			synchronized (this) {
+				spanStart[span] = now;
+			}
+		}
+	}
+
+	public void end(int span) {
+		if (enabled) {
+			long now = System.nanoTime();
+			synchronized (this) {
+				current[span] += now - spanStart[span];
+			}
+		}
+	}
+
+	/**
+	 * Close the current update tick, called once after every fixed update.
+	 * @param gameState the game state active during the tick
+	 */
+	public void endUpdate(int gameState) {
+		endRow(UPDATE_ROW, gameState);
+	}
+
+	/**
+	 * Close the current rendered frame, called once after every render.
+	 * @param gameState the game state active during the frame
+	 */
+	public void endRender(int gameState) {
+		endRow(RENDER_ROW, gameState);
+	}
+
+	// Store the open spans of this kind in the history and dump the history if it was a hitch
+	private synchronized void endRow(int kind, int gameState) {
+		if (!enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		long interval = now - rowStart[kind];
+		rowStart[kind] = now;
+
+		long total = 0;
+		long[] slot = history[head];
+		for (int i = 0; i < SPAN_COUNT; i++) {
+			if (SPAN_ROW[i] != kind) {
+				slot[i] = 0;
+				continue;
+			}
+			if (i < TOP_LEVEL_SPANS) {
+				total += current[i];
+			}
+			slot[i] = current[i];
+			current[i] = 0;
+		}
+		historyKind[head] = kind;
+		historyTotal[head] = total;
+		historyInterval[head] = interval;
+		historyState[head] = gameState;
+		head = (head + 1) % HISTORY_FRAMES;
+		if (count < HISTORY_FRAMES) {
+			count++;
+		}
+		frameNumber++;
+
+		if (total > budgetNanos) {
+			hitchCount++;
+			if (now - lastDump > DUMP_COOLDOWN_NANOS) {
+				lastDump = now;
+				dump(kind, gameState, total);
+			}
+		}
+	}
+
+	public synchronized void setBudgetMillis(double millis) {
+		budgetNanos = (long) (millis * 1_000_000);
+	}
+
+	public synchronized int getHitchCount() {
+		return hitchCount;
+	}
+
+	// Snapshot the recorded frames (oldest first) as CSV and write it off the calling thread
+	private void dump(int kind, int gameState, long hitchNanos) {
+		StringBuilder csv = new StringBuilder(HISTORY_FRAMES * 96);
+		csv.append("# hitch ").append(formatMillis(hitchNanos)).append(" ms ").append(ROW_NAMES[kind])
+			.append(" in gameState ").append(gameState)
+			.append(", budget ").append(formatMillis(budgetNanos)).append(" ms\n");
+		csv.append("row,kind,gameState,costMs,intervalMs");
+		for (String name : SPAN_NAMES) {
+			csv.append(',').append(name).append("Ms");
+		}
+		csv.append('\n');
+
+		int start = (head - count + HISTORY_FRAMES) % HISTORY_FRAMES;
+		for (int n = 0; n < count; n++) {
+			int i = (start + n) % HISTORY_FRAMES;
+			csv.append(frameNumber - count + n).append(',').append(ROW_NAMES[historyKind[i]])
+				.append(',').append(historyState[i])
+				.append(',').append(formatMillis(historyTotal[i]))
+				.append(',').append(formatMillis(historyInterval[i]));
+			for (int span = 0; span < SPAN_COUNT; span++) {
+				csv.append(',').append(formatMillis(history[i][span]));
+			}
+			csv.append('\n');
+		}
+
+		String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+		Thread writer = new Thread(() -> write("hitch_" + timestamp + ".csv", csv.toString(), hitchNanos), "FrameProfilerDump");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	private void write(String fileName, String content, long hitchNanos) {
+		try {
+			File directory = new File(PROFILE_DIRECTORY);
+			if (!directory.exists()) {
+				directory.mkdirs();
+			}
+			File file = new File(directory, fileName);
+			try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+				out.print(content);
+			}
+			System.out.println("Frame hitch (" + formatMillis(hitchNanos) + " ms) - profile written to: " + file.getPath());
+		} catch (IOException e) {
+			System.err.println("Failed to write frame profile: " + e.getMessage());
+		}
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format(java.util.Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+	}
+}
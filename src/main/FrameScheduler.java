@@ -0,0 +1,227 @@
+package main;
+
+import java.awt.Frame;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-timestep frame scheduler for the game thread.
+ * Game logic always advances at {@link #UPDATES_PER_SECOND}, while rendering runs at a
+ * configurable rate and receives an interpolation factor between the last two update states.
+ * The thread parks between updates/renders instead of spinning, and rendering is throttled
+ * automatically while the window is unfocused or minimized.
+ */
+public class FrameScheduler implements Runnable {
+
+	// ==================== CONFIGURATION ====================
+
+	/** Fixed logic rate - every frame-based timer in the game assumes 60 updates per second */
+	public static final int UPDATES_PER_SECOND = 60;
+
+	/** Render rate value meaning "render as often as possible" */
+	public static final int UNCAPPED = 0;
+
+	/** Selectable render rates, cycled with {@link #cycleRenderRate()} */
+	public static final int[] RENDER_RATES = {30, 60, 120, UNCAPPED};
+
+	/** Render rate used while the window does not have focus */
+	public static final int BACKGROUND_FPS = 15;
+
+	/** Longest real time consumed in one loop pass, prevents a catch-up burst after a stall */
+	private static final long MAX_FRAME_TIME = 250_000_000L;
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final long UPDATE_INTERVAL = NANOS_PER_SECOND / UPDATES_PER_SECOND;
+
+	private final GamePanel gp;
+	private volatile Thread thread;
+
+	// Render settings (written from the EDT, read by the game thread)
+	private volatile int FPS = 60;
+	private volatile boolean windowFocused = true;
+	private volatile boolean windowMinimized = false;
+
+	// Interpolation factor (0-1) between the previous and current update state
+	private volatile float interpolation = 0;
+
+	// Statistics for the last full second
+	private int drawCount = 0;
+	private int updateCount = 0;
+	private volatile int currentFPS = 0;
+	private volatile int currentUPS = 0;
+
+	public FrameScheduler(GamePanel gp) {
+		this.gp = gp;
+	}
+
+	public void start() {
+		thread = new Thread(this, "GameLoop");
+		thread.start();
+	}
+
+	public void stop() {
+		Thread t = thread;
+		thread = null;
+		if (t != null) {
+			LockSupport.unpark(t);
+		}
+	}
+
+	public boolean isRunning() {
+		return thread != null;
+	}
+
+	/**
+	 * Hook the scheduler to the game window so rendering is throttled while the window
+	 * is unfocused and suspended while it is minimized.
+	 */
+	public void attachTo(Frame window) {
+		WindowAdapter listener = new WindowAdapter() {
+			@Override
+			public void windowGainedFocus(WindowEvent e) {
+				windowFocused = true;
+				wake();
+			}
+
+			@Override
+			public void windowLostFocus(WindowEvent e) {
+				windowFocused = false;
+			}
+
+			@Override
+			public void windowIconified(WindowEvent e) {
+				windowMinimized = true;
+			}
+
+			@Override
+			public void windowDeiconified(WindowEvent e) {
+				windowMinimized = false;
+				wake();
+			}
+		};
+		window.addWindowListener(listener);
+		window.addWindowFocusListener(listener);
+	}
+
+	@Override
+	public void run() {
+		long lastTime = System.nanoTime();
+		long accumulator = 0;
+		long nextRender = lastTime;
+		long timer = 0;
+
+		while (thread != null) {
+			long currentTime = System.nanoTime();
+			long elapsed = Math.min(currentTime - lastTime, MAX_FRAME_TIME);
+			lastTime = currentTime;
+			accumulator += elapsed;
+			timer += elapsed;
+
+			// UPDATE - fixed steps, as many as real time requires
+			while (accumulator >= UPDATE_INTERVAL) {
+				gp.update();
+				accumulator -= UPDATE_INTERVAL;
+				updateCount++;
+			}
+
+			// RENDER - at the selected rate, never while minimized
+			long renderInterval = getRenderInterval();
+			boolean canRender = renderInterval >= 0;
+			if (canRender && currentTime >= nextRender) {
+				interpolation = (float) accumulator / UPDATE_INTERVAL;
+				gp.requestRender();
+				drawCount++;
+				// Stay on the render grid, after a stall restart it from now instead of bursting to catch up
+				nextRender += renderInterval;
+				if (nextRender <= currentTime) {
+					nextRender = currentTime + renderInterval;
+				}
+			}
+
+			if (timer >= NANOS_PER_SECOND) {
+				currentFPS = drawCount;
+				currentUPS = updateCount;
+				//System.out.println("FPS: "+currentFPS+" UPS: "+currentUPS);
+				drawCount = 0;
+				updateCount = 0;
+				timer = 0;
+			}
+
+			// SLEEP - until the next update or render is due
+			if (canRender && renderInterval == 0) {
+				Thread.yield(); // Uncapped: only give up the time slice
+				continue;
+			}
+			long wakeTime = lastTime + (UPDATE_INTERVAL - accumulator);
+			if (canRender) {
+				wakeTime = Math.min(wakeTime, nextRender);
+			}
+			long sleepTime = wakeTime - System.nanoTime();
+			if (sleepTime > 0) {
+				LockSupport.parkNanos(this, sleepTime);
+			}
+		}
+	}
+
+	/**
+	 * @return nanoseconds between renders, 0 for uncapped, -1 when rendering is suspended
+	 */
+	private long getRenderInterval() {
+		if (windowMinimized) {
+			return -1;
+		}
+		int fps = FPS;
+		if (!windowFocused && (fps == UNCAPPED || fps > BACKGROUND_FPS)) {
+			fps = BACKGROUND_FPS;
+		}
+		return fps == UNCAPPED ? 0 : NANOS_PER_SECOND / fps;
+	}
+
+	private void wake() {
+		Thread t = thread;
+		if (t != null) {
+			LockSupport.unpark(t);
+		}
+	}
+
+	// ==================== ACCESSORS ====================
+
+	/** @return how far (0-1) real time has advanced from the last update towards the next one */
+	public float getInterpolation() {
+		return interpolation;
+	}
+
+	/** @return the selected render rate, {@link #UNCAPPED} for no cap */
+	public int getTargetFPS() {
+		return FPS;
+	}
+
+	public void setTargetFPS(int fps) {
+		FPS = Math.max(UNCAPPED, fps);
+		wake();
+	}
+
+	/** Switch to the next entry of {@link #RENDER_RATES} and return it */
+	public int cycleRenderRate() {
+		int next = RENDER_RATES[0];
+		for (int i = 0; i < RENDER_RATES.length; i++) {
+			if (RENDER_RATES[i] == FPS) {
+				next = RENDER_RATES[(i + 1) % RENDER_RATES.length];
+				break;
+			}
+		}
+		setTargetFPS(next);
+		return next;
+	}
+
+	/** @return frames rendered during the last second */
+	public int getCurrentFPS() {
+		return currentFPS;
+	}
+
+	/** @return logic updates run during the last second */
+	public int getCurrentUPS() {
+		return currentUPS;
+	}
+}
@@ -0,0 +1,86 @@
+package main;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Heavyweight drawing surface for active rendering.
+ * The game thread draws each frame into a BufferStrategy back buffer and shows it right away,
+ * so frames are not delayed or coalesced by Swing's repaint manager.
+ * Uses page flipping when the platform supports it and falls back to blitting otherwise.
+ */
+public class GameCanvas extends Canvas {
+
+	private static final long serialVersionUID = 1L;
+
+	private final GamePanel gp;
+	private final int numBuffers;
+	private BufferStrategy strategy;
+	private boolean pageFlipping = false;
+
+	public GameCanvas(GamePanel gp, int numBuffers) {
+		this.gp = gp;
+		this.numBuffers = Math.max(2, Math.min(3, numBuffers));
+		this.setPreferredSize(new java.awt.Dimension(gp.screenWidth, gp.screenHeight));
+		this.setBackground(Color.black);
+		this.setFocusable(true);
+		this.setIgnoreRepaint(true);
+	}
+
+	// The buffer strategy can only be created once the canvas is displayable
+	private boolean ensureStrategy() {
+		if (strategy != null) {
+			return true;
+		}
+		if (!isDisplayable()) {
+			return false;
+		}
+		try {
+			BufferCapabilities flip = new BufferCapabilities(
+					new ImageCapabilities(true), new ImageCapabilities(true),
+					BufferCapabilities.FlipContents.UNDEFINED);
+			createBufferStrategy(numBuffers, flip);
+			pageFlipping = true;
+		} catch (AWTException e) {
+			// No page flipping on this platform, let AWT pick the best blit strategy
+			createBufferStrategy(numBuffers);
+			pageFlipping = false;
+		}
+		strategy = getBufferStrategy();
+		System.out.println("Active rendering: " + numBuffers + " buffers, "
+				+ (pageFlipping ? "page flipping" : "blitting"));
+		requestFocusInWindow();
+		return true;
+	}
+
+	// Draw and show one frame, called from the game thread
+	public void renderFrame() {
+		if (!ensureStrategy()) {
+			return;
+		}
+		do {
+			do {
+				Graphics2D g2 = (Graphics2D) strategy.getDrawGraphics();
+				try {
+					g2.setColor(Color.black);
+					g2.fillRect(0, 0, getWidth(), getHeight());
+					gp.render(g2);
+				} finally {
+					g2.dispose();
+				}
+			} while (strategy.contentsRestored());
+			strategy.show();
+		} while (strategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync();
+	}
+
+	public boolean isPageFlipping() {
+		return pageFlipping;
+	}
+}
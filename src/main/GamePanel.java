@@ -9,9 +9,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 import javax.imageio.ImageIO;
@@ -19,6 +17,7 @@ import javax.swing.JPanel;
 
 import Champions.Champion;
 import Champions.ChampionFactory;
+import Champions.ChampionRoster;
 import entity.Entity;
 import entity.Player;
 import maps.MapManager;
@@ -26,17 +25,22 @@ import maps.WarpPoint;
 
 import tile.TileManager;
 
-public class GamePanel extends JPanel implements Runnable{
+public class GamePanel extends JPanel{
 
 	// SCREEN SETTINGS 
-	final int originalTileSize = 16; //16x16 tiles
-	final int scale = 3;
+	static final int originalTileSize = 16; //16x16 tiles
+	static final int scale = 3;
 	
-	public final int tileSize = originalTileSize*scale; //48x48 tiles
+	// Static so the loading screen and asset warm-up can size themselves before the panel exists
+	public static final int TILE_SIZE = originalTileSize*scale; //48x48 tiles
+	public static final int SCREEN_WIDTH = TILE_SIZE*20;
+	public static final int SCREEN_HEIGHT = TILE_SIZE*15;
+	
+	public final int tileSize = TILE_SIZE;
 	public final int maxScreenCol =20;
 	public final int maxScreenRow=15;
-	public final int screenWidth= tileSize*maxScreenCol; // 768 pixels
-	public final int screenHeight= tileSize*maxScreenRow; // 576 pixels
+	public final int screenWidth= SCREEN_WIDTH; // 768 pixels
+	public final int screenHeight= SCREEN_HEIGHT; // 576 pixels
 	
 	// WORLD SETTINGS
 	public final int maxWorldCol=50;
@@ -53,12 +57,18 @@ public class GamePanel extends JPanel implements Runnable{
 	private final int WARP_COOLDOWN_TIME = 30; // frames (0.5 seconds at 60 FPS)
 	
 	// CHAMPIONS
-	public List<Champion> champList = ChampionFactory.createAllChampions();
+	public ChampionRoster champList = ChampionFactory.createRoster(); // Champions are created when first needed
 	public ChampionMenu championMenu;
 
 
-	// FPS
-	int FPS=60;
+	// ASSETS (shared image cache, must exist before anything below loads images)
+	public AssetRepository assets = AssetRepository.getInstance();
+
+	// FRAME SCHEDULER (fixed 60 Hz updates, configurable render rate)
+	public FrameScheduler frameScheduler = new FrameScheduler(this);
+	
+	// FRAME PROFILER (per-subsystem spans, dumps the last frames on a hitch)
+	public FrameProfiler profiler = new FrameProfiler();
 	
 	// SYSTEM
 	public TileManager tileM= new TileManager(this);
@@ -70,7 +80,6 @@ public class GamePanel extends JPanel implements Runnable{
 	public AssetSetter aSetter = new AssetSetter(this);
 	public UI ui = new UI(this);
 	public EventHandler eHandler= new EventHandler(this);
-	Thread gameThread;
 	public int currentMusic;
 	
 	// ENTITY AND OBJECT
@@ -78,7 +87,7 @@ public class GamePanel extends JPanel implements Runnable{
 	public Entity obj[] = new Entity[10];
 	public Entity npc[] = new Entity[10];
 	public Entity monster[] = new Entity[12];
-	ArrayList<Entity> entityList = new ArrayList<>();
+	public RenderList renderList = new RenderList(); // Depth-sorted entities drawn on the overworld
 	
 	
 	
@@ -201,7 +210,27 @@ public class GamePanel extends JPanel implements Runnable{
 	private Runnable onCloseComplete = null; // Callback when close animation finishes
 	
 	
+	// Shared by the panel and the active rendering canvas
+	private final MouseAdapter mouseH = new MouseAdapter() {
+	    @Override
+	    public void mouseClicked(MouseEvent e) {
+	        if (gameState == dexState) {
+	            dex.handleMouseClick(e.getX(), e.getY());
+	        }
+	        if (gameState == roleTeamState) {
+	            roleTeamPage.handleMouseClick(e.getX(), e.getY());
+	        }
+	        if (gameState == teamOrderState) {
+	            teamOrderPage.handleMouseClick(e.getX(), e.getY());
+	        }
+	    }
+	};
+	
+	// ACTIVE RENDERING (null = passive Swing repaint())
+	private GameCanvas activeCanvas = null;
+	
 	public GamePanel() {
+		renderList.add(player);
 		this.setPreferredSize(new Dimension(screenWidth,screenHeight));
 		this.setBackground(Color.black);
 		this.setDoubleBuffered(true);
@@ -219,20 +248,7 @@ public class GamePanel extends JPanel implements Runnable{
 		this.maxCircleRadius = (int) Math.sqrt((screenWidth * screenWidth) + (screenHeight * screenHeight)) / 2 + 50;
 
 	    // Add mouse listener for detecting clicks
-	    this.addMouseListener(new MouseAdapter() {
-	        @Override
-	        public void mouseClicked(MouseEvent e) {
-	            if (gameState == dexState) {
-	                dex.handleMouseClick(e.getX(), e.getY());
-	            }
-	            if (gameState == roleTeamState) {
-	                roleTeamPage.handleMouseClick(e.getX(), e.getY());
-	            }
-	            if (gameState == teamOrderState) {
-	                teamOrderPage.handleMouseClick(e.getX(), e.getY());
-	            }
-	        }
-	    });
+	    this.addMouseListener(mouseH);
 		
 		battleManager = new BattleManager(this);
 	}
@@ -252,46 +268,68 @@ public class GamePanel extends JPanel implements Runnable{
 		
 	}
 	
+	// Place an entity in an obj/npc/monster slot and keep the render list in sync.
+	// Passing null despawns whatever was in the slot.
+	public void setEntity(Entity[] slots, int index, Entity entity) {
+		if (slots[index] != null) {
+			renderList.remove(slots[index]);
+		}
+		slots[index] = entity;
+		if (entity != null) {
+			renderList.add(entity);
+		}
+	}
+	
+	public void removeEntity(Entity[] slots, int index) {
+		setEntity(slots, index, null);
+	}
+	
+	// Re-insert an entity after its position was set, so it starts at the right depth
+	public void refreshEntity(Entity entity) {
+		if (renderList.contains(entity)) {
+			renderList.remove(entity);
+			renderList.add(entity);
+		}
+	}
+	
 	public void startGameThread() {
-		gameThread = new Thread(this);
-		gameThread.start();
-		
+		frameScheduler.start();
 	}
-
 	
-	public void run() {
+	public void stopGameThread() {
+		frameScheduler.stop();
+	}
 	
-		double drawInterval= 1000000000/FPS; //0.016667 secs 
-		double delta=0;
-		long lastTime= System.nanoTime();
-		long currentTime;
-		long timer =0;
-		int drawCount=0;
-		
-		while (gameThread!= null) {
-			currentTime = System.nanoTime();
-			delta+=(currentTime-lastTime)/drawInterval;
-			timer+=(currentTime-lastTime);
-			lastTime=currentTime;
-			
-			if(delta>=1) {
-				update();
-				
-				repaint();
-				delta--;
-				drawCount++;
+	// Remember where every entity was before this update, used for render interpolation
+	private void storePreviousPositions() {
+		player.storePreviousPosition();
+		for (int i = 0; i < npc.length; i++) {
+			if (npc[i] != null) {
+				npc[i].storePreviousPosition();
 			}
-			
-			if(timer>=1000000000) {
-				//System.out.println("FPS: "+drawCount);
-				drawCount=0;
-				timer=0;
+		}
+		for (int i = 0; i < obj.length; i++) {
+			if (obj[i] != null) {
+				obj[i].storePreviousPosition();
+			}
+		}
+		for (int i = 0; i < monster.length; i++) {
+			if (monster[i] != null) {
+				monster[i].storePreviousPosition();
 			}
-			
 		}
 	}
 	
 	public void update() {
+	    profiler.begin(FrameProfiler.UPDATE);
+	    updateState();
+	    profiler.end(FrameProfiler.UPDATE);
+	    profiler.endUpdate(gameState);
+	}
+	
+	private void updateState() {
+	    storePreviousPositions();
+	    
 	    if (gameState == playState) {
 	        // PLAYER
 	        player.update();
@@ -325,7 +363,9 @@ public class GamePanel extends JPanel implements Runnable{
 
 	    if (gameState == battleState) {
 	        // Update the battle logic
+	        profiler.begin(FrameProfiler.BATTLE_UPDATE);
 	        battleManager.update();
+	        profiler.end(FrameProfiler.BATTLE_UPDATE);
 	    }
 	    
 	    if (gameState == roleTeamState) {
@@ -555,10 +595,65 @@ public class GamePanel extends JPanel implements Runnable{
 	
 	
 	
+	/**
+	 * Switch to active rendering: a Canvas with a BufferStrategy is placed over the panel and the
+	 * game thread draws and flips it directly instead of going through repaint() and the EDT.
+	 * Must be called before the window is shown.
+	 * @param numBuffers 2 for double, 3 for triple buffering
+	 */
+	public void enableActiveRendering(int numBuffers) {
+		activeCanvas = new GameCanvas(this, numBuffers);
+		activeCanvas.addKeyListener(keyH);
+		activeCanvas.addMouseListener(mouseH);
+		this.setLayout(new java.awt.BorderLayout());
+		this.add(activeCanvas, java.awt.BorderLayout.CENTER);
+		this.setIgnoreRepaint(true);
+	}
+	
+	public boolean isActiveRendering() {
+		return activeCanvas != null;
+	}
+	
+	// Called by the frame scheduler once per rendered frame
+	public void requestRender() {
+		if (activeCanvas != null) {
+			activeCanvas.renderFrame();
+		} else {
+			repaint();
+		}
+	}
+	
 	@Override
 	public void paintComponent(Graphics g) {
 	    super.paintComponent(g);
+	    if (activeCanvas != null) {
+	        return; // The canvas draws itself from the game thread
+	    }
 	    Graphics2D g2 = (Graphics2D) g;
+	    render(g2);
+	    g2.dispose();
+	}
+	
+	// State dispatch shared by the passive (paintComponent) and active (GameCanvas) paths
+	public void render(Graphics2D g2) {
+	    profiler.begin(FrameProfiler.RENDER);
+	    renderState(g2);
+	    profiler.end(FrameProfiler.RENDER);
+	    profiler.endRender(gameState);
+	}
+	
+	// Overworld background: ground tiles, then depth-sorted entities
+	private void drawWorld(Graphics2D g2) {
+	    profiler.begin(FrameProfiler.TILE_DRAW);
+	    tileM.draw(g2);
+	    profiler.end(FrameProfiler.TILE_DRAW);
+	    
+	    profiler.begin(FrameProfiler.ENTITY_DRAW);
+	    renderList.draw(g2);
+	    profiler.end(FrameProfiler.ENTITY_DRAW);
+	}
+	
+	private void renderState(Graphics2D g2) {
 
 	    // DEBUG: Start timing the draw process
 	    long drawStart = 0;
@@ -573,38 +668,13 @@ public class GamePanel extends JPanel implements Runnable{
 	    } else if (gameState == battleState) {
 	        // BATTLE STATE
 	    	//playMusic(0);
+	        profiler.begin(FrameProfiler.BATTLE_DRAW);
 	        battleManager.draw(g2);
+	        profiler.end(FrameProfiler.BATTLE_DRAW);
 
 	    } else if (gameState == transitionState) {
 	    	 // First, draw the current play state as the background
-	        tileM.draw(g2);
-
-	        // Add entities
-	        entityList.add(player);
-	        for (int i = 0; i < npc.length; i++) {
-	            if (npc[i] != null) {
-	                entityList.add(npc[i]);
-	            }
-	        }
-	        for (int i = 0; i < obj.length; i++) {
-	            if (obj[i] != null) {
-	                entityList.add(obj[i]);
-	            }
-	        }
-	        for (int i = 0; i < monster.length; i++) {
-	            if (monster[i] != null) {
-	                entityList.add(monster[i]);
-	            }
-	        }
-
-	        // Sort entities by worldY
-	        entityList.sort(Comparator.comparingInt(e -> e.worldY));
-
-	        // Draw entities
-	        for (Entity entity : entityList) {
-	            entity.draw(g2);
-	        }
-	        entityList.clear();
+	        drawWorld(g2);
 
 	        // Draw UI
 	        ui.draw(g2);
@@ -654,32 +724,7 @@ public class GamePanel extends JPanel implements Runnable{
 	    
 	    else if (gameState == circleCloseState || gameState == circleOpenState) {
 	        // Draw the current game state in background first
-	        tileM.draw(g2);
-
-	        // Add entities
-	        entityList.add(player);
-	        for (int i = 0; i < npc.length; i++) {
-	            if (npc[i] != null) {
-	                entityList.add(npc[i]);
-	            }
-	        }
-	        for (int i = 0; i < obj.length; i++) {
-	            if (obj[i] != null) {
-	                entityList.add(obj[i]);
-	            }
-	        }
-	        for (int i = 0; i < monster.length; i++) {
-	            if (monster[i] != null) {
-	                entityList.add(monster[i]);
-	            }
-	        }
-
-	        // Sort and draw entities
-	        entityList.sort(Comparator.comparingInt(e -> e.worldY));
-	        for (Entity entity : entityList) {
-	            entity.draw(g2);
-	        }
-	        entityList.clear();
+	        drawWorld(g2);
 
 	        // Draw UI
 	        ui.draw(g2);
@@ -707,30 +752,7 @@ public class GamePanel extends JPanel implements Runnable{
 	                g2.setClip(circle);
 	                
 	                // Redraw game content in the circular area
-	                tileM.draw(g2);
-	                
-	                // Redraw entities
-	                entityList.add(player);
-	                for (int i = 0; i < npc.length; i++) {
-	                    if (npc[i] != null) {
-	                        entityList.add(npc[i]);
-	                    }
-	                }
-	                for (int i = 0; i < obj.length; i++) {
-	                    if (obj[i] != null) {
-	                        entityList.add(obj[i]);
-	                    }
-	                }
-	                for (int i = 0; i < monster.length; i++) {
-	                    if (monster[i] != null) {
-	                        entityList.add(monster[i]);
-	                    }
-	                }
-	                entityList.sort(Comparator.comparingInt(e -> e.worldY));
-	                for (Entity entity : entityList) {
-	                    entity.draw(g2);
-	                }
-	                entityList.clear();
+	                drawWorld(g2);
 	                
 	                ui.draw(g2);
 	                
@@ -742,39 +764,8 @@ public class GamePanel extends JPanel implements Runnable{
 	    
 	    else {
 	        // PLAY STATE
-	        // TILE
-	        tileM.draw(g2);
-
-	        // ADD ENTITIES TO LIST
-	        entityList.add(player);
-
-	        for (int i = 0; i < npc.length; i++) {
-	            if (npc[i] != null) {
-	                entityList.add(npc[i]);
-	            }
-	        }
-
-	        for (int i = 0; i < obj.length; i++) {
-	            if (obj[i] != null) {
-	                entityList.add(obj[i]);
-	            }
-	        }
-
-	        for (int i = 0; i < monster.length; i++) {
-	            if (monster[i] != null) {
-	                entityList.add(monster[i]);
-	            }
-	        }
-
-	        // SORT
-	        entityList.sort(Comparator.comparingInt(e -> e.worldY));
-
-	        // DRAW ENTITIES
-	        for (Entity entity : entityList) {
-	            entity.draw(g2);
-	        }
-
-	        entityList.clear();
+	        // TILE + ENTITIES (depth sorted)
+	        drawWorld(g2);
 
 	        // UI
 	        ui.draw(g2);
@@ -788,8 +779,6 @@ public class GamePanel extends JPanel implements Runnable{
 	        g2.drawString("Draw time: " + passed, 650, 100);
 	        System.out.println("Draw time: " + passed);
 	    }
- 
-	    g2.dispose();
 	}
 
 
@@ -809,6 +798,15 @@ public class GamePanel extends JPanel implements Runnable{
 	public void stopMusic() {
 		music.Stop();
 	}
+	
+	// Mute/unmute all music and sound effects (headless runs have no audio device)
+	public void setSoundEnabled(boolean enabled) {
+		music.muted = !enabled;
+		se.muted = !enabled;
+		if (!enabled) {
+			stopMusic();
+		}
+	}
 	public void playSE(int i) {
 		se.setFile(i);
 		se.Play();
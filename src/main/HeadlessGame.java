@@ -0,0 +1,186 @@
+package main;
+
+import java.awt.event.KeyEvent;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the game logic without a window, audio or rendering.
+ * The same GamePanel.update() pipeline (player, NPCs, monsters, battles, warps) is stepped
+ * as fast as possible and fed by a scripted key sequence, so soak tests, balance runs and
+ * benchmarks can run on machines with no display.
+ *
+ * Usage: java -Djava.awt.headless=true main.HeadlessGame [frames] [script file] [--play]
+ *        [--seed=n] [--log-seeds]
+ *
+ * Script format, one event per line ("#" starts a comment):
+ *   <frame> press|release|tap <KEY>     e.g. "120 press W", "300 tap ENTER"
+ * KEY is a java.awt.event.KeyEvent name without the VK_ prefix.
+ */
+public class HeadlessGame {
+
+	private final GamePanel gp;
+	private final ScriptedInput input;
+	private long frame = 0;
+
+	public HeadlessGame(ScriptedInput input) {
+		this.gp = new GamePanel();
+		this.input = input;
+		gp.setSoundEnabled(false);
+		gp.setupGame();
+	}
+
+	public GamePanel getGamePanel() {
+		return gp;
+	}
+
+	public long getFrame() {
+		return frame;
+	}
+
+	// Skip the title screen and intro, start walking around the overworld
+	public void startInPlayState() {
+		gp.gameState = gp.playState;
+	}
+
+	// Advance one fixed 1/60 s update
+	public void step() {
+		input.apply(frame, gp);
+		gp.update();
+		frame++;
+	}
+
+	public void run(long frames) {
+		for (long i = 0; i < frames; i++) {
+			step();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+
+		long frames = 60 * 60; // one minute of game time
+		ScriptedInput input = new ScriptedInput();
+		boolean play = false;
+		for (String arg : args) {
+			if (arg.equals("--play")) {
+				play = true;
+			} else if (arg.startsWith("--seed=")) {
+				battle.BattleRandom.setRootSeed(Long.parseLong(arg.substring(7)));
+			} else if (arg.equals("--log-seeds")) {
+				battle.BattleRandom.setLogSeeds(true);
+			} else if (arg.matches("\\d+")) {
+				frames = Long.parseLong(arg);
+			} else {
+				input = ScriptedInput.load(arg);
+			}
+		}
+
+		HeadlessGame game = new HeadlessGame(input);
+		if (play) {
+			game.startInPlayState();
+		}
+
+		long start = System.nanoTime();
+		game.run(frames);
+		long elapsed = System.nanoTime() - start;
+
+		GamePanel gp = game.getGamePanel();
+		System.out.println("Headless run: " + frames + " frames in " + (elapsed / 1_000_000) + " ms ("
+				+ (long) (frames / (elapsed / 1_000_000_000.0)) + " frames/s)");
+		System.out.println("Final state: gameState=" + gp.gameState + ", map=" + gp.mapManager.getCurrentMapId()
+				+ ", player=(" + gp.player.worldX + "," + gp.player.worldY + ")");
+		System.out.println(gp.assets.getStats());
+		System.exit(0);
+	}
+
+	/**
+	 * Frame-stamped key presses and releases, delivered through the real KeyHandler
+	 * so every game state reacts exactly as it would to a keyboard.
+	 */
+	public static class ScriptedInput {
+
+		private final List<long[]> events = new ArrayList<>(); // {frame, keyCode, pressed 1/0}
+		private int next = 0;
+
+		public ScriptedInput press(long frame, int keyCode) {
+			return add(frame, keyCode, true);
+		}
+
+		public ScriptedInput release(long frame, int keyCode) {
+			return add(frame, keyCode, false);
+		}
+
+		// Press on one frame, release on the next
+		public ScriptedInput tap(long frame, int keyCode) {
+			press(frame, keyCode);
+			return release(frame + 1, keyCode);
+		}
+
+		private ScriptedInput add(long frame, int keyCode, boolean pressed) {
+			long[] event = {frame, keyCode, pressed ? 1 : 0};
+			// Keep events ordered by frame, stable for events on the same frame
+			int i = events.size();
+			while (i > 0 && events.get(i - 1)[0] > frame) {
+				i--;
+			}
+			events.add(i, event);
+			return this;
+		}
+
+		void apply(long frame, GamePanel gp) {
+			while (next < events.size() && events.get(next)[0] <= frame) {
+				long[] event = events.get(next++);
+				int keyCode = (int) event[1];
+				if (event[2] == 1) {
+					gp.keyH.keyPressed(new KeyEvent(gp, KeyEvent.KEY_PRESSED, 0, 0, keyCode, KeyEvent.CHAR_UNDEFINED));
+				} else {
+					gp.keyH.keyReleased(new KeyEvent(gp, KeyEvent.KEY_RELEASED, 0, 0, keyCode, KeyEvent.CHAR_UNDEFINED));
+				}
+			}
+		}
+
+		public static ScriptedInput load(String path) throws IOException {
+			ScriptedInput input = new ScriptedInput();
+			try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+				String line;
+				int lineNumber = 0;
+				while ((line = br.readLine()) != null) {
+					lineNumber++;
+					int comment = line.indexOf('#');
+					if (comment >= 0) {
+						line = line.substring(0, comment);
+					}
+					line = line.trim();
+					if (line.isEmpty()) {
+						continue;
+					}
+					String[] parts = line.split("\\s+");
+					if (parts.length != 3) {
+						throw new IOException("Invalid script line " + lineNumber + ": " + line);
+					}
+					long frame = Long.parseLong(parts[0]);
+					int keyCode = keyCode(parts[2]);
+					switch (parts[1].toLowerCase()) {
+						case "press": input.press(frame, keyCode); break;
+						case "release": input.release(frame, keyCode); break;
+						case "tap": input.tap(frame, keyCode); break;
+						default: throw new IOException("Unknown action on line " + lineNumber + ": " + parts[1]);
+					}
+				}
+			}
+			return input;
+		}
+
+		private static int keyCode(String name) throws IOException {
+			try {
+				return KeyEvent.class.getField("VK_" + name.toUpperCase()).getInt(null);
+			} catch (ReflectiveOperationException e) {
+				throw new IOException("Unknown key: " + name);
+			}
+		}
+	}
+}
@@ -24,6 +24,15 @@ public class KeyHandler implements KeyListener{
 
 	@Override
 	public void keyPressed(KeyEvent e) {
+		gp.profiler.begin(FrameProfiler.INPUT);
+		try {
+			handleKeyPressed(e);
+		} finally {
+			gp.profiler.end(FrameProfiler.INPUT);
+		}
+	}
+	
+	private void handleKeyPressed(KeyEvent e) {
 		int code = e.getKeyCode();
 		
 		
@@ -207,6 +216,10 @@ public class KeyHandler implements KeyListener{
 			if (code == KeyEvent.VK_F5) {
 		        gp.showHighGrass = !gp.showHighGrass;
 		    }
+			if (code == KeyEvent.VK_F6) {
+				// Cycle render rate 30 / 60 / 120 / uncapped
+				gp.frameScheduler.cycleRenderRate();
+			}
 		    
 			
 			// DEBUG
@@ -0,0 +1,84 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+/**
+ * Shown in the window while the game starts: a progress bar driven by the asset warm-up's real
+ * decode counts, then a "building the world" step while GamePanel is constructed. Main swaps it
+ * for the GamePanel once the title screen can be drawn.
+ */
+public class LoadingScreen extends JPanel {
+
+	private static final long serialVersionUID = 1L;
+
+	private final AssetWarmup warmup;
+	private final Timer repaintTimer;
+	private final Font titleFont = new Font("Arial", Font.BOLD, 36);
+	private final Font statusFont = new Font("Arial", Font.PLAIN, 16);
+	private volatile String status = "Loading assets";
+
+	public LoadingScreen(AssetWarmup warmup, int width, int height) {
+		this.warmup = warmup;
+		setPreferredSize(new Dimension(width, height));
+		setBackground(Color.black);
+		setDoubleBuffered(true);
+		// Swing timer, so repaints come from the EDT while the main thread is busy loading
+		repaintTimer = new Timer(33, e -> repaint());
+	}
+
+	public void start() {
+		repaintTimer.start();
+	}
+
+	public void stop() {
+		repaintTimer.stop();
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	@Override
+	public void paintComponent(Graphics g) {
+		super.paintComponent(g);
+		Graphics2D g2 = (Graphics2D) g;
+		g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		int width = getWidth();
+		int height = getHeight();
+
+		g2.setFont(titleFont);
+		g2.setColor(Color.white);
+		drawCentered(g2, "PokeLegends", width, height / 2 - 60);
+
+		// The bar follows the critical tier, which is what the title screen waits for
+		int done = warmup.getCompleted(AssetWarmup.CRITICAL);
+		int total = Math.max(1, warmup.getTotal(AssetWarmup.CRITICAL));
+		int barWidth = width / 2;
+		int barHeight = 20;
+		int barX = (width - barWidth) / 2;
+		int barY = height / 2 - barHeight / 2;
+		g2.setColor(new Color(40, 40, 60));
+		g2.fillRect(barX, barY, barWidth, barHeight);
+		g2.setColor(new Color(200, 170, 80));
+		g2.fillRect(barX, barY, barWidth * Math.min(done, total) / total, barHeight);
+		g2.setColor(Color.white);
+		g2.drawRect(barX, barY, barWidth, barHeight);
+
+		g2.setFont(statusFont);
+		drawCentered(g2, status + "... " + warmup.getCompleted() + " / " + warmup.getTotal(), width, barY + barHeight + 30);
+	}
+
+	private void drawCentered(Graphics2D g2, String text, int width, int y) {
+		FontMetrics metrics = g2.getFontMetrics();
+		g2.drawString(text, (width - metrics.stringWidth(text)) / 2, y);
+	}
+}
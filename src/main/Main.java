@@ -6,21 +6,90 @@ import javax.swing.JFrame;
 public class Main {
 
 	public static void main(String[] args) {
+		// Random seeds have to be set before the game creates its spawner
+		// --seed=<n> seeds every battle and spawn of the session, --log-seeds prints each battle's seed
+		for (String arg : args) {
+			if (arg.startsWith("--seed=")) {
+				battle.BattleRandom.setRootSeed(Long.parseLong(arg.substring(7)));
+			} else if (arg.equals("--log-seeds")) {
+				battle.BattleRandom.setLogSeeds(true);
+			}
+		}
+		
 		JFrame window =new JFrame();
 		window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		window.setResizable(false);
 		window.setTitle("PokeLegends");
-		GamePanel gamePanel = new GamePanel();
-		// System.out.println(gamePanel.tileSize); 48
-		window.add(gamePanel);
-
 		
+		// Decode the startup images on the asset pool while a loading screen shows the progress;
+		// building the GamePanel below picks them up (tiles and player sprites are queued first)
+		AssetWarmup warmup = AssetWarmup.forStartup(AssetRepository.getInstance(), GamePanel.TILE_SIZE);
+		LoadingScreen loadingScreen = new LoadingScreen(warmup, GamePanel.SCREEN_WIDTH, GamePanel.SCREEN_HEIGHT);
+		window.add(loadingScreen);
 		window.pack();
-		
 		window.setLocationRelativeTo(null);
 		window.setVisible(true);
+		loadingScreen.start();
+		warmup.start();
+		
+		GamePanel gamePanel = new GamePanel();
+		loadingScreen.setStatus("Loading title screen");
+		try {
+			warmup.awaitTier(AssetWarmup.CRITICAL);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// System.out.println(gamePanel.tileSize); 48
+		
+		// --active-render[=2|3] draws through a BufferStrategy instead of Swing repaint()
+		// --replay <file> plays a saved battle (replays/last_battle.replay is written after every battle)
+		// --ai=easy|normal|hard|expert sets how long wild champions think about their moves
+		// --battle-seed=<n> fights the first battle with a logged seed again (the search AI is time
+		// limited, use --ai=easy for exactly the same enemy moves)
+		String replayFile = null;
+		battle.AIDifficulty aiDifficulty = null;
+		Long battleSeed = null;
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.startsWith("--active-render")) {
+				int buffers = arg.endsWith("=3") ? 3 : 2;
+				gamePanel.enableActiveRendering(buffers);
+			} else if (arg.equals("--replay") && i + 1 < args.length) {
+				replayFile = args[++i];
+			} else if (arg.startsWith("--ai=")) {
+				try {
+					aiDifficulty = battle.AIDifficulty.valueOf(arg.substring(5).toUpperCase());
+				} catch (IllegalArgumentException e) {
+					System.out.println("Unknown AI difficulty " + arg.substring(5) + ", use --ai=easy|normal|hard|expert"
+							+ " (keeping the default)");
+				}
+			} else if (arg.startsWith("--battle-seed=")) {
+				battleSeed = Long.parseLong(arg.substring(14));
+			}
+		}
+		// Swap the loading screen for the game, the background tier keeps decoding
+		loadingScreen.stop();
+		window.remove(loadingScreen);
+		window.add(gamePanel);
+		window.pack();
+		window.validate();
+		gamePanel.requestFocusInWindow();
 		
+		gamePanel.frameScheduler.attachTo(window);
 		gamePanel.setupGame();
+		if (aiDifficulty != null) {
+			gamePanel.battleManager.setAIDifficulty(aiDifficulty);
+		}
+		if (battleSeed != null) {
+			gamePanel.battleManager.setNextBattleSeed(battleSeed);
+		}
+		if (replayFile != null) {
+			try {
+				gamePanel.battleManager.startReplay(battle.BattleEventLog.load(new java.io.File(replayFile)));
+			} catch (java.io.IOException e) {
+				System.out.println("Could not load replay " + replayFile + ": " + e.getMessage());
+			}
+		}
 		gamePanel.startGameThread();
  
 	}
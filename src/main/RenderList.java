@@ -0,0 +1,92 @@
+package main;
+
+import java.awt.Graphics2D;
+
+import entity.Entity;
+
+/**
+ * Persistent list of the entities drawn on the overworld, kept in worldY (depth) order.
+ * Entities are added when they spawn and removed when they despawn instead of rebuilding
+ * the list every frame. Since y-order barely changes between frames, an insertion sort
+ * restores the order in close to linear time without allocating.
+ */
+public class RenderList {
+
+	private Entity[] entities = new Entity[32];
+	private int size = 0;
+
+	public void add(Entity entity) {
+		if (entity == null || contains(entity)) {
+			return;
+		}
+		if (size == entities.length) {
+			Entity[] bigger = new Entity[size * 2];
+			System.arraycopy(entities, 0, bigger, 0, size);
+			entities = bigger;
+		}
+		// Insert at its depth position so the list stays sorted
+		int i = size - 1;
+		while (i >= 0 && entities[i].worldY > entity.worldY) {
+			entities[i + 1] = entities[i];
+			i--;
+		}
+		entities[i + 1] = entity;
+		size++;
+	}
+
+	public void remove(Entity entity) {
+		for (int i = 0; i < size; i++) {
+			if (entities[i] == entity) {
+				System.arraycopy(entities, i + 1, entities, i, size - i - 1);
+				entities[--size] = null;
+				return;
+			}
+		}
+	}
+
+	public boolean contains(Entity entity) {
+		for (int i = 0; i < size; i++) {
+			if (entities[i] == entity) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			entities[i] = null;
+		}
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public Entity get(int index) {
+		return entities[index];
+	}
+
+	// Stable insertion sort by worldY, nearly free when the order did not change
+	public void sort() {
+		for (int i = 1; i < size; i++) {
+			Entity current = entities[i];
+			int y = current.worldY;
+			int j = i - 1;
+			while (j >= 0 && entities[j].worldY > y) {
+				entities[j + 1] = entities[j];
+				j--;
+			}
+			entities[j + 1] = current;
+		}
+	}
+
+	// Sort, then draw back to front
+	public void draw(Graphics2D g2) {
+		sort();
+		for (int i = 0; i < size; i++) {
+			entities[i].draw(g2);
+		}
+	}
+}
@@ -3,9 +3,6 @@ package main;
 import Champions.Champion;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.Map;
-import javax.imageio.ImageIO;
 import java.awt.geom.RoundRectangle2D;
 
 public class RoleTeamPage {
@@ -13,7 +10,6 @@ public class RoleTeamPage {
     private GamePanel gamePanel;
     private int selectedChampionIndex = 0; // Which champion is selected (0-4)
     private String[] roleNames = {"Top", "Mid", "Jgl", "Adc", "Supp"};
-    private final Map<String, BufferedImage> imageCache = new HashMap<>(); // Cache for champion images
     private boolean justEntered = true; // Flag to prevent immediate champion details opening
     
     // Navigation modes
@@ -188,17 +184,7 @@ public class RoleTeamPage {
     
     
     private BufferedImage loadChampionImage(String imageName) {
-        if (imageCache.containsKey(imageName)) {
-            return imageCache.get(imageName);
-        }
-        try {
-            BufferedImage image = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + imageName + ".png"));
-            imageCache.put(imageName, image); // Cache the image
-            return image;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        return gamePanel.assets.getImageAsync("/championsImg/" + imageName + ".png");
     }
     
     public void handleInput() {
@@ -10,6 +10,8 @@ import java.util.Properties;
 
 import Champions.Champion;
 import Champions.ChampionFactory;
+import Champions.ChampionSpecies;
+import entity.Direction;
 import item.Item;
 import item.ItemFactory;
 
@@ -108,7 +110,7 @@ public class SaveGameManager {
         // Player data
         saveData.playerData.worldX = gp.player.worldX;
         saveData.playerData.worldY = gp.player.worldY;
-        saveData.playerData.direction = gp.player.direction;
+        saveData.playerData.direction = gp.player.direction.getName();
         saveData.playerData.currentLife = gp.player.life;
         saveData.playerData.maxLife = gp.player.maxLife;
         saveData.playerData.money = gp.player.getMoney();
@@ -138,13 +140,16 @@ public class SaveGameManager {
         saveData.championCollection.championDetails = new ArrayList<>();
         for (int i = 0; i < gp.champList.size(); i++) {
             if (gp.player.getOwnedChampions().get(i)) {
-                // Find this champion in the team or create from template
-                Champion champion = findChampionByName(gp.champList.get(i).getName(), gp);
+                // Find this champion in the team, else the roster's own one if it was ever created
+                Champion champion = findChampionByName(gp.champList.getName(i), gp);
+                if (champion == null && gp.champList.isCreated(i)) {
+                    champion = gp.champList.get(i);
+                }
                 if (champion != null) {
                     saveData.championCollection.championDetails.add(new ChampionSaveData(champion));
                 } else {
-                    // If not in team, save template champion with default values
-                    saveData.championCollection.championDetails.add(new ChampionSaveData(gp.champList.get(i)));
+                    // Never created, save default values from the species
+                    saveData.championCollection.championDetails.add(new ChampionSaveData(gp.champList.getSpecies(i)));
                 }
             } else {
                 saveData.championCollection.championDetails.add(null);
@@ -152,7 +157,7 @@ public class SaveGameManager {
         }
         
         // Inventory
-        saveData.inventory.items = gp.player.getInventory();
+        saveData.inventory.items = gp.player.getInventoryCounts();
         saveData.inventory.itemTimestamps = gp.player.getItemTimestamps();
         
         return saveData;
@@ -165,7 +170,7 @@ public class SaveGameManager {
         // Player data
         gp.player.worldX = saveData.playerData.worldX;
         gp.player.worldY = saveData.playerData.worldY;
-        gp.player.direction = saveData.playerData.direction;
+        gp.player.direction = Direction.fromName(saveData.playerData.direction);
         gp.player.life = saveData.playerData.currentLife;
         gp.player.maxLife = saveData.playerData.maxLife;
         gp.player.setMoney(saveData.playerData.money);
@@ -198,30 +203,22 @@ public class SaveGameManager {
         gp.player.setBattleOrder(saveData.championCollection.battleOrder);
         
         // Inventory
-        gp.player.setInventory(saveData.inventory.items);
-        gp.player.setItemTimestamps(saveData.inventory.itemTimestamps);
+        gp.player.setInventory(saveData.inventory.items, saveData.inventory.itemTimestamps);
     }
     
     /**
      * Restore a champion from save data
      */
     private static Champion restoreChampionFromSave(String championName, SaveData saveData, GamePanel gp) {
-        // Find the champion template
-        Champion template = null;
-        for (Champion champ : gp.champList) {
-            if (champ.getName().equals(championName)) {
-                template = champ;
-                break;
-            }
-        }
-        
-        if (template == null) {
+        // Find the champion species
+        ChampionSpecies species = ChampionFactory.findSpecies(championName);
+        if (species == null) {
             System.err.println("Could not find champion template for: " + championName);
             return null;
         }
         
-        // Create new champion from template
-        Champion restoredChampion = ChampionFactory.createChampionCopy(template);
+        // Create new champion of that species
+        Champion restoredChampion = species.createInstance(1);
         
         // Find save data for this champion
         ChampionSaveData saveChampData = null;
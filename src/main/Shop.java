@@ -5,12 +5,9 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
-import javax.imageio.ImageIO;
 import item.Item;
-import item.ItemFactory;
+import item.ItemCatalog;
 
 /**
  * Shop system for purchasing items with money
@@ -47,7 +44,6 @@ public class Shop {
     // Note: Using Player's central inventory system instead of local inventory
     
     // Image cache for item icons
-    private Map<String, BufferedImage> imageCache = new HashMap<>();
     
     // UI Constants
     private static final int VISIBLE_ITEMS = 8;
@@ -59,20 +55,20 @@ public class Shop {
     
     // Shop item wrapper
     public static class ShopItem {
-        public Item item;
+        public int id; // ItemCatalog id
+        public Item item; // Shared catalog item, read only
         public int price;
         public boolean inStock;
         
-        public ShopItem(Item item, int price) {
-            this.item = item;
+        public ShopItem(int id, int price) {
+            this.id = id;
+            this.item = ItemCatalog.get().getItem(id);
             this.price = price;
             this.inStock = true;
         }
         
-        public ShopItem(Item item) {
-            this.item = item;
-            this.price = item.getCost();
-            this.inStock = true;
+        public ShopItem(int id) {
+            this(id, ItemCatalog.get().getItem(id).getCost());
         }
     }
     
@@ -101,87 +97,87 @@ public class Shop {
         
         // Category 0: Consumables - All from ItemDataLoader
         List<ShopItem> consumables = new ArrayList<>();
-        consumables.add(new ShopItem(ItemFactory.createItem("Potion")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Mana Potion")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Full Restore")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Revive")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Max Revive")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Refillable Potion")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Corrupting Potion")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Elixir of Iron")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Elixir of Sorcery")));
-        consumables.add(new ShopItem(ItemFactory.createItem("Elixir of Wrath")));
+        addShopItem(consumables, "Potion");
+        addShopItem(consumables, "Mana Potion");
+        addShopItem(consumables, "Full Restore");
+        addShopItem(consumables, "Revive");
+        addShopItem(consumables, "Max Revive");
+        addShopItem(consumables, "Refillable Potion");
+        addShopItem(consumables, "Corrupting Potion");
+        addShopItem(consumables, "Elixir of Iron");
+        addShopItem(consumables, "Elixir of Sorcery");
+        addShopItem(consumables, "Elixir of Wrath");
         
         // Category 1: Champion Items - All equipment from ItemDataLoader
         List<ShopItem> equipment = new ArrayList<>();
         
         // Starter Items
-        equipment.add(new ShopItem(ItemFactory.createItem("Doran's Blade")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Doran's Ring")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Doran's Shield")));
+        addShopItem(equipment, "Doran's Blade");
+        addShopItem(equipment, "Doran's Ring");
+        addShopItem(equipment, "Doran's Shield");
         
         // Basic Components
-        equipment.add(new ShopItem(ItemFactory.createItem("Long Sword")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Amplifying Tome")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Cloth Armor")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Null-Magic Mantle")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Ruby Crystal")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Sapphire Crystal")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Dagger")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Pickaxe")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Cloak of Agility")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Vampiric Scepter")));
+        addShopItem(equipment, "Long Sword");
+        addShopItem(equipment, "Amplifying Tome");
+        addShopItem(equipment, "Cloth Armor");
+        addShopItem(equipment, "Null-Magic Mantle");
+        addShopItem(equipment, "Ruby Crystal");
+        addShopItem(equipment, "Sapphire Crystal");
+        addShopItem(equipment, "Dagger");
+        addShopItem(equipment, "Pickaxe");
+        addShopItem(equipment, "Cloak of Agility");
+        addShopItem(equipment, "Vampiric Scepter");
         
         // Higher-tier Components
-        equipment.add(new ShopItem(ItemFactory.createItem("B.F. Sword")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Needlessly Large Rod")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Chain Vest")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Negatron Cloak")));
+        addShopItem(equipment, "B.F. Sword");
+        addShopItem(equipment, "Needlessly Large Rod");
+        addShopItem(equipment, "Chain Vest");
+        addShopItem(equipment, "Negatron Cloak");
         
         // Boots
-        equipment.add(new ShopItem(ItemFactory.createItem("Berserker's Greaves")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Sorcerer's Shoes")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Plated Steelcaps")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Mercury's Treads")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Boots of Swiftness")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Ionian Boots of Lucidity")));
+        addShopItem(equipment, "Berserker's Greaves");
+        addShopItem(equipment, "Sorcerer's Shoes");
+        addShopItem(equipment, "Plated Steelcaps");
+        addShopItem(equipment, "Mercury's Treads");
+        addShopItem(equipment, "Boots of Swiftness");
+        addShopItem(equipment, "Ionian Boots of Lucidity");
         
         // Legendary Items
-        equipment.add(new ShopItem(ItemFactory.createItem("Infinity Edge")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Rabadon's Deathcap")));
-        equipment.add(new ShopItem(ItemFactory.createItem("The Bloodthirster")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Void Staff")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Lord Dominik's Regards")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Guardian Angel")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Zhonya's Hourglass")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Banshee's Veil")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Dead Man's Plate")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Spirit Visage")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Nashor's Tooth")));
-        equipment.add(new ShopItem(ItemFactory.createItem("The Black Cleaver")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Mortal Reminder")));
-        equipment.add(new ShopItem(ItemFactory.createItem("The Collector")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Shadowflame")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Horizon Focus")));
+        addShopItem(equipment, "Infinity Edge");
+        addShopItem(equipment, "Rabadon's Deathcap");
+        addShopItem(equipment, "The Bloodthirster");
+        addShopItem(equipment, "Void Staff");
+        addShopItem(equipment, "Lord Dominik's Regards");
+        addShopItem(equipment, "Guardian Angel");
+        addShopItem(equipment, "Zhonya's Hourglass");
+        addShopItem(equipment, "Banshee's Veil");
+        addShopItem(equipment, "Dead Man's Plate");
+        addShopItem(equipment, "Spirit Visage");
+        addShopItem(equipment, "Nashor's Tooth");
+        addShopItem(equipment, "The Black Cleaver");
+        addShopItem(equipment, "Mortal Reminder");
+        addShopItem(equipment, "The Collector");
+        addShopItem(equipment, "Shadowflame");
+        addShopItem(equipment, "Horizon Focus");
         
         // Mythic Items
-        equipment.add(new ShopItem(ItemFactory.createItem("Kraken Slayer")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Galeforce")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Immortal Shieldbow")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Luden's Tempest")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Riftmaker")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Everfrost")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Sunfire Aegis")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Turbo Chemtank")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Eclipse")));
-        equipment.add(new ShopItem(ItemFactory.createItem("Duskblade of Draktharr")));
+        addShopItem(equipment, "Kraken Slayer");
+        addShopItem(equipment, "Galeforce");
+        addShopItem(equipment, "Immortal Shieldbow");
+        addShopItem(equipment, "Luden's Tempest");
+        addShopItem(equipment, "Riftmaker");
+        addShopItem(equipment, "Everfrost");
+        addShopItem(equipment, "Sunfire Aegis");
+        addShopItem(equipment, "Turbo Chemtank");
+        addShopItem(equipment, "Eclipse");
+        addShopItem(equipment, "Duskblade of Draktharr");
         
         // Category 2: Legend Balls - All from ItemDataLoader (except Master Ball - too powerful)
         List<ShopItem> legendBalls = new ArrayList<>();
-        legendBalls.add(new ShopItem(ItemFactory.createItem("Poke Ball")));
-        legendBalls.add(new ShopItem(ItemFactory.createItem("Great Ball")));
-        legendBalls.add(new ShopItem(ItemFactory.createItem("Ultra Ball")));
-        legendBalls.add(new ShopItem(ItemFactory.createItem("Legend Ball")));
+        addShopItem(legendBalls, "Poke Ball");
+        addShopItem(legendBalls, "Great Ball");
+        addShopItem(legendBalls, "Ultra Ball");
+        addShopItem(legendBalls, "Legend Ball");
         // Master Ball not sold in shop (too powerful - cost is 999999)
         
         shopInventory.add(consumables);
@@ -189,6 +185,15 @@ public class Shop {
         shopInventory.add(legendBalls);
     }
     
+    private void addShopItem(List<ShopItem> category, String itemName) {
+        int id = ItemCatalog.get().getId(itemName);
+        if (id == ItemCatalog.NONE) {
+            System.err.println("Shop item not found: " + itemName);
+            return;
+        }
+        category.add(new ShopItem(id));
+    }
+    
     // Navigation methods with tab focus system
     public void navigateUp() {
         if (goBackFocused) {
@@ -401,10 +406,10 @@ public class Shop {
             // Add to player's central inventory
             String itemName = shopItem.item.getName();
             System.out.println("DEBUG: Purchasing item: '" + itemName + "'");
-            gp.player.addToInventory(itemName, purchaseQuantity);
+            gp.player.addToInventory(shopItem.id, purchaseQuantity);
             
             // Debug: Check if item was actually added
-            int currentQty = gp.player.getItemQuantity(itemName);
+            int currentQty = gp.player.getInventory().getCount(shopItem.id);
             System.out.println("DEBUG: Item quantity after purchase: " + currentQty);
             
             gp.playSE(8); // Success sound
@@ -1126,72 +1131,35 @@ public class Shop {
      * Load item icon based on category and item name (similar to Bag system)
      */
     private BufferedImage getItemImage(String itemName) {
-        String cacheKey = itemName + "_" + selectedCategory;
-        
-        if (imageCache.containsKey(cacheKey)) {
-            return imageCache.get(cacheKey);
-        }
-        
-        try {
-            String folderPath = "";
-            switch (selectedCategory) {
-                case 0: // Consumables
-                    folderPath = "/LeagueItems/consumables/";
-                    break;
-                case 1: // Champion Items
-                    folderPath = "/LeagueItems/items/";
-                    break;
-                case 2: // Legend Balls
-                    folderPath = "/LeagueItems/legendballs/";
-                    break;
-            }
-            
-            // Clean item name for file path
-            String cleanName = itemName.toLowerCase()
-                                      .replace(" ", "")
-                                      .replace("'", "")
-                                      .replace(".", "")
-                                      .replace("-", "");
-            
-            // Try .png first, then .jpg as fallback
-            String imagePath = folderPath + cleanName + ".png";
-            BufferedImage image = null;
-            
-            try {
-                image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-            } catch (Exception e) {
-                // Try .jpg extension if .png fails
-                imagePath = folderPath + cleanName + ".jpg";
-                try {
-                    image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-                } catch (Exception e2) {
-                    // Try original name format
-                    imagePath = folderPath + itemName.toLowerCase().replace(" ", "_") + ".png";
-                    image = ImageIO.read(getClass().getResourceAsStream(imagePath));
-                }
-            }
-            
-            if (image != null) {
-                imageCache.put(cacheKey, image);
-            }
-            return image;
-        } catch (Exception e) {
-            System.err.println("Could not load icon for: " + itemName + " (category: " + selectedCategory + ")");
-            
-            // Try to load imgnotfound.png as fallback
-            try {
-                BufferedImage fallbackImage = ImageIO.read(getClass().getResourceAsStream("/LeagueItems/imgnotfound.png"));
-                if (fallbackImage != null) {
-                    imageCache.put(cacheKey, fallbackImage);
-                    return fallbackImage;
-                }
-            } catch (Exception fallbackException) {
-                System.err.println("Could not load fallback image: imgnotfound.png");
-            }
-            
-            // Return a placeholder colored square as last resort
-            return createPlaceholderIcon(selectedCategory);
-        }
+        String folderPath = "";
+        switch (selectedCategory) {
+            case 0: // Consumables
+                folderPath = "/LeagueItems/consumables/";
+                break;
+            case 1: // Champion Items
+                folderPath = "/LeagueItems/items/";
+                break;
+            case 2: // Legend Balls
+                folderPath = "/LeagueItems/legendballs/";
+                break;
+        }
+        
+        // Clean item name for file path
+        String cleanName = itemName.toLowerCase()
+                                  .replace(" ", "")
+                                  .replace("'", "")
+                                  .replace(".", "")
+                                  .replace("-", "");
+        
+        // Try .png first, then .jpg, then the original name format (the repository caches misses too)
+        BufferedImage image = gp.assets.getFirstImage(
+                folderPath + cleanName + ".png",
+                folderPath + cleanName + ".jpg",
+                folderPath + itemName.toLowerCase().replace(" ", "_") + ".png",
+                "/LeagueItems/imgnotfound.png");
+        
+        // Return a placeholder colored square as last resort
+        return image != null ? image : createPlaceholderIcon(selectedCategory);
     }
     
     /**
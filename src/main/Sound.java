@@ -11,6 +11,7 @@ public class Sound {
 	
 	Clip clip;
 	URL soundURL[]= new URL[30];
+	boolean muted = false; // When true nothing is loaded or played (headless runs, no audio device)
 	
 	
 	public Sound() {
@@ -32,6 +33,10 @@ public class Sound {
 	
 	public void setFile(int i) {
 		
+		if (muted) {
+			clip = null;
+			return;
+		}
 		try {
 			AudioInputStream ais = AudioSystem.getAudioInputStream(soundURL[i]);
 			clip = AudioSystem.getClip();
@@ -44,20 +49,29 @@ public class Sound {
 	
 	public void Play() {
 		
-		clip.start();
+		if (clip != null) {
+			clip.start();
+		}
 	}
 	
 	public void Loop() {
 		
-		clip.loop(clip.LOOP_CONTINUOUSLY);
+		if (clip != null) {
+			clip.loop(clip.LOOP_CONTINUOUSLY);
+		}
 	}
 	
 	public void Stop() {
 		
-		clip.stop();
+		if (clip != null) {
+			clip.stop();
+		}
 	}
 	
 	public void PlayWithVolume(float volumePercent) {
+		if (clip == null) {
+			return;
+		}
 		try {
 			// Convert percentage to decibel (volume range is typically -80.0 to 6.0)
 			float volumeDB;
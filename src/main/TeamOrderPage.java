@@ -2,16 +2,11 @@ package main;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
-import java.util.Map;
-
-import javax.imageio.ImageIO;
 
 import Champions.Champion;
 
 public class TeamOrderPage {
     private GamePanel gp;
-    private final Map<String, BufferedImage> imageCache = new HashMap<>();
     
     // Navigation state
     private int selectedSlot = 0; // Currently selected slot (0-4)
@@ -33,17 +28,7 @@ public class TeamOrderPage {
     }
     
     private BufferedImage loadChampionImage(String imageName) {
-        if (imageCache.containsKey(imageName)) {
-            return imageCache.get(imageName);
-        }
-        try {
-            BufferedImage image = ImageIO.read(getClass().getResourceAsStream("/championsImg/" + imageName + ".png"));
-            imageCache.put(imageName, image);
-            return image;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        return gp.assets.getImageAsync("/championsImg/" + imageName + ".png");
     }
     
     public void enableKeyboardMode() {
@@ -15,8 +15,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.DecimalFormat;
 
-import javax.imageio.ImageIO;
-
 import entity.Entity;
 import object.OBJ_Heart;
 import object.OBJ_Key;
@@ -57,12 +55,12 @@ public class UI {
 			purisiaB= Font.createFont(Font.TRUETYPE_FONT, is);
 			
 			// Load menu images
-            menuImages[0] = ImageIO.read(getClass().getResourceAsStream("/menuImages/dex.png"));
-            menuImages[1] = ImageIO.read(getClass().getResourceAsStream("/menuImages/champions.png"));
-            menuImages[2] = ImageIO.read(getClass().getResourceAsStream("/menuImages/bag.png"));
-            menuImages[3] = ImageIO.read(getClass().getResourceAsStream("/menuImages/map.png"));
-            menuImages[4] = ImageIO.read(getClass().getResourceAsStream("/menuImages/badges.png"));
-            menuImages[5] = ImageIO.read(getClass().getResourceAsStream("/menuImages/save.png"));
+            menuImages[0] = gp.assets.getImage("/menuImages/dex.png");
+            menuImages[1] = gp.assets.getImage("/menuImages/champions.png");
+            menuImages[2] = gp.assets.getImage("/menuImages/bag.png");
+            menuImages[3] = gp.assets.getImage("/menuImages/map.png");
+            menuImages[4] = gp.assets.getImage("/menuImages/badges.png");
+            menuImages[5] = gp.assets.getImage("/menuImages/save.png");
             
            // CREATE HUD OBJECT
             Entity heart = new OBJ_Heart(gp);
@@ -92,6 +90,12 @@ public class UI {
 	
 	
 	public void draw(Graphics2D g2) {
+		gp.profiler.begin(FrameProfiler.UI_DRAW);
+		drawUI(g2);
+		gp.profiler.end(FrameProfiler.UI_DRAW);
+	}
+	
+	private void drawUI(Graphics2D g2) {
 		
 		this.g2=g2;
 		g2.setFont(maruMonica);
@@ -194,7 +198,7 @@ public class UI {
 			// CHARACTER IMAGE
 			x=gp.screenWidth/2 -(gp.tileSize*2)/2;
 			y+=gp.tileSize;
-			g2.drawImage(gp.player.sdown1, x, y,gp.tileSize*2,gp.tileSize*2,null);
+			g2.drawImage(gp.player.getPortraitImage(), x, y,gp.tileSize*2,gp.tileSize*2,null);
 			
 			// PROFESSOR IMAGE
 			x=gp.screenWidth/2 -(gp.tileSize*2)/2 -120;
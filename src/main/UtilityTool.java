@@ -1,6 +1,9 @@
 package main;
 
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 
 public class UtilityTool {
@@ -14,5 +17,17 @@ public class UtilityTool {
 		
 		return scaledImage;
 	}
+	
+	// Create an image in the screen's native pixel format (fast to blit, can be accelerated).
+	// Falls back to a plain ARGB/RGB image when there is no display.
+	public BufferedImage createCompatibleImage(int width, int height, int transparency) {
+		if (!GraphicsEnvironment.isHeadless()) {
+			GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDefaultConfiguration();
+			return gc.createCompatibleImage(width, height, transparency);
+		}
+		int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+		return new BufferedImage(width, height, type);
+	}
 
 }
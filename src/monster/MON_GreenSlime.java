@@ -2,6 +2,7 @@ package monster;
 
 import java.util.Random;
 
+import entity.Direction;
 import entity.Entity;
 import main.GamePanel;
 
@@ -28,21 +29,12 @@ public class MON_GreenSlime extends Entity{
 	
 	public void getImage() {
 		
-		up1 = setup("Kogmaw1","monster");
-		up2 = setup("Kogmaw2","monster");
-		up3 = setup("Kogmaw1","monster");
-		
-		down1 = setup("Kogmaw2","monster");
-		down2 = setup("Kogmaw1","monster");
-		down3 = setup("Kogmaw2","monster");
-		
-		left1 = setup("Kogmaw2","monster");
-		left2 = setup("Kogmaw1","monster");
-		left3 = setup("Kogmaw2","monster");
-		
-		right1 = setup("Kogmaw1","monster");
-		right2 = setup("Kogmaw2","monster");
-		right3 = setup("Kogmaw1","monster");
+		sprites = loadSprites("monster",
+				"Kogmaw1", "Kogmaw2");
+		walkFrames[Direction.UP.ordinal()] = sprites.frames("Kogmaw1", "Kogmaw2", "Kogmaw1");
+		walkFrames[Direction.DOWN.ordinal()] = sprites.frames("Kogmaw2", "Kogmaw1", "Kogmaw2");
+		walkFrames[Direction.LEFT.ordinal()] = sprites.frames("Kogmaw2", "Kogmaw1", "Kogmaw2");
+		walkFrames[Direction.RIGHT.ordinal()] = sprites.frames("Kogmaw1", "Kogmaw2", "Kogmaw1");
 	}
 	
 	public void setAction() {
@@ -51,16 +43,16 @@ public class MON_GreenSlime extends Entity{
 			Random random = new Random();
 			int i = random.nextInt(100)+1; // pick number from 1 to 100
 			if(i<=25) {
-				direction="up";
+				direction=Direction.UP;
 			}
 			if(i>25 &&i<=50) {
-				direction="down";
+				direction=Direction.DOWN;
 			}
 			if(i>50 &&i<=75) {
-				direction="left";
+				direction=Direction.LEFT;
 			}
 			if(i>75 &&i<=100) {
-				direction="right";
+				direction=Direction.RIGHT;
 			}
 			actionLockCounter=0;
 		}
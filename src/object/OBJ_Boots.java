@@ -14,7 +14,7 @@ public OBJ_Boots(GamePanel gp) {
 		super(gp);
 	
 		name="Boots";
-		down1 = setup("boots","object");
+		setStaticSprite("boots","object");
 	}
 
 }
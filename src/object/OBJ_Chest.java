@@ -14,7 +14,7 @@ public OBJ_Chest(GamePanel gp) {
 	
 		super(gp);
 		name="Chest";
-		down1 = setup("chestClosed","object");
+		setStaticSprite("chestClosed","object");
 		collision=true;
 	}
 }
@@ -15,7 +15,7 @@ public OBJ_Door(GamePanel gp) {
 		
 		super(gp);
 		name="Door";
-		down1 = setup("door","object");
+		setStaticSprite("door","object");
 		collision=true;
 		
 		solidArea.x=0;
@@ -14,7 +14,7 @@ public class OBJ_Key extends Entity{
 	public OBJ_Key(GamePanel gp) {
 		super(gp);
 		name="Key";
-		down1 = setup("key","object");
+		setStaticSprite("key","object");
 		
 		
 	}
@@ -1,8 +1,11 @@
 package tile;
 
 import java.awt.Graphics2D;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 
+import main.UtilityTool;
+
 public class Tile {
 	public BufferedImage image;
 	public BufferedImage overlayImage = null; // Optional overlay image (like carpet)
@@ -12,25 +15,49 @@ public class Tile {
 	public int overlayOffsetX = 0; // X offset for overlay positioning
 	public int overlayOffsetY = 0; // Y offset for overlay positioning
 	
+	// Baked base + overlay composite, built once and reused every frame
+	private BufferedImage finalImage = null;
+	private int finalImageSize = 0;
+	
 	// Method to get the final combined image (base + overlay)
 	public BufferedImage getFinalImage(int tileSize) {
-		if (overlayImage == null) {
-			return image; // No overlay, return base image
+		if (finalImage == null || finalImageSize != tileSize) {
+			bake(tileSize);
+		}
+		return finalImage;
+	}
+	
+	// Build the composite in a display-compatible format so drawing it is a plain blit
+	public void bake(int tileSize) {
+		if (image == null) {
+			finalImage = null;
+			finalImageSize = 0;
+			return;
 		}
 		
-		// Create combined image
-		BufferedImage combined = new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_ARGB);
+		UtilityTool uTool = new UtilityTool();
+		int transparency = overlayImage != null ? Transparency.TRANSLUCENT : image.getColorModel().getTransparency();
+		BufferedImage combined = uTool.createCompatibleImage(tileSize, tileSize, transparency);
 		Graphics2D g2 = combined.createGraphics();
 		
 		// Draw base image first
 		g2.drawImage(image, 0, 0, tileSize, tileSize, null);
 		
-		// Draw overlay on top - centered if it's larger than tile size
-		int overlayX = (tileSize - overlayImage.getWidth()) / 2;
-		int overlayY = (tileSize - overlayImage.getHeight()) / 2;
-		g2.drawImage(overlayImage, overlayX, overlayY, null);
+		if (overlayImage != null) {
+			// Draw overlay on top - centered if it's larger than tile size
+			int overlayX = (tileSize - overlayImage.getWidth()) / 2;
+			int overlayY = (tileSize - overlayImage.getHeight()) / 2;
+			g2.drawImage(overlayImage, overlayX, overlayY, null);
+		}
 		
 		g2.dispose();
-		return combined;
+		finalImage = combined;
+		finalImageSize = tileSize;
+	}
+	
+	// Must be called after image/overlayImage change so the composite is rebuilt
+	public void invalidate() {
+		finalImage = null;
+		finalImageSize = 0;
 	}
 }
@@ -2,14 +2,13 @@ package tile;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
-import javax.imageio.ImageIO;
-
 import main.GamePanel;
 import main.UtilityTool;
 
@@ -19,12 +18,24 @@ public class TileManager {
 	public Tile[] tile;
 	public int mapTileNum[][];
 	
+	// GROUND CHUNKS - the static tile layer pre-rendered in CHUNK_SIZE x CHUNK_SIZE blocks
+	public static final int CHUNK_SIZE = 16; // tiles per chunk side
+	private final int chunkCols;
+	private final int chunkRows;
+	private final BufferedImage[][] chunkImage;
+	private final boolean[][] chunkDirty;
+	
 	
 	
 	public TileManager(GamePanel gp) {
 		this.gp=gp;
 		tile= new Tile[25]; // Increased size to accommodate furniture tiles
 		mapTileNum= new int[gp.maxWorldCol][gp.maxWorldRow];
+		chunkCols = (gp.maxWorldCol + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		chunkRows = (gp.maxWorldRow + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		chunkImage = new BufferedImage[chunkCols][chunkRows];
+		chunkDirty = new boolean[chunkCols][chunkRows];
+		invalidateAllChunks();
 		getTileImage();
 		// Map loading is now handled by MapManager
 	}
@@ -63,63 +74,66 @@ public class TileManager {
 		setupWoodWithFurniture(16, "woodground1", "table", true, "");                  // Regular table
 		setupWoodWithFurniture(17, "woodground1", "chairright", false, "");            // Regular chair
 		setupWoodWithFurniture(18, "woodground1", "chairleft", false, "");             // Regular chair
+		
+		// Pre-bake every composite once so drawing never allocates
+		bakeTiles();
+	}
+	
+	// Build the cached base + overlay image of every defined tile
+	public void bakeTiles() {
+		for (int i = 0; i < tile.length; i++) {
+			if (tile[i] != null) {
+				tile[i].bake(gp.tileSize);
+			}
+		}
+	}
+	
+	// Replace a tile definition; only that tile's composite is rebuilt
+	public void setTile(int index, Tile newTile) {
+		tile[index] = newTile;
+		if (newTile != null) {
+			newTile.bake(gp.tileSize);
+		}
+		// The tile may be used anywhere on the map
+		invalidateAllChunks();
 	}
 	
 	public void setup(int index, String imgName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + imgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = imgName.equals("highGrass"); // Mark as high grass
-	        tile[index].region = tile[index].isHighGrass ? region : ""; // Assign region only if high grass
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + imgName + ".png", gp.tileSize, gp.tileSize);
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = imgName.equals("highGrass"); // Mark as high grass
+	    tile[index].region = tile[index].isHighGrass ? region : ""; // Assign region only if high grass
 	}
 	
 	// New method to setup a tile with overlay
 	public void setupWithOverlay(int index, String baseImgName, String overlayImgName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        
-	        // Load base image
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + baseImgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        
-	        // Load overlay image
-	        tile[index].overlayImage = ImageIO.read(getClass().getResourceAsStream("/tiles/" + overlayImgName + ".png"));
-	        tile[index].overlayImage = uTool.scaleImage(tile[index].overlayImage, gp.tileSize, gp.tileSize);
-	        
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = baseImgName.equals("highGrass");
-	        tile[index].region = tile[index].isHighGrass ? region : "";
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    
+	    // Load base image
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + baseImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    // Load overlay image
+	    tile[index].overlayImage = gp.assets.getScaledImage("/tiles/" + overlayImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = baseImgName.equals("highGrass");
+	    tile[index].region = tile[index].isHighGrass ? region : "";
 	}
 	
 	// Method to create woodground with 80% carpet overlay
 	public void setupWoodgroundWithCarpet(int index, String baseImgName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        
-	        // Load base wood floor image
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + baseImgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        
-	        // Create 80% carpet overlay programmatically
-	        tile[index].overlayImage = createCarpetOverlay(gp.tileSize);
-	        
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = false;
-	        tile[index].region = region;
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    
+	    // Load base wood floor image
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + baseImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    // Create 80% carpet overlay programmatically
+	    tile[index].overlayImage = createCarpetOverlay(gp.tileSize);
+	    
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = false;
+	    tile[index].region = region;
 	}
 	
 	// Create a carpet overlay that covers 80% of the tile
@@ -164,23 +178,17 @@ public class TileManager {
 	
 	// Method to create grass with carpet that shows exit door
 	public void setupGrassWithDoorCarpet(int index, String baseImgName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        
-	        // Load base grass image
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + baseImgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        
-	        // Create carpet overlay with door opening
-	        tile[index].overlayImage = createDoorCarpetOverlay(gp.tileSize);
-	        
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = false;
-	        tile[index].region = region;
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    
+	    // Load base grass image
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + baseImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    // Create carpet overlay with door opening
+	    tile[index].overlayImage = createDoorCarpetOverlay(gp.tileSize);
+	    
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = false;
+	    tile[index].region = region;
 	}
 	
 	// Create a carpet overlay with door opening that shows grass underneath
@@ -228,49 +236,33 @@ public class TileManager {
 	
 	// Method to setup furniture on wood floor (base + furniture overlay)
 	public void setupWoodWithFurniture(int index, String baseImgName, String furnitureName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        
-	        // Load base wood floor image
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + baseImgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        
-	        // Load furniture overlay image
-	        tile[index].overlayImage = ImageIO.read(getClass().getResourceAsStream("/house/" + furnitureName + ".png"));
-	        tile[index].overlayImage = uTool.scaleImage(tile[index].overlayImage, gp.tileSize, gp.tileSize);
-	        
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = false;
-	        tile[index].region = region;
-	    } catch (IOException e) {
-	        System.err.println("Error loading furniture: " + furnitureName + " on base: " + baseImgName);
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    
+	    // Load base wood floor image
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + baseImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    // Load furniture overlay image
+	    tile[index].overlayImage = gp.assets.getScaledImage("/house/" + furnitureName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = false;
+	    tile[index].region = region;
 	}
 	
 	// Method to setup LARGE furniture on wood floor (1.5x size for bed and closets)
 	public void setupWoodWithLargeFurniture(int index, String baseImgName, String furnitureName, boolean collision, String region) {
-	    UtilityTool uTool = new UtilityTool();
-	    try {
-	        tile[index] = new Tile();
-	        
-	        // Load base wood floor image
-	        tile[index].image = ImageIO.read(getClass().getResourceAsStream("/tiles/" + baseImgName + ".png"));
-	        tile[index].image = uTool.scaleImage(tile[index].image, gp.tileSize, gp.tileSize);
-	        
-	        // Load furniture overlay image - make it larger (1.5x) and it will be centered automatically
-	        int largeFurnitureSize = (int)(gp.tileSize * 1.5);
-	        tile[index].overlayImage = ImageIO.read(getClass().getResourceAsStream("/house/" + furnitureName + ".png"));
-	        tile[index].overlayImage = uTool.scaleImage(tile[index].overlayImage, largeFurnitureSize, largeFurnitureSize);
-	        
-	        tile[index].collision = collision;
-	        tile[index].isHighGrass = false;
-	        tile[index].region = region;
-	    } catch (IOException e) {
-	        System.err.println("Error loading large furniture: " + furnitureName + " on base: " + baseImgName);
-	        e.printStackTrace();
-	    }
+	    tile[index] = new Tile();
+	    
+	    // Load base wood floor image
+	    tile[index].image = gp.assets.getScaledImage("/tiles/" + baseImgName + ".png", gp.tileSize, gp.tileSize);
+	    
+	    // Load furniture overlay image - make it larger (1.5x) and it will be centered automatically
+	    int largeFurnitureSize = (int)(gp.tileSize * 1.5);
+	    tile[index].overlayImage = gp.assets.getScaledImage("/house/" + furnitureName + ".png", largeFurnitureSize, largeFurnitureSize);
+	    
+	    tile[index].collision = collision;
+	    tile[index].isHighGrass = false;
+	    tile[index].region = region;
 	}
 
 	
@@ -301,49 +293,112 @@ public class TileManager {
 		catch(Exception e) {
 			
 		}
+		invalidateAllChunks();
 	}
 	public void draw(Graphics2D g2) {
 		
-
-		int worldCol =0;
-		int worldRow=0;
-
+		// Top-left world pixel of the camera
+		int viewX = gp.player.getRenderX() - gp.player.screenX;
+		int viewY = gp.player.getRenderY() - gp.player.screenY;
 		
+		// Visible tile range, computed directly instead of testing every map cell
+		int firstCol = Math.max(0, Math.floorDiv(viewX, gp.tileSize));
+		int firstRow = Math.max(0, Math.floorDiv(viewY, gp.tileSize));
+		int lastCol = Math.min(gp.maxWorldCol - 1, Math.floorDiv(viewX + gp.screenWidth - 1, gp.tileSize));
+		int lastRow = Math.min(gp.maxWorldRow - 1, Math.floorDiv(viewY + gp.screenHeight - 1, gp.tileSize));
+		if (firstCol > lastCol || firstRow > lastRow) {
+			return; // Camera is completely outside the world
+		}
 		
-		while(worldCol<gp.maxWorldCol&& worldRow<gp.maxWorldRow) {
-			int tilenum =mapTileNum[worldCol][worldRow];
-			
-			int worldX= worldCol * gp.tileSize;
-			int worldY = worldRow * gp.tileSize;
-			int screenX=worldX- gp.player.worldX+gp.player.screenX;
-			int screenY=worldY- gp.player.worldY+gp.player.screenY;
-			if(worldX +gp.tileSize>gp.player.worldX - gp.player.screenX && 
-			   worldX -gp.tileSize< gp.player.worldX + gp.player.screenX &&
-			   worldY +gp.tileSize> gp.player.worldY-gp.player.screenY && 
-			   worldY -gp.tileSize< gp.player.worldY+gp.player.screenY)
-			{
-				g2.drawImage(tile[tilenum].getFinalImage(gp.tileSize), screenX,screenY,null);
-			}
-			
-			// If high grass debug is enabled, draw delimitations
-            if (gp.showHighGrass && tile[tilenum].isHighGrass) {
-                g2.setColor(new Color(0, 255, 0, 128)); // Semi-transparent green
-                g2.fillRect(screenX, screenY, gp.tileSize, gp.tileSize);
-
-                g2.setColor(Color.RED); // Red border
-                g2.drawRect(screenX, screenY, gp.tileSize, gp.tileSize);
-            }
-        
-			
-			worldCol++;
-			if(worldCol==gp.maxWorldCol) {
-				worldCol=0;
-				worldRow++;
+		// Blit the chunks overlapping the visible range
+		int chunkPixels = CHUNK_SIZE * gp.tileSize;
+		for (int chunkCol = firstCol / CHUNK_SIZE; chunkCol <= lastCol / CHUNK_SIZE; chunkCol++) {
+			for (int chunkRow = firstRow / CHUNK_SIZE; chunkRow <= lastRow / CHUNK_SIZE; chunkRow++) {
+				if (chunkDirty[chunkCol][chunkRow]) {
+					renderChunk(chunkCol, chunkRow);
+				}
+				g2.drawImage(chunkImage[chunkCol][chunkRow], chunkCol * chunkPixels - viewX, chunkRow * chunkPixels - viewY, null);
 			}
 		}
 		
+		// If high grass debug is enabled, draw delimitations
+		if (gp.showHighGrass) {
+			for (int worldRow = firstRow; worldRow <= lastRow; worldRow++) {
+				for (int worldCol = firstCol; worldCol <= lastCol; worldCol++) {
+					Tile t = tile[mapTileNum[worldCol][worldRow]];
+					if (t != null && t.isHighGrass) {
+						int screenX = worldCol * gp.tileSize - viewX;
+						int screenY = worldRow * gp.tileSize - viewY;
+						
+						g2.setColor(new Color(0, 255, 0, 128)); // Semi-transparent green
+						g2.fillRect(screenX, screenY, gp.tileSize, gp.tileSize);
+						
+						g2.setColor(Color.RED); // Red border
+						g2.drawRect(screenX, screenY, gp.tileSize, gp.tileSize);
+					}
+				}
+			}
+		}
+	}
+	
+	// Pre-render every chunk that changed since it was last drawn
+	public void prerenderChunks() {
+		for (int chunkCol = 0; chunkCol < chunkCols; chunkCol++) {
+			for (int chunkRow = 0; chunkRow < chunkRows; chunkRow++) {
+				if (chunkDirty[chunkCol][chunkRow]) {
+					renderChunk(chunkCol, chunkRow);
+				}
+			}
+		}
+	}
+	
+	private void renderChunk(int chunkCol, int chunkRow) {
+		int startCol = chunkCol * CHUNK_SIZE;
+		int startRow = chunkRow * CHUNK_SIZE;
+		int cols = Math.min(CHUNK_SIZE, gp.maxWorldCol - startCol);
+		int rows = Math.min(CHUNK_SIZE, gp.maxWorldRow - startRow);
 		
+		BufferedImage image = chunkImage[chunkCol][chunkRow];
+		if (image == null) {
+			UtilityTool uTool = new UtilityTool();
+			image = uTool.createCompatibleImage(cols * gp.tileSize, rows * gp.tileSize, Transparency.OPAQUE);
+			chunkImage[chunkCol][chunkRow] = image;
+		}
 		
+		Graphics2D g2 = image.createGraphics();
+		g2.setColor(Color.BLACK);
+		g2.fillRect(0, 0, image.getWidth(), image.getHeight());
+		for (int col = 0; col < cols; col++) {
+			for (int row = 0; row < rows; row++) {
+				Tile t = tile[mapTileNum[startCol + col][startRow + row]];
+				if (t != null) {
+					g2.drawImage(t.getFinalImage(gp.tileSize), col * gp.tileSize, row * gp.tileSize, null);
+				}
+			}
+		}
+		g2.dispose();
+		chunkDirty[chunkCol][chunkRow] = false;
+	}
+	
+	// Mark the chunk containing a tile for re-rendering
+	private void invalidateChunkAt(int col, int row) {
+		chunkDirty[col / CHUNK_SIZE][row / CHUNK_SIZE] = true;
+	}
+	
+	public void invalidateAllChunks() {
+		for (int chunkCol = 0; chunkCol < chunkCols; chunkCol++) {
+			for (int chunkRow = 0; chunkRow < chunkRows; chunkRow++) {
+				chunkDirty[chunkCol][chunkRow] = true;
+			}
+		}
+	}
+	
+	// Change a single map cell, only its chunk gets re-rendered
+	public void setTileNum(int col, int row, int tileNum) {
+		if (mapTileNum[col][row] != tileNum) {
+			mapTileNum[col][row] = tileNum;
+			invalidateChunkAt(col, row);
+		}
 	}
 	
 	public boolean isHighGrass(int tileX, int tileY) {
@@ -381,6 +436,7 @@ public class TileManager {
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
+		invalidateAllChunks();
 	}
 	
 	public void loadMainMap() {
@@ -407,15 +463,18 @@ public class TileManager {
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
+		invalidateAllChunks();
 	}
 	
 	// New method to set map data from MapManager
+	// Only chunks whose cells actually changed are invalidated, then re-rendered up front
 	public void setMapData(int[][] newMapData) {
 		for (int col = 0; col < gp.maxWorldCol && col < newMapData.length; col++) {
 			for (int row = 0; row < gp.maxWorldRow && row < newMapData[col].length; row++) {
-				mapTileNum[col][row] = newMapData[col][row];
+				setTileNum(col, row, newMapData[col][row]);
 			}
 		}
+		prerenderChunks();
 	}
 
 }